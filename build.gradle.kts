@@ -1,3 +1,5 @@
+import java.io.ByteArrayOutputStream
+
 plugins {
     id("java")
     id("application")
@@ -19,12 +21,153 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-engine")
 }
 
+// The SIMD batch engine uses the incubating Vector API
+val vectorApiArgs = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(vectorApiArgs)
+}
+
 application {
-    mainClass.set("org.example.PowerCalculatorGUI")
+    mainClass.set("org.example.Main")
+    applicationDefaultJvmArgs = vectorApiArgs
 }
 
 tasks.test {
     useJUnitPlatform()
+    jvmArgs(vectorApiArgs)
+    // Run with the branch counters of PowerCalculatorEngine enabled, so that they are tested
+    systemProperty("org.example.branchCounters", "true")
+}
+
+// JMH benchmarks live in their own source set; run them with `gradle jmh`, optionally narrowed
+// with -PjmhIncludes=<regex>. Results include gc.alloc.rate and are written as JSON.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val jmhVersion = "1.37"
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks with the GC profiler and writes JSON results."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    jvmArgs(vectorApiArgs)
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+    args("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.path,
+        "-jvmArgsAppend", vectorApiArgs.joinToString("="))
+    providers.gradleProperty("jmhIncludes").orNull?.let { args(it) }
+    doFirst { resultFile.get().asFile.parentFile.mkdirs() }
+}
+
+// ULP accuracy sweep of PowerCalculatorEngine against a double-double reference, spread over all
+// cores; run it with `gradle accuracySweep`, optionally with -PsweepSamples=<n>, -PsweepMode=<mode>,
+// -PsweepMaxUlp=<ulp>, -PsweepThreads=<n> and -PsweepSeed=<n>. The task fails above the threshold.
+val accuracy: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+tasks.named<JavaCompile>(accuracy.compileJavaTaskName) {
+    options.compilerArgs.addAll(vectorApiArgs)
+}
+
+tasks.register<JavaExec>("accuracySweep") {
+    group = "verification"
+    description = "Measures the ULP error of the engine over stratified random and edge-case inputs."
+    classpath = accuracy.runtimeClasspath
+    mainClass.set("org.example.AccuracySweep")
+    jvmArgs(vectorApiArgs)
+    mapOf("sweepSamples" to "--samples", "sweepMode" to "--mode", "sweepMaxUlp" to "--max-ulp",
+        "sweepThreads" to "--threads", "sweepSeed" to "--seed").forEach { (property, option) ->
+        providers.gradleProperty(property).orNull?.let { args(option, it) }
+    }
+}
+
+// Fast-startup image for short-lived invocations: a jlink'd runtime with only java.base, the
+// application jar, and an AppCDS archive of the classes loaded by a training run of the
+// lightweight entry point. Build it with `gradle quickImage`, then run
+// build/quick-image/bin/power-quick 2 10, or pass --cli-style arguments to stream a file.
+val quickImageDir = layout.buildDirectory.dir("quick-image")
+val quickMainClass = "org.example.PowerCalculatorQuick"
+val quickJvmArgs = listOf("-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC", "-XX:-UsePerfData", "-Xshare:auto")
+val quickJava = quickImageDir.map { it.file("bin/java").asFile.path }
+// The archive only matches the absolute class path it was dumped with: a moved image still runs,
+// since the launcher uses -Xshare:auto, but without the archive until quickImage is run again
+val quickJar = quickImageDir.map { it.file("app/power.jar").asFile.path }
+val appJar = tasks.jar.flatMap { it.archiveFile }
+val cdsClassList = layout.buildDirectory.file("cds/classes.lst")
+val cdsTrainingInput = layout.buildDirectory.file("cds/training.txt")
+
+val jlinkImage by tasks.registering(Exec::class) {
+    group = "distribution"
+    description = "Builds a minimal Java runtime with the application jar for the lightweight entry point."
+    inputs.file(appJar)
+    outputs.dir(quickImageDir)
+    executable = File(System.getProperty("java.home"), "bin/jlink").path
+    args("--add-modules", "java.base", "--strip-debug", "--no-header-files", "--no-man-pages",
+        "--compress=2", "--output", quickImageDir.get().asFile.path)
+    doFirst { quickImageDir.get().asFile.deleteRecursively() }
+    doLast { appJar.get().asFile.copyTo(File(quickJar.get()), overwrite = true) }
+}
+
+val cdsTrainingRun by tasks.registering(Exec::class) {
+    group = "distribution"
+    description = "Runs the lightweight entry point on sample input and records the classes it loads."
+    dependsOn(jlinkImage)
+    outputs.file(cdsClassList)
+    workingDir(quickImageDir)
+    executable = quickJava.get()
+    args("-Xshare:off", "-XX:DumpLoadedClassList=" + cdsClassList.get().asFile.path,
+        "-cp", quickJar.get(), quickMainClass, cdsTrainingInput.get().asFile.path)
+    standardOutput = ByteArrayOutputStream()
+    doFirst {
+        // Valid, fractional, error and malformed lines, so every class of the CLI path is loaded
+        cdsTrainingInput.get().asFile.apply {
+            parentFile.mkdirs()
+            writeText("2 10\n2.5,-3\n1.1 2.2\n-8 0.5\n0 -1\n10 400\nabc 1\n5\n")
+        }
+    }
+}
+
+val cdsArchive by tasks.registering(Exec::class) {
+    group = "distribution"
+    description = "Dumps the recorded classes into an AppCDS archive in the quick image."
+    dependsOn(cdsTrainingRun)
+    inputs.file(cdsClassList)
+    outputs.file(quickImageDir.map { it.file("app/power.jsa") })
+    workingDir(quickImageDir)
+    executable = quickJava.get()
+    args("-Xshare:dump", "-XX:SharedClassListFile=" + cdsClassList.get().asFile.path,
+        "-XX:SharedArchiveFile=app/power.jsa", "-cp", quickJar.get())
+    standardOutput = ByteArrayOutputStream()
+}
+
+tasks.register("quickImage") {
+    group = "distribution"
+    description = "Builds the fast-startup image with its runtime, AppCDS archive and launcher script."
+    dependsOn(cdsArchive)
+    val launcher = quickImageDir.map { it.file("bin/power-quick").asFile }
+    outputs.file(launcher)
+    doLast {
+        launcher.get().apply {
+            writeText("#!/bin/sh\n" +
+                "DIR=\"$(cd \"$(dirname \"$0\")/..\" && pwd)\"\n" +
+                "exec \"\$DIR/bin/java\" ${quickJvmArgs.joinToString(" ")} " +
+                "-XX:SharedArchiveFile=\"\$DIR/app/power.jsa\" -cp \"\$DIR/app/power.jar\" " +
+                "$quickMainClass \"\$@\"\n")
+            setExecutable(true)
+        }
+    }
 }
 
 // Checkstyle configuration
@@ -0,0 +1,662 @@
+package org.example;
+
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AccuracySweep - Parallel measurement of the ULP error of PowerCalculatorEngine.
+ *
+ * Inputs are generated in chunks of {@value #CHUNK} pairs, each drawn from one {@link InputClass}
+ * in turn, so every class gets the same share of the sample whatever its size. Worker threads take
+ * chunks from a shared counter and seed each chunk from its index, which makes a sweep with the same
+ * seed reproducible on any number of threads.
+ *
+ * Every result is compared with |x|^y = p * 2^n evaluated by {@link Reference} in double-double
+ * arithmetic. The reference shares no code with the engine, nor with {@link DoubleDouble}, on which
+ * the STRICT and CORRECTLY_ROUNDED modes are built, so every mode is measured against an
+ * independent value. Its relative error is below 2^-90, so an error is measured to about 2^-37 ulp.
+ * An infinite result counts as 2^1024. Zero, infinite and NaN operands have no error to measure:
+ * their result must match the engine's rules exactly, which are Math.pow's except that NaN^0 and
+ * 0^y for finite y < 0, y != -1 are NaN. The worst input of each class is checked again with
+ * BigDecimalPowerEngine.
+ *
+ * The sweep reports the maximum and mean error per class, the worst inputs and the throughput of
+ * the engine alone, and exits with status 1 if any error exceeds the threshold. Run it with
+ * {@code gradle accuracySweep}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class AccuracySweep {
+
+    // Pairs per chunk, the unit of work and of class stratification
+    static final int CHUNK = 1 << 12;
+
+    // Beyond |y ln|x|| = 1000 the result overflows or underflows for every x
+    private static final double SATURATION_LIMIT = 1000.0;
+    private static final double INV_LN2 = 0x1.7154_7652_b82fep0;
+    private static final double LN_MAX = Math.log(Double.MAX_VALUE);
+    private static final double LN_MIN = Math.log(Double.MIN_VALUE);
+
+    private static final MathContext CHECK_CONTEXT = new MathContext(40);
+
+    private static final String USAGE = "Usage: [--samples N] [--mode MODE] [--max-ulp U] [--threads T] [--seed S]";
+
+    private static final double[] EDGE_X = {
+        Double.MIN_VALUE, 2 * Double.MIN_VALUE, 0x1.0p-1050, Math.nextDown(Double.MIN_NORMAL), Double.MIN_NORMAL,
+        1e-300, 0.1, 0.5, Math.nextDown(1.0), Math.nextUp(1.0), 1.0 + 0x1.0p-30, 1.5, 2.0, Math.E, Math.PI,
+        10.0, 1e300, Math.nextDown(Double.MAX_VALUE), Double.MAX_VALUE,
+    };
+
+    private static final double[] EDGE_Y = {
+        Double.MIN_VALUE, 1e-300, 0x1.0p-60, Math.nextDown(0.5), Math.nextUp(0.5), Math.nextDown(1.0),
+        Math.nextUp(1.0), Math.nextDown(2.0), Math.nextUp(2.0), 3.0, 63.0, 64.0, 65.0, 1023.0, 1024.0, 1074.0,
+        1075.0, 0x1.0p31 - 1.0, 0x1.0p31 + 1.0, 0x1.0p53 - 1.0, 0x1.0p53, 0x1.0p53 + 2.0, 0x1.0p63, 1e10, 1e300,
+    };
+
+    private static final double[] SPECIAL_VALUES = {
+        0.0, -0.0, 1.0, -1.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
+
+    private AccuracySweep() {
+        // Utility class
+    }
+
+    /**
+     * Classes of inputs, each aimed at a different branch or hazard of the engine.
+     */
+    enum InputClass {
+        /** Bases over the whole exponent range with results from underflow to overflow. */
+        GENERAL {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final double x = Math.exp(random.nextDouble(-700.0, 700.0));
+                pair[0] = x;
+                pair[1] = random.nextDouble(LN_MIN - 5.0, LN_MAX + 5.0) / Math.log(x);
+            }
+        },
+        /** Bases in (0, 100) with Gaussian exponents, the common case. */
+        MODERATE {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                pair[0] = random.nextDouble(100.0);
+                pair[1] = random.nextGaussian() * 10.0;
+            }
+        },
+        /** Bases within 2^-10 of one with exponents up to 2^45, including the huge |y| branch. */
+        NEAR_ONE {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final double x = 1.0 + random.nextGaussian() * Math.scalb(1.0, -10 - random.nextInt(40));
+                pair[0] = x;
+                pair[1] = random.nextBoolean() ? random.nextDouble(-700.0, 700.0) / Math.log(x)
+                        : random.nextGaussian() * Math.scalb(1.0, random.nextInt(46));
+            }
+        },
+        /** Integer exponents below 64, the exponentiation by squaring path, with either sign of x. */
+        INTEGER_EXPONENT {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final double x = Math.exp(random.nextDouble(-11.0, 11.0));
+                pair[0] = random.nextBoolean() ? x : -x;
+                pair[1] = random.nextInt(-63, 64);
+            }
+        },
+        /** Negative bases with integer exponents up to 2^53, where the parity sets the sign. */
+        NEGATIVE_BASE {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                if (random.nextBoolean()) {
+                    pair[0] = -Math.exp(random.nextDouble(-20.0, 20.0));
+                    pair[1] = random.nextInt(-300, 301);
+                } else {
+                    final double y = random.nextLong(1L << 53);
+                    pair[0] = -(1.0 + random.nextDouble(-1.0, 1.0) * 500.0 / y);
+                    pair[1] = random.nextBoolean() ? y : -y;
+                }
+            }
+        },
+        /** Subnormal results, and subnormal bases. */
+        SUBNORMAL {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                if (random.nextBoolean()) {
+                    final double x = Math.exp(random.nextDouble(-50.0, -0.01));
+                    pair[0] = x;
+                    pair[1] = -random.nextDouble(1022.0, 1075.0) * Math.log(2.0) / Math.log(x);
+                } else {
+                    pair[0] = Double.longBitsToDouble(random.nextLong(1L, 1L << 52));
+                    pair[1] = random.nextDouble(-1.05, 1.5);
+                }
+            }
+        },
+        /** Results within a relative 2^-40 of the overflow and underflow thresholds. */
+        LIMITS {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final double x = Math.exp(random.nextDouble(0.01, 700.0));
+                final double target = random.nextBoolean() ? LN_MAX : LN_MIN + Math.log(0.5);
+                pair[0] = random.nextBoolean() ? x : 1.0 / x;
+                pair[1] = target * (1.0 + random.nextDouble(-1.0, 1.0) * 0x1.0p-40) / Math.log(pair[0]);
+            }
+        },
+        /** Extreme and boundary finite values of x and y with random signs. */
+        EDGE {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final double x = EDGE_X[random.nextInt(EDGE_X.length)];
+                final double y = EDGE_Y[random.nextInt(EDGE_Y.length)];
+                pair[0] = random.nextBoolean() ? x : -x;
+                pair[1] = random.nextBoolean() ? y : -y;
+            }
+        },
+        /** Zero, one, infinite and NaN operands against each other and ordinary values. */
+        SPECIAL {
+            @Override
+            void fill(final SplittableRandom random, final double[] pair) {
+                final int special = random.nextInt(3);
+                pair[0] = (special != 1) ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                        : random.nextDouble(-10.0, 10.0);
+                pair[1] = (special != 0) ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                        : random.nextDouble(-10.0, 10.0);
+            }
+        };
+
+        /**
+         * Draws one input pair of this class.
+         *
+         * @param random the chunk's source of randomness
+         * @param pair receives x and y
+         */
+        abstract void fill(SplittableRandom random, double[] pair);
+    }
+
+    /**
+     * Error statistics of one input class, merged from the workers.
+     */
+    static final class Stats {
+        long count;
+        double sum;
+        double max = -1.0;
+        double worstX;
+        double worstY;
+        double worstResult;
+
+        void add(final double error, final double x, final double y, final double result) {
+            count++;
+            sum += error;
+            if (error > max) {
+                max = error;
+                worstX = x;
+                worstY = y;
+                worstResult = result;
+            }
+        }
+
+        void merge(final Stats other) {
+            count += other.count;
+            sum += other.sum;
+            if (other.max > max) {
+                max = other.max;
+                worstX = other.worstX;
+                worstY = other.worstY;
+                worstResult = other.worstResult;
+            }
+        }
+    }
+
+    /**
+     * Runs the sweep with the process streams and exits with its status.
+     *
+     * @param args the command line options
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the sweep.
+     *
+     * @param args the command line options
+     * @param out the destination of the report
+     * @param err the destination of usage messages
+     * @return 0 if every error is within the threshold, 1 if not, 2 on invalid arguments
+     */
+    public static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        long samples = 100_000_000L;
+        PrecisionMode mode = PrecisionMode.DEFAULT;
+        double maxUlp = Double.NaN;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1L;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                final String value = (i + 1 < args.length) ? args[i + 1] : null;
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                switch (args[i++]) {
+                    case "--samples":
+                        samples = Long.parseLong(value.replace("_", ""));
+                        break;
+                    case "--mode":
+                        mode = PrecisionMode.valueOf(value.toUpperCase(Locale.ROOT));
+                        break;
+                    case "--max-ulp":
+                        maxUlp = Double.parseDouble(value);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unexpected argument: " + args[i - 1]);
+                }
+            }
+            if (samples < 1 || threads < 1) {
+                throw new IllegalArgumentException("--samples and --threads must be positive");
+            }
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        if (Double.isNaN(maxUlp)) {
+            maxUlp = mode.ulpBound();
+        }
+
+        final InputClass[] classes = InputClass.values();
+        final Stats[] stats = new Stats[classes.length];
+        for (int c = 0; c < classes.length; c++) {
+            stats[c] = new Stats();
+        }
+        final long chunks = (samples + CHUNK - 1) / CHUNK;
+        final AtomicLong engineNanos = new AtomicLong();
+        final long start = System.nanoTime();
+        sweep(chunks, seed, mode, threads, stats, engineNanos);
+        final double seconds = (System.nanoTime() - start) * 1e-9;
+
+        return report(out, mode, maxUlp, threads, classes, stats, engineNanos.get(), seconds);
+    }
+
+    /**
+     * Evaluates every chunk on a pool of worker threads and merges their statistics.
+     *
+     * @param chunks the number of chunks
+     * @param seed the seed of the sweep
+     * @param mode the precision mode under test
+     * @param threads the number of workers
+     * @param stats receives the statistics per class
+     * @param engineNanos receives the time spent in the engine, summed over the workers
+     */
+    private static void sweep(final long chunks, final long seed, final PrecisionMode mode, final int threads,
+                              final Stats[] stats, final AtomicLong engineNanos) {
+        final AtomicLong next = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "accuracy-sweep-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<Stats[]>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> work(next, chunks, seed, mode, stats.length, engineNanos)));
+            }
+            for (Future<Stats[]> worker : workers) {
+                final Stats[] partial = worker.get();
+                for (int c = 0; c < stats.length; c++) {
+                    stats[c].merge(partial[c]);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sweep interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Sweep failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Takes chunks until none are left, timing the engine and measuring every result.
+     *
+     * @param next the index of the next unclaimed chunk
+     * @param chunks the number of chunks
+     * @param seed the seed of the sweep
+     * @param mode the precision mode under test
+     * @param classCount the number of input classes
+     * @param engineNanos receives the time spent in the engine
+     * @return the statistics of this worker per class
+     */
+    private static Stats[] work(final AtomicLong next, final long chunks, final long seed, final PrecisionMode mode,
+                                final int classCount, final AtomicLong engineNanos) {
+        final InputClass[] classes = InputClass.values();
+        final Stats[] stats = new Stats[classCount];
+        for (int c = 0; c < classCount; c++) {
+            stats[c] = new Stats();
+        }
+        final double[] x = new double[CHUNK];
+        final double[] y = new double[CHUNK];
+        final double[] out = new double[CHUNK];
+        final double[] pair = new double[2];
+        long nanos = 0;
+        for (long chunk = next.getAndIncrement(); chunk < chunks; chunk = next.getAndIncrement()) {
+            final int c = (int) (chunk % classCount);
+            final SplittableRandom random = new SplittableRandom(seed * 0x9E37_79B9_7F4A_7C15L + chunk);
+            for (int i = 0; i < CHUNK; i++) {
+                classes[c].fill(random, pair);
+                x[i] = pair[0];
+                y[i] = pair[1];
+            }
+            final long t0 = System.nanoTime();
+            PowerCalculatorEngine.computeAll(x, y, out, mode);
+            nanos += System.nanoTime() - t0;
+            for (int i = 0; i < CHUNK; i++) {
+                stats[c].add(ulpError(x[i], y[i], out[i]), x[i], y[i], out[i]);
+            }
+        }
+        engineNanos.addAndGet(nanos);
+        return stats;
+    }
+
+    /**
+     * Measures the error of a result in units in the last place of the exact x^y.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param result the engine's x^y
+     * @return the error in ulp; 0 or infinity for special operands and NaN results
+     */
+    static double ulpError(final double x, final double y, final double result) {
+        final double xAbs = Math.abs(x);
+        if (!(xAbs > 0.0 && xAbs < Double.POSITIVE_INFINITY) || !(Math.abs(y) < Double.POSITIVE_INFINITY)
+                || y == 0.0) {
+            return same(result, special(x, y)) ? 0.0 : Double.POSITIVE_INFINITY;
+        }
+        double s = 1.0;
+        if (x < 0.0) {
+            if (y != Math.rint(y)) {
+                return Double.isNaN(result) ? 0.0 : Double.POSITIVE_INFINITY;
+            }
+            // Integers beyond 2^53 are even
+            if (Math.abs(y) < 0x1.0p53 && (((long) y) & 1L) != 0) {
+                s = -1.0;
+            }
+        }
+        if (Double.isNaN(result) || (result != 0.0 && Math.signum(result) != s)) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final Reference log = Reference.log(xAbs);
+        final double estimate = y * log.hi;
+        if (estimate > SATURATION_LIMIT) {
+            return (result == s * Double.POSITIVE_INFINITY) ? 0.0 : Double.POSITIVE_INFINITY;
+        }
+        if (estimate < -SATURATION_LIMIT) {
+            return Math.abs(result) / Double.MIN_VALUE;
+        }
+        final Reference w = log.multiply(y);
+        final double n = Math.rint(w.hi * INV_LN2);
+        final Reference p = Reference.exp(w.add(Reference.LN2.multiply(-n)));
+
+        // |x|^y = p * 2^n; measure in ulps of its binade, clamped to the subnormal and largest ulp
+        final int exponent = Math.getExponent(p.hi) + (int) n;
+        if (exponent >= Double.MAX_EXPONENT + 1 && Double.isInfinite(result)) {
+            return 0.0;
+        }
+        final int ulpExponent = Math.max(Math.min(exponent, Double.MAX_EXPONENT), Double.MIN_EXPONENT) - 52;
+        final double scaledResult = Double.isInfinite(result)
+                ? Math.scalb(1.0, Double.MAX_EXPONENT + 1 - ulpExponent) : Math.scalb(Math.abs(result), -ulpExponent);
+        final int shift = (int) n - ulpExponent;
+        return Math.abs((scaledResult - Math.scalb(p.hi, shift)) - Math.scalb(p.lo, shift));
+    }
+
+    /**
+     * A double-double value hi + lo with |lo| <= ulp(hi) / 2, and the reference ln and exp.
+     *
+     * Products are exact through Math.fma and sums through two-sum, giving a relative error of
+     * about 2^-104 per operation. The logarithm reduces x to m * 2^e with m near one, then m to
+     * c = 1 + k/64, and sums ln m = ln c + 2 atanh((m - c) / (m + c)) with |(m - c) / (m + c)| below
+     * 2^-7; the table of ln c and ln 2 come from the same series. The exponential divides its
+     * argument by 2^8, sums the Taylor series of e^r - 1 and squares the result back eight times.
+     * None of this is shared with the engine or with DoubleDouble.
+     */
+    static final class Reference {
+
+        private static final int TABLE_STEPS = 64;
+        private static final int LOG_TERMS = 9;
+        private static final int TABLE_TERMS = 40;
+        private static final int EXP_TERMS = 12;
+        private static final int SQUARINGS = 8;
+
+        // 1 / (2j + 1) and 1 / j, and ln 2 = 2 atanh(1/3)
+        private static final Reference[] INVERSE_ODD = new Reference[TABLE_TERMS];
+        private static final Reference[] INVERSE = new Reference[EXP_TERMS + 1];
+        static final Reference LN2;
+        // ln(1 + k/64) for k in [-TABLE_STEPS/2, TABLE_STEPS/2]
+        private static final Reference[] LN_TABLE = new Reference[TABLE_STEPS + 1];
+
+        static {
+            final Reference one = new Reference(1.0, 0.0);
+            for (int j = 0; j < TABLE_TERMS; j++) {
+                INVERSE_ODD[j] = one.divide(new Reference(2 * j + 1, 0.0));
+            }
+            for (int j = 1; j <= EXP_TERMS; j++) {
+                INVERSE[j] = one.divide(new Reference(j, 0.0));
+            }
+            LN2 = twiceAtanh(one.divide(new Reference(3.0, 0.0)), TABLE_TERMS);
+            for (int k = -TABLE_STEPS / 2; k <= TABLE_STEPS / 2; k++) {
+                final double c = 1.0 + (double) k / TABLE_STEPS;
+                LN_TABLE[k + TABLE_STEPS / 2] = twiceAtanh(
+                        new Reference(c - 1.0, 0.0).divide(sum(c, 1.0)), TABLE_TERMS);
+            }
+        }
+
+        final double hi;
+        final double lo;
+
+        private Reference(final double hi, final double lo) {
+            this.hi = hi;
+            this.lo = lo;
+        }
+
+        /** Returns a + b exactly, normalized, for any a and b. */
+        private static Reference sum(final double a, final double b) {
+            final double s = a + b;
+            final double v = s - a;
+            return new Reference(s, (a - (s - v)) + (b - v));
+        }
+
+        /** Returns a + b normalized, for |a| >= |b| or a == 0. */
+        private static Reference fastSum(final double a, final double b) {
+            final double s = a + b;
+            return new Reference(s, b - (s - a));
+        }
+
+        Reference add(final Reference other) {
+            final Reference high = sum(hi, other.hi);
+            final Reference low = sum(lo, other.lo);
+            final Reference partial = fastSum(high.hi, high.lo + low.hi);
+            return fastSum(partial.hi, partial.lo + low.lo);
+        }
+
+        Reference multiply(final Reference other) {
+            final double p = hi * other.hi;
+            return fastSum(p, Math.fma(hi, other.hi, -p) + (hi * other.lo + lo * other.hi));
+        }
+
+        Reference multiply(final double other) {
+            final double p = hi * other;
+            return fastSum(p, Math.fma(hi, other, -p) + lo * other);
+        }
+
+        Reference divide(final Reference other) {
+            final double q1 = hi / other.hi;
+            Reference r = add(other.multiply(-q1));
+            final double q2 = r.hi / other.hi;
+            r = r.add(other.multiply(-q2));
+            final double q3 = r.hi / other.hi;
+            return fastSum(q1, q2).add(new Reference(q3, 0.0));
+        }
+
+        /**
+         * Returns 2 atanh(s) = ln((1 + s) / (1 - s)) from the first terms of its series.
+         *
+         * @param s the argument, with |s| well below one
+         * @param terms the number of terms s^(2j+1) / (2j+1)
+         * @return the sum
+         */
+        private static Reference twiceAtanh(final Reference s, final int terms) {
+            final Reference s2 = s.multiply(s);
+            Reference series = INVERSE_ODD[terms - 1];
+            for (int j = terms - 2; j >= 0; j--) {
+                series = series.multiply(s2).add(INVERSE_ODD[j]);
+            }
+            return series.multiply(s).multiply(2.0);
+        }
+
+        /**
+         * Returns the natural logarithm.
+         *
+         * @param x a positive finite value
+         * @return ln x
+         */
+        static Reference log(final double x) {
+            int e = Math.getExponent(x);
+            double m = x;
+            if (e < Double.MIN_EXPONENT) {
+                m *= 0x1.0p54;
+                e = Math.getExponent(m) - 54;
+            }
+            m = Math.scalb(m, -Math.getExponent(m));
+            if (m > Math.sqrt(2.0)) {
+                m *= 0.5;
+                e++;
+            }
+            final int k = (int) Math.rint((m - 1.0) * TABLE_STEPS);
+            final double c = 1.0 + (double) k / TABLE_STEPS;
+            // m - c is exact, since m and c are within a factor of two
+            final Reference s = new Reference(m - c, 0.0).divide(sum(m, c));
+            return LN2.multiply(e).add(LN_TABLE[k + TABLE_STEPS / 2]).add(twiceAtanh(s, LOG_TERMS));
+        }
+
+        /**
+         * Returns the exponential of a small argument.
+         *
+         * @param r the argument, with |r| at most about ln 2 / 2
+         * @return e^r
+         */
+        static Reference exp(final Reference r) {
+            final Reference t = new Reference(Math.scalb(r.hi, -SQUARINGS), Math.scalb(r.lo, -SQUARINGS));
+            // e^t - 1 = t (1 + t/2 (1 + t/3 (1 + ...)))
+            Reference series = new Reference(1.0, 0.0);
+            for (int j = EXP_TERMS; j >= 2; j--) {
+                series = t.multiply(INVERSE[j]).multiply(series).add(new Reference(1.0, 0.0));
+            }
+            Reference expm1 = t.multiply(series);
+            // e^(2t) - 1 = (e^t - 1) (e^t - 1 + 2)
+            for (int i = 0; i < SQUARINGS; i++) {
+                expm1 = expm1.multiply(expm1.add(new Reference(2.0, 0.0)));
+            }
+            return expm1.add(new Reference(1.0, 0.0));
+        }
+    }
+
+    /**
+     * Returns the engine's result for a zero, infinite or NaN operand, or a zero exponent.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @return Math.pow(x, y), except NaN for NaN^0 and for 0^y with finite y < 0 and y != -1
+     */
+    static double special(final double x, final double y) {
+        if (y == 0.0) {
+            return Double.isNaN(x) ? Double.NaN : 1.0;
+        }
+        if (x == 0.0 && y < 0.0 && y != -1.0 && y != Double.NEGATIVE_INFINITY) {
+            return Double.NaN;
+        }
+        return Math.pow(x, y);
+    }
+
+    /**
+     * Compares two doubles bit for bit, with every NaN equal.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return true if both are NaN or have the same bits
+     */
+    private static boolean same(final double a, final double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    /**
+     * Measures the error of a finite, non-zero result against BigDecimalPowerEngine.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param result the engine's x^y
+     * @return the error in ulp of the result's binade, or NaN if it cannot be checked this way
+     */
+    static double checkedError(final double x, final double y, final double result) {
+        if (result == 0.0 || !Double.isFinite(result) || x == 0.0 || !Double.isFinite(x) || !Double.isFinite(y)) {
+            return Double.NaN;
+        }
+        final BigDecimal exact = BigDecimalPowerEngine.compute(new BigDecimal(x), new BigDecimal(y), CHECK_CONTEXT);
+        return new BigDecimal(result).subtract(exact).abs()
+                .divide(new BigDecimal(Math.ulp(result)), MathContext.DECIMAL64).doubleValue();
+    }
+
+    /**
+     * Prints the statistics and decides the outcome.
+     *
+     * @param out the destination of the report
+     * @param mode the precision mode under test
+     * @param maxUlp the largest accepted error
+     * @param threads the number of workers
+     * @param classes the input classes
+     * @param stats the statistics per class
+     * @param engineNanos the time spent in the engine, summed over the workers
+     * @param seconds the wall-clock time of the sweep
+     * @return 0 if every error is within the threshold, 1 if not
+     */
+    private static int report(final PrintStream out, final PrecisionMode mode, final double maxUlp, final int threads,
+                              final InputClass[] classes, final Stats[] stats, final long engineNanos,
+                              final double seconds) {
+        long total = 0;
+        boolean failed = false;
+        out.printf(Locale.ROOT, "Accuracy sweep of %s mode, threshold %s ulp%n%n", mode, maxUlp);
+        out.printf(Locale.ROOT, "%-17s %12s %12s %12s  %s%n", "Class", "Inputs", "Max ulp", "Mean ulp",
+                "Worst input");
+        for (int c = 0; c < classes.length; c++) {
+            final Stats s = stats[c];
+            total += s.count;
+            final boolean classFailed = !(s.max <= maxUlp);
+            failed |= classFailed;
+            final double checked = checkedError(s.worstX, s.worstY, s.worstResult);
+            out.printf(Locale.ROOT, "%-17s %12d %12.6f %12.3e  %s^%s = %s%s%s%n", classes[c], s.count, s.max,
+                    s.sum / s.count, s.worstX, s.worstY, s.worstResult,
+                    Double.isNaN(checked) ? "" : String.format(Locale.ROOT, " (%.6f ulp by BigDecimal)", checked),
+                    classFailed ? "  FAIL" : "");
+        }
+        final double engineSeconds = engineNanos * 1e-9;
+        out.printf(Locale.ROOT, "%n%d inputs on %d threads in %.1f s (%.3g inputs/s including the reference)%n",
+                total, threads, seconds, total / seconds);
+        out.printf(Locale.ROOT, "Engine: %.3g calls/s per thread, %.3g calls/s on %d threads%n",
+                total / engineSeconds, total / engineSeconds * threads, threads);
+        out.println(failed ? "FAILED: errors above " + maxUlp + " ulp" : "PASSED");
+        return failed ? 1 : 0;
+    }
+}
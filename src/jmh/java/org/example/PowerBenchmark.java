@@ -0,0 +1,159 @@
+package org.example;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * PowerBenchmark - JMH benchmarks for the power engines against the JDK implementations.
+ *
+ * Each benchmark evaluates a fixed table of inputs drawn from one input class, so the scores show
+ * how each branch of compute and of the table-driven engine performs next to Math.pow and
+ * StrictMath.pow. Scores are per call.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PowerBenchmark {
+
+    // Number of input pairs per invocation; a power of two so the table fits the caches comfortably
+    static final int SIZE = 1024;
+
+    /**
+     * The classes of inputs, each exercising a different branch of compute.
+     */
+    public enum InputClass {
+        /** Ordinary bases with integer exponents in [-16, 16]. */
+        SMALL_INTEGER,
+        /** Ordinary bases with non-integer exponents. */
+        FRACTIONAL,
+        /** Bases near one with |y| above 2^31, the huge exponent branch. */
+        HUGE_EXPONENT,
+        /** Subnormal bases with small positive exponents. */
+        SUBNORMAL_BASE,
+        /** Zeros, ones, infinities, NaN and negative bases. */
+        SPECIAL;
+
+        /**
+         * Fills the input tables with reproducible values of this class.
+         *
+         * @param random the source of randomness
+         * @param x the bases to fill
+         * @param y the exponents to fill
+         */
+        void fill(final Random random, final double[] x, final double[] y) {
+            final double[] specials = {
+                0.0, -0.0, 1.0, -1.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, -2.5
+            };
+            for (int i = 0; i < x.length; i++) {
+                switch (this) {
+                    case SMALL_INTEGER:
+                        x[i] = 0.5 + random.nextDouble() * 10.0;
+                        y[i] = random.nextInt(33) - 16;
+                        break;
+                    case FRACTIONAL:
+                        x[i] = random.nextDouble() * 100.0;
+                        y[i] = random.nextGaussian() * 8.0 + 0.5;
+                        break;
+                    case HUGE_EXPONENT:
+                        x[i] = 1.0 + (random.nextDouble() - 0.5) * 0x1.0p-30;
+                        y[i] = (random.nextBoolean() ? 1 : -1) * 0x1.0p31 * (1.0 + random.nextDouble() * 15.0);
+                        break;
+                    case SUBNORMAL_BASE:
+                        x[i] = Double.MIN_VALUE * (1 + random.nextInt(1 << 30));
+                        y[i] = random.nextDouble();
+                        break;
+                    default:
+                        x[i] = specials[random.nextInt(specials.length)];
+                        y[i] = specials[random.nextInt(specials.length)];
+                        break;
+                }
+            }
+        }
+    }
+
+    @Param
+    private InputClass inputClass;
+
+    private final double[] x = new double[SIZE];
+    private final double[] y = new double[SIZE];
+
+    /**
+     * Builds the input tables for the selected class with a fixed seed.
+     */
+    @Setup
+    public void setUp() {
+        inputClass.fill(new Random(42), x, y);
+    }
+
+    /**
+     * Measures PowerCalculatorEngine.compute.
+     *
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compute(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(PowerCalculatorEngine.compute(x[i], y[i]));
+        }
+    }
+
+    /**
+     * Measures TablePowerEngine.compute.
+     *
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void tableCompute(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(TablePowerEngine.compute(x[i], y[i]));
+        }
+    }
+
+    /**
+     * Measures Math.pow, which the JIT may replace with an intrinsic.
+     *
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mathPow(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(Math.pow(x[i], y[i]));
+        }
+    }
+
+    /**
+     * Measures StrictMath.pow, the reference fdlibm port.
+     *
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void strictMathPow(final Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(StrictMath.pow(x[i], y[i]));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+/**
+ * BatchImport - Streams x,y lines into a {@link BatchTableModel} in the background.
+ *
+ * Lines are read and parsed like the command line input ({@link PowerCalculatorCli#parseLine}):
+ * blank and {@code #} lines are ignored, and lines without a valid pair are skipped and counted.
+ * Parsed pairs are packed straight into pages of primitive columns, and each full page is handed
+ * to the model on the event dispatch thread while reading continues, so the first rows appear at
+ * once and memory stays at the size of the table. The progress property runs from 0 to 100 with
+ * the share of the input read, when its length is known.
+ *
+ * Create and execute the import on the event dispatch thread after the model has been cleared;
+ * pages read after the model is cleared again, or after the import is cancelled, are dropped.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class BatchImport extends SwingWorker<Void, Void> {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final BatchTableModel model;
+    private final Reader reader;
+    private final long length;
+    private final long generation;
+
+    // Written by the background thread, read once the import is done
+    private long rows;
+    private long skippedLines;
+    private long firstSkippedLine;
+
+    /**
+     * Creates an import into a model.
+     *
+     * @param model the destination, whose rows are appended to
+     * @param reader the input lines, closed when the import ends
+     * @param length the number of characters of the input, or a negative value if unknown
+     */
+    BatchImport(final BatchTableModel model, final Reader reader, final long length) {
+        this.model = model;
+        this.reader = reader;
+        this.length = length;
+        this.generation = model.generation();
+    }
+
+    @Override
+    protected Void doInBackground() throws IOException {
+        try (BufferedReader lines = new BufferedReader(reader, BUFFER_SIZE)) {
+            final double[] pair = new double[2];
+            double[] bases = new double[BatchTableModel.PAGE_ROWS];
+            double[] exponents = new double[BatchTableModel.PAGE_ROWS];
+            int count = 0;
+            long lineNumber = 0;
+            long read = 0;
+            String line;
+            while (!isCancelled() && (line = lines.readLine()) != null) {
+                lineNumber++;
+                read += line.length() + 1;
+                final ResultCategory parsed = PowerCalculatorCli.parseLine(line, pair);
+                if (parsed == null) {
+                    continue;
+                }
+                if (parsed.isError()) {
+                    if (skippedLines++ == 0) {
+                        firstSkippedLine = lineNumber;
+                    }
+                    continue;
+                }
+                bases[count] = pair[0];
+                exponents[count] = pair[1];
+                if (++count == BatchTableModel.PAGE_ROWS) {
+                    publishPage(bases, exponents, count);
+                    bases = new double[BatchTableModel.PAGE_ROWS];
+                    exponents = new double[BatchTableModel.PAGE_ROWS];
+                    count = 0;
+                    if (length > 0) {
+                        setProgress((int) Math.min(99, 100 * read / length));
+                    }
+                }
+            }
+            if (count > 0 && !isCancelled()) {
+                publishPage(bases, exponents, count);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hands a page to the model on the event dispatch thread. Pages arrive in order, and before
+     * {@link #done()} runs, because both are queued on the event dispatch thread.
+     *
+     * @param bases the bases
+     * @param exponents the exponents
+     * @param count the number of rows
+     */
+    private void publishPage(final double[] bases, final double[] exponents, final int count) {
+        rows += count;
+        SwingUtilities.invokeLater(() -> {
+            if (!isCancelled() && model.generation() == generation) {
+                model.appendPage(bases, exponents, count);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of rows read.
+     *
+     * @return the number of valid pairs
+     */
+    long rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of lines that did not hold a valid pair.
+     *
+     * @return the number of skipped lines
+     */
+    long skippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * Returns the number of the first skipped line.
+     *
+     * @return the one-based line number, 0 if no line was skipped
+     */
+    long firstSkippedLine() {
+        return firstSkippedLine;
+    }
+}
@@ -0,0 +1,254 @@
+package org.example;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingWorker;
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * BatchPanel - Batch tab of the GUI: imports many x,y pairs and shows them with their results.
+ *
+ * The table is backed by a {@link BatchTableModel}, so it scrolls through millions of rows while
+ * results are computed in the background for the rows in view. Pairs are imported from a CSV file
+ * or the clipboard by a {@link BatchImport}, with a progress bar and a Cancel button.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class BatchPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final BatchTableModel model = new BatchTableModel();
+    private final JTable table = new JTable(model);
+    private final JButton importButton = new JButton("Import CSV...");
+    private final JButton pasteButton = new JButton("Paste");
+    private final JButton cancelButton = new JButton("Cancel");
+    private final JButton clearButton = new JButton("Clear");
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JLabel statusLabel = new JLabel("Import a CSV file or paste 'x,y' lines");
+    private transient BatchImport running;
+
+    /**
+     * Creates the batch tab.
+     */
+    BatchPanel() {
+        super(new BorderLayout(0, 8));
+        setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        setOpaque(false);
+
+        JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        toolbar.setOpaque(false);
+        toolbar.add(importButton);
+        toolbar.add(pasteButton);
+        toolbar.add(cancelButton);
+        toolbar.add(clearButton);
+        toolbar.add(progressBar);
+        importButton.setMnemonic(KeyEvent.VK_I);
+        pasteButton.setMnemonic(KeyEvent.VK_P);
+        cancelButton.setEnabled(false);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+
+        configureTable();
+        JScrollPane scroll = new JScrollPane(table);
+        // Request results for the rows scrolled into view and the pages around them
+        scroll.getViewport().addChangeListener(e -> prefetchVisibleRows());
+
+        statusLabel.setFont(new Font("SanSerif", Font.PLAIN, 12));
+
+        add(toolbar, BorderLayout.NORTH);
+        add(scroll, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        importButton.addActionListener(e -> chooseFile());
+        pasteButton.addActionListener(e -> pasteClipboard());
+        cancelButton.addActionListener(e -> cancelImport());
+        clearButton.addActionListener(e -> {
+            cancelImport();
+            model.clear();
+            statusLabel.setText("Import a CSV file or paste 'x,y' lines");
+        });
+
+        setupAccessibility();
+    }
+
+    private void configureTable() {
+        table.setFillsViewportHeight(true);
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_SUBSEQUENT_COLUMNS);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.setDefaultRenderer(Double.class, new NumberRenderer());
+        table.getColumnModel().getColumn(BatchTableModel.ROW_COLUMN).setPreferredWidth(60);
+        table.getColumnModel().getColumn(BatchTableModel.STATUS_COLUMN).setPreferredWidth(160);
+    }
+
+    private void setupAccessibility() {
+        table.getAccessibleContext().setAccessibleName("Batch results table");
+        table.getAccessibleContext().setAccessibleDescription(
+                "Imported bases and exponents with their results, computed as rows come into view");
+        importButton.getAccessibleContext().setAccessibleDescription("Import x,y pairs from a CSV file");
+        pasteButton.getAccessibleContext().setAccessibleDescription("Import x,y pairs from the clipboard");
+        cancelButton.getAccessibleContext().setAccessibleDescription("Stop the running import");
+        clearButton.getAccessibleContext().setAccessibleDescription("Remove all rows");
+        progressBar.getAccessibleContext().setAccessibleName("Import progress");
+        statusLabel.getAccessibleContext().setAccessibleName("Batch status");
+    }
+
+    /**
+     * Reports the visible rows to the model so their results are computed first.
+     */
+    private void prefetchVisibleRows() {
+        if (model.getRowCount() == 0) {
+            return;
+        }
+        Rectangle view = table.getVisibleRect();
+        int first = table.rowAtPoint(new Point(0, view.y));
+        int last = table.rowAtPoint(new Point(0, view.y + view.height - 1));
+        if (first < 0) {
+            return;
+        }
+        model.prefetch(first, (last < 0) ? model.getRowCount() - 1 : last);
+    }
+
+    private void chooseFile() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import x,y pairs");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = chooser.getSelectedFile().toPath();
+        try {
+            startImport(Files.newBufferedReader(file, StandardCharsets.UTF_8), Files.size(file),
+                    file.getFileName().toString());
+        } catch (IOException ex) {
+            statusLabel.setText("Cannot read " + file + ": " + ex.getMessage());
+        }
+    }
+
+    private void pasteClipboard() {
+        try {
+            String text = (String) Toolkit.getDefaultToolkit().getSystemClipboard().getData(DataFlavor.stringFlavor);
+            startImport(new StringReader(text), text.length(), "the clipboard");
+        } catch (UnsupportedFlavorException | IOException | IllegalStateException ex) {
+            statusLabel.setText("The clipboard does not hold text");
+        }
+    }
+
+    /**
+     * Replaces the rows with the pairs read from an input.
+     *
+     * @param reader the input lines
+     * @param length the number of characters of the input, or a negative value if unknown
+     * @param source the name of the input shown in the status line
+     */
+    private void startImport(final Reader reader, final long length, final String source) {
+        cancelImport();
+        model.clear();
+        table.scrollRectToVisible(new Rectangle(0, 0, 1, 1));
+        final BatchImport batchImport = new BatchImport(model, reader, length);
+        batchImport.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            } else if (e.getNewValue() == SwingWorker.StateValue.DONE && running == batchImport) {
+                importFinished(batchImport, source);
+            }
+        });
+        running = batchImport;
+        progressBar.setValue(0);
+        progressBar.setIndeterminate(length < 0);
+        progressBar.setVisible(true);
+        cancelButton.setEnabled(true);
+        statusLabel.setText("Importing from " + source + "...");
+        batchImport.execute();
+    }
+
+    private void cancelImport() {
+        if (running != null) {
+            BatchImport cancelled = running;
+            running = null;
+            cancelled.cancel(true);
+            importFinished(cancelled, null);
+        }
+    }
+
+    /**
+     * Reports the end of an import.
+     *
+     * @param batchImport the finished or cancelled import
+     * @param source the name of the input, or null if the import was cancelled
+     */
+    private void importFinished(final BatchImport batchImport, final String source) {
+        running = null;
+        progressBar.setVisible(false);
+        cancelButton.setEnabled(false);
+        if (source == null) {
+            statusLabel.setText("Import cancelled after " + model.getRowCount() + " rows");
+            return;
+        }
+        try {
+            batchImport.get();
+            StringBuilder status = new StringBuilder("Imported ").append(batchImport.rows())
+                    .append(" rows from ").append(source);
+            if (batchImport.skippedLines() > 0) {
+                status.append(" (").append(batchImport.skippedLines())
+                        .append(" invalid lines skipped, the first is line ")
+                        .append(batchImport.firstSkippedLine()).append(')');
+            }
+            statusLabel.setText(status.toString());
+        } catch (ExecutionException ex) {
+            statusLabel.setText("Import from " + source + " failed: " + ex.getCause().getMessage());
+        } catch (CancellationException ex) {
+            statusLabel.setText("Import cancelled after " + model.getRowCount() + " rows");
+        } catch (InterruptedException ex) {
+            // Not reached: get() does not block once the import is done
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Renders numbers in their shortest round-trip form, and "..." while a result is computed.
+     */
+    private static final class NumberRenderer extends DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+
+        private final StringBuilder text = new StringBuilder(32);
+
+        NumberRenderer() {
+            setHorizontalAlignment(SwingConstants.RIGHT);
+        }
+
+        @Override
+        protected void setValue(final Object value) {
+            if (value == null) {
+                setText("...");
+                return;
+            }
+            text.setLength(0);
+            setText(DoubleFormatter.appendShortest((Double) value, text).toString());
+        }
+    }
+}
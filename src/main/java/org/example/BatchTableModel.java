@@ -0,0 +1,309 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * BatchTableModel - Table of x^y rows backed by primitive columns, computed on demand.
+ *
+ * Rows are stored in pages of {@value #PAGE_ROWS} bases, exponents and results held in plain
+ * {@code double[]} arrays, so a row costs 24 bytes once computed and 16 bytes before, whatever the
+ * number of rows. Boxed values are created only for the cells being painted.
+ *
+ * Results are not computed when rows are added. A page is computed with the
+ * {@link VectorizedPowerEngine} on a worker thread the first time one of its cells is painted,
+ * or when {@link #prefetch(int, int)} reports it close to the visible rows. Only the most recently
+ * requested {@value #MAX_PENDING_PAGES} pages are kept waiting, so scrolling quickly through
+ * millions of rows computes the pages the user stops at rather than every page passed over.
+ * At most one page per worker is computed at a time, counting pages still running for contents
+ * that were cleared, and a page whose computation failed is not requested again until cleared.
+ * The status column is derived from the base, exponent and result with
+ * {@link ResultCategory#classify(double, double, double)} and takes no memory.
+ *
+ * All methods must be called on the event dispatch thread.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class BatchTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    /** Rows per page, the unit of storage and of background computation. */
+    static final int PAGE_ROWS = 4096;
+
+    /** Column of the one-based row numbers. */
+    static final int ROW_COLUMN = 0;
+    /** Column of the bases. */
+    static final int BASE_COLUMN = 1;
+    /** Column of the exponents. */
+    static final int EXPONENT_COLUMN = 2;
+    /** Column of the results, null until computed. */
+    static final int RESULT_COLUMN = 3;
+    /** Column of the error titles, empty for finite results and null until computed. */
+    static final int STATUS_COLUMN = 4;
+
+    private static final String[] COLUMN_NAMES = {"Row", "Base (x)", "Exponent (y)", "x^y", "Status"};
+    private static final Class<?>[] COLUMN_CLASSES = {Integer.class, Double.class, Double.class, Double.class,
+        String.class};
+
+    // Waiting pages beyond this are dropped, oldest first, and pages prefetched around the visible rows
+    private static final int MAX_PENDING_PAGES = 8;
+    private static final int PREFETCH_PAGES = 1;
+
+    // Pages are computed on daemon threads rather than SwingWorkers, for the reason given in LatestTaskRunner
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+    private static final ExecutorService WORKER_POOL = Executors.newFixedThreadPool(WORKERS, runnable -> {
+        final Thread thread = new Thread(runnable, "power-batch-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Pages are immutable once added; a result page is set once, when its computation completes
+    private double[][] bases = new double[16][];
+    private double[][] exponents = new double[16][];
+    private double[][] results = new double[16][];
+    private int pageCount;
+    private int rowCount;
+
+    // Requested pages, most recent last, the pages being computed and those whose computation failed
+    private final ArrayDeque<Integer> pending = new ArrayDeque<>();
+    private final BitSet computing = new BitSet();
+    private final BitSet failed = new BitSet();
+    // Pages on the workers, including those of earlier generations
+    private int running;
+
+    // Incremented by clear(), so pages and results of earlier contents are discarded
+    private long generation;
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(final int column) {
+        return COLUMN_CLASSES[column];
+    }
+
+    @Override
+    public Object getValueAt(final int row, final int column) {
+        final int page = row / PAGE_ROWS;
+        final int index = row % PAGE_ROWS;
+        switch (column) {
+            case ROW_COLUMN:
+                return row + 1;
+            case BASE_COLUMN:
+                return bases[page][index];
+            case EXPONENT_COLUMN:
+                return exponents[page][index];
+            default:
+                break;
+        }
+        final double[] pageResults = results[page];
+        if (pageResults == null) {
+            request(page);
+            return null;
+        }
+        final double result = pageResults[index];
+        if (column == RESULT_COLUMN) {
+            return result;
+        }
+        final ResultCategory category = ResultCategory.classify(bases[page][index], exponents[page][index], result);
+        return category.isError() ? category.title() : "";
+    }
+
+    /**
+     * Returns the base of a row.
+     *
+     * @param row the row index
+     * @return the base
+     */
+    double baseAt(final int row) {
+        return bases[row / PAGE_ROWS][row % PAGE_ROWS];
+    }
+
+    /**
+     * Returns the exponent of a row.
+     *
+     * @param row the row index
+     * @return the exponent
+     */
+    double exponentAt(final int row) {
+        return exponents[row / PAGE_ROWS][row % PAGE_ROWS];
+    }
+
+    /**
+     * Returns whether the result of a row has been computed.
+     *
+     * @param row the row index
+     * @return true if {@link #RESULT_COLUMN} holds the result
+     */
+    boolean isComputed(final int row) {
+        return results[row / PAGE_ROWS] != null;
+    }
+
+    /**
+     * Returns the generation of the contents, which changes when the model is cleared.
+     *
+     * @return the generation
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Appends a page of rows. Every page but the last must be full.
+     *
+     * @param pageBases the bases, which the model takes ownership of
+     * @param pageExponents the exponents, which the model takes ownership of
+     * @param count the number of rows in the page, at most {@link #PAGE_ROWS}
+     * @throws IllegalStateException if the last page is not full
+     * @throws IllegalArgumentException if the arrays are shorter than {@code count}
+     */
+    void appendPage(final double[] pageBases, final double[] pageExponents, final int count) {
+        if (rowCount != pageCount * PAGE_ROWS) {
+            throw new IllegalStateException("The last page is not full");
+        }
+        if (count <= 0 || count > PAGE_ROWS || pageBases.length < count || pageExponents.length < count) {
+            throw new IllegalArgumentException("Invalid page of " + count + " rows");
+        }
+        if (rowCount > Integer.MAX_VALUE - count) {
+            throw new IllegalStateException("Too many rows");
+        }
+        if (pageCount == bases.length) {
+            final int capacity = 2 * pageCount;
+            bases = Arrays.copyOf(bases, capacity);
+            exponents = Arrays.copyOf(exponents, capacity);
+            results = Arrays.copyOf(results, capacity);
+        }
+        bases[pageCount] = pageBases;
+        exponents[pageCount] = pageExponents;
+        pageCount++;
+        final int first = rowCount;
+        rowCount += count;
+        fireTableRowsInserted(first, rowCount - 1);
+    }
+
+    /**
+     * Removes all rows and drops pending and running computations.
+     */
+    void clear() {
+        generation++;
+        pending.clear();
+        computing.clear();
+        failed.clear();
+        Arrays.fill(bases, 0, pageCount, null);
+        Arrays.fill(exponents, 0, pageCount, null);
+        Arrays.fill(results, 0, pageCount, null);
+        pageCount = 0;
+        rowCount = 0;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Requests the results of the visible rows and of the pages next to them.
+     *
+     * @param firstRow the first visible row
+     * @param lastRow the last visible row
+     */
+    void prefetch(final int firstRow, final int lastRow) {
+        if (rowCount == 0 || firstRow < 0 || lastRow < firstRow) {
+            return;
+        }
+        final int first = firstRow / PAGE_ROWS;
+        final int last = Math.min(lastRow, rowCount - 1) / PAGE_ROWS;
+        // Neighbours first, so the visible pages are the most recent requests and computed first
+        for (int page = Math.max(0, first - PREFETCH_PAGES); page < first; page++) {
+            request(page);
+        }
+        for (int page = Math.min(pageCount - 1, last + PREFETCH_PAGES); page > last; page--) {
+            request(page);
+        }
+        for (int page = first; page <= last; page++) {
+            request(page);
+        }
+    }
+
+    /**
+     * Queues a page for computation unless it is computed, running, failed or already queued.
+     *
+     * @param page the page index
+     */
+    private void request(final int page) {
+        if (results[page] != null || computing.get(page) || failed.get(page)) {
+            return;
+        }
+        final Integer key = page;
+        pending.remove(key);
+        pending.addLast(key);
+        if (pending.size() > MAX_PENDING_PAGES) {
+            pending.removeFirst();
+        }
+        computeNext();
+    }
+
+    /**
+     * Starts computing the most recently requested pages while workers are free.
+     */
+    private void computeNext() {
+        while (running < WORKERS && !pending.isEmpty()) {
+            final int page = pending.removeLast();
+            final double[] pageBases = bases[page];
+            final double[] pageExponents = exponents[page];
+            final int count = Math.min(PAGE_ROWS, rowCount - page * PAGE_ROWS);
+            final long current = generation;
+            computing.set(page);
+            running++;
+            WORKER_POOL.execute(() -> {
+                double[] out = null;
+                try {
+                    final double[] pageResults = new double[count];
+                    VectorizedPowerEngine.computeAll(pageBases, 0, pageExponents, 0, pageResults, 0, count);
+                    out = pageResults;
+                } finally {
+                    final double[] computed = out;
+                    SwingUtilities.invokeLater(() -> pageComputed(page, count, computed, current));
+                }
+            });
+        }
+    }
+
+    /**
+     * Stores the results of a page of the current contents and starts the next requested one.
+     *
+     * @param page the page index
+     * @param count the number of rows in the page
+     * @param pageResults the results, or null if the computation failed
+     * @param pageGeneration the generation the page was requested in
+     */
+    private void pageComputed(final int page, final int count, final double[] pageResults,
+                              final long pageGeneration) {
+        running--;
+        if (pageGeneration == generation) {
+            computing.clear(page);
+            if (pageResults != null) {
+                results[page] = pageResults;
+                fireTableRowsUpdated(page * PAGE_ROWS, page * PAGE_ROWS + count - 1);
+            } else {
+                failed.set(page);
+            }
+        }
+        computeNext();
+    }
+}
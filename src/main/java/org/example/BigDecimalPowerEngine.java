@@ -0,0 +1,625 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * BigDecimalPowerEngine - Arbitrary-precision power calculations with a requested MathContext.
+ *
+ * Results are not limited to the double range: 10^-1000000 and 7^123456.5 are computed as
+ * easily as 2^0.5. Integer exponents are evaluated by binary exponentiation with products that
+ * stay exact until they exceed the working precision, so exact powers are returned exactly.
+ * Other exponents use x^y = e^(y ln x), with both functions evaluated in fixed-point BigInteger
+ * arithmetic:
+ *
+ * <ul>
+ *   <li>ln x = k ln 10 + j ln 2 + ln u for x = u * 2^j * 10^k, and u is divided by three factors
+ *       1 + n / 2^(7l) with cheap logarithms until it is within 2^-22 of 1. The atanh series of
+ *       every logarithm is summed by binary splitting.</li>
+ *   <li>e^t = 10^k e^r for |r| <= ln(10) / 2, and e^r = (e^(r/2^h))^(2^h). The Taylor series of
+ *       the reduced argument is summed by binary splitting.</li>
+ * </ul>
+ *
+ * Binary splitting combines the terms of a series pairwise as exact fractions and divides only
+ * once, instead of once per term. ln 2 and ln 10 are cached at the highest precision requested
+ * so far, and the logarithms of the {@value #LN_CACHE_SIZE} most recently used bases are kept,
+ * so repeated bases only pay for the exponential.
+ *
+ * Every result is within one unit in the last requested digit, rounded with the rounding mode of
+ * the context from an approximation carried with {@value #GUARD_BITS} more bits. Errors follow
+ * BigDecimal: {@link ArithmeticException} for a negative base with a non-integer exponent, zero
+ * to a negative power, or a result whose exponent does not fit a BigDecimal scale.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class BigDecimalPowerEngine {
+
+    // Bits carried beyond the requested precision
+    static final int GUARD_BITS = 32;
+    static final int LN_CACHE_SIZE = 64;
+
+    private static final double LOG2_10 = 3.321928094887362;
+    private static final double LN10 = 2.302585092994046;
+    // Results must keep a decimal exponent that fits a BigDecimal scale
+    private static final double MAX_DECIMAL_EXPONENT = Integer.MAX_VALUE / 2.0;
+
+    private static final double SQRT2 = 1.4142135623730951;
+    // ln x divides its argument by 1 + n / 2^(7l) for l = 1, 2, 3
+    private static final int REDUCTION_BITS = 7;
+    private static final int REDUCTION_LEVELS = 3;
+
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+    private static final BigInteger NINE = BigInteger.valueOf(9);
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+
+    // ln 2 and ln 10 at the precision they were last computed with
+    private static volatile FixedPoint ln2;
+    private static volatile FixedPoint ln10;
+
+    // ln x of recent bases, in access order
+    private static final Map<BigDecimal, FixedPoint> LN_CACHE = new LinkedHashMap<>(LN_CACHE_SIZE * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<BigDecimal, FixedPoint> eldest) {
+            return size() > LN_CACHE_SIZE;
+        }
+    };
+
+    private BigDecimalPowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * A binary fixed-point number value * 2^-bits.
+     */
+    private static final class FixedPoint {
+        final int bits;
+        final BigInteger value;
+
+        FixedPoint(final int bits, final BigInteger value) {
+            this.bits = bits;
+            this.value = value;
+        }
+
+        /**
+         * Returns the value with fewer fractional bits, rounded to nearest.
+         *
+         * @param targetBits the fractional bits, at most {@link #bits}
+         * @return value * 2^(targetBits - bits)
+         */
+        BigInteger at(final int targetBits) {
+            return shiftRound(value, bits - targetBits);
+        }
+    }
+
+    /**
+     * Computes x raised to the power of y.
+     *
+     * An integer y is evaluated by binary exponentiation, and the result is exact whenever it
+     * has no more digits than the precision of the context; an unlimited context is only
+     * accepted for integer exponents. Otherwise x must be positive, and the result is
+     * e^(y ln x) rounded to the precision of the context.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param mc the precision and rounding mode of the result
+     * @return x^y
+     * @throws ArithmeticException if x^y is not real, zero is raised to a negative power, the
+     *         result is out of the BigDecimal range, or an unlimited precision is not possible
+     */
+    public static BigDecimal compute(final BigDecimal x, final BigDecimal y, final MathContext mc) {
+        Objects.requireNonNull(x, "x");
+        Objects.requireNonNull(y, "y");
+        Objects.requireNonNull(mc, "mc");
+        final boolean integer = y.signum() == 0 || y.scale() <= 0 || y.stripTrailingZeros().scale() <= 0;
+        if (y.signum() == 0) {
+            return BigDecimal.ONE.round(mc);
+        }
+        if (x.signum() == 0) {
+            if (y.signum() < 0) {
+                throw new ArithmeticException("Zero raised to a negative power");
+            }
+            return BigDecimal.ZERO.round(mc);
+        }
+        if (integer && y.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0) {
+            return compute(x, y.longValueExact(), mc);
+        }
+        if (x.signum() < 0 && !integer) {
+            throw new ArithmeticException("Negative base with a non-integer exponent");
+        }
+        requireLimited(mc);
+        // An integer exponent beyond the long range: only the parity of y matters for the sign
+        final boolean negative = x.signum() < 0 && y.toBigInteger().testBit(0);
+        final BigDecimal result = exponential(x.abs(), y, mc);
+        return negative ? result.negate() : result;
+    }
+
+    /**
+     * Computes x raised to an integer power by binary exponentiation.
+     *
+     * Products are rounded to the precision of the context plus the digits of n and three guard
+     * digits, so they stay exact as long as x^|n| fits that precision; a negative power divides
+     * once at the end. With an unlimited context the result is exact, or an ArithmeticException
+     * is thrown if 1 / x^|n| has no terminating decimal expansion.
+     *
+     * @param x the base
+     * @param n the exponent
+     * @param mc the precision and rounding mode of the result
+     * @return x^n
+     * @throws ArithmeticException if x is zero and n is negative, or the result is out of range
+     */
+    public static BigDecimal compute(final BigDecimal x, final long n, final MathContext mc) {
+        Objects.requireNonNull(x, "x");
+        Objects.requireNonNull(mc, "mc");
+        if (n == 0) {
+            return BigDecimal.ONE.round(mc);
+        }
+        if (x.signum() == 0 && n < 0) {
+            throw new ArithmeticException("Zero raised to a negative power");
+        }
+        final MathContext work = (mc.getPrecision() == 0) ? MathContext.UNLIMITED
+                : new MathContext(mc.getPrecision() + Long.toString(n).length() + 3, RoundingMode.HALF_EVEN);
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal base = x;
+        // |n| of Long.MIN_VALUE is 2^63, which the unsigned shift handles
+        for (long e = (n < 0) ? -n : n;;) {
+            if ((e & 1L) != 0) {
+                result = result.multiply(base, work);
+            }
+            e >>>= 1;
+            if (e == 0) {
+                break;
+            }
+            base = base.multiply(base, work);
+        }
+        return (n < 0) ? BigDecimal.ONE.divide(result, mc) : result.round(mc);
+    }
+
+    /**
+     * Computes the natural logarithm.
+     *
+     * @param x the argument, positive
+     * @param mc the precision and rounding mode of the result
+     * @return ln x
+     * @throws ArithmeticException if x is not positive or the precision is unlimited
+     */
+    public static BigDecimal ln(final BigDecimal x, final MathContext mc) {
+        Objects.requireNonNull(x, "x");
+        requireLimited(mc);
+        if (x.signum() <= 0) {
+            throw new ArithmeticException("Logarithm of a non-positive number");
+        }
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ZERO.round(mc);
+        }
+        // ln x is about x - 1 near 1: carry the bits that its leading zeros cost
+        final BigDecimal distance = x.subtract(BigDecimal.ONE).abs();
+        final double leadingZeros = Math.max(0.0, -Math.floor(log10Abs(distance)) * LOG2_10);
+        final int bits = precisionBits(mc) + (int) Math.min(leadingZeros, Integer.MAX_VALUE / 4.0);
+        return toBigDecimal(logarithm(x, bits), bits).round(mc);
+    }
+
+    /**
+     * Computes e raised to the power of x.
+     *
+     * @param x the exponent
+     * @param mc the precision and rounding mode of the result
+     * @return e^x
+     * @throws ArithmeticException if the result is out of range or the precision is unlimited
+     */
+    public static BigDecimal exp(final BigDecimal x, final MathContext mc) {
+        Objects.requireNonNull(x, "x");
+        requireLimited(mc);
+        if (x.signum() == 0) {
+            return BigDecimal.ONE.round(mc);
+        }
+        if (log10Abs(x) > Math.log10(MAX_DECIMAL_EXPONENT * LN10)) {
+            throw new ArithmeticException((x.signum() > 0) ? "Overflow" : "Underflow");
+        }
+        final int bits = precisionBits(mc);
+        return scaledExponential(toFixed(x, bits), bits, mc);
+    }
+
+    /**
+     * Computes x^y = e^(y ln x) for a positive x.
+     *
+     * e^t has a relative error of about the absolute error of t, so ln x carries the integer
+     * bits of y beyond the bits of the result.
+     *
+     * @param x the base, positive
+     * @param y the exponent
+     * @param mc the precision of the result
+     * @return x^y
+     */
+    private static BigDecimal exponential(final BigDecimal x, final BigDecimal y, final MathContext mc) {
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ONE.round(mc);
+        }
+        // log10 |y ln x|, with ln x close to x - 1 near 1
+        final double lnEstimate = log10Abs(x) * LN10;
+        final double log10Ln = (Math.abs(lnEstimate) > 0.01) ? Math.log10(Math.abs(lnEstimate))
+                : log10Abs(x.subtract(BigDecimal.ONE));
+        final double log10T = log10Abs(y) + log10Ln;
+        if (log10T > Math.log10(MAX_DECIMAL_EXPONENT * LN10)) {
+            throw new ArithmeticException((y.signum() * lnEstimate > 0) ? "Overflow" : "Underflow");
+        }
+        final int bits = precisionBits(mc);
+        final int lnBits = bits + integerBits(y);
+        final BigInteger logarithm = logarithm(x, lnBits);
+        // t = y * ln x, rounded to bits
+        final BigInteger product = logarithm.multiply(y.unscaledValue());
+        final BigInteger t = (y.scale() > 0)
+                ? divideRound(product, BigInteger.TEN.pow(y.scale()).shiftLeft(lnBits - bits))
+                : shiftRound(product.multiply(BigInteger.TEN.pow(-y.scale())), lnBits - bits);
+        return scaledExponential(t, bits, mc);
+    }
+
+    /**
+     * Computes e^t = e^r * 10^k with r = t - k ln 10.
+     *
+     * @param t the exponent with bits fractional bits
+     * @param bits the fractional bits of t and of e^r
+     * @param mc the precision of the result
+     * @return e^t
+     */
+    private static BigDecimal scaledExponential(final BigInteger t, final int bits, final MathContext mc) {
+        final double k = Math.rint(toDouble(t, bits) / LN10);
+        if (!(Math.abs(k) < MAX_DECIMAL_EXPONENT)) {
+            throw new ArithmeticException((k > 0) ? "Overflow" : "Underflow");
+        }
+        // k ln 10 needs the bits of k beyond those of t
+        final int extra = integerBits(Math.abs(k));
+        final BigInteger r = shiftRound(t.shiftLeft(extra).subtract(BigInteger.valueOf((long) k)
+                .multiply(ln10(bits + extra))), extra);
+        return toBigDecimal(expFixed(r, bits), bits).scaleByPowerOfTen((int) k).round(mc);
+    }
+
+    /**
+     * Computes e^r in fixed point for |r| <= 2.
+     *
+     * The Taylor series is summed at r / 2^h, where few terms suffice, and squared h times.
+     * Squaring doubles the relative error, so the series carries h more bits.
+     *
+     * @param r the argument with bits fractional bits
+     * @param bits the fractional bits of argument and result
+     * @return e^r with bits fractional bits
+     */
+    private static BigInteger expFixed(final BigInteger r, final int bits) {
+        if (r.signum() == 0) {
+            return BigInteger.ONE.shiftLeft(bits);
+        }
+        final int halvings = (int) Math.sqrt(bits);
+        final int work = bits + halvings + 8;
+        final int shift = bits + halvings;
+        // Terms until |r / 2^h|^n / n! < 2^-work
+        final double reduced = Math.abs(toDouble(r, shift));
+        double log2Term = 0;
+        int terms = 0;
+        while (log2Term > -work) {
+            terms++;
+            log2Term += Math.log(reduced / terms) / Math.log(2);
+        }
+        final BigInteger[] pqt = splitExp(r, shift, 1, terms + 1);
+        // e^(r / 2^h) = 1 + T / Q
+        BigInteger e = pqt[1].add(pqt[2]).shiftLeft(work).divide(pqt[1]);
+        for (int i = 0; i < halvings; i++) {
+            e = shiftRound(e.multiply(e), work);
+        }
+        return shiftRound(e, work - bits);
+    }
+
+    /**
+     * Binary splitting of the Taylor series of e^z for z = r / 2^shift, whose n-th term is the
+     * previous one times p(n) / q(n) = r / (n 2^shift).
+     *
+     * @param r the numerator of z
+     * @param shift the binary exponent of the denominator of z
+     * @param a the first term index, at least 1
+     * @param b one past the last term index
+     * @return {P, Q, T} with P the product of p(n), Q the product of q(n) and T / Q the sum of
+     *         the terms z^n / n! for a <= n < b divided by z^(a-1) / (a-1)!
+     */
+    private static BigInteger[] splitExp(final BigInteger r, final int shift, final int a, final int b) {
+        if (b - a == 1) {
+            return new BigInteger[] {r, BigInteger.valueOf(a).shiftLeft(shift), r};
+        }
+        final int m = (a + b) >>> 1;
+        final BigInteger[] left = splitExp(r, shift, a, m);
+        final BigInteger[] right = splitExp(r, shift, m, b);
+        return combine(left, right);
+    }
+
+    /**
+     * Binary splitting of the series atanh(z) / z = sum of z^(2i) / (2i + 1) for z = a / b, whose
+     * i-th term is the previous one times p(i) / q(i) = a^2 (2i - 1) / (b^2 (2i + 1)).
+     *
+     * @param a2 a^2
+     * @param b2 b^2
+     * @param from the first term index, at least 1
+     * @param to one past the last term index
+     * @return {P, Q, T} as for {@link #splitExp(BigInteger, int, int, int)}
+     */
+    private static BigInteger[] splitAtanh(final BigInteger a2, final BigInteger b2, final int from, final int to) {
+        if (to - from == 1) {
+            final BigInteger p = a2.multiply(BigInteger.valueOf(2L * from - 1));
+            return new BigInteger[] {p, b2.multiply(BigInteger.valueOf(2L * from + 1)), p};
+        }
+        final int m = (from + to) >>> 1;
+        return combine(splitAtanh(a2, b2, from, m), splitAtanh(a2, b2, m, to));
+    }
+
+    /**
+     * Joins the binary splitting results of two adjacent index ranges.
+     *
+     * @param left {P, Q, T} of the lower range
+     * @param right {P, Q, T} of the upper range
+     * @return {P, Q, T} of the union
+     */
+    private static BigInteger[] combine(final BigInteger[] left, final BigInteger[] right) {
+        return new BigInteger[] {
+            left[0].multiply(right[0]),
+            left[1].multiply(right[1]),
+            left[2].multiply(right[1]).add(left[0].multiply(right[2])),
+        };
+    }
+
+    /**
+     * Computes 2 atanh(a / b) = ln((b + a) / (b - a)) in fixed point.
+     *
+     * @param a the numerator, |a| well below b
+     * @param b the denominator, positive
+     * @param bits the fractional bits of the result
+     * @return 2 atanh(a / b) with bits fractional bits
+     */
+    private static BigInteger twiceAtanh(final BigInteger a, final BigInteger b, final int bits) {
+        if (a.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        // (a / b)^(2n) < 2^-(bits + 2)
+        final int terms = (int) Math.ceil((bits + 2) / (2 * (log2(b) - log2(a.abs())))) + 1;
+        final BigInteger[] pqt = splitAtanh(a.multiply(a), b.multiply(b), 1, terms + 1);
+        // 2 (a / b) (1 + T / Q)
+        return divideRound(a.multiply(pqt[1].add(pqt[2])).shiftLeft(bits + 1), b.multiply(pqt[1]));
+    }
+
+    /**
+     * Returns ln 2 in fixed point, from the cache when it is precise enough.
+     *
+     * @param bits the fractional bits
+     * @return ln 2 with bits fractional bits
+     */
+    private static BigInteger ln2(final int bits) {
+        FixedPoint cached = ln2;
+        if (cached == null || cached.bits < bits) {
+            // ln 2 = 2 atanh(1/3)
+            final int precision = Math.max(bits, (cached == null) ? 0 : 2 * cached.bits);
+            cached = new FixedPoint(precision, twiceAtanh(BigInteger.ONE, THREE, precision + 8).shiftRight(8));
+            ln2 = cached;
+        }
+        return cached.at(bits);
+    }
+
+    /**
+     * Returns ln 10 in fixed point, from the cache when it is precise enough.
+     *
+     * @param bits the fractional bits
+     * @return ln 10 with bits fractional bits
+     */
+    private static BigInteger ln10(final int bits) {
+        FixedPoint cached = ln10;
+        if (cached == null || cached.bits < bits) {
+            // ln 10 = 3 ln 2 + ln(5/4), with ln(5/4) = 2 atanh(1/9)
+            final int precision = Math.max(bits, (cached == null) ? 0 : 2 * cached.bits);
+            final BigInteger sum = ln2(precision + 8).multiply(THREE)
+                    .add(twiceAtanh(BigInteger.ONE, NINE, precision + 8));
+            cached = new FixedPoint(precision, shiftRound(sum, 8));
+            ln10 = cached;
+        }
+        return cached.at(bits);
+    }
+
+    /**
+     * Computes ln x in fixed point, from the cache of recent bases when it is precise enough.
+     *
+     * @param x the argument, positive
+     * @param bits the fractional bits
+     * @return ln x with bits fractional bits
+     */
+    private static BigInteger logarithm(final BigDecimal x, final int bits) {
+        FixedPoint cached;
+        synchronized (LN_CACHE) {
+            cached = LN_CACHE.get(x);
+        }
+        if (cached == null || cached.bits < bits) {
+            cached = new FixedPoint(bits, lnFixed(x, bits));
+            synchronized (LN_CACHE) {
+                LN_CACHE.put(x, cached);
+            }
+        }
+        return cached.at(bits);
+    }
+
+    /**
+     * Computes ln x = k ln 10 + j ln 2 + ln c_1 + ln c_2 + ln c_3 + ln v in fixed point.
+     *
+     * x = m * 10^k with m in [1, 10), and m = u * 2^j with u in [sqrt(1/2), sqrt(2)). Each level
+     * l divides u by c_l = 1 + n_l / 2^(7l) for the integer n_l nearest to (u - 1) 2^(7l), so
+     * that v = u / (c_1 c_2 c_3) is within 2^-22 of 1. ln c_l = 2 atanh(n_l / (2^(7l+1) + n_l))
+     * is a series in a fraction of small integers, which binary splitting sums cheaply, and the
+     * series of ln v gains 44 bits per term.
+     *
+     * @param x the argument, positive
+     * @param bits the fractional bits
+     * @return ln x with bits fractional bits
+     */
+    private static BigInteger lnFixed(final BigDecimal x, final int bits) {
+        final int work = bits + 16;
+        final long k = (long) x.precision() - x.scale() - 1;
+        // m in [1, 10) with work + 4 fractional bits
+        final BigInteger m = x.unscaledValue().shiftLeft(work + 4).divide(BigInteger.TEN.pow(x.precision() - 1));
+        int j = m.bitLength() - 1 - (work + 4);
+        if (toDouble(m, work + 4 + j) > SQRT2) {
+            j++;
+        }
+        BigInteger u = m.shiftRight(j + 4);
+        final BigInteger one = BigInteger.ONE.shiftLeft(work);
+        BigInteger sum = BigInteger.ZERO;
+        for (int level = 1; level <= REDUCTION_LEVELS; level++) {
+            final int shift = REDUCTION_BITS * level;
+            final BigInteger n = shiftRound(u.subtract(one), work - shift);
+            if (n.signum() != 0) {
+                final BigInteger denominator = BigInteger.ONE.shiftLeft(shift).add(n);
+                u = divideRound(u.shiftLeft(shift), denominator);
+                sum = sum.add(twiceAtanh(n, denominator.add(BigInteger.ONE.shiftLeft(shift)), work));
+            }
+        }
+        sum = sum.add(twiceAtanh(u.subtract(one), u.add(one), work));
+        if (j != 0) {
+            sum = sum.add(BigInteger.valueOf(j).multiply(ln2(work)));
+        }
+        if (k != 0) {
+            final int extra = integerBits(Math.abs((double) k));
+            sum = sum.add(shiftRound(BigInteger.valueOf(k).multiply(ln10(work + extra)), extra));
+        }
+        return shiftRound(sum, work - bits);
+    }
+
+    /**
+     * Converts a decimal to fixed point, rounded to nearest.
+     *
+     * @param x the value
+     * @param bits the fractional bits
+     * @return x * 2^bits rounded
+     */
+    private static BigInteger toFixed(final BigDecimal x, final int bits) {
+        final BigInteger shifted = x.unscaledValue().shiftLeft(bits);
+        return (x.scale() > 0) ? divideRound(shifted, BigInteger.TEN.pow(x.scale()))
+                : shifted.multiply(BigInteger.TEN.pow(-x.scale()));
+    }
+
+    /**
+     * Converts a fixed-point number to a decimal exactly: value * 2^-bits = value * 5^bits * 10^-bits.
+     *
+     * @param value the fixed-point value
+     * @param bits the fractional bits
+     * @return value * 2^-bits
+     */
+    private static BigDecimal toBigDecimal(final BigInteger value, final int bits) {
+        return new BigDecimal(value.multiply(FIVE.pow(bits)), bits);
+    }
+
+    /**
+     * Returns value / 2^n rounded to nearest, ties away from zero.
+     *
+     * @param value the value
+     * @param n the shift, non-negative
+     * @return value * 2^-n rounded
+     */
+    private static BigInteger shiftRound(final BigInteger value, final int n) {
+        if (n == 0) {
+            return value;
+        }
+        final BigInteger half = BigInteger.ONE.shiftLeft(n - 1);
+        return (value.signum() >= 0) ? value.add(half).shiftRight(n) : value.negate().add(half).shiftRight(n).negate();
+    }
+
+    /**
+     * Returns a / b rounded to nearest for a positive b.
+     *
+     * @param a the dividend
+     * @param b the divisor, positive
+     * @return a / b rounded
+     */
+    private static BigInteger divideRound(final BigInteger a, final BigInteger b) {
+        final BigInteger[] qr = a.divideAndRemainder(b);
+        final int sign = qr[1].signum();
+        if (sign != 0 && qr[1].abs().shiftLeft(1).compareTo(b) >= 0) {
+            return qr[0].add(BigInteger.valueOf(sign));
+        }
+        return qr[0];
+    }
+
+    /**
+     * Converts a fixed-point number to the nearest double, also when the BigInteger exceeds the
+     * double range.
+     *
+     * @param value the fixed-point value
+     * @param bits the fractional bits
+     * @return value * 2^-bits
+     */
+    private static double toDouble(final BigInteger value, final int bits) {
+        final int shift = Math.max(0, value.bitLength() - 62);
+        return Math.scalb(value.shiftRight(shift).doubleValue(), shift - bits);
+    }
+
+    /**
+     * Returns log2 v to about double precision for any positive BigInteger.
+     *
+     * @param v the value, positive
+     * @return log2 v
+     */
+    private static double log2(final BigInteger v) {
+        final int shift = Math.max(0, v.bitLength() - 62);
+        return Math.log(v.shiftRight(shift).doubleValue()) / Math.log(2.0) + shift;
+    }
+
+    /**
+     * Returns log10 |v| to about double precision for any non-zero decimal.
+     *
+     * @param v the value, not zero
+     * @return log10 |v|
+     */
+    private static double log10Abs(final BigDecimal v) {
+        final double leading = new BigDecimal(v.unscaledValue().abs(), v.precision() - 1).doubleValue();
+        return ((long) v.precision() - v.scale() - 1) + Math.log10(leading);
+    }
+
+    /**
+     * Returns the bits of the integer part of a decimal, at least one.
+     *
+     * @param v the value
+     * @return the bits needed for floor(|v|) + 1
+     */
+    private static int integerBits(final BigDecimal v) {
+        final long digits = (long) v.precision() - v.scale();
+        return (digits <= 0) ? 1 : (int) Math.ceil(digits * LOG2_10) + 1;
+    }
+
+    /**
+     * Returns the fractional bits that carry the requested digits and the guard bits.
+     *
+     * @param mc the context, of limited precision
+     * @return the working bits
+     */
+    private static int precisionBits(final MathContext mc) {
+        return (int) Math.ceil(mc.getPrecision() * LOG2_10) + GUARD_BITS;
+    }
+
+    /**
+     * Returns the bits of the integer part of a magnitude, at least one.
+     *
+     * @param magnitude a non-negative value
+     * @return the bits needed for floor(magnitude) + 1
+     */
+    private static int integerBits(final double magnitude) {
+        return (magnitude < 1.0) ? 1 : Math.getExponent(magnitude) + 2;
+    }
+
+    /**
+     * Rejects an unlimited context where the result cannot be exact.
+     *
+     * @param mc the context
+     * @throws ArithmeticException if the precision is unlimited
+     */
+    private static void requireLimited(final MathContext mc) {
+        Objects.requireNonNull(mc, "mc");
+        if (mc.getPrecision() == 0) {
+            throw new ArithmeticException("Non-terminating result: a limited precision is required");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example;
+
+/**
+ * Calculation - The outcome of one x^y entered as text.
+ *
+ * {@link #evaluate(String, String)} parses, computes, classifies and formats without touching any
+ * Swing state, so the GUI can run it off the event dispatch thread and only display the outcome.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class Calculation {
+
+    private final double x;
+    private final double y;
+    private final double result;
+    private final ResultCategory category;
+    private final String resultText;
+
+    private Calculation(final double x, final double y, final double result, final ResultCategory category) {
+        this.x = x;
+        this.y = y;
+        this.result = result;
+        this.category = category;
+        this.resultText = category.isError() ? null
+                : DoubleFormatter.appendResult(result, new StringBuilder("Result: ")).toString();
+    }
+
+    /**
+     * Evaluates the base and exponent texts, recorded as a {@link CalculationEvent}.
+     *
+     * @param baseText the text of the base
+     * @param exponentText the text of the exponent
+     * @return the outcome, with {@link ResultCategory#MISSING_INPUT} or
+     *         {@link ResultCategory#INVALID_INPUT} if a text is blank or not a number
+     */
+    static Calculation evaluate(final String baseText, final String exponentText) {
+        final CalculationEvent event = new CalculationEvent();
+        event.begin();
+        final Calculation calculation = evaluate(baseText, exponentText, event.isEnabled() ? event : null);
+        event.end();
+        if (event.shouldCommit()) {
+            event.base = calculation.x;
+            event.exponent = calculation.y;
+            event.category = calculation.category.name();
+            event.commit();
+        }
+        return calculation;
+    }
+
+    /**
+     * Evaluates the base and exponent texts, timing each phase.
+     *
+     * @param baseText the text of the base
+     * @param exponentText the text of the exponent
+     * @param timing the event that receives the phase times, or null to skip timing
+     * @return the outcome
+     */
+    private static Calculation evaluate(final String baseText, final String exponentText,
+                                        final CalculationEvent timing) {
+        long time = (timing == null) ? 0 : System.nanoTime();
+        if (FastDoubleParser.isBlank(baseText) || FastDoubleParser.isBlank(exponentText)) {
+            return new Calculation(Double.NaN, Double.NaN, Double.NaN, ResultCategory.MISSING_INPUT);
+        }
+        final double x;
+        final double y;
+        try {
+            x = FastDoubleParser.parse(baseText);
+            y = FastDoubleParser.parse(exponentText);
+        } catch (NumberFormatException ex) {
+            return new Calculation(Double.NaN, Double.NaN, Double.NaN, ResultCategory.INVALID_INPUT);
+        }
+        if (timing != null) {
+            final long now = System.nanoTime();
+            timing.parseTime = now - time;
+            time = now;
+        }
+        final double result = PowerCalculatorEngine.compute(x, y);
+        final ResultCategory category = ResultCategory.classify(x, y, result);
+        if (timing != null) {
+            final long now = System.nanoTime();
+            timing.computeTime = now - time;
+            time = now;
+        }
+        final Calculation calculation = new Calculation(x, y, result, category);
+        if (timing != null) {
+            timing.formatTime = System.nanoTime() - time;
+        }
+        return calculation;
+    }
+
+    /**
+     * Returns the computed x^y.
+     *
+     * @return the result, NaN if the input was missing or invalid
+     */
+    double result() {
+        return result;
+    }
+
+    /**
+     * Returns the category of the outcome.
+     *
+     * @return the category
+     */
+    ResultCategory category() {
+        return category;
+    }
+
+    /**
+     * Returns whether the input could not be parsed.
+     *
+     * @return true for missing or invalid input
+     */
+    boolean isInputError() {
+        return category == ResultCategory.MISSING_INPUT || category == ResultCategory.INVALID_INPUT;
+    }
+
+    /**
+     * Returns the formatted result shown for a successful calculation.
+     *
+     * @return "Result: " followed by the result, or null for an error
+     */
+    String resultText() {
+        return resultText;
+    }
+
+    /**
+     * Returns the explanation shown for an error.
+     *
+     * @return the message of the category
+     */
+    String message() {
+        return category.message(x, y);
+    }
+}
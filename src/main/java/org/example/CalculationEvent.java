@@ -0,0 +1,48 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * CalculationEvent - Flight Recorder event for one calculation of the GUI.
+ *
+ * The event spans {@link Calculation#evaluate(String, String)}, which the calculator runs off the
+ * event dispatch thread for every calculatePower, and splits its time into parsing, computing
+ * and formatting. Phases that were not reached, such as computing after invalid input, are zero.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@Name("org.example.Calculation")
+@Label("Calculation")
+@Category({"Power Calculator", "GUI"})
+@Description("Parsing, computing and formatting one x^y entered in the calculator")
+@StackTrace(false)
+final class CalculationEvent extends Event {
+
+    @Label("Base")
+    double base;
+
+    @Label("Exponent")
+    double exponent;
+
+    @Label("Category")
+    String category;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseTime;
+
+    @Label("Compute Time")
+    @Timespan
+    long computeTime;
+
+    @Label("Format Time")
+    @Timespan
+    long formatTime;
+}
@@ -0,0 +1,300 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CorrectRounding - Rounding test and slow path of the {@link PrecisionMode#CORRECTLY_ROUNDED} mode.
+ *
+ * The mode follows Ziv's strategy. The double-double pipeline of {@link PrecisionMode#STRICT}
+ * gives |x|^y = p * 2^n with a relative error below {@value #PIPELINE_ERROR_BOUND}; if no rounding
+ * boundary, the midpoint between two adjacent doubles, lies within that error of p, rounding p
+ * gives the correctly rounded result. Otherwise the nearest midpoint c decides the result alone:
+ *
+ * <ol>
+ *   <li>If x^y = c exactly, the tie is broken to the even neighbour. Exact midpoints only occur
+ *       for exponents y = p / 2^j with j <= 10, which are checked with integer arithmetic.</li>
+ *   <li>Otherwise |x|^y * 2^-n is evaluated in BigDecimal arithmetic with 50, 100 and then 200
+ *       significant digits until it is farther from c than its error, and the side of c it lies
+ *       on selects the neighbour.</li>
+ * </ol>
+ *
+ * The slow path runs for about one input in 10^7 plus the exact midpoints. Its calls are
+ * counted with LongAdder and exposed by {@link #fastPathCount()}, {@link #slowPathCount()} and
+ * {@link #midpointCount()}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class CorrectRounding {
+
+    // Relative error of p from the double-double pipeline; 2^-94 is the largest error measured
+    static final double PIPELINE_ERROR_BOUND = 0x1.0p-80;
+
+    // Significant digits of the BigDecimal evaluations, and the decimal digits their error may lose
+    private static final int[] DIGITS = {50, 100, 200};
+    private static final int LOST_DIGITS = 10;
+    private static final int GUARD_DIGITS = 10;
+
+    // Exact midpoints need y * 2^MAX_DYADIC_SHIFT to be an integer
+    private static final int MAX_DYADIC_SHIFT = 10;
+    private static final double MAX_EXACT_EXPONENT = 4096.0;
+
+    private static final MathContext LN2_CONTEXT = new MathContext(DIGITS[DIGITS.length - 1] + 2 * GUARD_DIGITS);
+    private static final BigDecimal LN2 =
+            twiceAtanh(BigDecimal.ONE.divide(BigDecimal.valueOf(3), LN2_CONTEXT), LN2_CONTEXT);
+
+    private static final LongAdder FAST_PATH = new LongAdder();
+    private static final LongAdder SLOW_PATH = new LongAdder();
+    private static final LongAdder MIDPOINTS = new LongAdder();
+
+    private CorrectRounding() {
+        // Utility class
+    }
+
+    /**
+     * Returns the number of results the rounding test accepted without the slow path.
+     *
+     * @return the fast path count
+     */
+    public static long fastPathCount() {
+        return FAST_PATH.sum();
+    }
+
+    /**
+     * Returns the number of results that needed the slow path, including exact midpoints.
+     *
+     * @return the slow path count
+     */
+    public static long slowPathCount() {
+        return SLOW_PATH.sum();
+    }
+
+    /**
+     * Returns the number of results that were exactly halfway between two doubles.
+     *
+     * @return the midpoint count
+     */
+    public static long midpointCount() {
+        return MIDPOINTS.sum();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public static void resetCounts() {
+        FAST_PATH.reset();
+        SLOW_PATH.reset();
+        MIDPOINTS.reset();
+    }
+
+    /**
+     * Rounds |x|^y = p * 2^n correctly to a double.
+     *
+     * @param xAbs the base, positive, finite and not 1
+     * @param y the exponent, finite
+     * @param p the pipeline result scaled by 2^-n, within {@link #PIPELINE_ERROR_BOUND} of the exact value
+     * @param n the scale of the result
+     * @return |x|^y correctly rounded, ties to even
+     */
+    static double round(final double xAbs, final double y, final DoubleDouble p, final int n) {
+        final double rounded = p.scaledValue(n);
+        final double tolerance = PIPELINE_ERROR_BOUND * p.hi();
+
+        // Midpoint below the candidate; zero has none, and infinity has the overflow threshold
+        if (rounded != 0.0) {
+            final double lower = (rounded == Double.POSITIVE_INFINITY) ? Double.MAX_VALUE : Math.nextDown(rounded);
+            final double upper = rounded;
+            if (p.subtract(midpoint(lower, upper, n)).hi() <= tolerance) {
+                return slowPath(xAbs, y, n, lower, upper);
+            }
+        }
+        // Midpoint above the candidate, which Double.MAX_VALUE has as well
+        if (rounded != Double.POSITIVE_INFINITY) {
+            final double upper = Math.nextUp(rounded);
+            if (midpoint(rounded, upper, n).subtract(p).hi() <= tolerance) {
+                return slowPath(xAbs, y, n, rounded, upper);
+            }
+        }
+        FAST_PATH.increment();
+        return rounded;
+    }
+
+    /**
+     * Returns half the gap between two adjacent non-negative doubles, scaled by 2^-n.
+     *
+     * The gap to infinity is taken to be the ulp of Double.MAX_VALUE, so that the midpoint is the
+     * overflow threshold. The result is a power of two and exact.
+     *
+     * @param lower the lower neighbour
+     * @param upper the upper neighbour
+     * @param n the scale
+     * @return (upper - lower) / 2 * 2^-n
+     */
+    private static double halfGap(final double lower, final double upper, final int n) {
+        final double gap = (upper == Double.POSITIVE_INFINITY) ? Math.ulp(lower) : upper - lower;
+        return Math.scalb(gap, -n - 1);
+    }
+
+    /**
+     * Returns the midpoint between two adjacent non-negative doubles, scaled by 2^-n, exactly.
+     *
+     * @param lower the lower neighbour
+     * @param upper the upper neighbour
+     * @param n the scale
+     * @return (lower + upper) / 2 * 2^-n
+     */
+    private static DoubleDouble midpoint(final double lower, final double upper, final int n) {
+        return DoubleDouble.exactSum(Math.scalb(lower, -n), halfGap(lower, upper, n));
+    }
+
+    /**
+     * Decides on which side of the midpoint between two adjacent doubles |x|^y lies.
+     *
+     * @param xAbs the base
+     * @param y the exponent
+     * @param n the scale of the pipeline result
+     * @param lower the neighbour below the midpoint
+     * @param upper the neighbour above the midpoint
+     * @return lower or upper, whichever |x|^y rounds to
+     */
+    static double slowPath(final double xAbs, final double y, final int n,
+                          final double lower, final double upper) {
+        SLOW_PATH.increment();
+        final double half = halfGap(lower, upper, n);
+        final double lowerScaled = Math.scalb(lower, -n);
+        if (isExactPower(xAbs, y, (long) (lowerScaled / half) + 1, Math.getExponent(half) + n)) {
+            MIDPOINTS.increment();
+            return ((Double.doubleToRawLongBits(lower) & 1L) == 0) ? lower : upper;
+        }
+
+        final BigDecimal midpoint = new BigDecimal(lowerScaled).add(new BigDecimal(half));
+        BigDecimal difference = BigDecimal.ZERO;
+        for (final int digits : DIGITS) {
+            final MathContext mc = new MathContext(digits + GUARD_DIGITS);
+            difference = scaledPower(xAbs, y, n, mc).subtract(midpoint, mc);
+            if (difference.abs().compareTo(midpoint.movePointLeft(digits - LOST_DIGITS)) > 0) {
+                break;
+            }
+        }
+        // Still undecided at 200 digits would need a distance to the midpoint far below any known worst case
+        return (difference.signum() > 0) ? upper : lower;
+    }
+
+    /**
+     * Checks whether |x|^y equals the midpoint units * 2^scale exactly.
+     *
+     * With x = X * 2^e and the midpoint C * 2^f for odd X and C, and y = P / 2^j in lowest terms,
+     * x^y = C * 2^f holds exactly when X^P = C^(2^j) and e * P = f * 2^j. For X >= 3 this needs
+     * a positive P and 2^j <= 33, and for a power of two base 2^j has to divide e, so an exact
+     * midpoint is impossible for j > 10.
+     *
+     * @param xAbs the base
+     * @param y the exponent
+     * @param units the midpoint in units of 2^scale, positive
+     * @param scale the exponent of the midpoint unit
+     * @return whether |x|^y is exactly the midpoint
+     */
+    static boolean isExactPower(final double xAbs, final double y, final long units, final int scale) {
+        if (!(Math.abs(y) <= MAX_EXACT_EXPONENT)) {
+            return false;
+        }
+        final double shifted = Math.scalb(y, MAX_DYADIC_SHIFT);
+        if (shifted != Math.rint(shifted)) {
+            return false;
+        }
+        long numerator = (long) shifted;
+        final int shift = Math.min(Long.numberOfTrailingZeros(numerator), MAX_DYADIC_SHIFT);
+        numerator >>= shift;
+        final int denominator = 1 << (MAX_DYADIC_SHIFT - shift);
+
+        final int zeros = Long.numberOfTrailingZeros(units);
+        final long c = units >>> zeros;
+        final long f = (long) scale + zeros;
+        final long significand = (Math.getExponent(xAbs) < Double.MIN_EXPONENT)
+                ? Double.doubleToRawLongBits(xAbs)
+                : (Double.doubleToRawLongBits(xAbs) & 0x000f_ffff_ffff_ffffL) | 0x0010_0000_0000_0000L;
+        final int xZeros = Long.numberOfTrailingZeros(significand);
+        final long bigX = significand >>> xZeros;
+        final long e = (long) Math.max(Math.getExponent(xAbs), Double.MIN_EXPONENT) - 52 + xZeros;
+
+        if (e * numerator != f * denominator) {
+            return false;
+        }
+        if (bigX == 1 || c == 1) {
+            return bigX == c;
+        }
+        if (numerator < 0) {
+            return false;
+        }
+        // X^P and C^(2^j) can only be equal when their bit lengths agree
+        final double bitsX = numerator * Math.log(bigX);
+        final double bitsC = denominator * Math.log(c);
+        if (Math.abs(bitsX - bitsC) > 1e-9 * bitsC) {
+            return false;
+        }
+        return BigInteger.valueOf(bigX).pow((int) numerator).equals(BigInteger.valueOf(c).pow(denominator));
+    }
+
+    /**
+     * Evaluates |x|^y * 2^-n as e^(y ln m + (y e - n) ln 2) for x = m * 2^e with m in [sqrt(1/2), sqrt(2)].
+     *
+     * The terms of the exponent are at most about 10^7 in magnitude, so their rounding errors
+     * cost at most {@value #LOST_DIGITS} of the digits of the context.
+     *
+     * @param xAbs the base, positive and finite
+     * @param y the exponent
+     * @param n the scale
+     * @param mc the working precision
+     * @return |x|^y * 2^-n
+     */
+    private static BigDecimal scaledPower(final double xAbs, final double y, final int n, final MathContext mc) {
+        int e = Math.getExponent(xAbs);
+        if (e < Double.MIN_EXPONENT) {
+            e = Math.getExponent(xAbs * 0x1.0p54) - 54;
+        }
+        double scaled = (e == Math.getExponent(xAbs)) ? Math.scalb(xAbs, -e) : Math.scalb(xAbs * 0x1.0p54, -e - 54);
+        if (scaled > 0x1.6a09e667f3bcdp0) {
+            scaled *= 0.5;
+            e += 1;
+        }
+        final BigDecimal m = new BigDecimal(scaled);
+        final BigDecimal z = m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), mc);
+        final BigDecimal yExact = new BigDecimal(y);
+        final BigDecimal t = yExact.multiply(twiceAtanh(z, mc), mc)
+                .add(yExact.multiply(BigDecimal.valueOf(e)).subtract(BigDecimal.valueOf(n)).multiply(LN2, mc), mc);
+
+        final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(mc.getPrecision() + GUARD_DIGITS);
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int k = 1; term.abs().compareTo(epsilon) >= 0; k++) {
+            term = term.multiply(t, mc).divide(BigDecimal.valueOf(k), mc);
+            sum = sum.add(term, mc);
+        }
+        return sum;
+    }
+
+    /**
+     * Computes 2 atanh(z) = ln((1 + z) / (1 - z)) by its Taylor series, for |z| well below 1.
+     *
+     * @param z the argument
+     * @param mc the working precision
+     * @return 2 atanh(z)
+     */
+    private static BigDecimal twiceAtanh(final BigDecimal z, final MathContext mc) {
+        final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(mc.getPrecision() + GUARD_DIGITS);
+        final BigDecimal z2 = z.multiply(z, mc);
+        BigDecimal power = z;
+        BigDecimal sum = z;
+        for (int k = 3;; k += 2) {
+            power = power.multiply(z2, mc);
+            final BigDecimal term = power.divide(BigDecimal.valueOf(k), mc);
+            if (term.abs().compareTo(epsilon) < 0) {
+                return sum.add(sum);
+            }
+            sum = sum.add(term, mc);
+        }
+    }
+}
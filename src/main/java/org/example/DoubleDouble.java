@@ -0,0 +1,294 @@
+package org.example;
+
+/**
+ * DoubleDouble - An unevaluated sum hi + lo of two doubles, carrying about 106 significant bits.
+ *
+ * Values are normalized: hi is hi + lo rounded to the nearest double, so {@link #hi()} is the
+ * correctly rounded value of the pair. Sums and products use Knuth's two-sum and Dekker's exact
+ * product with a Veltkamp split, the same building blocks as the integer exponent path of
+ * {@link PowerCalculatorEngine}; no fused multiply-add is needed, so results are bit-identical on
+ * every platform. Operands of products must stay below 2^996 in magnitude so that the split
+ * cannot overflow.
+ *
+ * {@link #log(double)} and {@link #expm1(DoubleDouble)} are accurate to about 2^-100 relative,
+ * which the {@link PrecisionMode#STRICT} mode of the engine rounds once into a double.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class DoubleDouble {
+
+    static final DoubleDouble ONE = new DoubleDouble(1.0, 0.0);
+
+    // ln2 split high/low
+    static final DoubleDouble LN2 = new DoubleDouble(0x1.62e4_2fef_a39efp-1, 0x1.abc9_e3b3_9803fp-56);
+
+    // The Veltkamp constant splits a double into two 26-bit halves whose products are exact
+    private static final double SPLITTER = 0x1.0p27 + 1.0;
+
+    // 1/k! for k = 2..10 split high/low, the Taylor coefficients of expm1
+    private static final DoubleDouble[] INV_FACTORIAL = {
+        new DoubleDouble(0x1.0p-1, 0.0),
+        new DoubleDouble(0x1.5555_5555_55555p-3, 0x1.5555_5555_55555p-57),
+        new DoubleDouble(0x1.5555_5555_55555p-5, 0x1.5555_5555_55555p-59),
+        new DoubleDouble(0x1.1111_1111_11111p-7, 0x1.1111_1111_11111p-63),
+        new DoubleDouble(0x1.6c16_c16c_16c17p-10, -0x1.f49f_49f4_9f49fp-65),
+        new DoubleDouble(0x1.a01a_01a0_1a01ap-13, 0x1.a01a_01a0_1a01ap-73),
+        new DoubleDouble(0x1.a01a_01a0_1a01ap-16, 0x1.a01a_01a0_1a01ap-76),
+        new DoubleDouble(0x1.71de_3a55_6c734p-19, -0x1.c154_f8dd_c6c00p-73),
+        new DoubleDouble(0x1.27e4_fb77_89f5cp-22, 0x1.cbbc_05b4_fa99ap-76),
+    };
+
+    // expm1 evaluates its series at r / 2^EXPM1_HALVINGS and doubles the argument back by squaring
+    private static final int EXPM1_HALVINGS = 8;
+
+    private final double hi;
+    private final double lo;
+
+    private DoubleDouble(final double hi, final double lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    /**
+     * Returns a double as a pair.
+     *
+     * @param value the value
+     * @return value + 0
+     */
+    static DoubleDouble of(final double value) {
+        return new DoubleDouble(value, 0.0);
+    }
+
+    /**
+     * Returns the exact sum of two doubles.
+     *
+     * @param a the first addend
+     * @param b the second addend
+     * @return a + b without rounding
+     */
+    static DoubleDouble exactSum(final double a, final double b) {
+        final double s = a + b;
+        final double bb = s - a;
+        return new DoubleDouble(s, (a - (s - bb)) + (b - bb));
+    }
+
+    /**
+     * Returns the exact product of two doubles.
+     *
+     * @param a the first factor
+     * @param b the second factor
+     * @return a * b without rounding
+     */
+    static DoubleDouble exactProduct(final double a, final double b) {
+        final double p = a * b;
+        return new DoubleDouble(p, productError(a, b, p));
+    }
+
+    /**
+     * Returns a * b - p for p = a * b rounded, by Dekker's algorithm.
+     *
+     * @param a the first factor
+     * @param b the second factor
+     * @param p the rounded product
+     * @return the rounding error of the product
+     */
+    private static double productError(final double a, final double b, final double p) {
+        final double u = SPLITTER * a;
+        final double aH = u - (u - a);
+        final double aL = a - aH;
+        final double v = SPLITTER * b;
+        final double bH = v - (v - b);
+        final double bL = b - bH;
+        return ((aH * bH - p) + aH * bL + aL * bH) + aL * bL;
+    }
+
+    /**
+     * Normalizes hi + lo for |lo| not much larger than the ulp of hi.
+     *
+     * @param hi the high part
+     * @param lo the low part
+     * @return the pair with hi rounded to nearest
+     */
+    private static DoubleDouble normalize(final double hi, final double lo) {
+        final double s = hi + lo;
+        return new DoubleDouble(s, lo - (s - hi));
+    }
+
+    /**
+     * Returns the high part, which is the pair rounded to the nearest double.
+     *
+     * @return hi
+     */
+    double hi() {
+        return hi;
+    }
+
+    /**
+     * Returns the low part.
+     *
+     * @return lo
+     */
+    double lo() {
+        return lo;
+    }
+
+    /**
+     * Adds another pair.
+     *
+     * @param other the addend
+     * @return this + other
+     */
+    DoubleDouble add(final DoubleDouble other) {
+        final DoubleDouble high = exactSum(hi, other.hi);
+        final DoubleDouble low = exactSum(lo, other.lo);
+        final DoubleDouble sum = normalize(high.hi, high.lo + low.hi);
+        return normalize(sum.hi, sum.lo + low.lo);
+    }
+
+    /**
+     * Adds a double.
+     *
+     * @param value the addend
+     * @return this + value
+     */
+    DoubleDouble add(final double value) {
+        final DoubleDouble high = exactSum(hi, value);
+        return normalize(high.hi, high.lo + lo);
+    }
+
+    /**
+     * Subtracts another pair.
+     *
+     * @param other the subtrahend
+     * @return this - other
+     */
+    DoubleDouble subtract(final DoubleDouble other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Returns the negated pair.
+     *
+     * @return -this
+     */
+    DoubleDouble negate() {
+        return new DoubleDouble(-hi, -lo);
+    }
+
+    /**
+     * Multiplies by another pair.
+     *
+     * @param other the factor
+     * @return this * other
+     */
+    DoubleDouble multiply(final DoubleDouble other) {
+        final double p = hi * other.hi;
+        final double e = productError(hi, other.hi, p) + (hi * other.lo + lo * other.hi);
+        return normalize(p, e);
+    }
+
+    /**
+     * Multiplies by a double.
+     *
+     * @param value the factor
+     * @return this * value
+     */
+    DoubleDouble multiply(final double value) {
+        final double p = hi * value;
+        return normalize(p, productError(hi, value, p) + lo * value);
+    }
+
+    /**
+     * Multiplies by a power of two, exactly unless the low part underflows.
+     *
+     * @param n the power of two
+     * @return this * 2^n
+     */
+    DoubleDouble scalb(final int n) {
+        return new DoubleDouble(Math.scalb(hi, n), Math.scalb(lo, n));
+    }
+
+    /**
+     * Returns (hi + lo) * 2^n rounded once to the nearest double, ties to even.
+     *
+     * In the normal range hi already is the rounded value and scaling it is exact. A subnormal
+     * result has fewer bits than hi, so the pair is scaled to units of the smallest subnormal
+     * and rounded to an integer there, which avoids rounding twice.
+     *
+     * @param n the power of two
+     * @return the correctly rounded (hi + lo) * 2^n
+     */
+    double scaledValue(final int n) {
+        if (hi == 0.0 || Math.getExponent(hi) + n >= Double.MIN_EXPONENT) {
+            return Math.scalb(hi, n);
+        }
+        final int units = n + 1074;
+        if (units < -64) {
+            return 0.0 * hi;
+        }
+        final double sh = Math.scalb(hi, units);
+        final double sl = Math.scalb(lo, units);
+        double k = Math.rint(sh);
+        final double fraction = sh - k;
+        if (fraction == 0.5 && sl > 0.0) {
+            k += 1.0;
+        } else if (fraction == -0.5 && sl < 0.0) {
+            k -= 1.0;
+        }
+        return Math.scalb(k, -1074);
+    }
+
+    /**
+     * Computes e^r - 1 for |r| <= 0.36.
+     *
+     * The series is evaluated at a = r / 256, where nine terms reach full precision, and the
+     * argument is doubled back eight times with e^2a - 1 = (e^a - 1)(e^a - 1 + 2), which keeps
+     * the relative accuracy for tiny r.
+     *
+     * @param r the argument
+     * @return e^r - 1
+     */
+    static DoubleDouble expm1(final DoubleDouble r) {
+        final DoubleDouble a = r.scalb(-EXPM1_HALVINGS);
+        DoubleDouble p = INV_FACTORIAL[INV_FACTORIAL.length - 1];
+        for (int k = INV_FACTORIAL.length - 2; k >= 0; k--) {
+            p = p.multiply(a).add(INV_FACTORIAL[k]);
+        }
+        DoubleDouble e = p.multiply(a).add(1.0).multiply(a);
+        for (int k = 0; k < EXPM1_HALVINGS; k++) {
+            e = e.multiply(e.add(2.0));
+        }
+        return e;
+    }
+
+    /**
+     * Computes the natural logarithm of a positive finite double.
+     *
+     * With x = m * 2^e and m in [sqrt(1/2), sqrt(2)], ln m starts from StrictMath.log and takes
+     * one Newton step l + (m e^-l - 1) on the residual m e^-l - 1 = (m - 1) + m (e^-l - 1), whose
+     * parts are both exact or relatively accurate, so x near 1 keeps its relative accuracy.
+     *
+     * @param x the argument, positive and finite
+     * @return ln x
+     */
+    static DoubleDouble log(final double x) {
+        int e = Math.getExponent(x);
+        double m;
+        if (e < Double.MIN_EXPONENT) {
+            e = Math.getExponent(x * 0x1.0p54) - 54;
+            m = Math.scalb(x * 0x1.0p54, -(e + 54));
+        } else {
+            m = Math.scalb(x, -e);
+        }
+        if (m > 0x1.6a09e667f3bcdp0) {
+            m *= 0.5;
+            e += 1;
+        }
+        final double guess = StrictMath.log(m);
+        final DoubleDouble residual = expm1(of(-guess)).multiply(m).add(m - 1.0);
+        // ln(1 + d) = d - d^2 / 2 + O(d^3), with |d| near 2^-53
+        final DoubleDouble logM = residual.add(guess).add(-0.5 * residual.hi * residual.hi);
+        return (e == 0) ? logM : LN2.multiply(e).add(logM);
+    }
+}
@@ -0,0 +1,686 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * DoubleFormatter - Allocation-free conversion of doubles to text.
+ *
+ * The shortest decimal that rounds back to a double is found with the Schubfach algorithm: the
+ * rounding interval of the double is scaled by a 126-bit approximation of a power of ten, and the
+ * shortest decimal inside it is read off the scaled bounds with a few 64-bit multiplications. The
+ * decimal significand (at most 17 digits) and exponent are then laid out as
+ *
+ * <ul>
+ *   <li>the shortest form, with the layout of {@link Double#toString(double)};</li>
+ *   <li>fixed or scientific notation with a given number of fraction digits, with the digits and
+ *       layout of {@code %.Nf} and {@code %.Ne} in {@link String#format}: the shortest decimal is
+ *       rounded half up, and the decimal separator is always '.';</li>
+ *   <li>the calculator result form: 8 fraction digits, scientific when |v| &lt; 1e-8 (and not
+ *       zero) or |v| &gt; 1e8, fixed otherwise.</li>
+ * </ul>
+ *
+ * Text is written as ASCII into a caller-supplied byte array, or appended to a
+ * {@link StringBuilder} or {@link ByteBuffer} through a per-thread buffer.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class DoubleFormatter {
+
+    /** Most fraction digits accepted by the fixed and scientific forms. */
+    public static final int MAX_PRECISION = 17;
+
+    /** Longest text of the shortest form, as in "-2.2250738585072014E-308". */
+    public static final int MAX_SHORTEST_LENGTH = 24;
+
+    /** Longest text of any form: a sign, 309 integer digits, the point and the fraction digits. */
+    public static final int MAX_LENGTH = 1 + 309 + 1 + MAX_PRECISION;
+
+    // Fraction digits and thresholds of the calculator result form
+    private static final int RESULT_PRECISION = 8;
+    private static final double SCIENTIFIC_BELOW = 1e-8;
+    private static final double SCIENTIFIC_ABOVE = 1e8;
+
+    // The shortest form is plain in [1e-3, 1e7), as in Double.toString
+    private static final int PLAIN_MIN_EXPONENT = -3;
+    private static final int PLAIN_MAX_EXPONENT = 7;
+
+    // Parameters of the binary64 format: precision, smallest exponent and significand, and the
+    // largest significand of a subnormal that needs an extra digit
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final int C_TINY = 3;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    // Range of decimal exponents of the scaling table in ScalingTable
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    // Per-thread text buffer; an anonymous subclass, since a lambda would bootstrap method handles on
+    // the first conversion and slow down the startup of short-lived processes
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[MAX_LENGTH];
+        }
+    };
+
+    private DoubleFormatter() {
+        // Utility class
+    }
+
+    /**
+     * Writes the shortest decimal that rounds to {@code v}.
+     *
+     * @param v the value
+     * @param buffer the destination, with room for {@value #MAX_SHORTEST_LENGTH} bytes
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    public static int appendShortest(final double v, final byte[] buffer, final int position) {
+        int pos = position;
+        final long bits = Double.doubleToRawLongBits(v);
+        if (Double.isNaN(v) || Double.isInfinite(v) || v == 0.0) {
+            return appendSpecial(v, buffer, pos, "0.0");
+        }
+        if (bits < 0) {
+            buffer[pos++] = '-';
+        }
+        final long f = toDecimal(bits);
+        final int length = digitCount(f);
+        final int exponent = decimalExponent(bits) + length - 1;
+        if (exponent >= PLAIN_MIN_EXPONENT && exponent < PLAIN_MAX_EXPONENT) {
+            return appendPlain(f, length, exponent, buffer, pos);
+        }
+        pos = appendDigits(f / POWERS_OF_TEN[length - 1], 1, 1, buffer, pos);
+        buffer[pos++] = '.';
+        pos = (length > 1) ? appendDigits(f % POWERS_OF_TEN[length - 1], length - 1, 1, buffer, pos)
+                : appendZeros(1, buffer, pos);
+        buffer[pos++] = 'E';
+        return appendExponent(exponent, 1, buffer, pos);
+    }
+
+    /**
+     * Appends the shortest decimal that rounds to {@code v}.
+     *
+     * @param v the value
+     * @param builder the destination
+     * @return the builder
+     */
+    public static StringBuilder appendShortest(final double v, final StringBuilder builder) {
+        final byte[] scratch = SCRATCH.get();
+        return appendAscii(scratch, appendShortest(v, scratch, 0), builder);
+    }
+
+    /**
+     * Puts the shortest decimal that rounds to {@code v} at the buffer's position.
+     *
+     * @param v the value
+     * @param buffer the destination
+     * @throws java.nio.BufferOverflowException if the buffer has too little room
+     */
+    public static void appendShortest(final double v, final ByteBuffer buffer) {
+        final byte[] scratch = SCRATCH.get();
+        buffer.put(scratch, 0, appendShortest(v, scratch, 0));
+    }
+
+    /**
+     * Writes {@code v} in scientific notation, as {@code String.format("%.<precision>e", v)}.
+     *
+     * @param v the value
+     * @param precision the number of fraction digits, in [0, {@value #MAX_PRECISION}]
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static int appendScientific(final double v, final int precision, final byte[] buffer, final int position) {
+        checkPrecision(precision);
+        int pos = position;
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            return appendSpecial(v, buffer, pos, null);
+        }
+        if (Double.doubleToRawLongBits(v) < 0) {
+            buffer[pos++] = '-';
+        }
+        long f = 0;
+        int exponent = 0;
+        if (v != 0.0) {
+            f = toDecimal(Double.doubleToRawLongBits(v));
+            final int length = digitCount(f);
+            exponent = decimalExponent(Double.doubleToRawLongBits(v)) + length - 1;
+            // Keep precision + 1 significant digits, rounding half up
+            final int drop = length - (precision + 1);
+            if (drop > 0) {
+                f = roundHalfUp(f, drop);
+                if (f == POWERS_OF_TEN[precision + 1]) {
+                    f /= 10;
+                    exponent++;
+                }
+            } else {
+                f *= POWERS_OF_TEN[-drop];
+            }
+        }
+        pos = appendDigits(f / POWERS_OF_TEN[precision], 1, 1, buffer, pos);
+        if (precision > 0) {
+            buffer[pos++] = '.';
+            pos = appendDigits(f % POWERS_OF_TEN[precision], precision, precision, buffer, pos);
+        }
+        buffer[pos++] = 'e';
+        if (exponent >= 0) {
+            buffer[pos++] = '+';
+        }
+        return appendExponent(exponent, 2, buffer, pos);
+    }
+
+    /**
+     * Appends {@code v} in scientific notation, as {@code String.format("%.<precision>e", v)}.
+     *
+     * @param v the value
+     * @param precision the number of fraction digits, in [0, {@value #MAX_PRECISION}]
+     * @param builder the destination
+     * @return the builder
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static StringBuilder appendScientific(final double v, final int precision, final StringBuilder builder) {
+        final byte[] scratch = SCRATCH.get();
+        return appendAscii(scratch, appendScientific(v, precision, scratch, 0), builder);
+    }
+
+    /**
+     * Writes {@code v} in fixed notation, as {@code String.format("%.<precision>f", v)}.
+     *
+     * @param v the value
+     * @param precision the number of fraction digits, in [0, {@value #MAX_PRECISION}]
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static int appendFixed(final double v, final int precision, final byte[] buffer, final int position) {
+        checkPrecision(precision);
+        int pos = position;
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            return appendSpecial(v, buffer, pos, null);
+        }
+        if (Double.doubleToRawLongBits(v) < 0) {
+            buffer[pos++] = '-';
+        }
+        // The value is f * 10^scale; round it to f * 10^-precision
+        long f = 0;
+        int scale = -precision;
+        if (v != 0.0) {
+            f = toDecimal(Double.doubleToRawLongBits(v));
+            scale = decimalExponent(Double.doubleToRawLongBits(v));
+            final int length = digitCount(f);
+            final int drop = -precision - scale;
+            if (drop > length) {
+                f = 0;
+            } else if (drop > 0) {
+                f = (drop == length) ? ((f >= 5 * POWERS_OF_TEN[length - 1]) ? 1 : 0) : roundHalfUp(f, drop);
+            }
+            scale = Math.max(scale, -precision);
+        }
+
+        // Integer digits: those of f above the point, then the zeros of a positive scale
+        final int fractionDigits = -Math.min(scale, 0);
+        final int length = digitCount(f);
+        if (length > fractionDigits) {
+            pos = appendDigits(f / POWERS_OF_TEN[fractionDigits], length - fractionDigits, length - fractionDigits,
+                    buffer, pos);
+            if (scale > 0) {
+                pos = appendZeros(scale, buffer, pos);
+            }
+        } else {
+            buffer[pos++] = '0';
+        }
+        if (precision > 0) {
+            buffer[pos++] = '.';
+            pos = appendDigits(f % POWERS_OF_TEN[fractionDigits], fractionDigits, fractionDigits, buffer, pos);
+            pos = appendZeros(precision - fractionDigits, buffer, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Appends {@code v} in fixed notation, as {@code String.format("%.<precision>f", v)}.
+     *
+     * @param v the value
+     * @param precision the number of fraction digits, in [0, {@value #MAX_PRECISION}]
+     * @param builder the destination
+     * @return the builder
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public static StringBuilder appendFixed(final double v, final int precision, final StringBuilder builder) {
+        final byte[] scratch = SCRATCH.get();
+        return appendAscii(scratch, appendFixed(v, precision, scratch, 0), builder);
+    }
+
+    /**
+     * Writes a calculation result: 8 fraction digits, in scientific notation when
+     * |v| &lt; 1e-8 (and v != 0) or |v| &gt; 1e8, in fixed notation otherwise.
+     *
+     * @param v the value
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    public static int appendResult(final double v, final byte[] buffer, final int position) {
+        if ((Math.abs(v) < SCIENTIFIC_BELOW && v != 0) || Math.abs(v) > SCIENTIFIC_ABOVE) {
+            return appendScientific(v, RESULT_PRECISION, buffer, position);
+        }
+        return appendFixed(v, RESULT_PRECISION, buffer, position);
+    }
+
+    /**
+     * Appends a calculation result in the form of {@link #appendResult(double, byte[], int)}.
+     *
+     * @param v the value
+     * @param builder the destination
+     * @return the builder
+     */
+    public static StringBuilder appendResult(final double v, final StringBuilder builder) {
+        final byte[] scratch = SCRATCH.get();
+        return appendAscii(scratch, appendResult(v, scratch, 0), builder);
+    }
+
+    /**
+     * Puts a calculation result in the form of {@link #appendResult(double, byte[], int)} at the
+     * buffer's position.
+     *
+     * @param v the value
+     * @param buffer the destination
+     * @throws java.nio.BufferOverflowException if the buffer has too little room
+     */
+    public static void appendResult(final double v, final ByteBuffer buffer) {
+        final byte[] scratch = SCRATCH.get();
+        buffer.put(scratch, 0, appendResult(v, scratch, 0));
+    }
+
+    /**
+     * Finds the significand f of the shortest decimal f * 10^e that rounds to a finite non-zero
+     * double; e is given by {@link #decimalExponent(long)}. The significand has at most 17
+     * digits, and may have trailing zeros.
+     *
+     * @param bits the bits of the double
+     * @return the decimal significand
+     */
+    private static long toDecimal(final long bits) {
+        final long t = bits & (C_MIN - 1);
+        final int bq = (int) (bits >>> (P - 1)) & 0x7ff;
+        if (bq != 0) {
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            if (isSmallInteger(c, mq)) {
+                // An integer below 2^53 is its own shortest decimal
+                return c >> mq;
+            }
+            return toDecimal(-mq, c, 0);
+        }
+        return (t < C_TINY) ? toDecimal(Q_MIN, 10 * t, -1) : toDecimal(Q_MIN, t, 0);
+    }
+
+    /**
+     * Returns the decimal exponent e of the decimal found by {@link #toDecimal(long)}.
+     *
+     * @param bits the bits of the double
+     * @return the decimal exponent
+     */
+    private static int decimalExponent(final long bits) {
+        final long t = bits & (C_MIN - 1);
+        final int bq = (int) (bits >>> (P - 1)) & 0x7ff;
+        if (bq != 0) {
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            return isSmallInteger(c, mq) ? 0 : decimalScale(-mq, c);
+        }
+        return (t < C_TINY) ? decimalScale(Q_MIN, 10 * t) - 1 : decimalScale(Q_MIN, t);
+    }
+
+    /**
+     * Returns whether c * 2^-mq is an integer below 2^53 with a fraction to drop.
+     *
+     * @param c the binary significand of a normal double
+     * @param mq minus the binary exponent
+     * @return true if the integer fast path applies
+     */
+    private static boolean isSmallInteger(final long c, final int mq) {
+        return 0 < mq && mq < P && ((c >> mq) << mq) == c;
+    }
+
+    /**
+     * Returns the decimal exponent k of the scaling of c * 2^q.
+     *
+     * @param q the binary exponent
+     * @param c the binary significand
+     * @return k
+     */
+    private static int decimalScale(final int q, final long c) {
+        // The rounding interval is asymmetric at a power of two
+        return (c != C_MIN || q == Q_MIN) ? flog10pow2(q) : flog10threeQuartersPow2(q);
+    }
+
+    /**
+     * Finds the shortest decimal in the rounding interval of c * 2^q.
+     *
+     * @param q the binary exponent
+     * @param c the binary significand
+     * @param dk correction of the decimal exponent for a significand scaled by ten, 0 or -1
+     * @return the decimal significand, scaled to the exponent k + dk
+     */
+    private static long toDecimal(final int q, final long c, final int dk) {
+        final int out = (int) c & 1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl = (c != C_MIN || q == Q_MIN) ? cb - 2 : cb - 1;
+        final int k = decimalScale(q, c);
+        final int h = q + flog2pow10(-k) + 2;
+        final long[] table = ScalingTable.G;
+        final long g1 = table[(k - K_MIN) << 1];
+        final long g0 = table[((k - K_MIN) << 1) + 1];
+        final long vb = roundToOdd(g1, g0, cb << h);
+        final long vbl = roundToOdd(g1, g0, cbl << h);
+        final long vbr = roundToOdd(g1, g0, cbr << h);
+
+        // Prefer a multiple of ten in the interval, which has one digit less
+        final long s = vb >> 2;
+        if (s >= 100) {
+            final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                final long f = upin ? sp10 : tp10;
+                return (dk == 0) ? f : 10 * f;
+            }
+        }
+        // Otherwise the closer of s and s + 1 that lies in the interval, ties to even
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return uin ? s : t;
+        }
+        final long cmp = vb - ((s + t) << 1);
+        return (cmp < 0 || (cmp == 0 && (s & 1) == 0)) ? s : t;
+    }
+
+    /**
+     * Multiplies by the 126-bit scale g and rounds to odd, keeping 64 bits.
+     *
+     * @param g1 the high 63 bits of g
+     * @param g0 the low 63 bits of g
+     * @param cp the scaled bound
+     * @return the rounded product
+     */
+    private static long roundToOdd(final long g1, final long g0, final long cp) {
+        final long x1 = Math.multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = Math.multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /**
+     * Returns floor(q * log10(2)).
+     *
+     * @param q the exponent
+     * @return the decimal exponent
+     */
+    private static int flog10pow2(final int q) {
+        return (int) ((q * 661_971_961_083L) >> 41);
+    }
+
+    /**
+     * Returns floor(log10(3/4 * 2^q)).
+     *
+     * @param q the exponent
+     * @return the decimal exponent
+     */
+    private static int flog10threeQuartersPow2(final int q) {
+        return (int) ((q * 661_971_961_083L - 274_743_187_321L) >> 41);
+    }
+
+    /**
+     * Returns floor(e * log2(10)).
+     *
+     * @param e the exponent
+     * @return the binary exponent
+     */
+    private static int flog2pow10(final int e) {
+        return (int) ((e * 913_124_641_741L) >> 38);
+    }
+
+    /**
+     * Returns the number of decimal digits of a positive long, 1 for zero.
+     *
+     * @param f the value, below 10^18
+     * @return the digit count
+     */
+    private static int digitCount(final long f) {
+        int length = 1;
+        while (length < POWERS_OF_TEN.length - 1 && f >= POWERS_OF_TEN[length]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Drops the last digits of a value, rounding half up.
+     *
+     * @param f the value
+     * @param drop the number of digits to drop, less than the digit count of f
+     * @return the rounded value
+     */
+    private static long roundHalfUp(final long f, final int drop) {
+        final long unit = POWERS_OF_TEN[drop];
+        final long kept = f / unit;
+        return (f - kept * unit >= unit / 2) ? kept + 1 : kept;
+    }
+
+    /**
+     * Writes a positive decimal in plain notation, without trailing fraction zeros but with at
+     * least one digit after the point.
+     *
+     * @param f the significand
+     * @param length the digit count of f
+     * @param exponent the decimal exponent of the first digit, in [-3, 7)
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    private static int appendPlain(final long f, final int length, final int exponent, final byte[] buffer,
+                                   final int position) {
+        int pos = position;
+        if (exponent < 0) {
+            buffer[pos++] = '0';
+            buffer[pos++] = '.';
+            pos = appendZeros(-exponent - 1, buffer, pos);
+            return appendDigits(f, length, 1, buffer, pos);
+        }
+        final int integerDigits = exponent + 1;
+        if (length <= integerDigits) {
+            pos = appendDigits(f, length, length, buffer, pos);
+            pos = appendZeros(integerDigits - length, buffer, pos);
+            buffer[pos++] = '.';
+            return appendZeros(1, buffer, pos);
+        }
+        final long unit = POWERS_OF_TEN[length - integerDigits];
+        pos = appendDigits(f / unit, integerDigits, integerDigits, buffer, pos);
+        buffer[pos++] = '.';
+        return appendDigits(f % unit, length - integerDigits, 1, buffer, pos);
+    }
+
+    /**
+     * Writes the leading digits of a value padded with zeros to a given width, dropping trailing
+     * zeros beyond a minimum count.
+     *
+     * @param value the value, below 10^width
+     * @param width the number of digits including leading zeros
+     * @param minimum the number of digits always written, at least 1 unless width is 0
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    private static int appendDigits(final long value, final int width, final int minimum, final byte[] buffer,
+                                    final int position) {
+        int count = width;
+        long v = value;
+        while (count > minimum && v % 10 == 0) {
+            v /= 10;
+            count--;
+        }
+        for (int i = position + count - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        return position + count;
+    }
+
+    /**
+     * Writes zeros.
+     *
+     * @param count the number of zeros
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    private static int appendZeros(final int count, final byte[] buffer, final int position) {
+        for (int i = 0; i < count; i++) {
+            buffer[position + i] = '0';
+        }
+        return position + count;
+    }
+
+    /**
+     * Writes a decimal exponent with a sign if negative.
+     *
+     * @param exponent the exponent
+     * @param minimum the minimum number of digits
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    private static int appendExponent(final int exponent, final int minimum, final byte[] buffer, final int position) {
+        int pos = position;
+        if (exponent < 0) {
+            buffer[pos++] = '-';
+        }
+        final int magnitude = Math.abs(exponent);
+        final int width = Math.max(minimum, digitCount(magnitude));
+        return appendDigits(magnitude, width, width, buffer, pos);
+    }
+
+    /**
+     * Writes NaN, a signed infinity or a signed zero.
+     *
+     * @param v the value
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @param zero the text of a zero
+     * @return index after the last byte written
+     */
+    private static int appendSpecial(final double v, final byte[] buffer, final int position, final String zero) {
+        int pos = position;
+        final String text;
+        if (Double.isNaN(v)) {
+            text = "NaN";
+        } else {
+            if (Double.doubleToRawLongBits(v) < 0) {
+                buffer[pos++] = '-';
+            }
+            text = Double.isInfinite(v) ? "Infinity" : zero;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            buffer[pos++] = (byte) text.charAt(i);
+        }
+        return pos;
+    }
+
+    /**
+     * Appends ASCII bytes to a builder.
+     *
+     * @param bytes the text
+     * @param length the number of bytes
+     * @param builder the destination
+     * @return the builder
+     */
+    private static StringBuilder appendAscii(final byte[] bytes, final int length, final StringBuilder builder) {
+        for (int i = 0; i < length; i++) {
+            builder.append((char) bytes[i]);
+        }
+        return builder;
+    }
+
+    /**
+     * Checks the number of fraction digits of the fixed and scientific forms.
+     *
+     * @param precision the number of fraction digits
+     */
+    private static void checkPrecision(final int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be in [0, " + MAX_PRECISION + "]: " + precision);
+        }
+    }
+
+    /**
+     * Builds the scaling table: g(k) = floor(10^-k * 2^-r) + 1 with r = floor(-k log2(10)) - 125.
+     * The powers of ten are built up one multiplication at a time rather than raised afresh.
+     *
+     * @return the high and low 63-bit words of g(k) for k in [K_MIN, K_MAX]
+     */
+    private static long[] scalingTable() {
+        final long[] table = new long[2 * (K_MAX - K_MIN + 1)];
+        BigInteger power = BigInteger.ONE;
+        for (int k = 0; k >= K_MIN; k--) {
+            // 10^-k is an integer, r >= 0 from k = -38 on
+            final int r = flog2pow10(-k) - 125;
+            putScale(table, k, ((r < 0) ? power.shiftLeft(-r) : power.shiftRight(r)).add(BigInteger.ONE));
+            power = power.multiply(BigInteger.TEN);
+        }
+        power = BigInteger.TEN;
+        for (int k = 1; k <= K_MAX; k++) {
+            // 10^-k is a fraction, and r < 0
+            final int r = flog2pow10(-k) - 125;
+            putScale(table, k, BigInteger.ONE.shiftLeft(-r).divide(power).add(BigInteger.ONE));
+            power = power.multiply(BigInteger.TEN);
+        }
+        return table;
+    }
+
+    /**
+     * Stores g(k) in the scaling table.
+     *
+     * @param table the scaling table
+     * @param k the decimal exponent
+     * @param g the scale, below 2^126
+     */
+    private static void putScale(final long[] table, final int k, final BigInteger g) {
+        final int index = (k - K_MIN) << 1;
+        table[index] = g.shiftRight(63).longValue();
+        table[index + 1] = g.longValue() & MASK_63;
+    }
+
+    /**
+     * Holder of the scaling table, built on first use: integers and special values are written
+     * without it, so a one-off conversion does not pay for the table at startup.
+     */
+    private static final class ScalingTable {
+
+        // g(k) ~ 10^-k * 2^-r with 2^125 <= g < 2^126, split into 63-bit high and low words
+        static final long[] G = scalingTable();
+    }
+}
@@ -0,0 +1,389 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * FastDoubleParser - Allocation-free conversion of decimal text to double.
+ *
+ * The parser reads a range of a {@link CharSequence}, a byte array or a {@link ByteBuffer}
+ * (ASCII) in place, with no trimming or substring copies. The decimal significand is accumulated
+ * into a long and converted with two exact fast paths:
+ *
+ * <ul>
+ *   <li>Clinger's: significands up to 2^53 scaled by an exactly representable power of ten
+ *       need a single correctly rounded multiplication or division.</li>
+ *   <li>Eisel-Lemire: the significand is multiplied by a 128-bit approximation of 5^q, and the
+ *       product decides the rounding whenever its low bits are not ambiguous.</li>
+ * </ul>
+ *
+ * Everything else (more than 19 significant digits, ambiguous products, subnormal results,
+ * hexadecimal notation, NaN and Infinity) and every malformed input falls back to
+ * {@link Double#parseDouble(String)}, so the parser accepts exactly the same strings, returns
+ * the same values and throws the same {@link NumberFormatException}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class FastDoubleParser {
+
+    // Range of decimal exponents covered by the power-of-five table
+    private static final int MIN_POWER = -342;
+    private static final int MAX_POWER = 308;
+
+    // Significand digits that always fit in an unsigned long
+    private static final int MAX_DIGITS = 19;
+
+    // Exactly representable powers of ten, and the largest exactly representable significand
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT = 1L << 53;
+
+    private FastDoubleParser() {
+        // Utility class
+    }
+
+    /**
+     * Parses a whole character sequence.
+     *
+     * @param text the text, with optional leading and trailing whitespace
+     * @return the double value, identical to {@code Double.parseDouble(text.toString())}
+     * @throws NumberFormatException if the text is not a valid number
+     */
+    public static double parse(final CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the characters in [start, end) of a character sequence.
+     *
+     * @param text the text
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return the double value
+     * @throws NumberFormatException if the range is not a valid number
+     * @throws IndexOutOfBoundsException if the range lies outside the text
+     */
+    public static double parse(final CharSequence text, final int start, final int end) {
+        checkRange(start, end, text.length());
+        return parseRange(text, start, end);
+    }
+
+    /**
+     * Parses the ASCII bytes in [start, end) of an array.
+     *
+     * @param bytes the text
+     * @param start index of the first byte
+     * @param end index after the last byte
+     * @return the double value
+     * @throws NumberFormatException if the range is not a valid number
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static double parse(final byte[] bytes, final int start, final int end) {
+        checkRange(start, end, bytes.length);
+        return parseRange(bytes, start, end);
+    }
+
+    /**
+     * Parses the ASCII bytes at absolute indices [start, end) of a buffer, without changing its
+     * position.
+     *
+     * @param buffer the text
+     * @param start index of the first byte
+     * @param end index after the last byte
+     * @return the double value
+     * @throws NumberFormatException if the range is not a valid number
+     * @throws IndexOutOfBoundsException if the range lies outside the buffer's limit
+     */
+    public static double parse(final ByteBuffer buffer, final int start, final int end) {
+        checkRange(start, end, buffer.limit());
+        return parseRange(buffer, start, end);
+    }
+
+    /**
+     * Returns whether a text holds nothing but the characters that parsing trims, the same test as
+     * {@code text.toString().trim().isEmpty()}.
+     *
+     * @param text the text
+     * @return true if every character is at most ' '
+     */
+    public static boolean isBlank(final CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that [start, end) is a range of a text of the given length.
+     *
+     * @param start index of the first character
+     * @param end index after the last character
+     * @param length the length of the text
+     */
+    private static void checkRange(final int start, final int end, final int length) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+                    + length);
+        }
+    }
+
+    /**
+     * Returns the character at an index of any supported source.
+     *
+     * @param source a CharSequence, byte array or ByteBuffer
+     * @param index the index
+     * @return the character, bytes being read as ISO 8859-1
+     */
+    private static int charAt(final Object source, final int index) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[index] & 0xff;
+        } else if (source instanceof ByteBuffer) {
+            return ((ByteBuffer) source).get(index) & 0xff;
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    /**
+     * Parses a checked range of any supported source.
+     *
+     * @param source a CharSequence, byte array or ByteBuffer
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return the double value
+     */
+    private static double parseRange(final Object source, final int start, final int end) {
+        // Double.parseDouble trims characters up to ' ' from both ends
+        int i = start;
+        int last = end;
+        while (i < last && charAt(source, i) <= ' ') {
+            i++;
+        }
+        while (last > i && charAt(source, last - 1) <= ' ') {
+            last--;
+        }
+
+        boolean negative = false;
+        if (i < last && (charAt(source, i) == '-' || charAt(source, i) == '+')) {
+            negative = charAt(source, i) == '-';
+            i++;
+        }
+
+        // Significand: up to 19 significant digits as an unsigned long, later non-zero digits are
+        // only flagged
+        long significand = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        long exponent = 0;
+        boolean truncated = false;
+        boolean point = false;
+        for (; i < last; i++) {
+            final int c = charAt(source, i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (significantDigits < MAX_DIGITS) {
+                    if (significand != 0 || c != '0') {
+                        significand = 10 * significand + (c - '0');
+                        significantDigits++;
+                    }
+                    if (point) {
+                        exponent--;
+                    }
+                } else {
+                    truncated |= c != '0';
+                    if (!point) {
+                        exponent++;
+                    }
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return fallback(source, start, end);
+        }
+
+        // Exponent, clamped far beyond the range where the result is zero or infinite
+        if (i < last && (charAt(source, i) == 'e' || charAt(source, i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < last && (charAt(source, i) == '-' || charAt(source, i) == '+')) {
+                negativeExponent = charAt(source, i) == '-';
+                i++;
+            }
+            final int first = i;
+            long value = 0;
+            while (i < last && charAt(source, i) >= '0' && charAt(source, i) <= '9') {
+                value = Math.min(10 * value + (charAt(source, i) - '0'), 1_000_000L);
+                i++;
+            }
+            if (i == first) {
+                return fallback(source, start, end);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        // Optional type suffix, then the end of the number
+        if (i < last && "dDfF".indexOf(charAt(source, i)) >= 0) {
+            i++;
+        }
+        if (i != last || truncated) {
+            return fallback(source, start, end);
+        }
+
+        final double value = toDouble(significand, exponent);
+        if (Double.isNaN(value)) {
+            return fallback(source, start, end);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Computes significand * 10^exponent, correctly rounded, when a fast path applies.
+     *
+     * @param significand the decimal significand, at most 19 digits, unsigned
+     * @param exponent the decimal exponent
+     * @return the positive result, or NaN if the fast paths cannot decide the rounding
+     */
+    private static double toDouble(final long significand, final long exponent) {
+        if (significand == 0 || exponent < MIN_POWER) {
+            return 0.0;
+        }
+        if (exponent > MAX_POWER) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final int q = (int) exponent;
+
+        // Clinger: both operands are exact, so one rounding gives the correctly rounded result
+        if (significand > 0 && significand <= MAX_EXACT) {
+            if (q >= 0 && q <= 22) {
+                return significand * POWERS_OF_TEN[q];
+            }
+            if (q < 0 && q >= -22) {
+                return significand / POWERS_OF_TEN[-q];
+            }
+            if (q > 22 && q <= 22 + 15) {
+                // Move the excess powers of ten into the significand while it stays exact
+                final long scale = (long) POWERS_OF_TEN[q - 22];
+                if (significand <= MAX_EXACT / scale) {
+                    return (significand * scale) * 1e22;
+                }
+            }
+        }
+        return eiselLemire(significand, q);
+    }
+
+    /**
+     * Computes significand * 10^q with the Eisel-Lemire algorithm.
+     *
+     * @param significand the decimal significand, non-zero and unsigned
+     * @param q the decimal exponent, in [MIN_POWER, MAX_POWER]
+     * @return the positive result, or NaN if the product is too close to a rounding boundary or
+     *         the result is subnormal or infinite
+     */
+    private static double eiselLemire(final long significand, final int q) {
+        final long[] powers = PowersOfFive.TABLE;
+        final int index = 2 * (q - MIN_POWER);
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        final long w = significand << leadingZeros;
+
+        // The high 128 bits of w * 5^q, refined with the low word of 5^q when the first product
+        // leaves the rounding in doubt
+        long upper = UnsignedMath.multiplyHigh(w, powers[index]);
+        long lower = w * powers[index];
+        if ((upper & 0x1ff) == 0x1ff && Long.compareUnsigned(lower + w, lower) < 0) {
+            final long productLow = w * powers[index + 1];
+            final long productMiddle = lower + UnsignedMath.multiplyHigh(w, powers[index + 1]);
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                upper++;
+            }
+            if (productMiddle + 1 == 0 && (upper & 0x1ff) == 0x1ff
+                    && Long.compareUnsigned(productLow + w, productLow) < 0) {
+                return Double.NaN;
+            }
+            lower = productMiddle;
+        }
+
+        // Keep 54 bits, then round half to even
+        final int upperBit = (int) (upper >>> 63);
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeros += 1 ^ upperBit;
+        if (lower == 0 && (upper & 0x1ff) == 0 && (mantissa & 3) == 1) {
+            // Exactly halfway between two doubles: the truncated table value cannot decide
+            return Double.NaN;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (1L << 53)) {
+            mantissa = 1L << 52;
+            leadingZeros--;
+        }
+        mantissa &= ~(1L << 52);
+        final long biasedExponent = (((152_170L + 65_536L) * q) >> 16) + 1024 + 63 - leadingZeros;
+        if (biasedExponent < 1 || biasedExponent > 2046) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(mantissa | (biasedExponent << 52));
+    }
+
+    /**
+     * Parses a range with the JDK, which handles every form and reports errors.
+     *
+     * @param source a CharSequence, byte array or ByteBuffer
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return the double value
+     */
+    private static double fallback(final Object source, final int start, final int end) {
+        final StringBuilder text = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            text.append((char) charAt(source, i));
+        }
+        return Double.parseDouble(text.toString());
+    }
+
+    /**
+     * Builds the table of 5^q truncated to 128 significant bits; for q < 0 the reciprocal is
+     * rounded up, so the table never underestimates 5^q.
+     *
+     * @return high and low words for each q in [MIN_POWER, MAX_POWER]
+     */
+    private static long[] powersOfFive() {
+        final long[] table = new long[2 * (MAX_POWER - MIN_POWER + 1)];
+        final BigInteger five = BigInteger.valueOf(5);
+        for (int q = MIN_POWER; q <= MAX_POWER; q++) {
+            BigInteger value;
+            if (q < 0) {
+                // 2^b / 5^-q with b chosen as in the reference tables of the algorithm
+                final BigInteger power = five.pow(-q);
+                final int z = power.bitLength();
+                final int b = (q >= -27) ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+            } else {
+                value = five.pow(q);
+            }
+            final int shift = value.bitLength() - 128;
+            value = (shift >= 0) ? value.shiftRight(shift) : value.shiftLeft(-shift);
+            final int index = 2 * (q - MIN_POWER);
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+        }
+        return table;
+    }
+
+    /**
+     * Holder of the power-of-five table, built on first use: short decimals are parsed exactly
+     * without it, so a one-off parse does not pay for the table at startup.
+     */
+    private static final class PowersOfFive {
+
+        // 5^q normalized to 128 bits, high and low words interleaved, for q in [MIN_POWER, MAX_POWER]
+        static final long[] TABLE = powersOfFive();
+    }
+}
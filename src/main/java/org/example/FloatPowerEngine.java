@@ -0,0 +1,429 @@
+package org.example;
+
+import java.util.Objects;
+
+/**
+ * FloatPowerEngine - Single- and half-precision calculation of x^y.
+ *
+ * The kernels reduce the mantissa exactly as {@link PowerCalculatorEngine#compute(double, double)}
+ * does, log2|x| = n + log2(BP) + s * Q(s^2) with s = (m - BP) / (m + BP), and reconstruct
+ * 2^f = 1 + f * E(f) for |f| <= 0.5, but with minimax polynomials only as long as the narrower
+ * formats need and without any double-double compensation:
+ *
+ * <ul>
+ *   <li>float: Q of degree 3 and E of degree 5, evaluated in double and rounded once to float,
+ *       with a relative error below 2^-27 before rounding and at most 0.61 ulp after it;</li>
+ *   <li>half ({@code short} bits in IEEE 754 binary16 layout): Q of degree 2 and E of degree 3,
+ *       evaluated in float, with a relative error below 2^-16 before rounding and at most
+ *       0.52 ulp after it.</li>
+ * </ul>
+ *
+ * Special exponents (0, 2, 0.5, +/-1, infinite and NaN), special bases (zero, +/-1, infinite and
+ * NaN) and negative bases with non-integer exponents are evaluated by
+ * {@link PowerCalculatorEngine#compute(double, double)}: the float result of such an input is that
+ * double result cast to float, and the half result is the float one narrowed again, NaN,
+ * infinities and the sign of zero included. Results that are exactly representable, such as
+ * integer powers of integers, are returned exactly. Half-precision values are converted with
+ * {@link #halfToFloat(short)} and {@link #floatToHalf(float)}, the equivalents of
+ * {@code Float.float16ToFloat} and {@code Float.floatToFloat16}. The engine allocates nothing
+ * and is thread-safe.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class FloatPowerEngine {
+
+    // Mantissa split points BP and log2(BP), as in the double engine
+    private static final double[] BP = {1.0, 1.5};
+    private static final double[] DP = {0.0, 0x1.2b80_3473_f7ad1p-1};
+    private static final float[] BP_HALF = {1.0f, 1.5f};
+    private static final float[] DP_HALF = {0.0f, 0x1.2b8034p-1f};
+
+    // The split thresholds of the double engine, 0x3988E and 0xBB67A, for a 23-bit mantissa
+    private static final int LOW_SPLIT = 0x1C_C470;
+    private static final int HIGH_SPLIT = 0x5D_B3D0;
+
+    // Minimax coefficients of log2((1+s)/(1-s)) / s in s^2 for |s| <= 0.1015 (relative error
+    // 2^-36.5) and of (2^f - 1) / f for |f| <= 0.5 (2^-27.5)
+    private static final double Q0 = 0x1.7154_7652_a85bap1;
+    private static final double Q1 = 0x1.ec70_a0c2_68c35p-1;
+    private static final double Q2 = 0x1.2771_1abc_c5d92p-1;
+    private static final double Q3 = 0x1.acef_e0fb_dfbbbp-2;
+    private static final double E1 = 0x1.62e4_302f_cc236p-1;
+    private static final double E2 = 0x1.ebfb_e07d_98056p-3;
+    private static final double E3 = 0x1.c6af_6ccf_c83d3p-5;
+    private static final double E4 = 0x1.3b29_e3ce_3f853p-7;
+    private static final double E5 = 0x1.5f08_9611_d0104p-10;
+    private static final double E6 = 0x1.446c_822b_daff3p-13;
+
+    // The same for half precision, rounded to float (2^-27.6 and 2^-17.0)
+    private static final float HALF_Q0 = 0x1.715476p1f;
+    private static final float HALF_Q1 = 0x1.ec6d5ap-1f;
+    private static final float HALF_Q2 = 0x1.2ac1a8p-1f;
+    private static final float HALF_E1 = 0x1.62e2d2p-1f;
+    private static final float HALF_E2 = 0x1.ebf958p-3f;
+    private static final float HALF_E3 = 0x1.c96d78p-5f;
+    private static final float HALF_E4 = 0x1.3d1088p-7f;
+
+    // y * log2|x| beyond which results overflow, or underflow to zero, in each format
+    private static final double FLOAT_OVERFLOW = 128.0;
+    private static final double FLOAT_UNDERFLOW = -151.0;
+    private static final float HALF_OVERFLOW = 16.0f;
+    private static final float HALF_UNDERFLOW = -26.0f;
+
+    // Float bits of 65520, the smallest magnitude that rounds to half-precision infinity, and of
+    // 2^-14, the smallest normal half
+    private static final int HALF_INFINITY_THRESHOLD = 0x477f_f000;
+    private static final int HALF_MIN_NORMAL = 0x3880_0000;
+
+    private FloatPowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * Computes x raised to the power of y in single precision.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @return x^y, within 0.61 ulp
+     */
+    public static float compute(final float x, final float y) {
+        final float yAbs = Math.abs(y);
+        final float xAbs = Math.abs(x);
+        if (!(yAbs < Float.POSITIVE_INFINITY) || y == 0.0f || y == 2.0f || y == 0.5f || yAbs == 1.0f
+                || xAbs == 0.0f || xAbs == 1.0f || !(xAbs < Float.POSITIVE_INFINITY)) {
+            return (float) PowerCalculatorEngine.compute(x, y);
+        }
+        double s = 1.0;
+        if (x < 0.0f) {
+            final int yIsInt = integerClass(yAbs);
+            if (yIsInt == 0) {
+                return (float) PowerCalculatorEngine.compute(x, y);
+            }
+            if (yIsInt == 1) {
+                s = -1.0;
+            }
+        }
+
+        int ix = Float.floatToRawIntBits(xAbs);
+        int n = 0;
+        if (ix < 0x0080_0000) {
+            ix = Float.floatToRawIntBits(xAbs * 0x1.0p23f);
+            n -= 23;
+        }
+        n += (ix >> 23) - 0x7f;
+        final int j = ix & 0x007f_ffff;
+        int k = 0;
+        int mantissa = j | 0x3f80_0000;
+        if (j > LOW_SPLIT && j < HIGH_SPLIT) {
+            k = 1;
+        } else if (j >= HIGH_SPLIT) {
+            n += 1;
+            mantissa -= 0x0080_0000;
+        }
+        final double m = Float.intBitsToFloat(mantissa);
+        final double ss = (m - BP[k]) / (m + BP[k]);
+        final double s2 = ss * ss;
+        final double z = y * ((n + DP[k]) + ss * (Q0 + s2 * (Q1 + s2 * (Q2 + s2 * Q3))));
+        if (!(z < FLOAT_OVERFLOW)) {
+            return (float) (s * Double.POSITIVE_INFINITY);
+        }
+        if (z <= FLOAT_UNDERFLOW) {
+            return (float) (s * 0.0);
+        }
+
+        final double rounded = Math.rint(z);
+        final double f = z - rounded;
+        final double p = 1.0 + f * (E1 + f * (E2 + f * (E3 + f * (E4 + f * (E5 + f * E6)))));
+        // 2^rounded is a normal double, so the product is exact and the cast rounds only once
+        return (float) (s * p * Double.longBitsToDouble((long) ((int) rounded + 0x3ff) << 52));
+    }
+
+    /**
+     * Computes x raised to the power of y in half precision.
+     *
+     * @param x the bits of the base
+     * @param y the bits of the exponent
+     * @return the bits of x^y, within 0.52 ulp
+     */
+    public static short computeHalf(final short x, final short y) {
+        return floatToHalf(powHalf(halfToFloat(x), halfToFloat(y)));
+    }
+
+    /**
+     * Computes x^y for half-precision operands widened to float.
+     *
+     * @param x the base, a half-precision value
+     * @param y the exponent, a half-precision value or any float
+     * @return x^y to the accuracy of half precision, before rounding to it
+     */
+    private static float powHalf(final float x, final float y) {
+        final float yAbs = Math.abs(y);
+        final float xAbs = Math.abs(x);
+        if (!(yAbs < Float.POSITIVE_INFINITY) || y == 0.0f || y == 2.0f || y == 0.5f || yAbs == 1.0f
+                || xAbs == 0.0f || xAbs == 1.0f || !(xAbs < Float.POSITIVE_INFINITY)) {
+            return (float) PowerCalculatorEngine.compute(x, y);
+        }
+        float s = 1.0f;
+        if (x < 0.0f) {
+            final int yIsInt = integerClass(yAbs);
+            if (yIsInt == 0) {
+                return (float) PowerCalculatorEngine.compute(x, y);
+            }
+            if (yIsInt == 1) {
+                s = -1.0f;
+            }
+        }
+
+        // Half-precision subnormals are normal floats
+        final int ix = Float.floatToRawIntBits(xAbs);
+        int n = (ix >> 23) - 0x7f;
+        final int j = ix & 0x007f_ffff;
+        int k = 0;
+        int mantissa = j | 0x3f80_0000;
+        if (j > LOW_SPLIT && j < HIGH_SPLIT) {
+            k = 1;
+        } else if (j >= HIGH_SPLIT) {
+            n += 1;
+            mantissa -= 0x0080_0000;
+        }
+        final float m = Float.intBitsToFloat(mantissa);
+        final float ss = (m - BP_HALF[k]) / (m + BP_HALF[k]);
+        final float s2 = ss * ss;
+        final float z = y * ((n + DP_HALF[k]) + ss * (HALF_Q0 + s2 * (HALF_Q1 + s2 * HALF_Q2)));
+        if (!(z < HALF_OVERFLOW)) {
+            return s * Float.POSITIVE_INFINITY;
+        }
+        if (z <= HALF_UNDERFLOW) {
+            return s * 0.0f;
+        }
+
+        final float rounded = (float) Math.rint(z);
+        final float f = z - rounded;
+        final float p = 1.0f + f * (HALF_E1 + f * (HALF_E2 + f * (HALF_E3 + f * HALF_E4)));
+        return s * p * Float.intBitsToFloat(((int) rounded + 0x7f) << 23);
+    }
+
+    /**
+     * Classifies |y| for a negative base as the double engine does.
+     *
+     * @param yAbs the magnitude of a finite exponent
+     * @return 0 if y is not an integer, 1 if it is an odd integer, 2 if it is an even integer
+     */
+    private static int integerClass(final float yAbs) {
+        if (yAbs >= 0x1.0p24f) {
+            return 2;
+        }
+        if (yAbs >= 1.0f) {
+            final int yAbsAsInt = (int) yAbs;
+            if (yAbsAsInt == yAbs) {
+                return 2 - (yAbsAsInt & 1);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Widens a half-precision value to float, exactly.
+     *
+     * @param half the bits of an IEEE 754 binary16 value
+     * @return the same value as a float; NaN payloads are kept
+     */
+    public static float halfToFloat(final short half) {
+        final int sign = (half & 0x8000) << 16;
+        final int exponent = (half >> 10) & 0x1f;
+        final int mantissa = half & 0x03ff;
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f80_0000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            // Zero or subnormal: mantissa * 2^-24 is exact in float
+            final float magnitude = mantissa * 0x1.0p-24f;
+            return (sign != 0) ? -magnitude : magnitude;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+
+    /**
+     * Rounds a float to the nearest half-precision value, ties to even.
+     *
+     * @param value the value
+     * @return the bits of the rounded IEEE 754 binary16 value; a NaN stays a quiet NaN with the
+     *         high bits of its payload
+     */
+    public static short floatToHalf(final float value) {
+        final int bits = Float.floatToRawIntBits(value);
+        final int sign = (bits >>> 16) & 0x8000;
+        final int magnitude = bits & 0x7fff_ffff;
+        if (magnitude > 0x7f80_0000) {
+            return (short) (sign | 0x7e00 | ((magnitude >> 13) & 0x03ff));
+        }
+        if (magnitude >= HALF_INFINITY_THRESHOLD) {
+            return (short) (sign | 0x7c00);
+        }
+        if (magnitude >= HALF_MIN_NORMAL) {
+            // Rebias the exponent and round away the 13 low mantissa bits; a carry out of the
+            // mantissa correctly increments the exponent
+            final int rounded = magnitude + 0x0fff + ((magnitude >> 13) & 1);
+            return (short) (sign | ((rounded - (112 << 23)) >> 13));
+        }
+        // Subnormal or zero: the value in units of 2^-24, scaled exactly and rounded to even
+        final float units = Float.intBitsToFloat(magnitude) * 0x1.0p24f;
+        return (short) (sign | (int) Math.rint(units));
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element of the input arrays.
+     *
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAll(final float[] x, final float[] y, final float[] out) {
+        requireLength(x.length, y.length, out.length);
+        computeAll(x, 0, y, 0, out, 0, x.length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+     *
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final float[] x, final int xOffset, final float[] y, final int yOffset,
+                                  final float[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = compute(x[xOffset + i], y[yOffset + i]);
+        }
+    }
+
+    /**
+     * Computes x[i]^y for every base in {@code x} and a single exponent.
+     *
+     * @param x the bases
+     * @param y the exponent shared by all elements
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAll(final float[] x, final float y, final float[] out) {
+        requireLength(x.length, x.length, out.length);
+        computeAll(x, 0, y, out, 0, x.length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y into out[outOffset + i] for i in [0, length).
+     *
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponent shared by all elements
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final float[] x, final int xOffset, final float y,
+                                  final float[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = compute(x[xOffset + i], y);
+        }
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element of half-precision input arrays.
+     *
+     * @param x the bits of the bases
+     * @param y the bits of the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAllHalf(final short[] x, final short[] y, final short[] out) {
+        requireLength(x.length, y.length, out.length);
+        computeAllHalf(x, 0, y, 0, out, 0, x.length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y[yOffset + i] into out[outOffset + i] for i in [0, length), all in
+     * half precision.
+     *
+     * @param x the bits of the bases
+     * @param xOffset index of the first base
+     * @param y the bits of the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAllHalf(final short[] x, final int xOffset, final short[] y, final int yOffset,
+                                      final short[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = floatToHalf(powHalf(halfToFloat(x[xOffset + i]), halfToFloat(y[yOffset + i])));
+        }
+    }
+
+    /**
+     * Computes x[i]^y for every half-precision base in {@code x} and a single float exponent.
+     *
+     * @param x the bits of the bases
+     * @param y the exponent shared by all elements
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAllHalf(final short[] x, final float y, final short[] out) {
+        requireLength(x.length, x.length, out.length);
+        computeAllHalf(x, 0, y, out, 0, x.length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y into out[outOffset + i] for i in [0, length), with half-precision
+     * bases and results.
+     *
+     * @param x the bits of the bases
+     * @param xOffset index of the first base
+     * @param y the exponent shared by all elements
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAllHalf(final short[] x, final int xOffset, final float y,
+                                      final short[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = floatToHalf(powHalf(halfToFloat(x[xOffset + i]), y));
+        }
+    }
+
+    /**
+     * Checks that the exponent and output arrays can hold as many elements as the base array.
+     *
+     * @param length the number of elements to compute
+     * @param yLength the length of the exponent array
+     * @param outLength the length of the output array
+     */
+    private static void requireLength(final int length, final int yLength, final int outLength) {
+        if (yLength != length) {
+            throw new IllegalArgumentException("Base and exponent arrays differ in length: "
+                    + length + " vs " + yLength);
+        }
+        if (outLength < length) {
+            throw new IllegalArgumentException("Output array too short: " + outLength + " < " + length);
+        }
+    }
+}
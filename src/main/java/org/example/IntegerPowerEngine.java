@@ -0,0 +1,492 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * IntegerPowerEngine - Exact integer powers and modular exponentiation.
+ *
+ * {@link PowerCalculatorEngine} works in double arithmetic, so 3^40 = 12157665459056928801
+ * comes back rounded to 53 bits. This class computes integer powers exactly instead:
+ *
+ * <ul>
+ *   <li>{@link #powExact(long, int)} squares and multiplies in long arithmetic and detects
+ *       overflow from the high half of each 128-bit product, as given by Math.multiplyHigh.</li>
+ *   <li>{@link #pow(BigInteger, int)} uses sliding-window exponentiation: odd powers of the base
+ *       up to the window size are tabulated, and every window of the exponent costs one
+ *       multiplication instead of one per set bit.</li>
+ *   <li>{@link #modPow(long, long, long)} works in Montgomery form for odd moduli, where a
+ *       modular product is two 64x64-bit multiplications without any division. Even moduli
+ *       m = 2^s q are split into a power of two, where products wrap, and the odd part q, and
+ *       joined by the Chinese remainder theorem.</li>
+ * </ul>
+ *
+ * The bulk variants compute the Montgomery constants of a modulus once for the whole array.
+ * Errors follow Math and BigInteger: {@link ArithmeticException} on overflow, for negative
+ * exponents of {@link #pow(BigInteger, int)} and for moduli that are not positive.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class IntegerPowerEngine {
+
+    // Newton steps double the correct low bits of an inverse modulo 2^64, starting from 3 bits
+    private static final int INVERSE_STEPS = 5;
+
+    private IntegerPowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * Montgomery arithmetic modulo an odd n < 2^63 with R = 2^64.
+     *
+     * Residues are kept as a R mod n in [0, n). A product a b R^-1 mod n is reduced from the
+     * 128-bit product by adding the multiple of n that clears its low word (REDC).
+     */
+    private static final class Montgomery {
+        final long modulus;
+        // -n^-1 mod 2^64
+        final long negInverse;
+        // R mod n and R^2 mod n
+        final long one;
+        final long rSquared;
+
+        Montgomery(final long modulus) {
+            this.modulus = modulus;
+            this.negInverse = -inverseMod64(modulus);
+            // 2^64 mod n is (2^64 - n) mod n
+            this.one = Long.remainderUnsigned(-modulus, modulus);
+            long r2 = one;
+            for (int i = 0; i < 64; i++) {
+                r2 = addMod(r2, r2, modulus);
+            }
+            this.rSquared = r2;
+        }
+
+        /**
+         * Returns a b R^-1 mod n for a, b in [0, n).
+         *
+         * @param a the first factor in Montgomery form
+         * @param b the second factor in Montgomery form
+         * @return the product in Montgomery form
+         */
+        long multiply(final long a, final long b) {
+            final long low = a * b;
+            final long high = Math.multiplyHigh(a, b);
+            final long m = low * negInverse;
+            // low + low(m n) is 0 mod 2^64, with a carry unless low is 0
+            long t = high + UnsignedMath.multiplyHigh(m, modulus) + ((low != 0) ? 1 : 0);
+            if (Long.compareUnsigned(t, modulus) >= 0) {
+                t -= modulus;
+            }
+            return t;
+        }
+
+        /**
+         * Converts a residue in [0, n) to Montgomery form.
+         *
+         * @param a the residue
+         * @return a R mod n
+         */
+        long toMontgomery(final long a) {
+            return multiply(a, rSquared);
+        }
+
+        /**
+         * Converts from Montgomery form back to a residue.
+         *
+         * @param a the value in Montgomery form
+         * @return a R^-1 mod n
+         */
+        long fromMontgomery(final long a) {
+            return multiply(a, 1L);
+        }
+
+        /**
+         * Raises a residue to an unsigned exponent by left-to-right binary exponentiation.
+         *
+         * @param base the base, in [0, n)
+         * @param exponent the exponent, read as unsigned
+         * @return base^exponent mod n
+         */
+        long pow(final long base, final long exponent) {
+            final long b = toMontgomery(base);
+            long result = one;
+            for (int bit = 63 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+                result = multiply(result, result);
+                if (((exponent >>> bit) & 1L) != 0) {
+                    result = multiply(result, b);
+                }
+            }
+            return fromMontgomery(result);
+        }
+    }
+
+    /**
+     * Modular exponentiation for a fixed modulus m = 2^s q with q odd.
+     */
+    private static final class ModularPower {
+        final long modulus;
+        final int twos;
+        final long oddPart;
+        // Montgomery arithmetic modulo q, or null when q is 1
+        final Montgomery montgomery;
+        // q^-1 mod 2^64, for the Chinese remainder theorem
+        final long oddInverse;
+
+        ModularPower(final long modulus) {
+            if (modulus <= 0) {
+                throw new ArithmeticException("Modulus not positive: " + modulus);
+            }
+            this.modulus = modulus;
+            this.twos = Long.numberOfTrailingZeros(modulus);
+            this.oddPart = modulus >>> twos;
+            this.montgomery = (oddPart == 1) ? null : new Montgomery(oddPart);
+            this.oddInverse = inverseMod64(oddPart);
+        }
+
+        /**
+         * Computes base^exponent mod m.
+         *
+         * @param base any base
+         * @param exponent any exponent; negative powers need a base coprime to m
+         * @return base^exponent mod m, in [0, m)
+         * @throws ArithmeticException if the exponent is negative and the base is not invertible
+         */
+        long pow(final long base, final long exponent) {
+            if (modulus == 1) {
+                return 0;
+            }
+            long b = Math.floorMod(base, modulus);
+            if (exponent < 0) {
+                b = modInverse(b, modulus);
+            }
+            // |exponent| as unsigned, which covers Long.MIN_VALUE
+            final long e = (exponent < 0) ? -exponent : exponent;
+            final long oddResidue = (montgomery == null) ? 0 : montgomery.pow(b % oddPart, e);
+            if (twos == 0) {
+                return oddResidue;
+            }
+            final long mask = (1L << twos) - 1;
+            final long twoResidue = wrappingPow(b, e) & mask;
+            if (montgomery == null) {
+                return twoResidue;
+            }
+            // x = oddResidue + q k with q k = twoResidue - oddResidue mod 2^s
+            final long k = ((twoResidue - oddResidue) * oddInverse) & mask;
+            return oddResidue + oddPart * k;
+        }
+    }
+
+    /**
+     * Computes base^exponent exactly in long arithmetic.
+     *
+     * @param base the base
+     * @param exponent the exponent, non-negative
+     * @return base^exponent
+     * @throws ArithmeticException if the exponent is negative or the result overflows a long
+     */
+    public static long powExact(final long base, final int exponent) {
+        if (exponent < 0) {
+            throw new ArithmeticException("Negative exponent: " + exponent);
+        }
+        long result = 1;
+        long square = base;
+        for (int e = exponent;;) {
+            if ((e & 1) != 0) {
+                result = multiplyExact(result, square);
+            }
+            e >>>= 1;
+            if (e == 0) {
+                return result;
+            }
+            square = multiplyExact(square, square);
+        }
+    }
+
+    /**
+     * Computes base^exponent exactly.
+     *
+     * @param base the base
+     * @param exponent the exponent, non-negative
+     * @return base^exponent
+     * @throws ArithmeticException if the exponent is negative
+     */
+    public static BigInteger pow(final long base, final int exponent) {
+        return pow(BigInteger.valueOf(base), exponent);
+    }
+
+    /**
+     * Computes base^exponent exactly by sliding-window exponentiation.
+     *
+     * Powers of two in the base are shifted in at the end. The exponent is scanned from its top
+     * bit; a zero bit squares, and a window of up to k bits ending in a one squares once per bit
+     * and multiplies once by the tabulated odd power it represents.
+     *
+     * @param base the base
+     * @param exponent the exponent, non-negative
+     * @return base^exponent
+     * @throws ArithmeticException if the exponent is negative
+     */
+    public static BigInteger pow(final BigInteger base, final int exponent) {
+        Objects.requireNonNull(base, "base");
+        if (exponent < 0) {
+            throw new ArithmeticException("Negative exponent: " + exponent);
+        }
+        if (exponent == 0) {
+            return BigInteger.ONE;
+        }
+        if (base.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        final int twos = base.getLowestSetBit();
+        final BigInteger odd = base.shiftRight(twos);
+        final long shift = (long) twos * exponent;
+        if (shift > Integer.MAX_VALUE) {
+            throw new ArithmeticException("BigInteger would overflow supported range");
+        }
+        return slidingWindowPow(odd, exponent).shiftLeft((int) shift);
+    }
+
+    /**
+     * Sliding-window exponentiation of a non-zero base.
+     *
+     * @param base the base
+     * @param exponent the exponent, positive
+     * @return base^exponent
+     */
+    private static BigInteger slidingWindowPow(final BigInteger base, final int exponent) {
+        final int bits = 32 - Integer.numberOfLeadingZeros(exponent);
+        final int window = (bits <= 8) ? 2 : (bits <= 20) ? 3 : 4;
+        // base^1, base^3, ..., base^(2^window - 1)
+        final BigInteger[] oddPowers = new BigInteger[1 << (window - 1)];
+        oddPowers[0] = base;
+        final BigInteger square = base.multiply(base);
+        for (int i = 1; i < oddPowers.length; i++) {
+            oddPowers[i] = oddPowers[i - 1].multiply(square);
+        }
+
+        BigInteger result = null;
+        int i = bits - 1;
+        while (i >= 0) {
+            if (((exponent >>> i) & 1) == 0) {
+                result = result.multiply(result);
+                i--;
+                continue;
+            }
+            // The longest window [low, i] of at most `window` bits that ends in a one
+            int low = Math.max(i - window + 1, 0);
+            while (((exponent >>> low) & 1) == 0) {
+                low++;
+            }
+            final int value = (exponent >>> low) & ((1 << (i - low + 1)) - 1);
+            if (result == null) {
+                result = oddPowers[value >>> 1];
+            } else {
+                for (int k = low; k <= i; k++) {
+                    result = result.multiply(result);
+                }
+                result = result.multiply(oddPowers[value >>> 1]);
+            }
+            i = low - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Computes base^exponent mod modulus.
+     *
+     * @param base the base, reduced modulo the modulus first
+     * @param exponent the exponent; a negative exponent raises the modular inverse of the base
+     * @param modulus the modulus, positive
+     * @return base^exponent mod modulus, in [0, modulus)
+     * @throws ArithmeticException if the modulus is not positive, or the exponent is negative
+     *         and the base is not coprime to the modulus
+     */
+    public static long modPow(final long base, final long exponent, final long modulus) {
+        return new ModularPower(modulus).pow(base, exponent);
+    }
+
+    /**
+     * Computes powExact(bases[i], exponent) for every element.
+     *
+     * @param bases the bases
+     * @param exponent the exponent, non-negative
+     * @param out the destination, at least as long as {@code bases}; may be {@code bases}
+     * @throws IllegalArgumentException if {@code out} is too short
+     * @throws ArithmeticException if the exponent is negative or a result overflows; the
+     *         elements before it have been written
+     */
+    public static void powExactAll(final long[] bases, final int exponent, final long[] out) {
+        requireLength(bases.length, bases.length, out.length);
+        for (int i = 0; i < bases.length; i++) {
+            out[i] = powExact(bases[i], exponent);
+        }
+    }
+
+    /**
+     * Computes bases[i]^exponent mod modulus for every element.
+     *
+     * @param bases the bases
+     * @param exponent the exponent
+     * @param modulus the modulus, positive
+     * @param out the destination, at least as long as {@code bases}; may be {@code bases}
+     * @throws IllegalArgumentException if {@code out} is too short
+     * @throws ArithmeticException as {@link #modPow(long, long, long)}
+     */
+    public static void modPowAll(final long[] bases, final long exponent, final long modulus, final long[] out) {
+        requireLength(bases.length, bases.length, out.length);
+        modPowAll(bases, 0, exponent, modulus, out, 0, bases.length);
+    }
+
+    /**
+     * Computes bases[offset + i]^exponent mod modulus into out[outOffset + i] for i in [0, length).
+     *
+     * @param bases the bases
+     * @param offset index of the first base
+     * @param exponent the exponent
+     * @param modulus the modulus, positive
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     * @throws ArithmeticException as {@link #modPow(long, long, long)}
+     */
+    public static void modPowAll(final long[] bases, final int offset, final long exponent, final long modulus,
+                                 final long[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bases.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final ModularPower power = new ModularPower(modulus);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = power.pow(bases[offset + i], exponent);
+        }
+    }
+
+    /**
+     * Computes bases[i]^exponents[i] mod modulus for every element.
+     *
+     * @param bases the bases
+     * @param exponents the exponents, same length as {@code bases}
+     * @param modulus the modulus, positive
+     * @param out the destination, at least as long as {@code bases}; may be either input
+     * @throws IllegalArgumentException if {@code exponents} or {@code out} is too short
+     * @throws ArithmeticException as {@link #modPow(long, long, long)}
+     */
+    public static void modPowAll(final long[] bases, final long[] exponents, final long modulus, final long[] out) {
+        requireLength(bases.length, exponents.length, out.length);
+        final ModularPower power = new ModularPower(modulus);
+        for (int i = 0; i < bases.length; i++) {
+            out[i] = power.pow(bases[i], exponents[i]);
+        }
+    }
+
+    /**
+     * Multiplies two longs, detecting overflow from the high half of the 128-bit product: the
+     * product fits exactly when the high half is the sign extension of the low half.
+     *
+     * @param a the first factor
+     * @param b the second factor
+     * @return a * b
+     * @throws ArithmeticException if the product overflows a long
+     */
+    private static long multiplyExact(final long a, final long b) {
+        final long low = a * b;
+        if (Math.multiplyHigh(a, b) != (low >> 63)) {
+            throw new ArithmeticException("long overflow");
+        }
+        return low;
+    }
+
+    /**
+     * Returns the inverse of an odd number modulo 2^64 by Newton's iteration x = x (2 - a x).
+     *
+     * @param a the number, odd
+     * @return a^-1 mod 2^64
+     */
+    private static long inverseMod64(final long a) {
+        // a is its own inverse modulo 8
+        long x = a;
+        for (int i = 0; i < INVERSE_STEPS; i++) {
+            x *= 2 - a * x;
+        }
+        return x;
+    }
+
+    /**
+     * Returns (a + b) mod m for a, b in [0, m) and m < 2^63.
+     *
+     * @param a the first addend
+     * @param b the second addend
+     * @param m the modulus
+     * @return a + b mod m
+     */
+    private static long addMod(final long a, final long b, final long m) {
+        final long sum = a + b;
+        return (Long.compareUnsigned(sum, m) >= 0) ? sum - m : sum;
+    }
+
+    /**
+     * Raises a base to an unsigned exponent modulo 2^64, where long products wrap.
+     *
+     * @param base the base
+     * @param exponent the exponent, read as unsigned
+     * @return base^exponent mod 2^64
+     */
+    private static long wrappingPow(final long base, final long exponent) {
+        long result = 1;
+        long square = base;
+        for (long e = exponent; e != 0; e >>>= 1) {
+            if ((e & 1L) != 0) {
+                result *= square;
+            }
+            square *= square;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the inverse of a modulo m by the extended Euclidean algorithm.
+     *
+     * @param a the residue, in [0, m)
+     * @param m the modulus, above 1
+     * @return a^-1 mod m
+     * @throws ArithmeticException if a and m are not coprime
+     */
+    private static long modInverse(final long a, final long m) {
+        long r0 = m;
+        long r1 = a;
+        long t0 = 0;
+        long t1 = 1;
+        while (r1 != 0) {
+            final long q = r0 / r1;
+            final long r = r0 - q * r1;
+            r0 = r1;
+            r1 = r;
+            final long t = t0 - q * t1;
+            t0 = t1;
+            t1 = t;
+        }
+        if (r0 != 1) {
+            throw new ArithmeticException("Base not invertible modulo " + m);
+        }
+        return (t0 < 0) ? t0 + m : t0;
+    }
+
+    /**
+     * Checks that the second input and the output hold at least as many elements as the first.
+     *
+     * @param length the number of elements to compute
+     * @param otherLength the length of the second input
+     * @param outLength the length of the output
+     * @throws IllegalArgumentException if an array is too short
+     */
+    private static void requireLength(final int length, final int otherLength, final int outLength) {
+        if (otherLength < length) {
+            throw new IllegalArgumentException("Input arrays must have the same length: " + length + " != "
+                    + otherLength);
+        }
+        if (outLength < length) {
+            throw new IllegalArgumentException("Output array too short: " + outLength + " < " + length);
+        }
+    }
+}
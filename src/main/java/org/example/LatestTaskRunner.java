@@ -0,0 +1,93 @@
+package org.example;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * LatestTaskRunner - Runs GUI work in the background, keeping only the latest request.
+ *
+ * Each runner has its own daemon worker thread, so a slow task of one runner never delays the tasks
+ * of another. Submitting a task cancels the one still running, interrupting it so that long
+ * computations can stop early, and the result of a cancelled or superseded task is never delivered.
+ * The tasks of a runner run one at a time, so a long task should check {@link Thread#interrupted()}
+ * to let the next one start; a superseded task that has not started yet never runs. Results and
+ * failures of the latest task are delivered on the event dispatch thread with
+ * {@link SwingUtilities#invokeLater}, so the handlers may update Swing components directly.
+ * A {@code SwingWorker} is not used because it coalesces {@code done()} calls on a 1/30 s timer,
+ * which would cap the rate of interactive updates.
+ * All methods must be called on the event dispatch thread.
+ *
+ * @param <T> the type of the task results
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class LatestTaskRunner<T> {
+
+    private final ExecutorService worker;
+    private final Consumer<Throwable> onFailure;
+    private Future<?> running;
+    private long generation;
+
+    /**
+     * Creates a runner.
+     *
+     * @param onFailure receives the exception of a latest task that failed
+     */
+    LatestTaskRunner(final Consumer<Throwable> onFailure) {
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "power-gui-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Runs a task in the background, cancelling the previous one.
+     *
+     * @param task the work, which must not touch Swing components
+     * @param onResult receives the result on the event dispatch thread if no newer task was
+     *                 submitted or cancelled in the meantime
+     */
+    void submit(final Callable<T> task, final Consumer<T> onResult) {
+        cancel();
+        final long current = generation;
+        running = worker.submit(() -> {
+            final T result;
+            try {
+                result = task.call();
+            } catch (Throwable ex) {
+                // Any failure, including errors, is reported like an ExecutionException cause
+                SwingUtilities.invokeLater(() -> {
+                    if (current == generation) {
+                        running = null;
+                        onFailure.accept(ex);
+                    }
+                });
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (current == generation) {
+                    running = null;
+                    onResult.accept(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the running task, if any, so that its result is dropped.
+     */
+    void cancel() {
+        generation++;
+        if (running != null) {
+            running.cancel(true);
+            running = null;
+        }
+    }
+}
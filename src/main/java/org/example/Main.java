@@ -1,8 +1,25 @@
 package org.example;
 
+import java.awt.GraphicsEnvironment;
+import java.util.Arrays;
+
 public class Main {
     public static void main(String[] args) {
-        // Launch the PowerCalculator GUI
-        PowerCalculatorGUI.main(args);
+        if (args.length > 0 && "--cli".equals(args[0])) {
+            // Streaming command-line mode for batch use
+            PowerCalculatorCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && "--map".equals(args[0])) {
+            // File-to-file batch over memory-mapped binary files
+            MappedBatchProcessor.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && "--server".equals(args[0])) {
+            // Embedded HTTP compute service
+            PowerCalculatorServer.main(Arrays.copyOfRange(args, 1, args.length));
+        } else if (GraphicsEnvironment.isHeadless()) {
+            // No display available: fall back to the command line
+            PowerCalculatorCli.main(args);
+        } else {
+            // Launch the PowerCalculator GUI
+            PowerCalculatorGUI.main(args);
+        }
     }
-}
\ No newline at end of file
+}
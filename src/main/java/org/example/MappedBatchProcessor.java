@@ -0,0 +1,235 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * MappedBatchProcessor - File-to-file evaluation of x^y over memory-mapped binary files.
+ *
+ * The input file is a sequence of (x, y) pairs of little-endian IEEE 754 doubles, 16 bytes per
+ * pair; the output file receives one little-endian double x^y per pair, 8 bytes each. Both files
+ * are mapped with {@link FileChannel#map} one window at a time, since a single mapping cannot
+ * exceed 2 GB, so files of any size are processed with a bounded address-space footprint. Values
+ * are read from and written to the mapped pages directly with absolute get and put, with no
+ * intermediate heap arrays; each result is identical to
+ * {@link PowerCalculatorEngine#compute(double, double)}.
+ *
+ * Started with {@code --map input output [--window N]}, the calculator runs one file and prints
+ * the {@link Report}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class MappedBatchProcessor {
+
+    /** Bytes per input pair. */
+    public static final int PAIR_BYTES = 2 * Double.BYTES;
+
+    /** Bytes per result. */
+    public static final int RESULT_BYTES = Double.BYTES;
+
+    /** Default number of pairs per window: 256 MB of input and 128 MB of output. */
+    public static final int DEFAULT_WINDOW_PAIRS = 1 << 24;
+
+    private static final String USAGE = "Usage: --map input-file output-file [--window N]\n"
+            + "Computes x^y for every little-endian double pair of the input file into the output file.";
+
+    private MappedBatchProcessor() {
+        // Utility class
+    }
+
+    /**
+     * Runs one file with the process streams and exits with its status.
+     *
+     * @param args the arguments after {@code --map}
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs one file and prints its report.
+     *
+     * @param args the arguments after {@code --map}
+     * @param out the destination of the report
+     * @param err the destination of usage and I/O error messages
+     * @return 0 on success, 1 on an I/O error, 2 on invalid arguments
+     */
+    public static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        int windowPairs = DEFAULT_WINDOW_PAIRS;
+        Path input = null;
+        Path output = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if ("--window".equals(args[i]) && i + 1 < args.length) {
+                    windowPairs = Integer.parseInt(args[++i]);
+                } else if (args[i].startsWith("-") || output != null) {
+                    throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                } else if (input == null) {
+                    input = Path.of(args[i]);
+                } else {
+                    output = Path.of(args[i]);
+                }
+            }
+            if (output == null) {
+                throw new IllegalArgumentException("Input and output files are required");
+            }
+            out.println(process(input, output, windowPairs));
+            return 0;
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return 2;
+        } catch (NoSuchFileException ex) {
+            err.println("Input file not found: " + ex.getFile());
+            return 1;
+        } catch (IOException ex) {
+            err.println("I/O error: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Computes x^y for every pair of the input file into the output file with the default window.
+     *
+     * @param input the file of little-endian (x, y) double pairs
+     * @param output the file to create or overwrite with the little-endian results
+     * @return the counts and timing of the run
+     * @throws IOException if a file cannot be read, written or mapped, or the input length is not
+     *         a multiple of {@value #PAIR_BYTES} bytes
+     */
+    public static Report process(final Path input, final Path output) throws IOException {
+        return process(input, output, DEFAULT_WINDOW_PAIRS);
+    }
+
+    /**
+     * Computes x^y for every pair of the input file into the output file.
+     *
+     * @param input the file of little-endian (x, y) double pairs
+     * @param output the file to create or overwrite with the little-endian results
+     * @param windowPairs the number of pairs mapped at a time, in [1, 2^26]
+     * @return the counts and timing of the run
+     * @throws IOException if a file cannot be read, written or mapped, or the input length is not
+     *         a multiple of {@value #PAIR_BYTES} bytes
+     * @throws IllegalArgumentException if the window size is out of range
+     */
+    public static Report process(final Path input, final Path output, final int windowPairs) throws IOException {
+        if (windowPairs < 1 || windowPairs > (1 << 26)) {
+            throw new IllegalArgumentException("Window must hold [1, 2^26] pairs: " + windowPairs);
+        }
+        final long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long inputBytes = in.size();
+            if (inputBytes % PAIR_BYTES != 0) {
+                throw new IOException("Input length " + inputBytes + " is not a multiple of " + PAIR_BYTES
+                        + " bytes: " + input);
+            }
+            final long pairs = inputBytes / PAIR_BYTES;
+            for (long first = 0; first < pairs; first += windowPairs) {
+                final int count = (int) Math.min(windowPairs, pairs - first);
+                final DoubleBuffer source = in.map(FileChannel.MapMode.READ_ONLY, first * PAIR_BYTES,
+                        (long) count * PAIR_BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                final DoubleBuffer target = out.map(FileChannel.MapMode.READ_WRITE, first * RESULT_BYTES,
+                        (long) count * RESULT_BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                computeWindow(source, target, count);
+            }
+            return new Report(pairs, inputBytes + pairs * RESULT_BYTES, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Computes one window from mapped input into mapped output.
+     *
+     * @param source the mapped pairs, x at even and y at odd indices
+     * @param target the mapped results
+     * @param count the number of pairs in the window
+     */
+    private static void computeWindow(final DoubleBuffer source, final DoubleBuffer target, final int count) {
+        for (int i = 0; i < count; i++) {
+            target.put(i, PowerCalculatorEngine.compute(source.get(2 * i), source.get(2 * i + 1)));
+        }
+    }
+
+    /**
+     * MappedBatchProcessor.Report - Counts and throughput of one batch run.
+     */
+    public static final class Report {
+
+        private final long elements;
+        private final long bytes;
+        private final long nanos;
+
+        /**
+         * Creates a report.
+         *
+         * @param elements the number of pairs computed
+         * @param bytes the number of bytes read and written
+         * @param nanos the elapsed wall-clock time in nanoseconds
+         */
+        Report(final long elements, final long bytes, final long nanos) {
+            this.elements = elements;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the number of pairs computed.
+         *
+         * @return the element count
+         */
+        public long elements() {
+            return elements;
+        }
+
+        /**
+         * Returns the number of bytes read and written.
+         *
+         * @return the byte count
+         */
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the elapsed wall-clock time.
+         *
+         * @return the time in nanoseconds
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the throughput in elements per second.
+         *
+         * @return elements per second
+         */
+        public double elementsPerSecond() {
+            return elements * 1e9 / Math.max(nanos, 1L);
+        }
+
+        /**
+         * Returns the throughput in bytes read and written per second.
+         *
+         * @return bytes per second
+         */
+        public double bytesPerSecond() {
+            return bytes * 1e9 / Math.max(nanos, 1L);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d elements, %d bytes in %.3f s: %.3e elements/s, %.1f MB/s",
+                    elements, bytes, nanos / 1e9, elementsPerSecond(), bytesPerSecond() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package org.example;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelPowerEngine - Fork/join evaluation of x^y over very large arrays.
+ *
+ * The index range is split in halves by a {@link RecursiveAction} until a piece is no longer than
+ * the sequential threshold, and each piece is evaluated with the kernel of
+ * {@link VectorizedPowerEngine#computeAll(double[], int, double[], int, double[], int, int)}.
+ * Split points are multiples of {@value #CACHE_LINE_DOUBLES} elements of the output, so two tasks
+ * rarely write to the same cache line. Every element is computed independently, so the results
+ * are identical to {@link PowerCalculatorEngine#compute(double, double)} whatever the pool,
+ * threshold or scheduling.
+ *
+ * Like VectorizedPowerEngine, this class requires {@code --add-modules jdk.incubator.vector}. A
+ * call records one {@link PowerBatchEvent} for the whole batch rather than one per task.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class ParallelPowerEngine {
+
+    /** Default number of elements below which a task computes its range itself. */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    // Doubles per 64-byte cache line, the granularity of the split points
+    static final int CACHE_LINE_DOUBLES = 8;
+
+    private ParallelPowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element in the common pool with the default threshold.
+     *
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double[] y, final double[] out) {
+        computeAll(x, y, out, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element in the given pool.
+     *
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @param pool the pool that runs the tasks
+     * @param threshold the largest range a task computes without splitting, at least 1
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short, or the threshold
+     *         is not positive
+     */
+    public static void computeAll(final double[] x, final double[] y, final double[] out,
+                                  final ForkJoinPool pool, final int threshold) {
+        if (y.length != x.length || out.length < x.length) {
+            throw new IllegalArgumentException("Array lengths do not match: x=" + x.length
+                    + ", y=" + y.length + ", out=" + out.length);
+        }
+        run(pool, new PowerTask(x, 0.0, y, 0.0, out, 0, x.length, requireThreshold(threshold)));
+    }
+
+    /**
+     * Computes x^y[i] for a single base and every exponent in the common pool.
+     *
+     * @param x the base shared by all elements
+     * @param y the exponents
+     * @param out the destination, at least as long as {@code y}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAll(final double x, final double[] y, final double[] out) {
+        computeAll(x, y, out, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Computes x^y[i] for a single base and every exponent in the given pool.
+     *
+     * @param x the base shared by all elements
+     * @param y the exponents
+     * @param out the destination, at least as long as {@code y}
+     * @param pool the pool that runs the tasks
+     * @param threshold the largest range a task computes without splitting, at least 1
+     * @throws IllegalArgumentException if {@code out} is too short or the threshold is not positive
+     */
+    public static void computeAll(final double x, final double[] y, final double[] out,
+                                  final ForkJoinPool pool, final int threshold) {
+        if (out.length < y.length) {
+            throw new IllegalArgumentException("Output array too short: " + out.length + " < " + y.length);
+        }
+        run(pool, new PowerTask(null, x, y, 0.0, out, 0, y.length, requireThreshold(threshold)));
+    }
+
+    /**
+     * Computes x[i]^y for every base and a single exponent in the common pool.
+     *
+     * @param x the bases
+     * @param y the exponent shared by all elements
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double y, final double[] out) {
+        computeAll(x, y, out, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Computes x[i]^y for every base and a single exponent in the given pool.
+     *
+     * @param x the bases
+     * @param y the exponent shared by all elements
+     * @param out the destination, at least as long as {@code x}
+     * @param pool the pool that runs the tasks
+     * @param threshold the largest range a task computes without splitting, at least 1
+     * @throws IllegalArgumentException if {@code out} is too short or the threshold is not positive
+     */
+    public static void computeAll(final double[] x, final double y, final double[] out,
+                                  final ForkJoinPool pool, final int threshold) {
+        if (out.length < x.length) {
+            throw new IllegalArgumentException("Output array too short: " + out.length + " < " + x.length);
+        }
+        run(pool, new PowerTask(x, 0.0, null, y, out, 0, x.length, requireThreshold(threshold)));
+    }
+
+    /**
+     * Checks that a sequential threshold is usable.
+     *
+     * @param threshold the threshold
+     * @return the threshold
+     */
+    private static int requireThreshold(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        return threshold;
+    }
+
+    /**
+     * Runs the root task, directly in the caller when the range is below the threshold.
+     *
+     * @param pool the pool that runs the tasks
+     * @param task the root task
+     */
+    private static void run(final ForkJoinPool pool, final PowerTask task) {
+        Objects.requireNonNull(pool, "pool");
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        if (task.length <= task.threshold) {
+            task.computeDirectly();
+        } else {
+            pool.invoke(task);
+        }
+        event.finish("parallel", PrecisionMode.DEFAULT, task.out, task.offset, task.length);
+    }
+
+    /**
+     * Computes one range of the arrays, splitting it while it is above the threshold.
+     * A null base or exponent array means the matching scalar is shared by all elements.
+     */
+    private static final class PowerTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] x;
+        private final double xValue;
+        private final double[] y;
+        private final double yValue;
+        private final double[] out;
+        private final int offset;
+        private final int length;
+        private final int threshold;
+
+        PowerTask(final double[] x, final double xValue, final double[] y, final double yValue,
+                  final double[] out, final int offset, final int length, final int threshold) {
+            this.x = x;
+            this.xValue = xValue;
+            this.y = y;
+            this.yValue = yValue;
+            this.out = out;
+            this.offset = offset;
+            this.length = length;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= threshold || length < 2 * CACHE_LINE_DOUBLES) {
+                computeDirectly();
+                return;
+            }
+            // Split at a cache-line boundary near the middle
+            final int end = offset + length;
+            int middle = (offset + (length >>> 1)) & -CACHE_LINE_DOUBLES;
+            if (middle <= offset) {
+                middle += CACHE_LINE_DOUBLES;
+            }
+            invokeAll(new PowerTask(x, xValue, y, yValue, out, offset, middle - offset, threshold),
+                    new PowerTask(x, xValue, y, yValue, out, middle, end - middle, threshold));
+        }
+
+        /**
+         * Computes the whole range in the current thread.
+         */
+        void computeDirectly() {
+            VectorizedPowerEngine.computeRange(x, offset, xValue, y, offset, yValue, out, offset, length);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package org.example;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+import javax.swing.Timer;
+
+/**
+ * PlotPanel - Plot tab of the GUI: draws y &#8614; x^y or x &#8614; x^y over a chosen range.
+ *
+ * Curves are sampled by {@link PlotSampler} and drawn by {@link PlotRenderer} into an image on a
+ * background thread through a {@link LatestTaskRunner}, so only the latest view is ever rendered.
+ * Dragging pans and the mouse wheel zooms around the pointer along the horizontal axis; the
+ * vertical axis is fitted to each rendered curve. While a new image is rendered, the previous
+ * one is repainted shifted and scaled to the current view, so the plot follows the mouse at the
+ * screen refresh rate however long sampling takes. Panning, zooming and resizing request a new
+ * image at most once every {@value #VIEW_DELAY_MS} ms, always for the view at that moment, and a
+ * superseded rendering is interrupted between sampling rounds.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class PlotPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private static final Color ERROR_COLOR = new Color(231, 76, 60);
+
+    // Delay before a view change is rendered, coalescing the drag, wheel and resize events in between
+    private static final int VIEW_DELAY_MS = 150;
+
+    // Zoom factor per wheel notch, and the narrowest view relative to its position
+    private static final double ZOOM_STEP = 1.25;
+    private static final double MIN_RELATIVE_SPAN = 1e-12;
+    // Horizontal axis positions are kept within this magnitude, and within the double exponents on log axes
+    private static final double MAX_POSITION = 1e300;
+    private static final double MAX_LOG_POSITION = 308;
+    private static final double MIN_LOG_POSITION = -307;
+
+    private final JComboBox<String> modeBox = new JComboBox<>(new String[] {
+        "x^y over y (fixed x)", "x^y over x (fixed y)"});
+    private final JLabel fixedLabel = new JLabel("x =");
+    private final JTextField fixedField = new JTextField("2", 6);
+    private final JTextField fromField = new JTextField("-10", 6);
+    private final JTextField toField = new JTextField("10", 6);
+    private final JCheckBox logXBox = new JCheckBox("Log x-axis");
+    private final JCheckBox logYBox = new JCheckBox("Log y-axis");
+    private final JButton plotButton = new JButton("Plot");
+    private final JLabel statusLabel = new JLabel("Drag to pan, scroll to zoom");
+    private final PlotCanvas canvas = new PlotCanvas();
+
+    private final transient LatestTaskRunner<Rendering> renderer = new LatestTaskRunner<>(this::showFailure);
+    private final Timer viewTimer = new Timer(VIEW_DELAY_MS, e -> requestRendering());
+
+    // The curve settings of the last Plot, and the visible horizontal range in axis positions
+    private boolean varyExponent = true;
+    private double fixed = 2;
+    private boolean logX;
+    private boolean logY;
+    private double viewStart = -10;
+    private double viewEnd = 10;
+
+    /**
+     * Creates the plot tab.
+     */
+    PlotPanel() {
+        super(new BorderLayout(0, 8));
+        setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        setOpaque(false);
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        controls.setOpaque(false);
+        controls.add(modeBox);
+        controls.add(fixedLabel);
+        controls.add(fixedField);
+        controls.add(new JLabel("from"));
+        controls.add(fromField);
+        controls.add(new JLabel("to"));
+        controls.add(toField);
+        controls.add(logXBox);
+        controls.add(logYBox);
+        controls.add(plotButton);
+        fixedLabel.setLabelFor(fixedField);
+        logXBox.setOpaque(false);
+        logYBox.setOpaque(false);
+        statusLabel.setFont(new Font("SanSerif", Font.PLAIN, 12));
+
+        add(controls, BorderLayout.NORTH);
+        add(canvas, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        modeBox.addActionListener(e -> fixedLabel.setText(modeBox.getSelectedIndex() == 0 ? "x =" : "y ="));
+        plotButton.addActionListener(e -> applySettings());
+        fixedField.addActionListener(e -> applySettings());
+        fromField.addActionListener(e -> applySettings());
+        toField.addActionListener(e -> applySettings());
+        logXBox.addActionListener(e -> applySettings());
+        logYBox.addActionListener(e -> applySettings());
+        viewTimer.setRepeats(false);
+
+        setupAccessibility();
+    }
+
+    private void setupAccessibility() {
+        modeBox.getAccessibleContext().setAccessibleName("Plotted variable");
+        fixedField.getAccessibleContext().setAccessibleName("Fixed value");
+        fromField.getAccessibleContext().setAccessibleName("Range start");
+        toField.getAccessibleContext().setAccessibleName("Range end");
+        plotButton.getAccessibleContext().setAccessibleDescription("Plot the curve over the entered range");
+        canvas.getAccessibleContext().setAccessibleName("Plot of x^y");
+        statusLabel.getAccessibleContext().setAccessibleName("Plot status");
+    }
+
+    /**
+     * Reads the controls and plots the curve over the entered range.
+     */
+    private void applySettings() {
+        final double fixedValue;
+        final double from;
+        final double to;
+        try {
+            fixedValue = FastDoubleParser.parse(fixedField.getText());
+            from = FastDoubleParser.parse(fromField.getText());
+            to = FastDoubleParser.parse(toField.getText());
+        } catch (NumberFormatException ex) {
+            showStatus("Enter numbers for the fixed value and the range", true);
+            return;
+        }
+        if (!(from < to) || Double.isInfinite(from) || Double.isInfinite(to)) {
+            showStatus("The range must be finite, with 'from' below 'to'", true);
+            return;
+        }
+        if (logXBox.isSelected() && from <= 0) {
+            showStatus("A logarithmic x-axis needs a positive range", true);
+            return;
+        }
+        varyExponent = modeBox.getSelectedIndex() == 0;
+        fixed = fixedValue;
+        logX = logXBox.isSelected();
+        logY = logYBox.isSelected();
+        viewStart = logX ? Math.log10(from) : from;
+        viewEnd = logX ? Math.log10(to) : to;
+        showStatus("Drag to pan, scroll to zoom", false);
+        requestRendering();
+    }
+
+    /**
+     * Renders the current view after {@value #VIEW_DELAY_MS} ms, unless a rendering is already
+     * scheduled, which then picks up this change as well.
+     */
+    private void scheduleRendering() {
+        if (!viewTimer.isRunning()) {
+            viewTimer.start();
+        }
+    }
+
+    /**
+     * Renders the current view in the background, superseding any rendering still running.
+     */
+    private void requestRendering() {
+        viewTimer.stop();
+        final int width = canvas.getWidth();
+        final int height = canvas.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        final boolean exponent = varyExponent;
+        final double fixedValue = fixed;
+        final boolean logScaleX = logX;
+        final boolean logScaleY = logY;
+        final double start = viewStart;
+        final double end = viewEnd;
+        renderer.submit(() -> {
+            final PlotSampler.Curve curve = PlotSampler.sample(exponent, fixedValue,
+                    PlotSampler.param(start, logScaleX), PlotSampler.param(end, logScaleX), logScaleX, logScaleY,
+                    PlotRenderer.plotWidth(width), PlotRenderer.plotHeight(height));
+            return new Rendering(PlotRenderer.render(curve, width, height), curve.start(), curve.end());
+        }, canvas::display);
+    }
+
+    /**
+     * Moves the view, keeping it within the range that can be sampled.
+     *
+     * @param start the new left edge
+     * @param end the new right edge
+     */
+    private void setView(final double start, final double end) {
+        final double low = logX ? MIN_LOG_POSITION : -MAX_POSITION;
+        final double high = logX ? MAX_LOG_POSITION : MAX_POSITION;
+        final double minSpan = Math.max(Double.MIN_NORMAL,
+                MIN_RELATIVE_SPAN * Math.max(Math.abs(start), Math.abs(end)));
+        if (!(end - start >= minSpan) || start < low || end > high) {
+            return;
+        }
+        viewStart = start;
+        viewEnd = end;
+        canvas.repaint();
+        scheduleRendering();
+    }
+
+    private void showStatus(final String message, final boolean error) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(error ? ERROR_COLOR : Color.DARK_GRAY);
+    }
+
+    private void showFailure(final Throwable ex) {
+        showStatus("Plotting failed: " + ex.getMessage(), true);
+    }
+
+    /**
+     * A rendered image and the horizontal range it shows.
+     */
+    private static final class Rendering {
+        private final BufferedImage image;
+        private final double start;
+        private final double end;
+
+        Rendering(final BufferedImage image, final double start, final double end) {
+            this.image = image;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Shows the latest rendering, and handles panning and zooming.
+     */
+    private final class PlotCanvas extends JComponent {
+        private static final long serialVersionUID = 1L;
+
+        private transient Rendering rendering;
+        private int dragX;
+        private double dragStart;
+        private double dragEnd;
+
+        PlotCanvas() {
+            setPreferredSize(new Dimension(560, 320));
+            setOpaque(true);
+            MouseAdapter mouse = new MouseAdapter() {
+                @Override
+                public void mousePressed(final MouseEvent e) {
+                    dragX = e.getX();
+                    dragStart = viewStart;
+                    dragEnd = viewEnd;
+                }
+
+                @Override
+                public void mouseDragged(final MouseEvent e) {
+                    final double shift = (dragX - e.getX()) * (dragEnd - dragStart) / plotWidth();
+                    setView(dragStart + shift, dragEnd + shift);
+                }
+
+                @Override
+                public void mouseWheelMoved(final MouseWheelEvent e) {
+                    final double factor = Math.pow(ZOOM_STEP, e.getPreciseWheelRotation());
+                    final double anchor = viewStart
+                            + (e.getX() - PlotRenderer.LEFT) * (viewEnd - viewStart) / plotWidth();
+                    setView(anchor - (anchor - viewStart) * factor, anchor + (viewEnd - anchor) * factor);
+                }
+            };
+            addMouseListener(mouse);
+            addMouseMotionListener(mouse);
+            addMouseWheelListener(mouse);
+            addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentResized(final ComponentEvent e) {
+                    scheduleRendering();
+                }
+            });
+        }
+
+        private int plotWidth() {
+            return PlotRenderer.plotWidth(getWidth());
+        }
+
+        /**
+         * Displays a finished rendering.
+         *
+         * @param latest the rendering of the current view
+         */
+        void display(final Rendering latest) {
+            rendering = latest;
+            repaint();
+        }
+
+        @Override
+        protected void paintComponent(final Graphics g) {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, getWidth(), getHeight());
+            if (rendering == null) {
+                return;
+            }
+            final BufferedImage image = rendering.image;
+            if (rendering.start == viewStart && rendering.end == viewEnd) {
+                g.drawImage(image, 0, 0, null);
+                return;
+            }
+            // Map the rendered range onto the current view until the new rendering arrives
+            final Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                final int imageWidth = PlotRenderer.plotWidth(image.getWidth());
+                final double pixelsPerUnit = imageWidth / (rendering.end - rendering.start);
+                final double scale = (rendering.end - rendering.start) / (viewEnd - viewStart)
+                        * plotWidth() / imageWidth;
+                final double left = PlotRenderer.LEFT + (rendering.start - viewStart) * pixelsPerUnit * scale;
+                g2.translate(left, 0);
+                g2.scale(scale, 1);
+                g2.translate(-PlotRenderer.LEFT, 0);
+                g2.drawImage(image, 0, 0, null);
+            } finally {
+                g2.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package org.example;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+/**
+ * PlotRenderer - Draws a sampled x^y curve with its axes into an image.
+ *
+ * Rendering only reads the immutable {@link PlotSampler.Curve}, so it runs on a background thread
+ * and the event dispatch thread merely copies the finished image to the screen. The plot area
+ * leaves fixed margins for the tick labels; {@link #plotWidth(int)} and {@link #plotHeight(int)}
+ * give its size for an image size, so curves can be sampled at the resolution they are drawn at.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class PlotRenderer {
+
+    // Margins around the plot area, in pixels
+    static final int LEFT = 70;
+    static final int RIGHT = 15;
+    static final int TOP = 15;
+    static final int BOTTOM = 40;
+
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color GRID = new Color(230, 233, 236);
+    private static final Color AXIS = new Color(120, 120, 120);
+    private static final Color CURVE = new Color(52, 152, 219);
+    private static final Font LABEL_FONT = new Font("SanSerif", Font.PLAIN, 11);
+
+    // Approximate spacing of tick marks, and how far off-screen curve points are clamped
+    private static final int TICK_SPACING_PIXELS = 80;
+    private static final int CLAMP_PIXELS = 10_000;
+
+    private PlotRenderer() {
+        // Utility class
+    }
+
+    /**
+     * Returns the width of the plot area of an image.
+     *
+     * @param width the image width
+     * @return the plot area width, at least 1
+     */
+    static int plotWidth(final int width) {
+        return Math.max(1, width - LEFT - RIGHT);
+    }
+
+    /**
+     * Returns the height of the plot area of an image.
+     *
+     * @param height the image height
+     * @return the plot area height, at least 1
+     */
+    static int plotHeight(final int height) {
+        return Math.max(1, height - TOP - BOTTOM);
+    }
+
+    /**
+     * Renders a curve with its axes, grid and tick labels.
+     *
+     * @param curve the samples
+     * @param width the image width
+     * @param height the image height
+     * @return the image
+     * @throws CancellationException if the thread is interrupted while rendering
+     */
+    static BufferedImage render(final PlotSampler.Curve curve, final int width, final int height) {
+        PlotSampler.checkInterrupted();
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, width, height);
+            final int plotWidth = plotWidth(width);
+            final int plotHeight = plotHeight(height);
+            drawHorizontalAxis(g, curve, plotWidth, plotHeight);
+            drawVerticalAxis(g, curve, plotWidth, plotHeight);
+            g.setColor(AXIS);
+            g.drawRect(LEFT, TOP, plotWidth, plotHeight);
+            g.clipRect(LEFT, TOP, plotWidth + 1, plotHeight + 1);
+            PlotSampler.checkInterrupted();
+            drawCurve(g, curve, plotWidth, plotHeight);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static void drawCurve(final Graphics2D g, final PlotSampler.Curve curve,
+                                  final int plotWidth, final int plotHeight) {
+        final double xScale = plotWidth / (curve.end() - curve.start());
+        final double half = 0.5 * curve.upper() - 0.5 * curve.lower();
+        final Path2D.Double path = new Path2D.Double(Path2D.WIND_NON_ZERO, curve.count());
+        final int count = curve.count();
+        boolean penDown = false;
+        g.setColor(CURVE);
+        for (int i = 0; i < count; i++) {
+            final double value = curve.plotValue(i);
+            if (Double.isNaN(value)) {
+                penDown = false;
+                continue;
+            }
+            final double x = LEFT + (curve.position(i) - curve.start()) * xScale;
+            final double y = clamp(yPixel(value, curve.upper(), half, plotHeight), plotHeight);
+            if (penDown) {
+                path.lineTo(x, y);
+            } else {
+                path.moveTo(x, y);
+                penDown = true;
+                if (i + 1 == count || Double.isNaN(curve.plotValue(i + 1))) {
+                    // An isolated point, such as a negative base with an integer exponent
+                    g.fillOval((int) Math.round(x) - 2, (int) Math.round(y) - 2, 5, 5);
+                }
+            }
+        }
+        g.setStroke(new BasicStroke(2f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g.draw(path);
+    }
+
+    private static void drawHorizontalAxis(final Graphics2D g, final PlotSampler.Curve curve,
+                                           final int plotWidth, final int plotHeight) {
+        final double start = curve.start();
+        final double end = curve.end();
+        final double step = tickStep(end - start, plotWidth);
+        final double scale = plotWidth / (end - start);
+        g.setFont(LABEL_FONT);
+        final FontMetrics metrics = g.getFontMetrics();
+        final double first = Math.ceil(start / step) * step;
+        for (int i = 0; first + i * step <= end && i <= plotWidth; i++) {
+            final double tick = first + i * step;
+            final int x = (int) Math.round(LEFT + (tick - start) * scale);
+            g.setColor(GRID);
+            g.drawLine(x, TOP, x, TOP + plotHeight);
+            final String label = tickLabel(tick, step, curve.logX());
+            g.setColor(AXIS);
+            g.drawString(label, x - metrics.stringWidth(label) / 2, TOP + plotHeight + metrics.getAscent() + 4);
+        }
+        final String name = curve.varyExponent() ? "y" : "x";
+        g.drawString(name, LEFT + plotWidth / 2 - metrics.stringWidth(name) / 2,
+                TOP + plotHeight + 2 * metrics.getHeight() + 4);
+    }
+
+    private static void drawVerticalAxis(final Graphics2D g, final PlotSampler.Curve curve,
+                                         final int plotWidth, final int plotHeight) {
+        final double lower = curve.lower();
+        final double upper = curve.upper();
+        // Halving avoids an infinite span for curves covering most of the double range
+        final double half = 0.5 * upper - 0.5 * lower;
+        final double step = 2 * tickStep(half, plotHeight);
+        g.setFont(LABEL_FONT);
+        final FontMetrics metrics = g.getFontMetrics();
+        final double first = Math.ceil(lower / step) * step;
+        for (int i = 0; first + i * step <= upper && i <= plotHeight; i++) {
+            final double tick = first + i * step;
+            final int y = (int) Math.round(yPixel(tick, upper, half, plotHeight));
+            g.setColor(GRID);
+            g.drawLine(LEFT, y, LEFT + plotWidth, y);
+            final String label = tickLabel(tick, step, curve.logY());
+            g.setColor(AXIS);
+            g.drawString(label, LEFT - metrics.stringWidth(label) - 6, y + metrics.getAscent() / 2 - 1);
+        }
+    }
+
+    /**
+     * Returns a tick spacing of 1, 2 or 5 times a power of ten, giving roughly one tick every
+     * {@value #TICK_SPACING_PIXELS} pixels.
+     *
+     * @param span the axis span
+     * @param pixels the axis length in pixels
+     * @return the tick spacing
+     */
+    static double tickStep(final double span, final int pixels) {
+        final double raw = span / Math.max(1, pixels / TICK_SPACING_PIXELS);
+        final double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        final double normalized = raw / magnitude;
+        if (normalized < 1.5) {
+            return magnitude;
+        } else if (normalized < 3.5) {
+            return 2 * magnitude;
+        } else if (normalized < 7.5) {
+            return 5 * magnitude;
+        }
+        return 10 * magnitude;
+    }
+
+    /**
+     * Formats a tick label.
+     *
+     * @param tick the axis position
+     * @param step the tick spacing
+     * @param log whether the axis is logarithmic, where positions are log10 of the labelled values
+     * @return the label
+     */
+    static String tickLabel(final double tick, final double step, final boolean log) {
+        if (log) {
+            if (step >= 1) {
+                final long decade = Math.round(tick);
+                return (decade == 0) ? "1" : "1e" + decade;
+            }
+            return String.format(Locale.ROOT, "%.3g", Math.pow(10, tick));
+        }
+        final double value = (Math.abs(tick) < step * 1e-9) ? 0 : tick;
+        final double magnitude = Math.abs(value);
+        if (magnitude >= 1e6 || (magnitude < 1e-3 && value != 0)) {
+            return String.format(Locale.ROOT, "%.3g", value);
+        }
+        final int decimals = Math.max(0, (int) -Math.floor(Math.log10(step)));
+        return String.format(Locale.ROOT, "%." + decimals + "f", value);
+    }
+
+    /**
+     * Returns the vertical pixel of an axis position, computed with halves so that curves
+     * covering most of the double range do not overflow.
+     *
+     * @param value the vertical axis position
+     * @param upper the position of the top edge
+     * @param half half the span of the vertical axis
+     * @param plotHeight the height of the plot area
+     * @return the pixel row
+     */
+    private static double yPixel(final double value, final double upper, final double half, final int plotHeight) {
+        return TOP + (0.5 * upper - 0.5 * value) / half * plotHeight;
+    }
+
+    private static double clamp(final double y, final int plotHeight) {
+        return Math.max(TOP - CLAMP_PIXELS, Math.min(TOP + plotHeight + CLAMP_PIXELS, y));
+    }
+}
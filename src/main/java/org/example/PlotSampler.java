@@ -0,0 +1,477 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * PlotSampler - Adaptive sampling of x^y along one variable for plotting.
+ *
+ * A curve is either y &#8614; x^y for a fixed base or x &#8614; x^y for a fixed exponent, over a
+ * range of the varying value on a linear or logarithmic horizontal axis, with the result on a
+ * linear or logarithmic vertical axis. Sampling starts with one point every
+ * {@value #INITIAL_STEP_PIXELS} pixels and then halves, round after round, every interval whose
+ * midpoint is more than a quarter of a pixel away from the straight line between its ends, or
+ * where the result changes kind: from finite to infinite or NaN, to zero, or in sign. Intervals
+ * are not split below a quarter of a pixel, so overflow and underflow boundaries are located to
+ * within that, and the sample count is capped at {@value #MAX_SAMPLES_PER_PIXEL} per pixel.
+ * The midpoints of each round are computed together with the {@link VectorizedPowerEngine}.
+ * Sampling checks for interruption once per round, so a superseded plot stops early.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class PlotSampler {
+
+    // Spacing of the initial samples, the finest spacing, and the allowed deviation, in pixels
+    static final int INITIAL_STEP_PIXELS = 4;
+    static final double MIN_STEP_PIXELS = 0.25;
+    private static final double TOLERANCE_PIXELS = 0.25;
+    static final int MAX_SAMPLES_PER_PIXEL = 16;
+
+    // Outliers further than this share of the central span beyond it do not stretch the value axis
+    private static final double OUTLIER_SHARE = 0.5;
+    private static final double MARGIN_SHARE = 0.05;
+
+    // Kinds of results; a change of kind inside an interval always splits it
+    private static final int KIND_NAN = 0;
+    private static final int KIND_POSITIVE_INFINITY = 1;
+    private static final int KIND_NEGATIVE_INFINITY = 2;
+    private static final int KIND_ZERO = 3;
+    private static final int KIND_POSITIVE = 4;
+    private static final int KIND_NEGATIVE = 5;
+
+    private PlotSampler() {
+        // Utility class
+    }
+
+    /**
+     * Samples a curve.
+     *
+     * @param varyExponent true for y &#8614; x^y with {@code fixed} as the base, false for
+     *                     x &#8614; x^y with {@code fixed} as the exponent
+     * @param fixed the fixed base or exponent
+     * @param from the first value of the varying base or exponent
+     * @param to the last value, greater than {@code from}
+     * @param logX whether the horizontal axis is logarithmic, which requires {@code from > 0}
+     * @param logY whether the vertical axis shows log10 of the results, which leaves gaps where
+     *             results are not positive
+     * @param width the width of the plot area in pixels
+     * @param height the height of the plot area in pixels
+     * @return the samples, in increasing order of the varying value
+     * @throws IllegalArgumentException if the range or the size is invalid
+     * @throws CancellationException if the thread is interrupted while sampling
+     */
+    static Curve sample(final boolean varyExponent, final double fixed, final double from, final double to,
+                        final boolean logX, final boolean logY, final int width, final int height) {
+        if (!(from < to) || Double.isInfinite(from) || Double.isInfinite(to)) {
+            throw new IllegalArgumentException("The range must be finite and increasing");
+        }
+        if (logX && from <= 0) {
+            throw new IllegalArgumentException("A logarithmic axis needs a positive range");
+        }
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Empty plot area");
+        }
+        final double start = logX ? Math.log10(from) : from;
+        final double end = logX ? Math.log10(to) : to;
+
+        int count = Math.max(17, width / INITIAL_STEP_PIXELS + 1);
+        double[] positions = new double[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = start + (end - start) * i / (count - 1);
+        }
+        positions[count - 1] = end;
+        double[] params = new double[count];
+        for (int i = 0; i < count; i++) {
+            params[i] = param(positions[i], logX);
+        }
+        params[0] = from;
+        params[count - 1] = to;
+        if (varyExponent && fixed < 0 && Math.floor(to) - Math.ceil(from) < width) {
+            // A negative base only has real powers at integer exponents, which even spacing would miss
+            final double[][] merged = withIntegers(positions, params, count, from, to, logX);
+            positions = merged[0];
+            params = merged[1];
+            count = positions.length;
+        }
+        double[] values = new double[count];
+        evaluate(varyExponent, fixed, params, count, values);
+        double[] plotValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            plotValues[i] = plotValue(values[i], logY);
+        }
+        final double[] range = valueRange(plotValues, count);
+        final double tolerance = (0.5 * range[1] - 0.5 * range[0]) / height * (2 * TOLERANCE_PIXELS);
+        final double minStep = (end - start) / width * MIN_STEP_PIXELS;
+        final int maxSamples = width * MAX_SAMPLES_PER_PIXEL;
+
+        // open[i]: the interval between samples i and i + 1 may still need splitting
+        boolean[] open = new boolean[count - 1];
+        Arrays.fill(open, true);
+        double[] midPositions = new double[count];
+        double[] midParams = new double[count];
+        double[] midValues = new double[count];
+        while (true) {
+            checkInterrupted();
+            int splits = 0;
+            for (int i = 0; i < count - 1; i++) {
+                if (open[i] && positions[i + 1] - positions[i] > minStep) {
+                    splits++;
+                } else {
+                    open[i] = false;
+                }
+            }
+            if (splits == 0 || count + splits > maxSamples) {
+                break;
+            }
+            if (midPositions.length < splits) {
+                midPositions = new double[2 * splits];
+                midParams = new double[2 * splits];
+                midValues = new double[2 * splits];
+            }
+            int m = 0;
+            for (int i = 0; i < count - 1; i++) {
+                if (open[i]) {
+                    midPositions[m] = 0.5 * (positions[i] + positions[i + 1]);
+                    midParams[m] = param(midPositions[m], logX);
+                    m++;
+                }
+            }
+            evaluate(varyExponent, fixed, midParams, splits, midValues);
+
+            final int merged = count + splits;
+            final double[] newPositions = new double[merged];
+            final double[] newParams = new double[merged];
+            final double[] newValues = new double[merged];
+            final double[] newPlotValues = new double[merged];
+            final boolean[] newOpen = new boolean[merged - 1];
+            int k = 0;
+            m = 0;
+            for (int i = 0; i < count; i++) {
+                newPositions[k] = positions[i];
+                newParams[k] = params[i];
+                newValues[k] = values[i];
+                newPlotValues[k] = plotValues[i];
+                k++;
+                if (i < count - 1 && open[i]) {
+                    final double mid = midValues[m];
+                    final double midPlot = plotValue(mid, logY);
+                    final double chord = 0.5 * plotValues[i] + 0.5 * plotValues[i + 1];
+                    final boolean bends = Math.abs(midPlot - chord) > tolerance;
+                    newOpen[k - 1] = bends || kind(values[i]) != kind(mid);
+                    newOpen[k] = bends || kind(mid) != kind(values[i + 1]);
+                    newPositions[k] = midPositions[m];
+                    newParams[k] = midParams[m];
+                    newValues[k] = mid;
+                    newPlotValues[k] = midPlot;
+                    k++;
+                    m++;
+                }
+            }
+            positions = newPositions;
+            params = newParams;
+            values = newValues;
+            plotValues = newPlotValues;
+            open = newOpen;
+            count = merged;
+        }
+        return new Curve(varyExponent, logX, logY, start, end, range[0], range[1],
+                positions, params, values, plotValues, count);
+    }
+
+    /**
+     * Stops a superseded plot, clearing the interrupt.
+     *
+     * @throws CancellationException if the current thread was interrupted
+     */
+    static void checkInterrupted() {
+        if (Thread.interrupted()) {
+            throw new CancellationException("Plot superseded");
+        }
+    }
+
+    /**
+     * Adds the integers of a range to sorted samples.
+     *
+     * @param positions the horizontal axis positions of the samples
+     * @param params the varying values of the samples, increasing
+     * @param count the number of samples
+     * @param from the start of the range
+     * @param to the end of the range
+     * @param logX whether the horizontal axis is logarithmic
+     * @return the merged positions and values, without duplicates
+     */
+    private static double[][] withIntegers(final double[] positions, final double[] params, final int count,
+                                           final double from, final double to, final boolean logX) {
+        final double first = Math.ceil(from);
+        final int integers = (int) (Math.floor(to) - first) + 1;
+        final double[] mergedPositions = new double[count + integers];
+        final double[] mergedParams = new double[count + integers];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < count || j < integers) {
+            final double integer = first + j;
+            if (j == integers || (i < count && params[i] < integer)) {
+                mergedPositions[n] = positions[i];
+                mergedParams[n++] = params[i++];
+            } else {
+                if (i < count && params[i] == integer) {
+                    i++;
+                }
+                mergedPositions[n] = logX ? Math.log10(integer) : integer;
+                mergedParams[n++] = integer;
+                j++;
+            }
+        }
+        return new double[][] {Arrays.copyOf(mergedPositions, n), Arrays.copyOf(mergedParams, n)};
+    }
+
+    /**
+     * Computes the results of a batch of samples.
+     *
+     * @param varyExponent whether the parameters are exponents
+     * @param fixed the fixed base or exponent
+     * @param params the varying bases or exponents
+     * @param count the number of samples
+     * @param out the destination of the results
+     */
+    private static void evaluate(final boolean varyExponent, final double fixed, final double[] params,
+                                 final int count, final double[] out) {
+        if (varyExponent) {
+            VectorizedPowerEngine.computeAll(fixed, params, 0, out, 0, count);
+        } else {
+            VectorizedPowerEngine.computeAll(params, 0, fixed, out, 0, count);
+        }
+    }
+
+    /**
+     * Converts a horizontal axis position to the varying value.
+     *
+     * @param position the position, the value itself or its log10
+     * @param logX whether the axis is logarithmic
+     * @return the varying value
+     */
+    static double param(final double position, final boolean logX) {
+        return logX ? Math.pow(10, position) : position;
+    }
+
+    /**
+     * Converts a result to its vertical axis position.
+     *
+     * @param value the result
+     * @param logY whether the axis is logarithmic
+     * @return the position, NaN where the result cannot be plotted
+     */
+    static double plotValue(final double value, final boolean logY) {
+        if (logY) {
+            return (value > 0 && value < Double.POSITIVE_INFINITY) ? Math.log10(value) : Double.NaN;
+        }
+        return Double.isInfinite(value) ? Double.NaN : value;
+    }
+
+    /**
+     * Returns the kind of a result.
+     *
+     * @param value the result
+     * @return one of the KIND constants
+     */
+    private static int kind(final double value) {
+        if (Double.isNaN(value)) {
+            return KIND_NAN;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            return KIND_POSITIVE_INFINITY;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            return KIND_NEGATIVE_INFINITY;
+        } else if (value == 0) {
+            return KIND_ZERO;
+        }
+        return (value > 0) ? KIND_POSITIVE : KIND_NEGATIVE;
+    }
+
+    /**
+     * Chooses the vertical range of the plot from evenly spaced samples. Values beyond the 1st
+     * and 99th percentiles are only included if they do not squash the rest of the curve.
+     *
+     * @param plotValues the vertical positions, NaN for gaps
+     * @param count the number of samples
+     * @return the lower and upper bounds, with a margin
+     */
+    private static double[] valueRange(final double[] plotValues, final int count) {
+        final double[] finite = new double[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (!Double.isNaN(plotValues[i])) {
+                finite[n++] = plotValues[i];
+            }
+        }
+        if (n == 0) {
+            return new double[] {-1, 1};
+        }
+        Arrays.sort(finite, 0, n);
+        final double low = finite[(n - 1) / 100];
+        final double high = finite[(n - 1) - (n - 1) / 100];
+        final double central = high - low;
+        double lower = (low - finite[0] > OUTLIER_SHARE * central) ? low : finite[0];
+        double upper = (finite[n - 1] - high > OUTLIER_SHARE * central) ? high : finite[n - 1];
+        final double span = upper - lower;
+        if (Double.isInfinite(span)) {
+            // The curve spans most of the double range; a margin would overflow
+            return new double[] {lower, upper};
+        }
+        if (!(span > Math.ulp(upper) * 16)) {
+            // A flat curve
+            final double half = Math.max(1, Math.abs(upper) * 0.1);
+            return new double[] {upper - half, upper + half};
+        }
+        return new double[] {lower - MARGIN_SHARE * span, upper + MARGIN_SHARE * span};
+    }
+
+    /**
+     * Samples of x^y along one variable, with the axes they are plotted on.
+     */
+    static final class Curve {
+        private final boolean varyExponent;
+        private final boolean logX;
+        private final boolean logY;
+        private final double start;
+        private final double end;
+        private final double lower;
+        private final double upper;
+        private final double[] positions;
+        private final double[] params;
+        private final double[] values;
+        private final double[] plotValues;
+        private final int count;
+
+        private Curve(final boolean varyExponent, final boolean logX, final boolean logY,
+                      final double start, final double end, final double lower, final double upper,
+                      final double[] positions, final double[] params, final double[] values,
+                      final double[] plotValues, final int count) {
+            this.varyExponent = varyExponent;
+            this.logX = logX;
+            this.logY = logY;
+            this.start = start;
+            this.end = end;
+            this.lower = lower;
+            this.upper = upper;
+            this.positions = positions;
+            this.params = params;
+            this.values = values;
+            this.plotValues = plotValues;
+            this.count = count;
+        }
+
+        /**
+         * Returns whether the exponent varies.
+         *
+         * @return true if the exponent varies, false if the base varies
+         */
+        boolean varyExponent() {
+            return varyExponent;
+        }
+
+        /**
+         * Returns whether the horizontal axis is logarithmic.
+         *
+         * @return true for a log10 axis
+         */
+        boolean logX() {
+            return logX;
+        }
+
+        /**
+         * Returns whether the vertical axis is logarithmic.
+         *
+         * @return true for a log10 axis
+         */
+        boolean logY() {
+            return logY;
+        }
+
+        /**
+         * Returns the horizontal axis position of the left edge.
+         *
+         * @return the position
+         */
+        double start() {
+            return start;
+        }
+
+        /**
+         * Returns the horizontal axis position of the right edge.
+         *
+         * @return the position
+         */
+        double end() {
+            return end;
+        }
+
+        /**
+         * Returns the vertical axis position of the bottom edge.
+         *
+         * @return the position
+         */
+        double lower() {
+            return lower;
+        }
+
+        /**
+         * Returns the vertical axis position of the top edge.
+         *
+         * @return the position
+         */
+        double upper() {
+            return upper;
+        }
+
+        /**
+         * Returns the number of samples.
+         *
+         * @return the number of samples
+         */
+        int count() {
+            return count;
+        }
+
+        /**
+         * Returns the horizontal axis position of a sample.
+         *
+         * @param i the sample index
+         * @return the position
+         */
+        double position(final int i) {
+            return positions[i];
+        }
+
+        /**
+         * Returns the varying base or exponent of a sample.
+         *
+         * @param i the sample index
+         * @return the base or exponent
+         */
+        double param(final int i) {
+            return params[i];
+        }
+
+        /**
+         * Returns the result x^y of a sample.
+         *
+         * @param i the sample index
+         * @return the result
+         */
+        double value(final int i) {
+            return values[i];
+        }
+
+        /**
+         * Returns the vertical axis position of a sample.
+         *
+         * @param i the sample index
+         * @return the position, NaN for a gap
+         */
+        double plotValue(final int i) {
+            return plotValues[i];
+        }
+    }
+}
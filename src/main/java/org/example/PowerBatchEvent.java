@@ -0,0 +1,65 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * PowerBatchEvent - Flight Recorder event for one batch call of a power engine.
+ *
+ * The event spans the whole call, so its duration is the batch time. The special values are only
+ * counted when the event is recorded, by one pass over the results after the batch.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@Name("org.example.PowerBatch")
+@Label("Power Batch")
+@Category({"Power Calculator", "Engine"})
+@Description("One batch call of PowerCalculatorEngine, VectorizedPowerEngine or ParallelPowerEngine")
+final class PowerBatchEvent extends Event {
+
+    @Label("Engine")
+    @Description("scalar, vectorized or parallel")
+    String engine;
+
+    @Label("Precision Mode")
+    String mode;
+
+    @Label("Elements")
+    int count;
+
+    @Label("Special Values")
+    @Description("Results that are NaN, infinite or zero")
+    int specialCount;
+
+    /**
+     * Ends the event and records it if it is enabled and above its threshold.
+     *
+     * @param engineName the engine that computed the batch
+     * @param precisionMode the precision mode of the batch
+     * @param out the destination of the batch
+     * @param outOffset index of the first result
+     * @param length number of results
+     */
+    void finish(final String engineName, final PrecisionMode precisionMode, final double[] out,
+                final int outOffset, final int length) {
+        end();
+        if (shouldCommit()) {
+            engine = engineName;
+            mode = precisionMode.name();
+            count = length;
+            int special = 0;
+            for (int i = outOffset; i < outOffset + length; i++) {
+                final double magnitude = Math.abs(out[i]);
+                if (!(magnitude > 0.0 && magnitude <= Double.MAX_VALUE)) {
+                    special++;
+                }
+            }
+            specialCount = special;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package org.example;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * PowerBranchCounters - Optional counts of the paths taken by {@link PowerCalculatorEngine#compute(double, double)}.
+ *
+ * Counting is enabled by starting the JVM with {@code -D}{@value #ENABLED_PROPERTY}{@code =true}.
+ * The switch is read once into a static final field, so when counting is disabled the JIT folds
+ * every {@link #increment(Branch)} in the engine away and the engine runs unchanged. When enabled,
+ * each branch has its own LongAdder, whose striped cells keep concurrent callers from contending
+ * on one counter, and the counts are published as the MXBean {@value #OBJECT_NAME} when the
+ * runtime includes the java.management module. Without it, as in the quick image, counting works
+ * the same and only the MXBean is missing.
+ *
+ * Every call counts exactly one exit branch, so the exit counts add up to the number of calls;
+ * {@link Branch#SUBNORMAL_X}, {@link Branch#OVERFLOW} and {@link Branch#UNDERFLOW} are counted in
+ * addition to the exit. Calls that other precision modes delegate to compute(x, y) are included.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class PowerBranchCounters {
+
+    /** System property that enables counting. */
+    public static final String ENABLED_PROPERTY = "org.example.branchCounters";
+
+    /** Name under which the counters are registered with the platform MBean server. */
+    public static final String OBJECT_NAME = "org.example:type=PowerBranchCounters";
+
+    // Read once, so that the JIT treats it as a constant
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Paths through compute(x, y).
+     */
+    public enum Branch {
+        /** y == 0, including NaN^0. */
+        Y_ZERO(true),
+        /** x or y is NaN. */
+        NAN(true),
+        /** y == 2, computed as x * x. */
+        Y_TWO(true),
+        /** y == 0.5, computed as a square root. */
+        Y_HALF(true),
+        /** y == 1 or y == -1. */
+        Y_ONE(true),
+        /** y is infinite. */
+        Y_INFINITE(true),
+        /** x is 0, 1 or infinite. */
+        X_SPECIAL(true),
+        /** x < 0 and y is not an integer. */
+        NEGATIVE_NON_INTEGER(true),
+        /** Integer y with |y| < 64, including its early overflow and underflow exits. */
+        INTEGER_EXPONENT(true),
+        /** |y| > 2^31, where |x|^y saturates unless x is within 2^-20 of 1. */
+        HUGE_Y(true),
+        /** The logarithm and exponential stages. */
+        GENERAL(true),
+        /** x is subnormal and was rescaled by 2^53; in addition to GENERAL. */
+        SUBNORMAL_X(false),
+        /** The result overflowed to infinity; in addition to the exit. */
+        OVERFLOW(false),
+        /** The result underflowed to zero; in addition to the exit. */
+        UNDERFLOW(false);
+
+        private final boolean exit;
+
+        Branch(final boolean exit) {
+            this.exit = exit;
+        }
+
+        /**
+         * Returns whether every call that takes this branch counts it as its only exit.
+         *
+         * @return true for exit branches, false for branches counted in addition to an exit
+         */
+        public boolean isExit() {
+            return exit;
+        }
+    }
+
+    /**
+     * Management interface of the counters.
+     */
+    public interface CountersMXBean {
+
+        /**
+         * Returns whether counting is enabled.
+         *
+         * @return the value of {@value PowerBranchCounters#ENABLED_PROPERTY}
+         */
+        boolean isEnabled();
+
+        /**
+         * Returns the count of every branch, in declaration order.
+         *
+         * @return the counts by branch name
+         */
+        Map<String, Long> getCounts();
+
+        /**
+         * Returns the number of counted calls.
+         *
+         * @return the sum of the exit branch counts
+         */
+        long getCallCount();
+
+        /**
+         * Sets every count to zero.
+         */
+        void reset();
+    }
+
+    private static final Branch[] BRANCHES = Branch.values();
+    private static final LongAdder[] COUNTS = new LongAdder[BRANCHES.length];
+
+    static {
+        for (int i = 0; i < COUNTS.length; i++) {
+            COUNTS[i] = new LongAdder();
+        }
+        if (ENABLED && ModuleLayer.boot().findModule("java.management").isPresent()) {
+            Counters.registerPlatform();
+        }
+    }
+
+    private PowerBranchCounters() {
+        // Utility class
+    }
+
+    /**
+     * Counts one pass through a branch if counting is enabled.
+     *
+     * @param branch the branch taken
+     */
+    static void increment(final Branch branch) {
+        if (ENABLED) {
+            COUNTS[branch.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts an overflowed or underflowed result if counting is enabled.
+     *
+     * @param result |x|^y, before its sign is applied
+     */
+    static void countLimit(final double result) {
+        if (ENABLED) {
+            if (result == Double.POSITIVE_INFINITY) {
+                COUNTS[Branch.OVERFLOW.ordinal()].increment();
+            } else if (result == 0.0) {
+                COUNTS[Branch.UNDERFLOW.ordinal()].increment();
+            }
+        }
+    }
+
+    /**
+     * Returns whether counting is enabled.
+     *
+     * @return the value of the {@value #ENABLED_PROPERTY} system property at startup
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the number of passes through a branch.
+     *
+     * @param branch the branch
+     * @return its count, or 0 when counting is disabled
+     */
+    public static long count(final Branch branch) {
+        return COUNTS[branch.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of counted calls.
+     *
+     * @return the sum of the exit branch counts
+     */
+    public static long callCount() {
+        long calls = 0;
+        for (Branch branch : BRANCHES) {
+            if (branch.isExit()) {
+                calls += count(branch);
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Returns the count of every branch. Concurrent calls may be partly included.
+     *
+     * @return the counts by branch
+     */
+    public static Map<Branch, Long> snapshot() {
+        final Map<Branch, Long> counts = new EnumMap<>(Branch.class);
+        for (Branch branch : BRANCHES) {
+            counts.put(branch, count(branch));
+        }
+        return counts;
+    }
+
+    /**
+     * Sets every count to zero.
+     */
+    public static void resetCounts() {
+        for (LongAdder count : COUNTS) {
+            count.reset();
+        }
+    }
+
+    /**
+     * Registers the counters under {@value #OBJECT_NAME}. This happens automatically with the
+     * platform MBean server when counting is enabled; registering twice has no effect.
+     *
+     * @param server the MBean server
+     * @throws IllegalStateException if the server rejects the MXBean
+     */
+    public static void register(final MBeanServer server) {
+        Counters.register(server);
+    }
+
+    /**
+     * The MXBean, a view of the static counters.
+     *
+     * The java.management types are only referenced here, and this class is only loaded once the
+     * module is known to be present, so that counting does not fail on a runtime linked with
+     * java.base alone, such as the quick image.
+     */
+    private static final class Counters implements CountersMXBean {
+
+        static void registerPlatform() {
+            register(ManagementFactory.getPlatformMBeanServer());
+        }
+
+        static void register(final MBeanServer server) {
+            try {
+                server.registerMBean(new Counters(), new ObjectName(OBJECT_NAME));
+            } catch (InstanceAlreadyExistsException ex) {
+                // Already published
+            } catch (JMException ex) {
+                throw new IllegalStateException("Cannot register " + OBJECT_NAME, ex);
+            }
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            final Map<String, Long> counts = new LinkedHashMap<>();
+            for (Branch branch : BRANCHES) {
+                counts.put(branch.name(), count(branch));
+            }
+            return counts;
+        }
+
+        @Override
+        public long getCallCount() {
+            return callCount();
+        }
+
+        @Override
+        public void reset() {
+            resetCounts();
+        }
+    }
+}
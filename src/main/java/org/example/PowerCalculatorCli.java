@@ -0,0 +1,343 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PowerCalculatorCli - Headless, streaming command-line front end.
+ *
+ * Each input line holds a base and an exponent separated by whitespace or a comma, as in
+ * {@code 2 10} or {@code 2.5,-3}; blank lines and lines starting with {@code #} are skipped.
+ * Every other line produces exactly one output line: the result for a finite x^y, or the result
+ * and the {@link ResultCategory} title separated by a tab, as in {@code NaN\tComplex Number Result}.
+ *
+ * Input is read and output written in batches of {@value #BATCH_LINES} lines through 64 KiB
+ * buffered readers and writers over the streams, so memory stays bounded whatever the input size.
+ * Readers over NIO channels are not used: they cannot tell whether more input is ready without
+ * blocking, which the interactive flushing below depends on. With {@code --threads N} batches are
+ * computed by N worker threads and written in input order; at most 2N batches are in flight.
+ * Results are written in their shortest round-trip form by {@link DoubleFormatter}.
+ * Output is flushed whenever the input has no more data ready, so interactive use stays responsive.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class PowerCalculatorCli {
+
+    // Lines per batch, and the size of the read and write buffers
+    static final int BATCH_LINES = 4096;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Parsed pair of the current line, per thread
+    private static final ThreadLocal<double[]> PAIR = new ThreadLocal<>() {
+        @Override
+        protected double[] initialValue() {
+            return new double[2];
+        }
+    };
+
+    private static final String USAGE = "Usage: --cli [--threads N] [input-file]\n"
+            + "Reads 'x y' or 'x,y' lines from the file or standard input and writes x^y per line.";
+
+    private PowerCalculatorCli() {
+        // Utility class
+    }
+
+    /**
+     * Runs the command line with the process streams and exits with its status.
+     *
+     * @param args the arguments after {@code --cli}
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the command line.
+     *
+     * @param args the arguments after {@code --cli}
+     * @param in the standard input, read when no file is given
+     * @param out the destination of the results
+     * @param err the destination of usage and I/O error messages
+     * @return 0 on success, 1 on an I/O error, 2 on invalid arguments
+     */
+    public static int run(final String[] args, final InputStream in, final OutputStream out, final PrintStream err) {
+        int threads = 1;
+        Path file = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                    threads = Integer.parseInt(args[++i]);
+                    if (threads < 1) {
+                        throw new IllegalArgumentException("--threads must be positive");
+                    }
+                } else if (args[i].startsWith("-") || file != null) {
+                    throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                } else {
+                    file = Path.of(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                (file == null) ? in : Files.newInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            if (threads == 1) {
+                process(reader, writer);
+            } else {
+                process(reader, writer, threads);
+            }
+            writer.flush();
+            return 0;
+        } catch (NoSuchFileException ex) {
+            err.println("Input file not found: " + ex.getFile());
+            return 1;
+        } catch (IOException ex) {
+            err.println("I/O error: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Computes every line in the calling thread.
+     *
+     * @param reader the input lines
+     * @param writer the destination of the results
+     * @throws IOException if reading or writing fails
+     */
+    static void process(final BufferedReader reader, final Writer writer) throws IOException {
+        final StringBuilder output = new StringBuilder(BUFFER_SIZE);
+        final String[] batch = new String[BATCH_LINES];
+        int count;
+        while ((count = readBatch(reader, batch)) > 0) {
+            output.setLength(0);
+            appendBatch(batch, count, output);
+            writer.append(output);
+            if (!reader.ready()) {
+                writer.flush();
+            }
+        }
+    }
+
+    /**
+     * Computes batches of lines on worker threads and writes them in input order.
+     *
+     * @param reader the input lines
+     * @param writer the destination of the results
+     * @param threads the number of worker threads
+     * @throws IOException if reading or writing fails
+     */
+    static void process(final BufferedReader reader, final Writer writer, final int threads) throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "power-cli-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final ArrayDeque<Future<StringBuilder>> pending = new ArrayDeque<>();
+        try {
+            while (true) {
+                final String[] batch = new String[BATCH_LINES];
+                final int count = readBatch(reader, batch);
+                if (count == 0) {
+                    break;
+                }
+                pending.add(executor.submit(() -> {
+                    final StringBuilder output = new StringBuilder(BUFFER_SIZE);
+                    appendBatch(batch, count, output);
+                    return output;
+                }));
+                // Keep the pool busy but bound the number of batches held in memory
+                while (pending.size() >= 2 * threads || (!pending.isEmpty() && pending.peek().isDone())) {
+                    writer.append(await(pending.remove()));
+                }
+                if (!reader.ready()) {
+                    while (!pending.isEmpty()) {
+                        writer.append(await(pending.remove()));
+                    }
+                    writer.flush();
+                }
+            }
+            while (!pending.isEmpty()) {
+                writer.append(await(pending.remove()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for a batch to be computed.
+     *
+     * @param future the pending batch
+     * @return the output of the batch
+     * @throws IOException if the computation failed or the thread was interrupted
+     */
+    private static StringBuilder await(final Future<StringBuilder> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for results", ex);
+        } catch (ExecutionException ex) {
+            throw new IOException("Calculation failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Reads up to one batch of lines.
+     *
+     * @param reader the input lines
+     * @param batch the destination of the lines
+     * @return the number of lines read, 0 at the end of the input
+     * @throws IOException if reading fails
+     */
+    private static int readBatch(final BufferedReader reader, final String[] batch) throws IOException {
+        int count = 0;
+        String line;
+        while (count < batch.length && (line = reader.readLine()) != null) {
+            batch[count++] = line;
+            if (!reader.ready()) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes the output lines of a batch.
+     *
+     * @param batch the input lines
+     * @param count the number of lines in the batch
+     * @param output the destination of the output lines
+     */
+    private static void appendBatch(final String[] batch, final int count, final StringBuilder output) {
+        for (int i = 0; i < count; i++) {
+            appendLine(batch[i], output);
+        }
+    }
+
+    /**
+     * Parses one input line and appends its output line, if any.
+     *
+     * @param line the input line
+     * @param output the destination of the output line
+     */
+    static void appendLine(final String line, final StringBuilder output) {
+        final double[] pair = PAIR.get();
+        final ResultCategory parsed = parseLine(line, pair);
+        if (parsed == null) {
+            return;
+        }
+        if (parsed.isError()) {
+            appendError(output, Double.NaN, parsed);
+            return;
+        }
+        final double x = pair[0];
+        final double y = pair[1];
+        final double result = PowerCalculatorEngine.compute(x, y);
+        final ResultCategory category = ResultCategory.classify(x, y, result);
+        if (category.isError()) {
+            appendError(output, result, category);
+        } else {
+            DoubleFormatter.appendShortest(result, output).append('\n');
+        }
+    }
+
+    /**
+     * Parses the base and exponent of one input line.
+     *
+     * @param line the input line
+     * @param pair receives the base at index 0 and the exponent at index 1 if the line is valid
+     * @return null for a blank or comment line, {@link ResultCategory#SUCCESS} if the pair was parsed,
+     *         or {@link ResultCategory#MISSING_INPUT} or {@link ResultCategory#INVALID_INPUT}
+     */
+    static ResultCategory parseLine(final String line, final double[] pair) {
+        final int length = line.length();
+        int start = skipSpaces(line, 0);
+        if (start == length || line.charAt(start) == '#') {
+            return null;
+        }
+        int end = start;
+        while (end < length && !isSeparator(line.charAt(end))) {
+            end++;
+        }
+        final int baseStart = start;
+        final int baseEnd = end;
+        start = skipSpaces(line, end);
+        if (start < length && line.charAt(start) == ',') {
+            start = skipSpaces(line, start + 1);
+        }
+        end = start;
+        while (end < length && !isSeparator(line.charAt(end))) {
+            end++;
+        }
+        if (start == end || skipSpaces(line, end) != length) {
+            return (start == end) ? ResultCategory.MISSING_INPUT : ResultCategory.INVALID_INPUT;
+        }
+        try {
+            final double x = FastDoubleParser.parse(line, baseStart, baseEnd);
+            pair[1] = FastDoubleParser.parse(line, start, end);
+            pair[0] = x;
+        } catch (NumberFormatException ex) {
+            return ResultCategory.INVALID_INPUT;
+        }
+        return ResultCategory.SUCCESS;
+    }
+
+    /**
+     * Appends an output line that reports an error.
+     *
+     * @param output the destination
+     * @param result the result, NaN when nothing could be computed
+     * @param category the category of the error
+     */
+    private static void appendError(final StringBuilder output, final double result, final ResultCategory category) {
+        DoubleFormatter.appendShortest(result, output).append('\t').append(category.title()).append('\n');
+    }
+
+    /**
+     * Returns the index of the first non-blank character at or after {@code from}.
+     *
+     * @param line the input line
+     * @param from the index to start at
+     * @return the index, or the line length if the rest is blank
+     */
+    private static int skipSpaces(final String line, final int from) {
+        int i = from;
+        while (i < line.length() && (line.charAt(i) == ' ' || line.charAt(i) == '\t' || line.charAt(i) == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns whether a character ends a number.
+     *
+     * @param c the character
+     * @return true for blanks and commas
+     */
+    private static boolean isSeparator(final char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == ',';
+    }
+}
@@ -1,5 +1,10 @@
 package org.example;
 
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+import org.example.PowerBranchCounters.Branch;
+
 /**
  * PowerCalculatorEngine - Mathematical engine for power calculations.
  * 
@@ -15,6 +20,68 @@ public class PowerCalculatorEngine {
     private static final int SIGNIFICANT_BITS = 0x7fff_ffff;
     private static final double INFINITY_VALUE = Double.POSITIVE_INFINITY;
     
+    // Constants of the logarithm stage for |y| huge: 1/ln2 and its high/low split
+    static final double INV_LN2 = 0x1.7154_7652_b82fep0;
+    static final double INV_LN2_H = 0x1.715476p0;
+    static final double INV_LN2_L = 0x1.4ae0_bf85_ddf44p-26;
+    
+    // Constants of the logarithm stage: 2/(3 ln2) split high/low, the mantissa split points
+    // BP and log2(BP) split high/low
+    static final double CP = 0x1.ec70_9dc3_a03fdp-1;
+    static final double CP_H = 0x1.ec709ep-1;
+    static final double CP_L = -0x1.e2fe_0145_b01f5p-28;
+    static final double[] BP = {1.0, 1.5};
+    static final double[] DP_H = {0.0, 0x1.2b80_34p-1};
+    static final double[] DP_L = {0.0, 0x1.cfde_b43c_fd006p-27};
+    
+    // Polynomial coefficients for log((1+s)/(1-s)), s = (x - BP) / (x + BP)
+    static final double L1 = 0x1.3333_3333_33303p-1;
+    static final double L2 = 0x1.b6db_6db6_fabffp-2;
+    static final double L3 = 0x1.5555_5518_f264dp-2;
+    static final double L4 = 0x1.1746_0a91_d4101p-2;
+    static final double L5 = 0x1.d864_a93c_9db65p-3;
+    static final double L6 = 0x1.a7e2_84a4_54eefp-3;
+    
+    // Overflow threshold: -(1024 - log2(ovfl + .5ulp))
+    static final double OVT = 8.0085662595372944372e-0017;
+    
+    // Integer exponents below this magnitude use exponentiation by squaring; the Veltkamp
+    // constant splits a double into two 26-bit halves whose products are exact
+    static final double INTEGER_EXPONENT_LIMIT = 64.0;
+    private static final double SPLITTER = 0x1.0p27 + 1.0;
+    
+    // Polynomial coefficients for the exponential stage, and ln2 split high/low
+    static final double P1 = 0x1.5555_5555_5553ep-3;
+    static final double P2 = -0x1.6c16_c16b_ebd93p-9;
+    static final double P3 = 0x1.1566_aaf2_5de2cp-14;
+    static final double P4 = -0x1.bbd4_1c5d_26bf1p-20;
+    static final double P5 = 0x1.6376_972b_ea4d0p-25;
+    static final double LG2 = 0x1.62e4_2fef_a39efp-1;
+    static final double LG2_H = 0x1.62e43p-1;
+    static final double LG2_L = -0x1.05c6_10ca_86c39p-29;
+
+    // FAST mode: log2(BP), and minimax coefficients of log2((1+s)/(1-s)) / s in s^2 for
+    // |s| <= 0.1015 (relative error 2^-45.4) and of (2^f - 1) / f for |f| <= 0.5 (2^-32.5)
+    private static final double[] FAST_DP = {0.0, 0x1.2b80_3473_f7ad1p-1};
+    private static final double FAST_Q0 = 0x1.7154_7652_b8387p1;
+    private static final double FAST_Q1 = 0x1.ec70_9dc1_16853p-1;
+    private static final double FAST_Q2 = 0x1.2776_ccbe_5e33ap-1;
+    private static final double FAST_Q3 = 0x1.a607_1beb_74b7ep-2;
+    private static final double FAST_Q4 = 0x1.4f4f_e3ce_7a1d2p-2;
+    private static final double FAST_E1 = 0x1.62e4_2fef_95ec3p-1;
+    private static final double FAST_E2 = 0x1.ebfb_e045_f90e3p-3;
+    private static final double FAST_E3 = 0x1.c6b0_8dc5_e385bp-5;
+    private static final double FAST_E4 = 0x1.3b2a_1b6d_184afp-7;
+    private static final double FAST_E5 = 0x1.5d87_4c79_f5b2bp-10;
+    private static final double FAST_E6 = 0x1.4440_032b_0a64dp-13;
+    private static final double FAST_E7 = 0x1.00dc_4e5b_43f22p-16;
+
+    // STRICT mode: beyond |y ln|x|| = 1000 the result overflows or underflows for every x
+    private static final double STRICT_LIMIT = 1000.0;
+
+    // Engine name of the batch methods in their flight recorder events
+    private static final String BATCH_ENGINE = "scalar";
+
     /**
      * Calculates the low 32 bits of a double value.
      * 
@@ -69,6 +136,12 @@ public class PowerCalculatorEngine {
      * This method implements a sophisticated power calculation algorithm that handles
      * special cases, edge conditions, and provides high-precision results.
      * 
+     * Integer exponents with |y| < 64 are evaluated by exponentiation by squaring in
+     * double-double arithmetic, with overflow and underflow detected from the exponent of x
+     * before any multiplication.
+     * 
+     * The branches taken can be counted with {@link PowerBranchCounters}.
+     * 
      * @param x the base
      * @param y the exponent
      * @return x^y
@@ -80,6 +153,7 @@ public class PowerCalculatorEngine {
         
         // y == zero: x**0 = 1, except for NaN^0 which should be NaN
         if (y == 0.0) {
+            PowerBranchCounters.increment(Branch.Y_ZERO);
             if (Double.isNaN(x)) {
                 return Double.NaN;
             }
@@ -88,6 +162,7 @@ public class PowerCalculatorEngine {
         
         // +/-NaN return x + y to propagate NaN significands
         if (Double.isNaN(x) || Double.isNaN(y)) {
+            PowerBranchCounters.increment(Branch.NAN);
             return x + y;
         }
         
@@ -96,14 +171,18 @@ public class PowerCalculatorEngine {
         
         // Special values of y
         if (y == 2.0) {
+            PowerBranchCounters.increment(Branch.Y_TWO);
             return x * x;
         } else if (y == 0.5) {
             if (x >= -Double.MAX_VALUE) {
+                PowerBranchCounters.increment(Branch.Y_HALF);
                 return Math.sqrt(x + 0.0);
             }
         } else if (yAbs == 1.0) {
+            PowerBranchCounters.increment(Branch.Y_ONE);
             return (y == 1.0) ? x : 1.0 / x;
         } else if (yAbs == INFINITY_VALUE) {
+            PowerBranchCounters.increment(Branch.Y_INFINITE);
             if (xAbs == 1.0) {
                 return y - y;
             } else if (xAbs > 1.0) {
@@ -131,6 +210,7 @@ public class PowerCalculatorEngine {
         
         // Special value of x
         if (xAbs == 0.0 || xAbs == INFINITY_VALUE || xAbs == 1.0) {
+            PowerBranchCounters.increment(Branch.X_SPECIAL);
             z = xAbs;
             if (y < 0.0) {
                 // Handle 0^(-y) which should be NaN
@@ -153,6 +233,7 @@ public class PowerCalculatorEngine {
         
         // (x < 0)**(non-int) is NaN
         if ((n | yIsInt) == 0) {
+            PowerBranchCounters.increment(Branch.NEGATIVE_NON_INTEGER);
             return (x - x) / (x - x);
         }
         
@@ -161,37 +242,61 @@ public class PowerCalculatorEngine {
             s = -1.0;
         }
         
+        // Small integer exponents: exponentiation by squaring in double-double arithmetic
+        if (yAbs < INTEGER_EXPONENT_LIMIT && y == (int) y) {
+            final int m = (int) y;
+            final int e = Math.getExponent(xAbs);
+            
+            // |x|^m lies between 2^(e*m) and 2^((e+1)*m)
+            final int lowExponent = (m > 0) ? e * m : (e + 1) * m;
+            final int highExponent = (m > 0) ? (e + 1) * m : e * m;
+            if (lowExponent >= 1024) {
+                PowerBranchCounters.increment(Branch.INTEGER_EXPONENT);
+                PowerBranchCounters.countLimit(INFINITY_VALUE);
+                return s * INFINITY_VALUE;
+            }
+            if (highExponent <= -1075) {
+                PowerBranchCounters.increment(Branch.INTEGER_EXPONENT);
+                PowerBranchCounters.countLimit(0.0);
+                return s * 0.0;
+            }
+            if (Math.abs(m) * (e + 1) <= 996 && Math.abs(m) * e >= -916) {
+                PowerBranchCounters.increment(Branch.INTEGER_EXPONENT);
+                return s * integerPower(xAbs, m);
+            }
+        }
+        
         double pH, pL, t1, t2;
         
         // |y| is huge
         if (yAbs > 0x1.00000_ffff_ffffp31) {
-            final double INV_LN2 = 0x1.7154_7652_b82fep0;
-            final double INV_LN2_H = 0x1.715476p0;
-            final double INV_LN2_L = 0x1.4ae0_bf85_ddf44p-26;
-            
+            PowerBranchCounters.increment(Branch.HUGE_Y);
             if (xAbs < 0x1.fffff_0000_0000p-1) {
+                PowerBranchCounters.countLimit((y < 0.0) ? INFINITY_VALUE : 0.0);
                 return (y < 0.0) ? s * INFINITY_VALUE : s * 0.0;
             }
             if (xAbs > 0x1.00000_ffff_ffffp0) {
+                PowerBranchCounters.countLimit((y > 0.0) ? INFINITY_VALUE : 0.0);
                 return (y > 0.0) ? s * INFINITY_VALUE : s * 0.0;
             }
             
             t = xAbs - 1.0;
             w = (t * t) * (0.5 - t * (0.3333333333333333333333 - t * 0.25));
-            u = INV_LN2_H * t;
-            v = t * INV_LN2_L - w * INV_LN2;
+            // t can carry 33 bits, so only its high 21 bits go into u, where the product is exact
+            final double tH = calculateLow(t, 0);
+            u = INV_LN2_H * tH;
+            v = (t - tH) * INV_LN2_H + t * INV_LN2_L - w * INV_LN2;
             t1 = u + v;
             t1 = calculateLow(t1, 0);
             t2 = v - (t1 - u);
         } else {
-            final double CP = 0x1.ec70_9dc3_a03fdp-1;
-            final double CP_H = 0x1.ec709ep-1;
-            final double CP_L = -0x1.e2fe_0145_b01f5p-28;
             
             double zH, zL, ss, s2, sH, sL, tH, tL;
             n = 0;
+            PowerBranchCounters.increment(Branch.GENERAL);
             
             if (ix < 0x00100000) {
+                PowerBranchCounters.increment(Branch.SUBNORMAL_X);
                 xAbs *= 0x1.0p53;
                 n -= 53;
                 ix = calculateHigh(xAbs);
@@ -210,17 +315,6 @@ public class PowerCalculatorEngine {
             }
             xAbs = calculateHigh(xAbs, ix);
             
-            final double[] BP = {1.0, 1.5};
-            final double[] DP_H = {0.0, 0x1.2b80_34p-1};
-            final double[] DP_L = {0.0, 0x1.cfde_b43c_fd006p-27};
-            
-            final double L1 = 0x1.3333_3333_33303p-1;
-            final double L2 = 0x1.b6db_6db6_fabffp-2;
-            final double L3 = 0x1.5555_5518_f264dp-2;
-            final double L4 = 0x1.1746_0a91_d4101p-2;
-            final double L5 = 0x1.d864_a93c_9db65p-3;
-            final double L6 = 0x1.a7e2_84a4_54eefp-3;
-            
             u = xAbs - BP[k];
             v = 1.0 / (xAbs + BP[k]);
             ss = u * v;
@@ -250,6 +344,72 @@ public class PowerCalculatorEngine {
             t2 = zL - (((t1 - t) - DP_H[k]) - zH);
         }
         
+        z = exp2(t1, t2, y);
+        PowerBranchCounters.countLimit(z);
+        return s * z;
+    }
+
+    /**
+     * Computes x raised to the power of y with the given accuracy.
+     *
+     * {@link PrecisionMode#DEFAULT} is {@link #compute(double, double)}. {@link PrecisionMode#FAST}
+     * trades accuracy for speed, and {@link PrecisionMode#STRICT} and
+     * {@link PrecisionMode#CORRECTLY_ROUNDED} speed for accuracy; special values give identical
+     * results in every mode.
+     *
+     * One call in {@value PowerComputeEvent#SAMPLING_PERIOD} is recorded as a {@link PowerComputeEvent}.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param mode the precision mode
+     * @return x^y, within {@link PrecisionMode#ulpBound()} of the exact value
+     */
+    public static double compute(final double x, final double y, final PrecisionMode mode) {
+        if (PowerComputeEvent.sample()) {
+            final PowerComputeEvent event = new PowerComputeEvent();
+            event.begin();
+            final double result = computeMode(x, y, mode);
+            event.finish(x, y, result, mode);
+            return result;
+        }
+        return computeMode(x, y, mode);
+    }
+
+    /**
+     * Dispatches x^y to the implementation of a precision mode.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param mode the precision mode
+     * @return x^y in the given mode
+     */
+    private static double computeMode(final double x, final double y, final PrecisionMode mode) {
+        switch (mode) {
+            case FAST:
+                return computeFast(x, y);
+            case STRICT:
+                return computeStrict(x, y, false);
+            case CORRECTLY_ROUNDED:
+                return computeStrict(x, y, true);
+            default:
+                return compute(x, y);
+        }
+    }
+
+    /**
+     * Computes |x|^y = 2^(y * log2|x|) from the logarithm stage of {@link #compute(double, double)}.
+     * 
+     * Overflow and underflow are detected from y * log2|x|; the caller applies the sign.
+     * 
+     * @param t1 the high part of log2|x|, with its low 32 bits cleared
+     * @param t2 the low part of log2|x|
+     * @param y the exponent, finite and not handled by a special case
+     * @return |x|^y
+     */
+    private static double exp2(final double t1, final double t2, final double y) {
+        double z, r, t, u, v, w, pH, pL;
+        int i, j, k, n;
+        
         // Split up y into (y1 + y2) and compute (y1 + y2) * (t1 + t2)
         double y1 = y;
         y1 = calculateLow(y1, 0);
@@ -261,32 +421,22 @@ public class PowerCalculatorEngine {
         
         if (j >= 0x40900000) {
             if (((j - 0x40900000) | i) != 0) {
-                return s * INFINITY_VALUE;
+                return INFINITY_VALUE;
             } else {
-                final double OVT = 8.0085662595372944372e-0017;
                 if (pL + OVT > z - pH) {
-                    return s * INFINITY_VALUE;
+                    return INFINITY_VALUE;
                 }
             }
         } else if ((j & SIGNIFICANT_BITS) >= 0x4090cc00) {
             if (((j - 0xc090cc00) | i) != 0) {
-                return s * 0.0;
+                return 0.0;
             } else {
                 if (pL <= z - pH) {
-                    return s * 0.0;
+                    return 0.0;
                 }
             }
         }
         
-        final double P1 = 0x1.5555_5555_5553ep-3;
-        final double P2 = -0x1.6c16_c16b_ebd93p-9;
-        final double P3 = 0x1.1566_aaf2_5de2cp-14;
-        final double P4 = -0x1.bbd4_1c5d_26bf1p-20;
-        final double P5 = 0x1.6376_972b_ea4d0p-25;
-        final double LG2 = 0x1.62e4_2fef_a39efp-1;
-        final double LG2_H = 0x1.62e43p-1;
-        final double LG2_L = -0x1.05c6_10ca_86c39p-29;
-        
         i = j & SIGNIFICANT_BITS;
         k = (i >> 20) - 0x3ff;
         n = 0;
@@ -308,8 +458,8 @@ public class PowerCalculatorEngine {
         z = u + v;
         w = v - (z - u);
         t = z * z;
-        t1 = z - t * (P1 + t * (P2 + t * (P3 + t * (P4 + t * P5))));
-        r = (z * t1) / (t1 - 2.0) - (w + z * w);
+        final double c = z - t * (P1 + t * (P2 + t * (P3 + t * (P4 + t * P5))));
+        r = (z * c) / (c - 2.0) - (w + z * w);
         z = 1.0 - (r - z);
         j = calculateHigh(z);
         j += (n << 20);
@@ -320,6 +470,590 @@ public class PowerCalculatorEngine {
             zHi += (n << 20);
             z = calculateHigh(z, zHi);
         }
-        return s * z;
+        return z;
+    }
+    
+    /**
+     * Computes x^n for a small integer n by exponentiation by squaring.
+     * 
+     * The running product and the running square are carried as unevaluated sums hi + lo of
+     * two doubles, using Dekker's exact product, so the result is rounded only once at the end.
+     * The caller guarantees that every partial product lies within [2^-916, 2^996], where the
+     * splits cannot overflow and the low parts stay normal.
+     * 
+     * @param x the base, finite and positive
+     * @param n the exponent, 3 <= |n| < 64 or n == -2
+     * @return x^n
+     */
+    private static double integerPower(final double x, final int n) {
+        double aH = 1.0;
+        double aL = 0.0;
+        double bH = x;
+        double bL = 0.0;
+        double p, e, u, uH, uL, v, vH, vL;
+        
+        for (int k = Math.abs(n);;) {
+            if ((k & 1) != 0) {
+                // (aH + aL) *= (bH + bL)
+                p = aH * bH;
+                u = SPLITTER * aH;
+                uH = u - (u - aH);
+                uL = aH - uH;
+                v = SPLITTER * bH;
+                vH = v - (v - bH);
+                vL = bH - vH;
+                e = ((uH * vH - p) + uH * vL + uL * vH) + uL * vL;
+                e += aH * bL + aL * bH;
+                aH = p + e;
+                aL = e - (aH - p);
+            }
+            k >>= 1;
+            if (k == 0) {
+                break;
+            }
+            // (bH + bL) *= (bH + bL)
+            p = bH * bH;
+            v = SPLITTER * bH;
+            vH = v - (v - bH);
+            vL = bH - vH;
+            e = ((vH * vH - p) + 2.0 * vH * vL) + vL * vL;
+            e += 2.0 * bH * bL;
+            bH = p + e;
+            bL = e - (bH - p);
+        }
+        
+        if (n > 0) {
+            return aH + aL;
+        }
+        
+        // 1 / (aH + aL) as q + q * (1 - q * (aH + aL)), with q * aH split exactly
+        final double q = 1.0 / aH;
+        p = q * aH;
+        u = SPLITTER * q;
+        uH = u - (u - q);
+        uL = q - uH;
+        v = SPLITTER * aH;
+        vH = v - (v - aH);
+        vL = aH - vH;
+        e = ((uH * vH - p) + uH * vL + uL * vH) + uL * vL;
+        final double remainder = ((1.0 - p) - e) - q * aL;
+        return q + q * remainder;
+    }
+
+    /**
+     * Computes x^y in {@link PrecisionMode#FAST} mode.
+     *
+     * The mantissa reduction matches compute, but log2|x| = n + log2(BP) + s * Q(s^2) and
+     * 2^f = 1 + f * E(f) are evaluated in plain double arithmetic with short minimax polynomials,
+     * and y * log2|x| is a single rounded product. Exponents and bases that compute handles by a
+     * special case, including small integer exponents, are passed on to compute.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @return x^y with a relative error below 2^-32
+     */
+    private static double computeFast(final double x, final double y) {
+        final double yAbs = Math.abs(y);
+        double xAbs = Math.abs(x);
+        if (!(yAbs <= 0x1.00000_ffff_ffffp31) || y == 0.0 || y == 2.0 || y == 0.5 || yAbs == 1.0
+                || (yAbs < INTEGER_EXPONENT_LIMIT && y == (int) y)
+                || xAbs == 0.0 || xAbs == 1.0 || !(xAbs < INFINITY_VALUE)) {
+            return compute(x, y);
+        }
+        double s = 1.0;
+        if (x < 0.0) {
+            final int yIsInt = integerClass(yAbs);
+            if (yIsInt == 0) {
+                return compute(x, y);
+            }
+            if (yIsInt == 1) {
+                s = -1.0;
+            }
+        }
+
+        int ix = calculateHigh(xAbs);
+        int n = 0;
+        if (ix < 0x00100000) {
+            xAbs *= 0x1.0p53;
+            n -= 53;
+            ix = calculateHigh(xAbs);
+        }
+        n += (ix >> 20) - 0x3ff;
+        final int j = ix & 0x000fffff;
+        ix = j | 0x3ff00000;
+        int k = 0;
+        if (j > 0x3988E && j < 0xBB67A) {
+            k = 1;
+        } else if (j >= 0xBB67A) {
+            n += 1;
+            ix -= 0x00100000;
+        }
+        xAbs = calculateHigh(xAbs, ix);
+
+        final double ss = (xAbs - BP[k]) / (xAbs + BP[k]);
+        final double s2 = ss * ss;
+        final double log = (n + FAST_DP[k]) + ss * (FAST_Q0 + s2 * (FAST_Q1 + s2 * (FAST_Q2
+                + s2 * (FAST_Q3 + s2 * FAST_Q4))));
+        final double z = y * log;
+        if (!(z < 1024.0)) {
+            return s * INFINITY_VALUE;
+        }
+        if (z <= -1075.0) {
+            return s * 0.0;
+        }
+
+        final double rounded = Math.rint(z);
+        final double f = z - rounded;
+        final double p = 1.0 + f * (FAST_E1 + f * (FAST_E2 + f * (FAST_E3 + f * (FAST_E4
+                + f * (FAST_E5 + f * (FAST_E6 + f * FAST_E7))))));
+        final int e = (int) rounded;
+        if (e >= Double.MIN_EXPONENT && e <= Double.MAX_EXPONENT) {
+            return s * p * Double.longBitsToDouble((long) (e + 0x3ff) << 52);
+        }
+        return s * Math.scalb(p, e);
+    }
+
+    /**
+     * Computes x^y in {@link PrecisionMode#STRICT} or {@link PrecisionMode#CORRECTLY_ROUNDED} mode.
+     *
+     * ln|x| and e^r are evaluated by {@link DoubleDouble} to about 2^-100, y * ln|x| is reduced
+     * by n ln2 in double-double arithmetic, and the result is rounded only once, also when it is
+     * subnormal. Exponents and bases that compute handles by a special case are passed on to
+     * compute, whose results for y = 2, 0.5 and +/-1 are correctly rounded already. The rounding
+     * test of the correctly rounded mode is applied by {@link CorrectRounding}.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param correctlyRounded whether to round correctly also within 2^-30 ulp of a midpoint
+     * @return x^y with an error below 0.5 + 2^-30 ulp, or correctly rounded
+     */
+    private static double computeStrict(final double x, final double y, final boolean correctlyRounded) {
+        final double yAbs = Math.abs(y);
+        final double xAbs = Math.abs(x);
+        if (!(yAbs < INFINITY_VALUE) || y == 0.0 || y == 2.0 || y == 0.5 || yAbs == 1.0
+                || xAbs == 0.0 || xAbs == 1.0 || !(xAbs < INFINITY_VALUE)) {
+            return compute(x, y);
+        }
+        double s = 1.0;
+        if (x < 0.0) {
+            final int yIsInt = integerClass(yAbs);
+            if (yIsInt == 0) {
+                return compute(x, y);
+            }
+            if (yIsInt == 1) {
+                s = -1.0;
+            }
+        }
+
+        final DoubleDouble log = DoubleDouble.log(xAbs);
+        final double estimate = y * log.hi();
+        if (estimate > STRICT_LIMIT) {
+            return s * INFINITY_VALUE;
+        }
+        if (estimate < -STRICT_LIMIT) {
+            return s * 0.0;
+        }
+        final DoubleDouble w = log.multiply(y);
+        final double n = Math.rint(w.hi() * INV_LN2);
+        final DoubleDouble r = w.subtract(DoubleDouble.LN2.multiply(n));
+        final DoubleDouble p = DoubleDouble.expm1(r).add(1.0);
+        return s * (correctlyRounded ? CorrectRounding.round(xAbs, y, p, (int) n) : p.scaledValue((int) n));
+    }
+
+    /**
+     * Classifies |y| for a negative base as compute does.
+     *
+     * @param yAbs the magnitude of a finite exponent
+     * @return 0 if y is not an integer, 1 if it is an odd integer, 2 if it is an even integer
+     */
+    private static int integerClass(final double yAbs) {
+        if (yAbs >= 0x1.0p53) {
+            return 2;
+        }
+        if (yAbs >= 1.0) {
+            final long yAbsAsLong = (long) yAbs;
+            if (((double) yAbsAsLong) == yAbs) {
+                return 2 - (int) (yAbsAsLong & 0x1L);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element of the input arrays.
+     * 
+     * Each result is identical to {@link #compute(double, double)} for the same pair. Apart from
+     * the {@link PowerBatchEvent} that every batch method records, no memory is allocated, and
+     * {@code out} may be the same array as {@code x} or {@code y}.
+     * 
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double[] y, final double[] out) {
+        requireLength(x.length, y.length, out.length);
+        computeAll(x, 0, y, 0, out, 0, x.length);
+    }
+    
+    /**
+     * Computes x[xOffset + i]^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+     * 
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double[] x, final int xOffset, final double[] y, final int yOffset,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = compute(x[xOffset + i], y[yOffset + i]);
+        }
+        event.finish(BATCH_ENGINE, PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+    
+    /**
+     * Computes x^y[i] for a single base and every exponent in {@code y}.
+     * 
+     * @param x the base shared by all elements
+     * @param y the exponents
+     * @param out the destination, at least as long as {@code y}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAll(final double x, final double[] y, final double[] out) {
+        requireLength(y.length, y.length, out.length);
+        computeAll(x, y, 0, out, 0, y.length);
+    }
+    
+    /**
+     * Computes x^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+     * 
+     * @param x the base shared by all elements
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double x, final double[] y, final int yOffset,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = compute(x, y[yOffset + i]);
+        }
+        event.finish(BATCH_ENGINE, PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+    
+    /**
+     * Computes x[i]^y for every base in {@code x} and a single exponent.
+     * 
+     * @param x the bases
+     * @param y the exponent shared by all elements
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double y, final double[] out) {
+        requireLength(x.length, x.length, out.length);
+        computeAll(x, 0, y, out, 0, x.length);
+    }
+    
+    /**
+     * Computes x[xOffset + i]^y into out[outOffset + i] for i in [0, length).
+     * 
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponent shared by all elements
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double[] x, final int xOffset, final double y,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = compute(x[xOffset + i], y);
+        }
+        event.finish(BATCH_ENGINE, PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element of the input arrays with the given accuracy.
+     *
+     * Each result is identical to {@link #compute(double, double, PrecisionMode)} for the same
+     * pair, and {@code out} may be the same array as {@code x} or {@code y}.
+     *
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @param mode the precision mode
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double[] y, final double[] out,
+                                  final PrecisionMode mode) {
+        requireLength(x.length, y.length, out.length);
+        computeAll(x, 0, y, 0, out, 0, x.length, mode);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y[yOffset + i] into out[outOffset + i] for i in [0, length) with the
+     * given accuracy.
+     *
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @param mode the precision mode
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double[] x, final int xOffset, final double[] y, final int yOffset,
+                                  final double[] out, final int outOffset, final int length,
+                                  final PrecisionMode mode) {
+        Objects.requireNonNull(mode, "mode");
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = computeMode(x[xOffset + i], y[yOffset + i], mode);
+        }
+        event.finish(BATCH_ENGINE, mode, out, outOffset, length);
+    }
+
+    /**
+     * Returns x^y as a function of y for a fixed base x.
+     * 
+     * The double-double log2|x| and the sign analysis of x are computed once, so each evaluation
+     * only multiplies by y and reconstructs 2^(y * log2|x|). Results are identical to
+     * {@link #compute(double, double)}.
+     * 
+     * @param x the base
+     * @return the function y -> x^y
+     */
+    public static FixedBase forBase(final double x) {
+        return new FixedBase(x);
+    }
+    
+    /**
+     * Computes the double-double log2|x| of the generic path of {@link #compute(double, double)}.
+     * 
+     * This is the same computation as the |y| not huge branch of compute, which keeps its own
+     * inline copy: as a separate method it is too large to be inlined, and the returned pair would
+     * then be allocated on every call.
+     * 
+     * @param x the base, finite, non-zero and with |x| != 1
+     * @return {t1, t2}, the high part of log2|x| with its low 32 bits cleared and the low part
+     */
+    private static double[] log2(final double x) {
+        double xAbs = Math.abs(x);
+        double zH, zL, ss, s2, sH, sL, tH, tL, pH, pL, r, t, u, v, t1;
+        int ix = calculateHigh(xAbs);
+        int j, k;
+        int n = 0;
+        
+        if (ix < 0x00100000) {
+            xAbs *= 0x1.0p53;
+            n -= 53;
+            ix = calculateHigh(xAbs);
+        }
+        n += ((ix) >> 20) - 0x3ff;
+        j = ix & 0x000fffff;
+        ix = j | 0x3ff00000;
+        if (j <= 0x3988E) {
+            k = 0;
+        } else if (j < 0xBB67A) {
+            k = 1;
+        } else {
+            k = 0;
+            n += 1;
+            ix -= 0x00100000;
+        }
+        xAbs = calculateHigh(xAbs, ix);
+        
+        u = xAbs - BP[k];
+        v = 1.0 / (xAbs + BP[k]);
+        ss = u * v;
+        sH = ss;
+        sH = calculateLow(sH, 0);
+        tH = 0.0;
+        tH = calculateHigh(tH, ((ix >> 1) | 0x20000000) + 0x00080000 + (k << 18));
+        tL = xAbs - (tH - BP[k]);
+        sL = v * ((u - sH * tH) - sH * tL);
+        s2 = ss * ss;
+        r = s2 * s2 * (L1 + s2 * (L2 + s2 * (L3 + s2 * (L4 + s2 * (L5 + s2 * L6)))));
+        r += sL * (sH + ss);
+        s2 = sH * sH;
+        tH = 3.0 + s2 + r;
+        tH = calculateLow(tH, 0);
+        tL = r - ((tH - 3.0) - s2);
+        u = sH * tH;
+        v = sL * tH + tL * ss;
+        pH = u + v;
+        pH = calculateLow(pH, 0);
+        pL = v - (pH - u);
+        zH = CP_H * pH;
+        zL = CP_L * pH + pL * CP + DP_L[k];
+        t = (double) n;
+        t1 = (((zH + zL) + DP_H[k]) + t);
+        t1 = calculateLow(t1, 0);
+        return new double[] {t1, zL - (((t1 - t) - DP_H[k]) - zH)};
+    }
+    
+    /**
+     * Checks that the exponent and output arrays can hold as many elements as the base array.
+     * 
+     * @param length the number of elements to compute
+     * @param yLength the length of the exponent array
+     * @param outLength the length of the output array
+     */
+    private static void requireLength(final int length, final int yLength, final int outLength) {
+        if (yLength != length) {
+            throw new IllegalArgumentException("Base and exponent arrays differ in length: "
+                    + length + " vs " + yLength);
+        }
+        if (outLength < length) {
+            throw new IllegalArgumentException("Output array too short: " + outLength + " < " + length);
+        }
+    }
+    
+    /**
+     * PowerCalculatorEngine.FixedBase - x^y as a function of y for a fixed base x.
+     * 
+     * Instances are immutable and thread-safe. Exponents that {@link #compute(double, double)}
+     * handles by a special case (zero, NaN, infinite, huge, 2, 0.5, +/-1 and small integers), and
+     * every exponent of a base that is itself special (zero, +/-1, infinite or NaN), are passed on
+     * to compute, so every result is bit-for-bit identical to compute.
+     */
+    public static final class FixedBase implements DoubleUnaryOperator {
+        
+        private final double x;
+        // log2|x| split as in compute: t1 has its low 32 bits cleared
+        private final double t1;
+        private final double t2;
+        // Whether the base takes the generic path of compute, and whether it is negative
+        private final boolean generic;
+        private final boolean negative;
+        
+        /**
+         * Creates the function y -> x^y.
+         * 
+         * @param x the base
+         */
+        private FixedBase(final double x) {
+            final double xAbs = Math.abs(x);
+            this.x = x;
+            this.negative = calculateHigh(x) < 0;
+            this.generic = xAbs != 0.0 && xAbs != 1.0 && xAbs != INFINITY_VALUE && !Double.isNaN(x);
+            if (generic) {
+                final double[] log = log2(x);
+                this.t1 = log[0];
+                this.t2 = log[1];
+            } else {
+                this.t1 = 0.0;
+                this.t2 = 0.0;
+            }
+        }
+        
+        /**
+         * Returns the fixed base.
+         * 
+         * @return x
+         */
+        public double base() {
+            return x;
+        }
+        
+        /**
+         * Computes x^y for the fixed base x.
+         * 
+         * @param y the exponent
+         * @return x^y, identical to {@code compute(base(), y)}
+         */
+        public double apply(final double y) {
+            final double yAbs = Math.abs(y);
+            if (!generic || !(yAbs <= 0x1.00000_ffff_ffffp31) || y == 0.0 || y == 2.0 || y == 0.5
+                    || yAbs == 1.0 || (yAbs < INTEGER_EXPONENT_LIMIT && y == (int) y)) {
+                return compute(x, y);
+            }
+            double s = 1.0;
+            if (negative) {
+                // (x < 0)**(non-int) is NaN; odd integer exponents make the result negative
+                if (yAbs < 1.0) {
+                    return compute(x, y);
+                }
+                final long yAbsAsLong = (long) yAbs;
+                if (((double) yAbsAsLong) != yAbs) {
+                    return compute(x, y);
+                }
+                if ((yAbsAsLong & 0x1L) != 0) {
+                    s = -1.0;
+                }
+            }
+            return s * exp2(t1, t2, y);
+        }
+        
+        /**
+         * Computes x^y for the fixed base x.
+         * 
+         * @param y the exponent
+         * @return x^y
+         */
+        @Override
+        public double applyAsDouble(final double y) {
+            return apply(y);
+        }
+        
+        /**
+         * Computes x^y[i] for every exponent in {@code y}.
+         * 
+         * No memory is allocated, and {@code out} may be the same array as {@code y}.
+         * 
+         * @param y the exponents
+         * @param out the destination, at least as long as {@code y}
+         * @throws IllegalArgumentException if {@code out} is too short
+         */
+        public void applyAll(final double[] y, final double[] out) {
+            requireLength(y.length, y.length, out.length);
+            applyAll(y, 0, out, 0, y.length);
+        }
+        
+        /**
+         * Computes x^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+         * 
+         * @param y the exponents
+         * @param yOffset index of the first exponent
+         * @param out the destination
+         * @param outOffset index of the first result
+         * @param length number of elements to compute
+         * @throws IndexOutOfBoundsException if any range lies outside its array
+         */
+        public void applyAll(final double[] y, final int yOffset, final double[] out, final int outOffset,
+                             final int length) {
+            Objects.checkFromIndexSize(yOffset, length, y.length);
+            Objects.checkFromIndexSize(outOffset, length, out.length);
+            for (int i = 0; i < length; i++) {
+                out[outOffset + i] = apply(y[yOffset + i]);
+            }
+        }
     }
-} 
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 /**
  * PowerCalculatorGUI - User interface for the power calculator.
@@ -28,6 +30,9 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
     private static final Color WARNING_COLOR = new Color(243, 156, 18);
     private static final Color BACKGROUND_COLOR = new Color(248, 249, 250);
 
+    // Quiet period after the last keystroke before live mode recalculates
+    private static final int LIVE_DELAY_MS = 150;
+
     // GUI components
     private JTextField baseField;
     private JTextField exponentField;
@@ -35,8 +40,13 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
     private JTextArea  errorArea;
     private JButton    calculateButton;
     private JButton    clearButton;
+    private JCheckBox  liveCheckBox;
     private JPanel     mainPanel;
 
+    // Background calculation, and the debounce timer of live mode
+    private final LatestTaskRunner<Calculation> calculations = new LatestTaskRunner<>(this::showUnexpectedError);
+    private final Timer liveTimer = new Timer(LIVE_DELAY_MS, e -> calculatePower(true));
+
     public PowerCalculatorGUI() {
         initializeFrame();
         setupAccessibility();
@@ -53,7 +63,7 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
     private void initializeFrame() {
         setTitle("Power Calculator - X^Y");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setLayout(new BorderLayout());         // a single root layout – mainPanel goes CENTER
+        setLayout(new BorderLayout());         // a single root layout – the tabs go CENTER
         setMinimumSize(new Dimension(500, 400));
     }
 
@@ -87,7 +97,16 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
         JPanel resultPanel = createResultPanel();
         mainPanel.add(resultPanel);
 
-        add(mainPanel, BorderLayout.CENTER);
+        // Single calculations, the batch table for imported inputs, and curve plots
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Calculator", mainPanel);
+        tabs.addTab("Batch", new BatchPanel());
+        tabs.addTab("Plot", new PlotPanel());
+        tabs.setMnemonicAt(0, KeyEvent.VK_A);
+        tabs.setMnemonicAt(1, KeyEvent.VK_B);
+        tabs.setMnemonicAt(2, KeyEvent.VK_O);
+        tabs.getAccessibleContext().setAccessibleName("Calculator modes");
+        add(tabs, BorderLayout.CENTER);
     }
 
     private JPanel createHeaderPanel() {
@@ -166,6 +185,8 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
         buttonRow.add(calculateButton);
         buttonRow.add(Box.createHorizontalStrut(10));
         buttonRow.add(clearButton);
+        buttonRow.add(Box.createHorizontalStrut(10));
+        buttonRow.add(liveCheckBox);
 
         gbc.gridy = 2;
         gbc.gridx = 0;
@@ -229,6 +250,13 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
 
         setupButtonAccessibility(calculateButton, "Calculate button", "Click to calculate x raised to the power of y");
         setupButtonAccessibility(clearButton,   "Clear button",     "Click to clear all inputs and results");
+
+        liveCheckBox = new JCheckBox("Live");
+        liveCheckBox.setFont(new Font("SanSerif", Font.PLAIN, 14));
+        liveCheckBox.setOpaque(false);
+        liveCheckBox.setMnemonic(KeyEvent.VK_L);
+        setupButtonAccessibility(liveCheckBox, "Live results checkbox",
+                "When selected, the result is recalculated as you type");
     }
 
     private void applyStyling() {
@@ -259,7 +287,7 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
         calculateButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                calculatePower();
+                calculatePower(false);
             }
         });
 
@@ -276,7 +304,7 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
             @Override
             public void keyPressed(KeyEvent e) {
                 if (e.getKeyCode() == KeyEvent.VK_ENTER) {
-                    calculatePower();
+                    calculatePower(false);
                 }
             }
         };
@@ -284,6 +312,37 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
         baseField.addKeyListener(enterKeyAdapter);
         exponentField.addKeyListener(enterKeyAdapter);
 
+        // Live mode: every edit restarts the timer, so a burst of keystrokes is calculated once
+        liveTimer.setRepeats(false);
+        DocumentListener liveListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleLiveCalculation();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleLiveCalculation();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleLiveCalculation();
+            }
+        };
+        baseField.getDocument().addDocumentListener(liveListener);
+        exponentField.getDocument().addDocumentListener(liveListener);
+        liveCheckBox.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (liveCheckBox.isSelected()) {
+                    calculatePower(true);
+                } else {
+                    liveTimer.stop();
+                }
+            }
+        });
+
         // Focus listeners for better UX
         baseField.addFocusListener(new java.awt.event.FocusAdapter() {
             @Override
@@ -320,7 +379,7 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
      * @param name the accessible name
      * @param description the accessible description
      */
-    private void setupButtonAccessibility(JButton button, String name, String description) {
+    private void setupButtonAccessibility(AbstractButton button, String name, String description) {
         button.getAccessibleContext().setAccessibleName(name);
         button.getAccessibleContext().setAccessibleDescription(description);
     }
@@ -362,6 +421,8 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
     private void clearAll() {
         baseField.setText("");
         exponentField.setText("");
+        liveTimer.stop();
+        calculations.cancel();
         resultLabel.setText("Enter values and click Calculate");
         resultLabel.setForeground(Color.GRAY);
         errorArea.setText("");
@@ -369,129 +430,71 @@ public class PowerCalculatorGUI extends JFrame implements Accessible {
     }
 
     /**
-     * Calculates the power and updates the GUI with results.
-     * This method demonstrates proper error handling and user feedback.
+     * Restarts the live-mode timer after an edit, if live mode is on.
      */
-    private void calculatePower() {
-        errorArea.setText(""); // Clear previous errors
-        resultLabel.setText("Calculating...");
-        resultLabel.setForeground(WARNING_COLOR);
-
-        double x;
-        double y;
-
-        try {
-            String baseText = baseField.getText().trim();
-            String exponentText = exponentField.getText().trim();
-
-            if (baseText.isEmpty() || exponentText.isEmpty()) {
-                showError("Please enter both base and exponent values.", "Missing Input");
-                return;
-            }
-
-            x = Double.parseDouble(baseText);
-            y = Double.parseDouble(exponentText);
-        } catch (NumberFormatException ex) {
-            showError("Please enter valid numerical values for both base and exponent.\n" +
-                    "Examples: 2.5, -3, 0.5, 1e6", "Invalid Input Format");
-            return;
-        }
-
-        try {
-            double result = PowerCalculatorEngine.compute(x, y);
-
-            if (Double.isNaN(result)) {
-                handleNaNResult(x, y);
-            } else if (Double.isInfinite(result)) {
-                handleInfiniteResult(x, y, result);
-            } else {
-                showSuccessResult(result);
-            }
-        } catch (Exception ex) {
-            showError("An unexpected error occurred during calculation.\n" +
-                    "Please try again with different values.\n" +
-                    "Error: " + ex.getMessage(), "Calculation Error");
+    private void scheduleLiveCalculation() {
+        if (liveCheckBox.isSelected()) {
+            liveTimer.restart();
         }
     }
 
     /**
-     * Handles NaN results with meaningful messages.
+     * Calculates the power in the background and updates the GUI with the result.
+     * A newer calculation supersedes a running one, whose result is then discarded.
      *
-     * @param x the base value
-     * @param y the exponent value
+     * @param live true when triggered by live mode, which keeps the previous result on screen
+     *             until the new one arrives and does not report incomplete input as an error
      */
-    private void handleNaNResult(double x, double y) {
-        String message;
-        String title;
-
-        if (x == 0 && y == 0) {
-            message = "The expression 0^0 is mathematically undefined.\n" +
-                    "This is because any number raised to the power of 0 equals 1,\n" +
-                    "but 0 raised to any power equals 0, creating a contradiction.";
-            title = "Mathematical Undefined";
-        } else if (x == 0 && y < 0) {
-            message = "Raising 0 to a negative power is undefined.\n" +
-                    "This would require division by zero, which is not allowed in mathematics.\n" +
-                    "Try using a positive exponent or a non-zero base.";
-            title = "Division by Zero";
-        } else if (x < 0 && (y % 1 != 0)) {
-            message = "Negative base with fractional exponent results in complex numbers.\n" +
-                    "This calculator only handles real numbers.\n" +
-                    "Try using an integer exponent or a positive base.";
-            title = "Complex Number Result";
-        } else {
-            message = "The result of " + x + "^" + y + " is not a real number.\n" +
-                    "This may be due to mathematical constraints or overflow.";
-            title = "Invalid Result";
+    private void calculatePower(final boolean live) {
+        liveTimer.stop();
+        final String baseText = baseField.getText();
+        final String exponentText = exponentField.getText();
+        if (!live) {
+            errorArea.setText(""); // Clear previous errors
+            resultLabel.setText("Calculating...");
+            resultLabel.setForeground(WARNING_COLOR);
         }
-
-        showError(message, title);
+        calculations.submit(() -> Calculation.evaluate(baseText, exponentText),
+                calculation -> showCalculation(calculation, live));
     }
 
     /**
-     * Handles infinite results with meaningful messages.
+     * Shows the outcome of a calculation.
      *
-     * @param x the base value
-     * @param y the exponent value
-     * @param result the infinite result
+     * @param calculation the outcome
+     * @param live true when triggered by live mode
      */
-    private void handleInfiniteResult(double x, double y, double result) {
-        String message;
-        String title;
-
-        if (x == 0 && y < 0) {
-            message = "Raising 0 to a negative power results in infinity.\n" +
-                    "This represents division by zero.";
-            title = "Infinite Result";
-        } else if (result > 0) {
-            message = "The result is too large to represent as a finite number.\n" +
-                    "Result: Positive Infinity\n" +
-                    "This occurs when the calculation exceeds the maximum representable value.";
-            title = "Overflow - Positive Infinity";
+    private void showCalculation(Calculation calculation, boolean live) {
+        if (!calculation.category().isError()) {
+            showSuccessResult(calculation.resultText());
+        } else if (live && calculation.isInputError()) {
+            // Input being typed, such as "-" or "1e", is not worth an error message
+            resultLabel.setText("Waiting for valid input");
+            resultLabel.setForeground(Color.GRAY);
+            errorArea.setText("");
         } else {
-            message = "The result is too large to represent as a finite number.\n" +
-                    "Result: Negative Infinity\n" +
-                    "This occurs when the calculation exceeds the maximum representable value.";
-            title = "Overflow - Negative Infinity";
+            showError(calculation.message(), calculation.category().title());
         }
+    }
 
-        showError(message, title);
+    /**
+     * Shows a failure of the background calculation.
+     *
+     * @param ex the exception thrown by the calculation
+     */
+    private void showUnexpectedError(Throwable ex) {
+        showError("An unexpected error occurred during calculation.\n" +
+                "Please try again with different values.\n" +
+                "Error: " + ex.getMessage(), "Calculation Error");
     }
 
     /**
      * Shows a successful calculation result.
      *
-     * @param result the calculated result
+     * @param formattedResult the formatted result
      */
-    private void showSuccessResult(double result) {
-        String formattedResult;
-        if ((Math.abs(result) < 1e-8 && result != 0) || Math.abs(result) > 1e8) {
-            formattedResult = String.format("%.8e", result);
-        } else {
-            formattedResult = String.format("%.8f", result);
-        }
-
-        resultLabel.setText("Result: " + formattedResult);
+    private void showSuccessResult(String formattedResult) {
+        resultLabel.setText(formattedResult);
         resultLabel.setForeground(SUCCESS_COLOR);
         errorArea.setText("Calculation completed successfully!");
     }
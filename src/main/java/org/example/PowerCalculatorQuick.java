@@ -0,0 +1,39 @@
+package org.example;
+
+/**
+ * PowerCalculatorQuick - Fast-starting command-line entry point.
+ *
+ * With a base and an exponent as its two arguments, as in {@code 2 10}, it prints one line in the
+ * {@link PowerCalculatorCli} output format and exits; with any other arguments it runs
+ * {@link PowerCalculatorCli}. Unlike {@link Main} it never loads AWT or Swing classes, nor the
+ * thread pools and Vector API of the batch engines, so short-lived invocations only pay for the
+ * scalar engine. The {@code quickImage} Gradle task packages it with a minimal runtime and a
+ * class-data-sharing archive.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class PowerCalculatorQuick {
+
+    private PowerCalculatorQuick() {
+        // Utility class
+    }
+
+    /**
+     * Computes one x^y from the arguments, or runs the command line.
+     *
+     * @param args a base and an exponent, or command-line arguments
+     */
+    public static void main(final String[] args) {
+        if (args.length == 2 && !args[0].startsWith("--")) {
+            // Plain appends rather than string concatenation, whose first use bootstraps method handles
+            final String line = new StringBuilder(64).append(args[0]).append(' ').append(args[1]).toString();
+            final StringBuilder output = new StringBuilder(64);
+            PowerCalculatorCli.appendLine(line, output);
+            System.out.print(output);
+            System.out.flush();
+        } else {
+            PowerCalculatorCli.main(args);
+        }
+    }
+}
@@ -0,0 +1,707 @@
+package org.example;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * PowerCalculatorServer - Embedded HTTP service for x^y.
+ *
+ * The service runs on the JDK's {@link HttpServer}. Each request gets its own virtual thread when
+ * the runtime provides them (Java 21 and later); otherwise requests run on a bounded pool of
+ * platform threads that hands surplus work back to the accepting thread, which slows accepting.
+ * Endpoints:
+ *
+ * <ul>
+ *   <li>{@code GET /pow?x=2&y=10} answers {@code {"result":1024.0}}, with an {@code "error"} title
+ *       from {@link ResultCategory} added for NaN and infinite results, or status 400 and only the
+ *       error when an input is missing or invalid;</li>
+ *   <li>{@code POST /batch} with {@code Content-Type: application/octet-stream} takes little-endian
+ *       (x, y) double pairs, as read by {@link MappedBatchProcessor}, and answers one little-endian
+ *       double per pair;</li>
+ *   <li>{@code POST /batch} with {@code Content-Type: application/json} takes
+ *       {@code [[2,10],[2.5,-3]]} and answers {@code [1024.0,0.064]}. Non-finite values are written,
+ *       and may be given, as the strings {@code "NaN"}, {@code "Infinity"} and {@code "-Infinity"}.</li>
+ * </ul>
+ *
+ * Batch bodies are read and computed {@value #CHUNK_PAIRS} pairs at a time with
+ * {@link VectorizedPowerEngine}, and the results are streamed back as each chunk completes, so a
+ * request holds a fixed amount of memory whatever its size. Bodies above the size limit are
+ * rejected with 413. Batches beyond the concurrency limit are rejected with 503 and
+ * {@code Retry-After}, so that clients back off instead of queueing. An error found after the
+ * response has started, such as a partial pair or malformed JSON late in the body, closes the
+ * connection, so the client sees an incomplete response.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class PowerCalculatorServer {
+
+    /** Port used when none is given. */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Largest batch body accepted by default, 64 MB. */
+    public static final long DEFAULT_MAX_BODY_BYTES = 64L << 20;
+
+    // Pairs read, computed and written at a time by a batch request
+    static final int CHUNK_PAIRS = 4096;
+
+    private static final String BINARY_TYPE = "application/octet-stream";
+    private static final String JSON_TYPE = "application/json";
+
+    // Pending connections queued by the kernel, and tasks queued by the platform thread pool
+    private static final int BACKLOG = 1024;
+    private static final int QUEUE_SIZE = 1024;
+
+    // Longest number accepted in a JSON body
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final String USAGE = "Usage: --server [--port N] [--max-body-bytes N] [--max-batches N]";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore batchPermits;
+    private final long maxBodyBytes;
+
+    private PowerCalculatorServer(final HttpServer server, final long maxBodyBytes, final int maxBatches) {
+        this.server = server;
+        this.executor = newRequestExecutor();
+        this.batchPermits = new Semaphore(maxBatches);
+        this.maxBodyBytes = maxBodyBytes;
+        server.createContext("/pow", PowerCalculatorServer::handlePow);
+        server.createContext("/batch", this::handleBatch);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param address the address to listen on, port 0 for any free port
+     * @param maxBodyBytes the largest batch body accepted, in bytes
+     * @param maxBatches the number of batch requests computed at once
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public static PowerCalculatorServer start(final InetSocketAddress address, final long maxBodyBytes,
+                                              final int maxBatches) throws IOException {
+        if (maxBodyBytes < 1 || maxBatches < 1) {
+            throw new IllegalArgumentException("Limits must be positive: maxBodyBytes=" + maxBodyBytes
+                    + ", maxBatches=" + maxBatches);
+        }
+        final PowerCalculatorServer service =
+                new PowerCalculatorServer(HttpServer.create(address, BACKLOG), maxBodyBytes, maxBatches);
+        service.server.start();
+        return service;
+    }
+
+    /**
+     * Runs the server until the process is stopped.
+     *
+     * @param args the arguments after {@code --server}
+     */
+    public static void main(final String[] args) {
+        final int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Starts the server described by the arguments, which keeps running after this returns.
+     *
+     * @param args the arguments after {@code --server}
+     * @param out the destination of the startup message
+     * @param err the destination of usage and I/O error messages
+     * @return 0 once the server runs, 1 if it cannot be started, 2 on invalid arguments
+     */
+    static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        int port = DEFAULT_PORT;
+        long maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+        int maxBatches = 2 * Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+                switch (args[i]) {
+                    case "--port":
+                        port = Integer.parseInt(args[++i]);
+                        break;
+                    case "--max-body-bytes":
+                        maxBodyBytes = Long.parseLong(args[++i]);
+                        break;
+                    case "--max-batches":
+                        maxBatches = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+            }
+            final PowerCalculatorServer service = start(new InetSocketAddress(port), maxBodyBytes, maxBatches);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> service.stop(1), "power-server-shutdown"));
+            out.println("Power calculator service listening on port " + service.port());
+            return 0;
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return 2;
+        } catch (IOException ex) {
+            err.println("Cannot start server: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the bound port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits for running ones and releases the threads.
+     *
+     * @param delaySeconds the longest time to wait for running requests
+     */
+    public void stop(final int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Creates the executor that runs requests: one virtual thread per request where available,
+     * otherwise a bounded pool of daemon platform threads.
+     *
+     * @return the executor
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            // Looked up reflectively so that the class still runs on Java 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            final int threads = 4 * Runtime.getRuntime().availableProcessors();
+            return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+                        final Thread thread = new Thread(runnable, "power-server-worker");
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+    }
+
+    /**
+     * Computes a single x^y from the query string.
+     *
+     * @param exchange the request
+     * @throws IOException if the response cannot be written
+     */
+    private static void handlePow(final HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Method Not Allowed");
+                return;
+            }
+            final String query = exchange.getRequestURI().getRawQuery();
+            final String base = parameter(query, "x");
+            final String exponent = parameter(query, "y");
+            if (base == null || exponent == null || FastDoubleParser.isBlank(base)
+                    || FastDoubleParser.isBlank(exponent)) {
+                sendError(exchange, 400, ResultCategory.MISSING_INPUT.title());
+                return;
+            }
+            final double x;
+            final double y;
+            try {
+                x = FastDoubleParser.parse(base);
+                y = FastDoubleParser.parse(exponent);
+            } catch (NumberFormatException ex) {
+                sendError(exchange, 400, ResultCategory.INVALID_INPUT.title());
+                return;
+            }
+            final double result = PowerCalculatorEngine.compute(x, y);
+            final ResultCategory category = ResultCategory.classify(x, y, result);
+            final StringBuilder json = new StringBuilder(64).append("{\"result\":");
+            appendJson(result, json);
+            if (category.isError()) {
+                json.append(",\"error\":\"").append(category.title()).append('"');
+            }
+            sendJson(exchange, 200, json.append('}').toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Computes a binary or JSON batch, streaming the results.
+     *
+     * @param exchange the request
+     * @throws IOException if the response cannot be written, or to abort a started response
+     */
+    private void handleBatch(final HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendError(exchange, 405, "Method Not Allowed");
+            exchange.close();
+            return;
+        }
+        final String type = contentType(exchange);
+        final long length = contentLength(exchange);
+        final int status;
+        final String message;
+        if (!BINARY_TYPE.equals(type) && !JSON_TYPE.equals(type)) {
+            status = 415;
+            message = "Content-Type must be " + BINARY_TYPE + " or " + JSON_TYPE;
+        } else if (length > maxBodyBytes) {
+            status = 413;
+            message = "Body exceeds " + maxBodyBytes + " bytes";
+        } else if (BINARY_TYPE.equals(type) && length % MappedBatchProcessor.PAIR_BYTES != 0) {
+            status = 400;
+            message = "Body length must be a multiple of " + MappedBatchProcessor.PAIR_BYTES + " bytes";
+        } else if (!batchPermits.tryAcquire()) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            status = 503;
+            message = "Too many concurrent batches";
+        } else {
+            try {
+                final InputStream body = new LimitedInputStream(exchange.getRequestBody(), maxBodyBytes);
+                if (BINARY_TYPE.equals(type)) {
+                    streamBinary(exchange, body, length);
+                } else {
+                    streamJson(exchange, body);
+                }
+            } catch (BadRequestException ex) {
+                if (exchange.getResponseCode() != -1) {
+                    // Leaving the exchange open makes the server drop the connection mid-response
+                    throw ex;
+                }
+                sendError(exchange, ex.status, ex.getMessage());
+            } finally {
+                batchPermits.release();
+            }
+            exchange.close();
+            return;
+        }
+        sendError(exchange, status, message);
+        exchange.close();
+    }
+
+    /**
+     * Computes a binary batch.
+     *
+     * @param exchange the request
+     * @param body the request body
+     * @param length the body length, or -1 if unknown
+     * @throws IOException if the body is malformed or the response cannot be written
+     */
+    private static void streamBinary(final HttpExchange exchange, final InputStream body, final long length)
+            throws IOException {
+        final byte[] input = new byte[CHUNK_PAIRS * MappedBatchProcessor.PAIR_BYTES];
+        final byte[] output = new byte[CHUNK_PAIRS * MappedBatchProcessor.RESULT_BYTES];
+        final ByteBuffer pairs = ByteBuffer.wrap(input).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer results = ByteBuffer.wrap(output).order(ByteOrder.LITTLE_ENDIAN);
+        final double[] x = new double[CHUNK_PAIRS];
+        final double[] y = new double[CHUNK_PAIRS];
+        final double[] out = new double[CHUNK_PAIRS];
+        OutputStream response = null;
+        int read;
+        while ((read = body.readNBytes(input, 0, input.length)) > 0) {
+            if (read % MappedBatchProcessor.PAIR_BYTES != 0) {
+                throw new BadRequestException(400, "Body ends with a partial pair");
+            }
+            final int count = read / MappedBatchProcessor.PAIR_BYTES;
+            for (int i = 0; i < count; i++) {
+                x[i] = pairs.getDouble(i * MappedBatchProcessor.PAIR_BYTES);
+                y[i] = pairs.getDouble(i * MappedBatchProcessor.PAIR_BYTES + Double.BYTES);
+            }
+            VectorizedPowerEngine.computeAll(x, 0, y, 0, out, 0, count);
+            for (int i = 0; i < count; i++) {
+                results.putDouble(i * MappedBatchProcessor.RESULT_BYTES, out[i]);
+            }
+            if (response == null) {
+                // The result length is known up front when the body length is; otherwise chunked
+                exchange.getResponseHeaders().set("Content-Type", BINARY_TYPE);
+                exchange.sendResponseHeaders(200, (length > 0) ? length / 2 : 0);
+                response = exchange.getResponseBody();
+            }
+            response.write(output, 0, count * MappedBatchProcessor.RESULT_BYTES);
+        }
+        if (response == null) {
+            exchange.getResponseHeaders().set("Content-Type", BINARY_TYPE);
+            exchange.sendResponseHeaders(200, -1);
+        }
+    }
+
+    /**
+     * Computes a JSON batch.
+     *
+     * @param exchange the request
+     * @param body the request body
+     * @throws IOException if the body is malformed or the response cannot be written
+     */
+    private static void streamJson(final HttpExchange exchange, final InputStream body) throws IOException {
+        final JsonPairReader reader = new JsonPairReader(body);
+        final byte[] output = new byte[CHUNK_PAIRS * (DoubleFormatter.MAX_SHORTEST_LENGTH + 3) + 2];
+        final double[] x = new double[CHUNK_PAIRS];
+        final double[] y = new double[CHUNK_PAIRS];
+        final double[] out = new double[CHUNK_PAIRS];
+        OutputStream response = null;
+        int count;
+        do {
+            count = reader.read(x, y);
+            VectorizedPowerEngine.computeAll(x, 0, y, 0, out, 0, count);
+            int pos = 0;
+            for (int i = 0; i < count; i++) {
+                output[pos++] = (byte) ((response == null && i == 0) ? '[' : ',');
+                pos = appendJson(out[i], output, pos);
+            }
+            if (response == null) {
+                exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+                exchange.sendResponseHeaders(200, 0);
+                response = exchange.getResponseBody();
+                if (count == 0) {
+                    output[pos++] = '[';
+                }
+            }
+            if (count == 0) {
+                output[pos++] = ']';
+            }
+            response.write(output, 0, pos);
+        } while (count > 0);
+    }
+
+    /**
+     * Writes a result as a JSON number, or as a string when it is not finite.
+     *
+     * @param v the result
+     * @param buffer the destination
+     * @param position index of the first byte to write
+     * @return index after the last byte written
+     */
+    private static int appendJson(final double v, final byte[] buffer, final int position) {
+        if (Double.isFinite(v)) {
+            return DoubleFormatter.appendShortest(v, buffer, position);
+        }
+        buffer[position] = '"';
+        final int end = DoubleFormatter.appendShortest(v, buffer, position + 1);
+        buffer[end] = '"';
+        return end + 1;
+    }
+
+    /**
+     * Appends a result as a JSON number, or as a string when it is not finite.
+     *
+     * @param v the result
+     * @param json the destination
+     */
+    private static void appendJson(final double v, final StringBuilder json) {
+        if (Double.isFinite(v)) {
+            DoubleFormatter.appendShortest(v, json);
+        } else {
+            DoubleFormatter.appendShortest(v, json.append('"')).append('"');
+        }
+    }
+
+    /**
+     * Returns a decoded query parameter.
+     *
+     * @param query the raw query string, possibly null
+     * @param name the parameter name
+     * @return the first value of the parameter, or null if absent
+     */
+    private static String parameter(final String query, final String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int equals = pair.indexOf('=');
+            if (equals == name.length() && pair.startsWith(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the media type of the request body, without parameters such as the charset.
+     *
+     * @param exchange the request
+     * @return the lower-case media type, or an empty string if none is given
+     */
+    private static String contentType(final HttpExchange exchange) {
+        final String type = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (type == null) {
+            return "";
+        }
+        final int semicolon = type.indexOf(';');
+        return ((semicolon < 0) ? type : type.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the declared length of the request body.
+     *
+     * @param exchange the request
+     * @return the length, or -1 if the body is chunked
+     */
+    private static long contentLength(final HttpExchange exchange) {
+        final String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        // The server has already rejected malformed lengths
+        return (length == null) ? -1 : Long.parseLong(length.trim());
+    }
+
+    /**
+     * Sends a JSON error response.
+     *
+     * @param exchange the request
+     * @param status the HTTP status
+     * @param message the error, free of quotes and backslashes
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendError(final HttpExchange exchange, final int status, final String message)
+            throws IOException {
+        sendJson(exchange, status, "{\"error\":\"" + message + "\"}");
+    }
+
+    /**
+     * Sends a complete JSON response.
+     *
+     * @param exchange the request
+     * @param status the HTTP status
+     * @param json the response body
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendJson(final HttpExchange exchange, final int status, final String json)
+            throws IOException {
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * A malformed or oversized request body, answered with its status while the response has not
+     * started.
+     */
+    private static final class BadRequestException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        BadRequestException(final int status, final String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Input stream that fails once more than a given number of bytes has been read, so bodies
+     * without a declared length are limited too.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long remaining;
+
+        LimitedInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.limit = limit;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] one = new byte[1];
+            return (read(one, 0, 1) < 0) ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            // Read one byte beyond the limit, if there is one, to tell an exact fit from an overflow
+            final int n = in.read(b, off, (int) Math.min(len, remaining + 1));
+            if (n > 0) {
+                remaining -= n;
+                if (remaining < 0) {
+                    throw new BadRequestException(413, "Body exceeds " + limit + " bytes");
+                }
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Streaming reader of a JSON array of [x, y] pairs.
+     */
+    private static final class JsonPairReader {
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int pos;
+        private int limit;
+        private int elements = -1;
+        private boolean finished;
+
+        JsonPairReader(final InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next pairs.
+         *
+         * @param x the destination of the bases
+         * @param y the destination of the exponents, as long as {@code x}
+         * @return the number of pairs read, 0 once the array has ended
+         * @throws IOException if the body is malformed or cannot be read
+         */
+        int read(final double[] x, final double[] y) throws IOException {
+            if (elements < 0) {
+                expect('[');
+                elements = 0;
+                if (peek() == ']') {
+                    pos++;
+                    finish();
+                }
+            }
+            int count = 0;
+            while (!finished && count < x.length) {
+                if (elements > 0) {
+                    final int c = next();
+                    if (c == ']') {
+                        finish();
+                        break;
+                    } else if (c != ',') {
+                        throw new BadRequestException(400, "Expected ',' or ']' after pair " + elements);
+                    }
+                }
+                expect('[');
+                x[count] = number();
+                expect(',');
+                y[count] = number();
+                expect(']');
+                count++;
+                elements++;
+            }
+            return count;
+        }
+
+        private void finish() throws IOException {
+            if (peek() != -1) {
+                throw new BadRequestException(400, "Unexpected data after the array");
+            }
+            finished = true;
+        }
+
+        private void expect(final char expected) throws IOException {
+            if (next() != expected) {
+                throw new BadRequestException(400, "Expected '" + expected + "' in pair " + (elements + 1));
+            }
+        }
+
+        private int next() throws IOException {
+            final int c = peek();
+            if (c == -1) {
+                throw new BadRequestException(400, "Unexpected end of body");
+            }
+            pos++;
+            return c;
+        }
+
+        /**
+         * Skips whitespace and returns the next byte without consuming it.
+         *
+         * @return the byte, or -1 at the end of the body
+         * @throws IOException if the body cannot be read
+         */
+        private int peek() throws IOException {
+            while (true) {
+                if (pos == limit) {
+                    pos = 0;
+                    limit = 0;
+                    if (!fill()) {
+                        return -1;
+                    }
+                }
+                final byte c = buffer[pos];
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    return c;
+                }
+                pos++;
+            }
+        }
+
+        /**
+         * Reads a number, bare or quoted.
+         *
+         * @return the value
+         * @throws IOException if the number is malformed or the body cannot be read
+         */
+        private double number() throws IOException {
+            final boolean quoted = peek() == '"';
+            if (quoted) {
+                pos++;
+            }
+            int start = pos;
+            while (true) {
+                if (pos == limit) {
+                    // Move the partial token to the front and read more
+                    System.arraycopy(buffer, start, buffer, 0, limit - start);
+                    limit -= start;
+                    pos = limit;
+                    start = 0;
+                    if (!fill()) {
+                        break;
+                    }
+                }
+                final byte c = buffer[pos];
+                if (quoted ? c == '"' : !isNumberByte(c)) {
+                    break;
+                }
+                if (++pos - start > MAX_TOKEN_LENGTH) {
+                    throw new BadRequestException(400, "Number too long in pair " + (elements + 1));
+                }
+            }
+            final int end = pos;
+            if (quoted) {
+                expect('"');
+            }
+            try {
+                return FastDoubleParser.parse(buffer, start, end);
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException(400, "Invalid number in pair " + (elements + 1));
+            }
+        }
+
+        private boolean fill() throws IOException {
+            final int n = in.read(buffer, limit, buffer.length - limit);
+            if (n <= 0) {
+                return false;
+            }
+            limit += n;
+            return true;
+        }
+
+        private static boolean isNumberByte(final byte c) {
+            return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+        }
+    }
+}
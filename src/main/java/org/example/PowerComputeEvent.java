@@ -0,0 +1,74 @@
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * PowerComputeEvent - Flight Recorder event for a random sample of scalar engine calls.
+ *
+ * A scalar x^y takes tens of nanoseconds, about as long as the two timestamps of an event, so
+ * timing every call would double its cost while a recording runs. Instead each call draws from
+ * its thread's random generator and only one in {@value #SAMPLING_PERIOD} is timed and recorded;
+ * counts and totals estimated from the events are multiplied by {@link #samplingPeriod}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@Name("org.example.PowerCompute")
+@Label("Power Compute (Sampled)")
+@Category({"Power Calculator", "Engine"})
+@Description("A random sample of PowerCalculatorEngine.compute(x, y, mode) calls")
+final class PowerComputeEvent extends Event {
+
+    /** One call in this many is recorded; a power of two. */
+    static final int SAMPLING_PERIOD = 1024;
+
+    @Label("Base")
+    double base;
+
+    @Label("Exponent")
+    double exponent;
+
+    @Label("Result")
+    double result;
+
+    @Label("Precision Mode")
+    String mode;
+
+    @Label("Sampling Period")
+    @Description("Number of calls each event stands for")
+    int samplingPeriod;
+
+    /**
+     * Decides whether the current call is one of the sampled calls.
+     *
+     * @return true for about one call in {@value #SAMPLING_PERIOD}
+     */
+    static boolean sample() {
+        return (ThreadLocalRandom.current().nextInt() & (SAMPLING_PERIOD - 1)) == 0;
+    }
+
+    /**
+     * Ends the event and records it if it is enabled and above its threshold.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @param z the result
+     * @param precisionMode the precision mode of the call
+     */
+    void finish(final double x, final double y, final double z, final PrecisionMode precisionMode) {
+        end();
+        if (shouldCommit()) {
+            base = x;
+            exponent = y;
+            result = z;
+            mode = precisionMode.name();
+            samplingPeriod = SAMPLING_PERIOD;
+            commit();
+        }
+    }
+}
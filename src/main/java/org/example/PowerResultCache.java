@@ -0,0 +1,239 @@
+package org.example;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * PowerResultCache - Bounded, thread-safe memoization of {@link PowerCalculatorEngine#compute(double, double)}.
+ *
+ * The cache is a set-associative table of primitive longs: each (x, y) pair is hashed from the raw
+ * bits of both arguments to a set of {@value #WAYS} slots, and each slot holds the bits of x, y
+ * and the result, so nothing is boxed. When a set is full, a CLOCK hand sweeps its slots, clearing
+ * reference bits, and evicts the first slot that has not been hit since the hand last passed.
+ *
+ * Sets are guarded by a fixed number of lock stripes. Lookups are optimistic reads that take no
+ * lock unless a concurrent insertion into the same stripe invalidates them; insertions take the
+ * write lock of their stripe only. Hits, misses and evictions are counted with LongAdder.
+ *
+ * Keys are compared bit for bit, so 0.0 and -0.0 are distinct keys and every NaN payload is its
+ * own key; results are always identical to compute.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class PowerResultCache {
+
+    // Slots per set, and longs per slot: the bits of x, of y and of the result
+    static final int WAYS = 8;
+    private static final int SLOT_LONGS = 3;
+
+    private final long[] slots;
+    // Reference bit of each slot, set by hits without a lock: a lost update only makes the CLOCK
+    // hand treat an entry as older than it is
+    private final byte[] referenced;
+    // Number of filled slots and position of the CLOCK hand, per set
+    private final int[] sizes;
+    private final int[] hands;
+    private final int setMask;
+    private final StampedLock[] locks;
+    private final int lockMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at least {@code capacity} results, rounded up to a power of two
+     * and at least {@value #WAYS}.
+     *
+     * @param capacity the number of results to keep
+     * @throws IllegalArgumentException if capacity is not positive or larger than 2^24
+     */
+    public PowerResultCache(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("Capacity must be in [1, 2^24]: " + capacity);
+        }
+        final int sets = Math.max(1, Integer.highestOneBit(capacity - 1) * 2 / WAYS);
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int stripes = Math.min(sets, Integer.highestOneBit(processors * 8 - 1) * 2);
+        this.slots = new long[sets * WAYS * SLOT_LONGS];
+        this.referenced = new byte[sets * WAYS];
+        this.sizes = new int[sets];
+        this.hands = new int[sets];
+        this.setMask = sets - 1;
+        this.locks = new StampedLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.lockMask = stripes - 1;
+    }
+
+    /**
+     * Returns x^y from the cache, computing and caching it on a miss.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @return x^y, identical to {@link PowerCalculatorEngine#compute(double, double)}
+     */
+    public double compute(final double x, final double y) {
+        final long xBits = Double.doubleToRawLongBits(x);
+        final long yBits = Double.doubleToRawLongBits(y);
+        final int set = hash(xBits, yBits) & setMask;
+        final StampedLock lock = locks[set & lockMask];
+
+        long stamp = lock.tryOptimisticRead();
+        int slot = find(set, xBits, yBits);
+        long resultBits = slot >= 0 ? slots[slot * SLOT_LONGS + 2] : 0L;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slot = find(set, xBits, yBits);
+                resultBits = slot >= 0 ? slots[slot * SLOT_LONGS + 2] : 0L;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (slot >= 0) {
+            referenced[slot] = 1;
+            hits.increment();
+            return Double.longBitsToDouble(resultBits);
+        }
+
+        misses.increment();
+        final double result = PowerCalculatorEngine.compute(x, y);
+        stamp = lock.writeLock();
+        try {
+            if (find(set, xBits, yBits) < 0) {
+                insert(set, xBits, yBits, Double.doubleToRawLongBits(result));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return result;
+    }
+
+    /**
+     * Looks up a key in its set. Safe to call under an optimistic read: the result is only used
+     * once the stamp has been validated.
+     *
+     * @param set the set of the key
+     * @param xBits the bits of x
+     * @param yBits the bits of y
+     * @return the slot of the key, or -1 if it is not cached
+     */
+    private int find(final int set, final long xBits, final long yBits) {
+        final int first = set * WAYS;
+        final int size = Math.min(sizes[set], WAYS);
+        for (int i = 0; i < size; i++) {
+            final int base = (first + i) * SLOT_LONGS;
+            if (slots[base] == xBits && slots[base + 1] == yBits) {
+                return first + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores a result in its set, evicting an entry with the CLOCK policy if the set is full.
+     * The caller holds the write lock of the set.
+     *
+     * @param set the set of the key
+     * @param xBits the bits of x
+     * @param yBits the bits of y
+     * @param resultBits the bits of x^y
+     */
+    private void insert(final int set, final long xBits, final long yBits, final long resultBits) {
+        final int first = set * WAYS;
+        int slot;
+        if (sizes[set] < WAYS) {
+            slot = first + sizes[set];
+        } else {
+            // Give every referenced entry a second chance; hits racing with the sweep may set bits
+            // again, so stop after one full turn
+            int hand = hands[set];
+            for (int i = 0; i < WAYS && referenced[first + hand] != 0; i++) {
+                referenced[first + hand] = 0;
+                hand = (hand + 1) & (WAYS - 1);
+            }
+            slot = first + hand;
+            hands[set] = (hand + 1) & (WAYS - 1);
+            evictions.increment();
+        }
+        final int base = slot * SLOT_LONGS;
+        slots[base] = xBits;
+        slots[base + 1] = yBits;
+        slots[base + 2] = resultBits;
+        referenced[slot] = 0;
+        if (sizes[set] < WAYS) {
+            sizes[set]++;
+        }
+    }
+
+    /**
+     * Mixes the bits of both arguments into a well-distributed hash.
+     *
+     * @param xBits the bits of x
+     * @param yBits the bits of y
+     * @return the hash
+     */
+    private static int hash(final long xBits, final long yBits) {
+        long h = xBits * 0x9e37_79b9_7f4a_7c15L + yBits;
+        h ^= h >>> 33;
+        h *= 0xff51_afd7_ed55_8ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ce_b9fe_1a85_ec53L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    /**
+     * Removes every entry. Counters are not reset.
+     */
+    public void clear() {
+        for (int set = 0; set <= setMask; set++) {
+            final StampedLock lock = locks[set & lockMask];
+            final long stamp = lock.writeLock();
+            try {
+                sizes[set] = 0;
+                hands[set] = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of cached results.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return sizes.length * WAYS;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to call compute.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new results.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+}
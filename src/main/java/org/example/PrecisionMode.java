@@ -0,0 +1,61 @@
+package org.example;
+
+/**
+ * PrecisionMode - Accuracy and speed trade-off of {@link PowerCalculatorEngine#compute(double, double, PrecisionMode)}.
+ *
+ * Every mode has the same special-value semantics: zero, infinite, NaN and unit bases, the
+ * exponents 0, 2, 0.5, +/-1 and infinity, and negative bases are handled exactly as by
+ * {@link PowerCalculatorEngine#compute(double, double)}. The modes differ only in how accurately
+ * the generic x^y = 2^(y * log2|x|) path is evaluated, bounded by {@link #ulpBound()}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public enum PrecisionMode {
+
+    /**
+     * Short polynomials in plain double arithmetic: log2 with a degree 4 polynomial in s^2 and
+     * 2^f with a degree 7 polynomial, without the double-double compensation of the default path.
+     * The relative error is below 2^-32 (about 2.3e-10), at most 2^21 ulp. Small integer
+     * exponents keep the exact path of the default mode, and results within the bound of the
+     * overflow threshold may overflow.
+     */
+    FAST(0x1.0p21),
+
+    /**
+     * The double-double pipeline of {@link PowerCalculatorEngine#compute(double, double)}: log2|x|
+     * carried to about 2^-64 and a compensated exponential, with an error below 1 ulp.
+     */
+    DEFAULT(1.0),
+
+    /**
+     * log|x| and e^r both carried in double-double arithmetic to about 2^-100 and rounded once,
+     * with an error below 0.5 + 2^-30 ulp: the result is correctly rounded unless x^y lies within
+     * 2^-30 ulp of the midpoint between two doubles. About ten times slower than the default.
+     */
+    STRICT(0.5 + 0x1.0p-30),
+
+    /**
+     * The {@link #STRICT} pipeline followed by a rounding test, with a BigDecimal slow path when
+     * x^y lies too close to the midpoint between two doubles (Ziv's strategy): every result is
+     * correctly rounded, ties to even, and bit-reproducible. The slow path is rare and counted by
+     * {@link CorrectRounding}, so the speed is that of the strict mode.
+     */
+    CORRECTLY_ROUNDED(0.5);
+
+    private final double ulpBound;
+
+    PrecisionMode(final double ulpBound) {
+        this.ulpBound = ulpBound;
+    }
+
+    /**
+     * Returns the largest error of a finite result in this mode, in units in the last place of
+     * the exact x^y.
+     *
+     * @return the error bound in ulp
+     */
+    public double ulpBound() {
+        return ulpBound;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example;
+
+/**
+ * ResultCategory - Classification of power calculation outcomes.
+ *
+ * Every front end reports invalid inputs, NaN results and infinite results with the same
+ * categories, titles and explanations, so the GUI and the command line stay consistent.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public enum ResultCategory {
+    /** A finite result. */
+    SUCCESS("Success"),
+    /** A base or exponent is missing. */
+    MISSING_INPUT("Missing Input"),
+    /** A base or exponent is not a number. */
+    INVALID_INPUT("Invalid Input Format"),
+    /** The expression 0^0. */
+    UNDEFINED("Mathematical Undefined"),
+    /** A zero base with a negative exponent and a NaN result. */
+    DIVISION_BY_ZERO("Division by Zero"),
+    /** A negative base with a fractional exponent. */
+    COMPLEX_NUMBER("Complex Number Result"),
+    /** Any other NaN result. */
+    INVALID_RESULT("Invalid Result"),
+    /** A zero base with a negative exponent and an infinite result. */
+    INFINITE_RESULT("Infinite Result"),
+    /** A result too large to represent, positive. */
+    POSITIVE_OVERFLOW("Overflow - Positive Infinity"),
+    /** A result too large to represent, negative. */
+    NEGATIVE_OVERFLOW("Overflow - Negative Infinity");
+
+    private final String title;
+
+    ResultCategory(final String title) {
+        this.title = title;
+    }
+
+    /**
+     * Classifies the result of a calculation.
+     *
+     * @param x the base value
+     * @param y the exponent value
+     * @param result the computed x^y
+     * @return the category of the result
+     */
+    public static ResultCategory classify(final double x, final double y, final double result) {
+        if (Double.isNaN(result)) {
+            if (x == 0 && y == 0) {
+                return UNDEFINED;
+            } else if (x == 0 && y < 0) {
+                return DIVISION_BY_ZERO;
+            } else if (x < 0 && (y % 1 != 0)) {
+                return COMPLEX_NUMBER;
+            }
+            return INVALID_RESULT;
+        }
+        if (Double.isInfinite(result)) {
+            if (x == 0 && y < 0) {
+                return INFINITE_RESULT;
+            }
+            return (result > 0) ? POSITIVE_OVERFLOW : NEGATIVE_OVERFLOW;
+        }
+        return SUCCESS;
+    }
+
+    /**
+     * Returns whether this category reports an error.
+     *
+     * @return false only for {@link #SUCCESS}
+     */
+    public boolean isError() {
+        return this != SUCCESS;
+    }
+
+    /**
+     * Returns the short title of this category.
+     *
+     * @return the title
+     */
+    public String title() {
+        return title;
+    }
+
+    /**
+     * Returns the explanation shown to the user for this category.
+     *
+     * @param x the base value
+     * @param y the exponent value
+     * @return the message, possibly spanning several lines
+     */
+    public String message(final double x, final double y) {
+        switch (this) {
+            case MISSING_INPUT:
+                return "Please enter both base and exponent values.";
+            case INVALID_INPUT:
+                return "Please enter valid numerical values for both base and exponent.\n" +
+                        "Examples: 2.5, -3, 0.5, 1e6";
+            case UNDEFINED:
+                return "The expression 0^0 is mathematically undefined.\n" +
+                        "This is because any number raised to the power of 0 equals 1,\n" +
+                        "but 0 raised to any power equals 0, creating a contradiction.";
+            case DIVISION_BY_ZERO:
+                return "Raising 0 to a negative power is undefined.\n" +
+                        "This would require division by zero, which is not allowed in mathematics.\n" +
+                        "Try using a positive exponent or a non-zero base.";
+            case COMPLEX_NUMBER:
+                return "Negative base with fractional exponent results in complex numbers.\n" +
+                        "This calculator only handles real numbers.\n" +
+                        "Try using an integer exponent or a positive base.";
+            case INVALID_RESULT:
+                return "The result of " + x + "^" + y + " is not a real number.\n" +
+                        "This may be due to mathematical constraints or overflow.";
+            case INFINITE_RESULT:
+                return "Raising 0 to a negative power results in infinity.\n" +
+                        "This represents division by zero.";
+            case POSITIVE_OVERFLOW:
+                return "The result is too large to represent as a finite number.\n" +
+                        "Result: Positive Infinity\n" +
+                        "This occurs when the calculation exceeds the maximum representable value.";
+            case NEGATIVE_OVERFLOW:
+                return "The result is too large to represent as a finite number.\n" +
+                        "Result: Negative Infinity\n" +
+                        "This occurs when the calculation exceeds the maximum representable value.";
+            default:
+                return "Calculation completed successfully!";
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.example;
+
+import static org.example.PowerTables.EXP_TABLE;
+import static org.example.PowerTables.EXP_TABLE_BITS;
+import static org.example.PowerTables.LOG_TABLE;
+import static org.example.PowerTables.LOG_TABLE_BITS;
+
+/**
+ * TablePowerEngine - Table-driven calculation of x^y.
+ *
+ * This engine computes x^y as exp(y * log(x)) with the natural logarithm and exponential, each
+ * reduced through a 128-entry lookup table so that only short polynomials remain:
+ * log(x) = k ln2 + log(c) + log1p(z/c - 1) with a degree 8 polynomial, and
+ * exp(x) = 2^(k/128) * exp(r) with a degree 5 polynomial. The logarithm is carried with about
+ * 15 extra bits, which keeps the worst-case error near 0.52 ulp, within the sub-ulp accuracy of
+ * {@link PowerCalculatorEngine#compute(double, double)}; results that are exactly representable,
+ * such as integer powers of integers, are returned exactly.
+ *
+ * Special exponents (0, 1, -1, 2, 0.5, tiny, huge, infinite and NaN) and special bases (zero,
+ * infinite and NaN) are evaluated by {@link PowerCalculatorEngine#compute(double, double)}, so
+ * both engines agree on every edge case. The engine allocates nothing and is thread-safe.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class TablePowerEngine {
+
+    // Table sizes and the offset that centres the reduced mantissa range on 1.0
+    private static final int LOG_N = 1 << LOG_TABLE_BITS;
+    private static final int EXP_N = 1 << EXP_TABLE_BITS;
+    private static final long LOG_OFFSET = 0x3fe6_9555_0000_0000L;
+
+    // ln2 split so that k * LN2_HI is exact for every exponent k of a double
+    private static final double LN2_HI = 0x1.62e4_2fef_a3800p-1;
+    private static final double LN2_LO = 0x1.ef35_793c_76730p-45;
+
+    // Coefficients of log1p(r) - r, scaled to match the evaluation order (relative error 2^-68.7
+    // for |r| < 0.00574)
+    private static final double A0 = -0.5;
+    private static final double A1 = -0x1.5555_5555_55562p-1;
+    private static final double A2 = 0x1.0000_0000_0001ap-1;
+    private static final double A3 = 0x1.9999_9994_fd574p-1;
+    private static final double A4 = -0x1.5555_554e_dd4a7p-1;
+    private static final double A5 = -0x1.2495_f8a6_87cc9p0;
+    private static final double A6 = 0x1.0004_054a_bf303p0;
+
+    // Reduction constants of the exponential: 128/ln2, ln2/128 split high/low, and the shift that
+    // rounds to an integer in the low bits of the mantissa
+    private static final double INV_LN2_N = 0x1.7154_7652_b82fep7;
+    private static final double NEG_LN2_HI_N = -0x1.62e4_2fef_a0000p-8;
+    private static final double NEG_LN2_LO_N = -0x1.cf79_abc9_e3b3ap-47;
+    private static final double SHIFT = 0x1.8p52;
+
+    // Coefficients of exp(r) - 1 - r (absolute error 2^-65.3 for |r| < ln2/256)
+    private static final double C2 = 0x1.ffff_ffff_ffdb0p-2;
+    private static final double C3 = 0x1.5555_5555_55436p-3;
+    private static final double C4 = 0x1.5555_5d07_b19fbp-5;
+    private static final double C5 = 0x1.1111_1689_a6c8ep-7;
+
+    // Added to the table index before it is shifted into the exponent field, flips the sign bit
+    private static final long SIGN_BIAS = 0x800L << EXP_TABLE_BITS;
+
+    // High 12 bits of 2^-54, 512 and 1024: bounds of the common path of the exponential
+    private static final int TOP_TINY = 0x3c9;
+    private static final int TOP_LARGE = 0x408;
+    private static final int TOP_OVERFLOW = 0x409;
+
+    // High 11 bits of |y| outside which x^y is 1, zero or infinite for every finite x != 0
+    private static final int TOP_Y_MIN = 0x3be;
+    private static final int TOP_Y_MAX = 0x43e;
+
+    private TablePowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * Computes x raised to the power of y with the table-driven algorithm.
+     *
+     * @param x the base
+     * @param y the exponent
+     * @return x^y
+     */
+    public static double compute(final double x, final double y) {
+        final long iy = Double.doubleToRawLongBits(y);
+        final int topY = (int) (iy >>> 52) & 0x7ff;
+        if (topY < TOP_Y_MIN || topY >= TOP_Y_MAX || y == 2.0 || y == 0.5 || Math.abs(y) == 1.0
+                || x == 0.0 || Double.isNaN(x) || Double.isInfinite(x)) {
+            return PowerCalculatorEngine.compute(x, y);
+        }
+
+        long ix = Double.doubleToRawLongBits(x);
+        long signBias = 0;
+        if (ix < 0) {
+            // (x < 0)**(non-int) is NaN; odd integer exponents flip the sign of |x|^y
+            final int yIsInt = integerClass(iy);
+            if (yIsInt == 0) {
+                return PowerCalculatorEngine.compute(x, y);
+            }
+            if (yIsInt == 1) {
+                signBias = SIGN_BIAS;
+            }
+            ix &= Long.MAX_VALUE;
+        }
+        if ((ix >>> 52) == 0) {
+            // Subnormal base: normalize, letting the exponent field borrow from the sign bit
+            ix = Double.doubleToRawLongBits(Double.longBitsToDouble(ix) * 0x1.0p52) - (52L << 52);
+        }
+
+        // log(x) = k ln2 + log(c) + log1p(z/c - 1) with x = 2^k z and z in [0x1.69555p-1, 0x1.69555p0)
+        final long tmp = ix - LOG_OFFSET;
+        final int i = 3 * (int) ((tmp >>> (52 - LOG_TABLE_BITS)) & (LOG_N - 1));
+        final double kd = (double) (tmp >> 52);
+        final long iz = ix - (tmp & (0xfffL << 52));
+        final double z = Double.longBitsToDouble(iz);
+        final double invC = LOG_TABLE[i];
+        final double logC = LOG_TABLE[i + 1];
+        final double logCTail = LOG_TABLE[i + 2];
+
+        // Split z so that rHi, rLo and rHi * rHi are exact; r = z/c - 1 has |r| < 1/128
+        final double zHi = Double.longBitsToDouble((iz + (1L << 31)) & (-1L << 32));
+        final double zLo = z - zHi;
+        final double rHi = zHi * invC - 1.0;
+        final double rLo = zLo * invC;
+        final double r = rHi + rLo;
+
+        // k ln2 + log(c) + r, with the rounding errors collected in lo1 and lo2
+        final double t1 = kd * LN2_HI + logC;
+        final double t2 = t1 + r;
+        final double lo1 = kd * LN2_LO + logCTail;
+        final double lo2 = t1 - t2 + r;
+
+        // Add A0 * r * r exactly and the rest of the polynomial
+        final double ar = A0 * r;
+        final double ar2 = r * ar;
+        final double ar3 = r * ar2;
+        final double arHi = A0 * rHi;
+        final double arHi2 = rHi * arHi;
+        final double hi = t2 + arHi2;
+        final double lo3 = rLo * (ar + arHi);
+        final double lo4 = t2 - hi + arHi2;
+        final double p = ar3 * (A1 + r * A2 + ar2 * (A3 + r * A4 + ar2 * (A5 + r * A6)));
+        final double lo = lo1 + lo2 + lo3 + lo4 + p;
+        final double logHi = hi + lo;
+        final double logLo = hi - logHi + lo;
+
+        // y * log(x) as eHi + eLo, with the high parts short enough for exact products
+        final double yHi = Double.longBitsToDouble(iy & (-1L << 27));
+        final double yLo = y - yHi;
+        final double lHi = Double.longBitsToDouble(Double.doubleToRawLongBits(logHi) & (-1L << 27));
+        final double lLo = logHi - lHi + logLo;
+        final double eHi = yHi * lHi;
+        final double eLo = yLo * lHi + y * lLo;
+        return exp(eHi, eLo, signBias);
+    }
+
+    /**
+     * Computes sign * exp(x + xTail) where |xTail| is far below the ulp of |x|.
+     *
+     * @param x the exponent
+     * @param xTail the low part of the exponent
+     * @param signBias {@link #SIGN_BIAS} for a negative result, 0 otherwise
+     * @return sign * exp(x + xTail)
+     */
+    private static double exp(final double x, final double xTail, final long signBias) {
+        final int absTop = (int) (Double.doubleToRawLongBits(x) >>> 52) & 0x7ff;
+        final boolean large = absTop >= TOP_LARGE;
+        if (absTop < TOP_TINY) {
+            // |x| < 2^-54: the result rounds to +/-1
+            final double one = 1.0 + x;
+            return signBias != 0 ? -one : one;
+        }
+        if (absTop >= TOP_OVERFLOW) {
+            // |x| >= 1024: overflow or underflow
+            final double z = x < 0.0 ? 0.0 : Double.POSITIVE_INFINITY;
+            return signBias != 0 ? -z : z;
+        }
+
+        // exp(x) = 2^(k/128) * exp(r), with x = k ln2/128 + r and |r| <= ln2/256
+        final double z = INV_LN2_N * x;
+        double kd = z + SHIFT;
+        final long ki = Double.doubleToRawLongBits(kd);
+        kd -= SHIFT;
+        double r = x + kd * NEG_LN2_HI_N + kd * NEG_LN2_LO_N;
+        r += xTail;
+
+        // 2^(k/128) ~= scale * (1 + tail)
+        final int idx = 2 * (int) (ki & (EXP_N - 1));
+        final long top = (ki + signBias) << (52 - EXP_TABLE_BITS);
+        final double tail = Double.longBitsToDouble(EXP_TABLE[idx]);
+        final long sBits = EXP_TABLE[idx + 1] + top;
+
+        // exp(x) ~= scale + scale * (tail + exp(r) - 1)
+        final double r2 = r * r;
+        final double tmp = tail + r + r2 * (C2 + r * C3) + r2 * r2 * (C4 + r * C5);
+        if (large) {
+            return specialCase(tmp, sBits, ki);
+        }
+        final double scale = Double.longBitsToDouble(sBits);
+        return scale + scale * tmp;
+    }
+
+    /**
+     * Finishes exp for 512 <= |x| < 1024, where the scale itself may overflow or be subnormal.
+     *
+     * @param tmp the polynomial part, exp(r) * (1 + tail) - 1
+     * @param sBits the bits of the scale, possibly with an out-of-range exponent
+     * @param ki the bits of the rounded k, whose bit 31 holds the sign of k
+     * @return scale + scale * tmp, correctly scaled
+     */
+    private static double specialCase(final double tmp, final long sBits, final long ki) {
+        if ((ki & 0x8000_0000L) == 0) {
+            // k > 0: the exponent of the scale may have overflowed by up to 460
+            final double scale = Double.longBitsToDouble(sBits - (1009L << 52));
+            return 0x1.0p1009 * (scale + scale * tmp);
+        }
+        // k < 0: compute in the normal range first
+        final long bits = sBits + (1022L << 52);
+        final double scale = Double.longBitsToDouble(bits);
+        double y = scale + scale * tmp;
+        if (Math.abs(y) < 1.0) {
+            // Round y to the precision of the subnormal result before scaling it down, which
+            // avoids a double rounding
+            final double one = y < 0.0 ? -1.0 : 1.0;
+            double lo = scale - y + scale * tmp;
+            final double hi = one + y;
+            lo = one - hi + y + lo;
+            y = (hi + lo) - one;
+            if (y == 0.0) {
+                // Keep the sign of a zero result
+                y = Double.longBitsToDouble(bits & Long.MIN_VALUE);
+            }
+        }
+        return 0x1.0p-1022 * y;
+    }
+
+    /**
+     * Classifies a finite exponent the same way as the scalar engine.
+     *
+     * @param iy the bits of y
+     * @return 0 if y is not an integer, 1 if it is an odd integer, 2 if it is an even integer
+     */
+    private static int integerClass(final long iy) {
+        final int e = ((int) (iy >>> 52) & 0x7ff) - 0x3ff;
+        if (e < 0) {
+            return 0;
+        }
+        if (e > 52) {
+            return 2;
+        }
+        final long unit = 1L << (52 - e);
+        if ((iy & (unit - 1)) != 0) {
+            return 0;
+        }
+        return (iy & unit) != 0 ? 1 : 2;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example;
+
+/**
+ * UnsignedMath - 128-bit products of unsigned longs.
+ *
+ * Shared by the Montgomery reduction of {@link IntegerPowerEngine} and the Eisel-Lemire
+ * multiplication by powers of five of {@link FastDoubleParser}. {@code Math.unsignedMultiplyHigh}
+ * only arrives in Java 18, so the high word is derived from the signed
+ * {@link Math#multiplyHigh(long, long)}.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class UnsignedMath {
+
+    private UnsignedMath() {
+        // Utility class
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product of two longs.
+     *
+     * @param a the first factor, unsigned
+     * @param b the second factor, unsigned
+     * @return the high word of a * b
+     */
+    static long multiplyHigh(final long a, final long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+}
@@ -0,0 +1,517 @@
+package org.example;
+
+import java.util.Objects;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorizedPowerEngine - SIMD batch evaluation of x^y using the Java Vector API.
+ *
+ * This class runs the generic path of {@link PowerCalculatorEngine#compute(double, double)} across
+ * all lanes of a {@link DoubleVector} at once: the bit-level mantissa split, the L1..L6 log2
+ * polynomial and the P1..P5 exp2 polynomial are evaluated with exactly the same sequence of IEEE
+ * operations, so every result matches the scalar engine bit for bit. Lanes that the scalar engine
+ * treats specially (zero, one, infinity, NaN, negative bases with non-integer exponents, subnormal
+ * bases, small integer and huge exponents, and results that overflow, underflow or become
+ * subnormal) are masked out and recomputed with the scalar code.
+ *
+ * The class requires the incubating module {@code jdk.incubator.vector} at run time
+ * ({@code --add-modules jdk.incubator.vector}).
+ *
+ * Every batch method records a {@link PowerBatchEvent} for Flight Recorder.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+public final class VectorizedPowerEngine {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = SPECIES.withLanes(long.class);
+
+    // Masks and fields of the IEEE 754 bit layout
+    private static final long LOW_WORD = 0x0000_0000_FFFF_FFFFL;
+    private static final long HIGH_WORD = 0xFFFF_FFFF_0000_0000L;
+
+    // Bounds of the lanes handled by the vector kernel
+    private static final double HUGE_EXPONENT = 0x1.00000_ffff_ffffp31;
+    private static final double MIN_NORMAL = 0x1.0p-1022;
+
+    // Rounding constants: 2^52 rounds to integers, 1.5 * 2^52 converts between small longs and doubles
+    private static final double TWO_52 = 0x1.0p52;
+    private static final double LONG_TO_DOUBLE = 0x1.8p52;
+
+    // Smallest |z| whose high word exceeds that of 0.5, where the scalar code starts rounding z
+    private static final double ROUNDING_THRESHOLD = 0x1.00001p-1;
+
+    // Lanes whose y * log2|x| falls outside this range may overflow, underflow or become subnormal
+    private static final double OVERFLOW_EXPONENT = 1024.0;
+    private static final double SUBNORMAL_EXPONENT = -1021.0;
+
+    // Elements per block, and the per-thread buffer that carries a block from one pass to the next.
+    // The first two slots hold a high/low pair (ss and sL, then t1 and t2, then pH and pL), followed
+    // by the sign (zero for lanes computed by the scalar engine), the scalar results, the series sum,
+    // the integer exponent (n, then m) and the interval offsets of the log reduction
+    private static final int BLOCK_SIZE = 256;
+    private static final int LOG_LOW_SLOT = BLOCK_SIZE;
+    private static final int SIGN_SLOT = 2 * BLOCK_SIZE;
+    private static final int FALLBACK_SLOT = 3 * BLOCK_SIZE;
+    private static final int SERIES_SLOT = 4 * BLOCK_SIZE;
+    private static final int EXPONENT_SLOT = 5 * BLOCK_SIZE;
+    private static final int INTERVAL_SLOT = 6 * BLOCK_SIZE;
+    private static final int INTERVAL_LOW_SLOT = 7 * BLOCK_SIZE;
+    private static final ThreadLocal<double[]> SCRATCH = ThreadLocal.withInitial(() -> new double[8 * BLOCK_SIZE]);
+
+    private VectorizedPowerEngine() {
+        // Utility class
+    }
+
+    /**
+     * Returns the number of doubles processed per vector iteration on this platform.
+     *
+     * @return the lane count of the preferred double species
+     */
+    public static int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Computes x[i]^y[i] for every element of the input arrays.
+     *
+     * @param x the bases
+     * @param y the exponents, same length as {@code x}
+     * @param out the destination, at least as long as {@code x}
+     * @throws IllegalArgumentException if {@code y} or {@code out} is too short
+     */
+    public static void computeAll(final double[] x, final double[] y, final double[] out) {
+        if (y.length != x.length || out.length < x.length) {
+            throw new IllegalArgumentException("Array lengths do not match: x=" + x.length
+                    + ", y=" + y.length + ", out=" + out.length);
+        }
+        computeAll(x, 0, y, 0, out, 0, x.length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+     *
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double[] x, final int xOffset, final double[] y, final int yOffset,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        computeRange(x, xOffset, 0.0, y, yOffset, 0.0, out, outOffset, length);
+        event.finish("vectorized", PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+
+    /**
+     * Computes x[xOffset + i]^y into out[outOffset + i] for i in [0, length).
+     *
+     * @param x the bases
+     * @param xOffset index of the first base
+     * @param y the exponent shared by all elements
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double[] x, final int xOffset, final double y,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(xOffset, length, x.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        computeRange(x, xOffset, 0.0, null, 0, y, out, outOffset, length);
+        event.finish("vectorized", PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+
+    /**
+     * Computes x^y[yOffset + i] into out[outOffset + i] for i in [0, length).
+     *
+     * @param x the base shared by all elements
+     * @param y the exponents
+     * @param yOffset index of the first exponent
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     * @throws IndexOutOfBoundsException if any range lies outside its array
+     */
+    public static void computeAll(final double x, final double[] y, final int yOffset,
+                                  final double[] out, final int outOffset, final int length) {
+        Objects.checkFromIndexSize(yOffset, length, y.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        final PowerBatchEvent event = new PowerBatchEvent();
+        event.begin();
+        computeRange(null, 0, x, y, yOffset, 0.0, out, outOffset, length);
+        event.finish("vectorized", PrecisionMode.DEFAULT, out, outOffset, length);
+    }
+
+    /**
+     * Clears the low 32 bits of every lane, the vector form of {@code calculateLow(v, 0)}.
+     *
+     * @param v the input lanes
+     * @return the lanes with their low words cleared
+     */
+    private static DoubleVector clearLow(final DoubleVector v) {
+        return v.reinterpretAsLongs().lanewise(VectorOperators.AND, HIGH_WORD).reinterpretAsDoubles();
+    }
+
+    /**
+     * Builds doubles whose high words are the given values and whose low words are zero.
+     *
+     * @param high the high words, one per lane
+     * @return the assembled lanes
+     */
+    private static DoubleVector fromHigh(final LongVector high) {
+        return high.lanewise(VectorOperators.LSHL, 32).reinterpretAsDoubles();
+    }
+
+    /**
+     * Converts small integers (|n| < 2^51) to doubles without a lane conversion instruction.
+     *
+     * @param n the integers, one per lane
+     * @return the same values as doubles
+     */
+    private static DoubleVector toDouble(final LongVector n) {
+        return n.add(Double.doubleToRawLongBits(LONG_TO_DOUBLE)).reinterpretAsDoubles().sub(LONG_TO_DOUBLE);
+    }
+
+    /**
+     * Converts integral doubles (|v| < 2^51) to longs without a lane conversion instruction.
+     *
+     * @param v the integral values, one per lane
+     * @return the same values as longs
+     */
+    private static LongVector toLong(final DoubleVector v) {
+        return v.add(LONG_TO_DOUBLE).reinterpretAsLongs().sub(Double.doubleToRawLongBits(LONG_TO_DOUBLE));
+    }
+
+    /**
+     * Runs the vector kernel over a range in blocks, with the scalar engine for the tail.
+     *
+     * Each block goes through five passes, classification, reduction, logarithm, scaling and
+     * exponential, that meet in a small per-thread scratch buffer. Keeping the passes in separate
+     * methods lets the JIT compile every vector operation to machine instructions; a single method
+     * holding the whole kernel exceeds its inlining budget and falls back to boxed vectors.
+     *
+     * The range is not checked and no event is recorded, so that ParallelPowerEngine can compute
+     * its pieces under one event for the whole batch.
+     *
+     * @param xs the bases, or null to use {@code xValue} for every element
+     * @param xOffset index of the first base
+     * @param xValue the shared base when {@code xs} is null
+     * @param ys the exponents, or null to use {@code yValue} for every element
+     * @param yOffset index of the first exponent
+     * @param yValue the shared exponent when {@code ys} is null
+     * @param out the destination
+     * @param outOffset index of the first result
+     * @param length number of elements to compute
+     */
+    static void computeRange(final double[] xs, final int xOffset, final double xValue,
+                             final double[] ys, final int yOffset, final double yValue,
+                             final double[] out, final int outOffset, final int length) {
+        final double[] scratch = SCRATCH.get();
+        final int vectorLength = SPECIES.loopBound(length);
+        for (int block = 0; block < vectorLength; block += BLOCK_SIZE) {
+            int count = Math.min(BLOCK_SIZE, vectorLength - block);
+            classifyPass(xs, xOffset + block, xValue, ys, yOffset + block, yValue, count, scratch);
+            reducePass(xs, xOffset + block, xValue, count, scratch);
+            logPass(count, scratch);
+            scalePass(xs, xOffset + block, xValue, ys, yOffset + block, yValue, count, scratch);
+            expPass(count, scratch, out, outOffset + block);
+        }
+        for (int index = vectorLength; index < length; index++) {
+            out[outOffset + index] = PowerCalculatorEngine.compute(xs == null ? xValue : xs[xOffset + index],
+                    ys == null ? yValue : ys[yOffset + index]);
+        }
+    }
+
+    /**
+     * Loads the lanes of one operand, either from its array or from the broadcast value.
+     *
+     * @param values the array, or null to broadcast {@code value}
+     * @param index index of the first lane in {@code values}
+     * @param value the broadcast value
+     * @return the operand lanes
+     */
+    private static DoubleVector load(final double[] values, final int index, final double value) {
+        return values == null ? DoubleVector.broadcast(SPECIES, value) : DoubleVector.fromArray(SPECIES, values, index);
+    }
+
+    /**
+     * First pass: finds the lanes the scalar engine short-circuits and the sign of the result.
+     *
+     * Special lanes are evaluated right away with the scalar engine; their results go to the
+     * fallback section of the scratch buffer and their sign slot is set to zero.
+     *
+     * @param xs the bases, or null to use {@code xValue}
+     * @param xOffset index of the first base
+     * @param xValue the shared base when {@code xs} is null
+     * @param ys the exponents, or null to use {@code yValue}
+     * @param yOffset index of the first exponent
+     * @param yValue the shared exponent when {@code ys} is null
+     * @param count number of elements, a multiple of the lane count
+     * @param scratch the pass buffer
+     */
+    private static void classifyPass(final double[] xs, final int xOffset, final double xValue,
+                                     final double[] ys, final int yOffset, final double yValue,
+                                     final int count, final double[] scratch) {
+        final DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+        for (int index = 0; index < count; index += SPECIES.length()) {
+            DoubleVector x = load(xs, xOffset + index, xValue);
+            DoubleVector y = load(ys, yOffset + index, yValue);
+            DoubleVector yAbs = y.abs();
+            DoubleVector xAbs = x.abs();
+
+            // Lanes the scalar engine short-circuits: special exponents and special or subnormal bases.
+            // Comparisons are false for NaN, so NaN lanes are caught by the negated range tests.
+            VectorMask<Double> special = y.compare(VectorOperators.EQ, 2.0)
+                    .or(y.compare(VectorOperators.EQ, 0.5))
+                    .or(yAbs.compare(VectorOperators.EQ, 1.0))
+                    .or(yAbs.compare(VectorOperators.EQ, 0.0))
+                    .or(yAbs.compare(VectorOperators.LE, HUGE_EXPONENT).not())
+                    .or(xAbs.compare(VectorOperators.EQ, 1.0))
+                    .or(xAbs.compare(VectorOperators.GE, MIN_NORMAL).not())
+                    .or(xAbs.compare(VectorOperators.LE, Double.MAX_VALUE).not());
+
+            // Negative bases need an integer exponent; odd exponents flip the sign of the result
+            VectorMask<Double> negative = x.compare(VectorOperators.LT, 0.0);
+            // Adding 2^52 rounds |y| < 2^52 to an integer and leaves its parity in the lowest bit
+            DoubleVector yRounded = yAbs.add(TWO_52);
+            VectorMask<Double> yIsInt = yRounded.sub(TWO_52).compare(VectorOperators.EQ, yAbs);
+            VectorMask<Double> yIsOdd = yRounded.reinterpretAsLongs().lanewise(VectorOperators.AND, 1L)
+                    .compare(VectorOperators.EQ, 1L).cast(SPECIES).and(yIsInt);
+            special = special.or(negative.andNot(yIsInt));
+            // Small integer exponents take the exponentiation by squaring path of the scalar engine
+            special = special.or(yIsInt.and(yAbs.compare(VectorOperators.LT,
+                    PowerCalculatorEngine.INTEGER_EXPONENT_LIMIT)));
+            DoubleVector s = one.blend(-1.0, negative.and(yIsOdd));
+
+            s.blend(0.0, special).intoArray(scratch, SIGN_SLOT + index);
+            if (special.anyTrue()) {
+                for (int lane = 0; lane < SPECIES.length(); lane++) {
+                    if (special.laneIsSet(lane)) {
+                        scratch[FALLBACK_SLOT + index + lane] = PowerCalculatorEngine.compute(x.lane(lane),
+                                y.lane(lane));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Second pass: reduces |x| to 2^n * xm and evaluates the log2 series of xm.
+     *
+     * Stores ss, sL and the series sum r, together with the bits of n and the interval offsets DP_H[k]
+     * and DP_L[k], for {@link #logPass(int, double[])}.
+     *
+     * @param xs the bases, or null to use {@code xValue}
+     * @param xOffset index of the first base
+     * @param xValue the shared base when {@code xs} is null
+     * @param count number of elements, a multiple of the lane count
+     * @param scratch the pass buffer
+     */
+    private static void reducePass(final double[] xs, final int xOffset, final double xValue,
+                                   final int count, final double[] scratch) {
+        final DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+        for (int index = 0; index < count; index += SPECIES.length()) {
+            DoubleVector x = load(xs, xOffset + index, xValue);
+            // Split |x| = 2^n * xm with xm in [sqrt(2)/2, sqrt(2)) relative to BP[k]
+            LongVector xBits = x.abs().reinterpretAsLongs();
+            LongVector ix = xBits.lanewise(VectorOperators.LSHR, 32);
+            LongVector n = ix.lanewise(VectorOperators.ASHR, 20).sub(0x3ffL);
+            LongVector j = ix.lanewise(VectorOperators.AND, 0x000fffffL);
+            ix = j.lanewise(VectorOperators.OR, 0x3ff00000L);
+            VectorMask<Long> kOne = j.compare(VectorOperators.GT, 0x3988EL)
+                    .and(j.compare(VectorOperators.LT, 0xBB67AL));
+            VectorMask<Long> kWrap = j.compare(VectorOperators.GE, 0xBB67AL);
+            n = n.add(1L, kWrap);
+            ix = ix.sub(0x00100000L, kWrap);
+            DoubleVector xm = ix.lanewise(VectorOperators.LSHL, 32)
+                    .lanewise(VectorOperators.OR, xBits.lanewise(VectorOperators.AND, LOW_WORD))
+                    .reinterpretAsDoubles();
+
+            VectorMask<Double> kOneD = kOne.cast(SPECIES);
+            DoubleVector bp = DoubleVector.broadcast(SPECIES, PowerCalculatorEngine.BP[0])
+                    .blend(PowerCalculatorEngine.BP[1], kOneD);
+            DoubleVector dpH = DoubleVector.broadcast(SPECIES, PowerCalculatorEngine.DP_H[0])
+                    .blend(PowerCalculatorEngine.DP_H[1], kOneD);
+            DoubleVector dpL = DoubleVector.broadcast(SPECIES, PowerCalculatorEngine.DP_L[0])
+                    .blend(PowerCalculatorEngine.DP_L[1], kOneD);
+
+            // log2(xs) as a polynomial in ss = (xm - bp) / (xm + bp), carried in high/low parts
+            DoubleVector u = xm.sub(bp);
+            DoubleVector v = one.div(xm.add(bp));
+            DoubleVector ss = u.mul(v);
+            DoubleVector sH = clearLow(ss);
+            LongVector tHHigh = ix.lanewise(VectorOperators.ASHR, 1).lanewise(VectorOperators.OR, 0x20000000L)
+                    .add(0x00080000L).add(LongVector.zero(LONG_SPECIES).blend(1L << 18, kOne));
+            DoubleVector tH = fromHigh(tHHigh);
+            DoubleVector tL = xm.sub(tH.sub(bp));
+            DoubleVector sL = v.mul(u.sub(sH.mul(tH)).sub(sH.mul(tL)));
+            DoubleVector s2 = ss.mul(ss);
+            DoubleVector r = s2.mul(s2).mul(
+                    s2.mul(s2.mul(s2.mul(s2.mul(s2.mul(PowerCalculatorEngine.L6)
+                            .add(PowerCalculatorEngine.L5))
+                            .add(PowerCalculatorEngine.L4))
+                            .add(PowerCalculatorEngine.L3))
+                            .add(PowerCalculatorEngine.L2))
+                            .add(PowerCalculatorEngine.L1));
+            r = r.add(sL.mul(sH.add(ss)));
+
+            ss.intoArray(scratch, index);
+            sL.intoArray(scratch, LOG_LOW_SLOT + index);
+            r.intoArray(scratch, SERIES_SLOT + index);
+            n.reinterpretAsDoubles().intoArray(scratch, EXPONENT_SLOT + index);
+            dpH.intoArray(scratch, INTERVAL_SLOT + index);
+            dpL.intoArray(scratch, INTERVAL_LOW_SLOT + index);
+        }
+    }
+
+    /**
+     * Third pass: combines the reduction into log2|x| = t1 + t2, with t1 carrying only the high word.
+     *
+     * @param count number of elements, a multiple of the lane count
+     * @param scratch the pass buffer filled by {@link #reducePass}
+     */
+    private static void logPass(final int count, final double[] scratch) {
+        for (int index = 0; index < count; index += SPECIES.length()) {
+            DoubleVector ss = DoubleVector.fromArray(SPECIES, scratch, index);
+            DoubleVector sL = DoubleVector.fromArray(SPECIES, scratch, LOG_LOW_SLOT + index);
+            DoubleVector r = DoubleVector.fromArray(SPECIES, scratch, SERIES_SLOT + index);
+            LongVector n = DoubleVector.fromArray(SPECIES, scratch, EXPONENT_SLOT + index).reinterpretAsLongs();
+            DoubleVector t = toDouble(n);
+            DoubleVector dpH = DoubleVector.fromArray(SPECIES, scratch, INTERVAL_SLOT + index);
+            DoubleVector dpL = DoubleVector.fromArray(SPECIES, scratch, INTERVAL_LOW_SLOT + index);
+            DoubleVector sH = clearLow(ss);
+
+            // Assemble log2(xm) from the series and add the exponent and the interval offset
+            DoubleVector s2 = sH.mul(sH);
+            DoubleVector tH = clearLow(s2.add(3.0).add(r));
+            DoubleVector tL = r.sub(tH.sub(3.0).sub(s2));
+            DoubleVector u = sH.mul(tH);
+            DoubleVector v = sL.mul(tH).add(tL.mul(ss));
+            DoubleVector pH = clearLow(u.add(v));
+            DoubleVector pL = v.sub(pH.sub(u));
+            DoubleVector zH = pH.mul(PowerCalculatorEngine.CP_H);
+            DoubleVector zL = pH.mul(PowerCalculatorEngine.CP_L).add(pL.mul(PowerCalculatorEngine.CP)).add(dpL);
+            DoubleVector t1 = clearLow(zH.add(zL).add(dpH).add(t));
+            DoubleVector t2 = zL.sub(t1.sub(t).sub(dpH).sub(zH));
+
+            t1.intoArray(scratch, index);
+            t2.intoArray(scratch, LOG_LOW_SLOT + index);
+        }
+    }
+
+    /**
+     * Fourth pass: multiplies log2|x| by y and splits the product into an integer m and a fraction.
+     *
+     * Lanes whose product leaves the range of normal results are handed to the scalar engine here.
+     *
+     * @param xs the bases, or null to use {@code xValue}
+     * @param xOffset index of the first base
+     * @param xValue the shared base when {@code xs} is null
+     * @param ys the exponents, or null to use {@code yValue}
+     * @param yOffset index of the first exponent
+     * @param yValue the shared exponent when {@code ys} is null
+     * @param count number of elements, a multiple of the lane count
+     * @param scratch the pass buffer filled by {@link #logPass}
+     */
+    private static void scalePass(final double[] xs, final int xOffset, final double xValue,
+                                  final double[] ys, final int yOffset, final double yValue,
+                                  final int count, final double[] scratch) {
+        for (int index = 0; index < count; index += SPECIES.length()) {
+            DoubleVector y = load(ys, yOffset + index, yValue);
+            DoubleVector t1 = DoubleVector.fromArray(SPECIES, scratch, index);
+            DoubleVector t2 = DoubleVector.fromArray(SPECIES, scratch, LOG_LOW_SLOT + index);
+            DoubleVector s = DoubleVector.fromArray(SPECIES, scratch, SIGN_SLOT + index);
+
+            // (y1 + y2) * (t1 + t2) with y1 the high part of y
+            DoubleVector y1 = clearLow(y);
+            DoubleVector pL = y.sub(y1).mul(t1).add(y.mul(t2));
+            DoubleVector pH = y1.mul(t1);
+            DoubleVector z = pL.add(pH);
+
+            // Results near the overflow, underflow or subnormal range take the scalar route with
+            // its exact threshold tests
+            VectorMask<Double> outOfRange = z.compare(VectorOperators.LT, OVERFLOW_EXPONENT)
+                    .and(z.compare(VectorOperators.GT, SUBNORMAL_EXPONENT)).not()
+                    .andNot(s.compare(VectorOperators.EQ, 0.0));
+            if (outOfRange.anyTrue()) {
+                DoubleVector x = load(xs, xOffset + index, xValue);
+                for (int lane = 0; lane < SPECIES.length(); lane++) {
+                    if (outOfRange.laneIsSet(lane)) {
+                        scratch[FALLBACK_SLOT + index + lane] = PowerCalculatorEngine.compute(x.lane(lane),
+                                y.lane(lane));
+                    }
+                }
+                s = s.blend(0.0, outOfRange);
+                s.intoArray(scratch, SIGN_SLOT + index);
+            }
+            // Split z = m + f with m an integer and |f| <= 0.5, removing m from pH. The scalar code
+            // adds one half to the high word of |z| and truncates; for |z| < 1024 the same m comes
+            // from rounding |z| + 0.5 to the nearest integer and stepping down when that rounded up
+            DoubleVector half = z.abs().add(0.5);
+            DoubleVector m = half.add(TWO_52).sub(TWO_52);
+            m = m.sub(1.0, m.compare(VectorOperators.GT, half));
+            m = m.blend(m.neg(), z.compare(VectorOperators.LT, 0.0));
+            m = DoubleVector.zero(SPECIES).blend(m, z.abs().compare(VectorOperators.GE, ROUNDING_THRESHOLD));
+            pH = pH.sub(m);
+
+            pH.intoArray(scratch, index);
+            pL.intoArray(scratch, LOG_LOW_SLOT + index);
+            m.intoArray(scratch, EXPONENT_SLOT + index);
+        }
+    }
+
+    /**
+     * Fifth pass: computes s * 2^m * 2^(pH + pL) and merges the results of the scalar engine.
+     *
+     * @param count number of elements, a multiple of the lane count
+     * @param scratch the pass buffer filled by {@link #scalePass}
+     * @param out the destination
+     * @param outOffset index of the first result
+     */
+    private static void expPass(final int count, final double[] scratch, final double[] out, final int outOffset) {
+        final DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+        for (int index = 0; index < count; index += SPECIES.length()) {
+            DoubleVector pH = DoubleVector.fromArray(SPECIES, scratch, index);
+            DoubleVector pL = DoubleVector.fromArray(SPECIES, scratch, LOG_LOW_SLOT + index);
+            LongVector m = toLong(DoubleVector.fromArray(SPECIES, scratch, EXPONENT_SLOT + index));
+            DoubleVector s = DoubleVector.fromArray(SPECIES, scratch, SIGN_SLOT + index);
+
+            // exp2 of the fraction via the rational approximation of e^r
+            DoubleVector t = clearLow(pL.add(pH));
+            DoubleVector u = t.mul(PowerCalculatorEngine.LG2_H);
+            DoubleVector v = pL.sub(t.sub(pH)).mul(PowerCalculatorEngine.LG2).add(t.mul(PowerCalculatorEngine.LG2_L));
+            DoubleVector z = u.add(v);
+            DoubleVector w = v.sub(z.sub(u));
+            t = z.mul(z);
+            DoubleVector c = z.sub(t.mul(t.mul(t.mul(t.mul(t.mul(PowerCalculatorEngine.P5)
+                    .add(PowerCalculatorEngine.P4))
+                    .add(PowerCalculatorEngine.P3))
+                    .add(PowerCalculatorEngine.P2))
+                    .add(PowerCalculatorEngine.P1)));
+            DoubleVector r = z.mul(c).div(c.sub(2.0)).sub(w.add(z.mul(w)));
+            z = one.sub(r.sub(z));
+
+            // Scale by 2^m and merge the lanes computed by the scalar engine
+            z = z.reinterpretAsLongs().add(m.lanewise(VectorOperators.LSHL, 52)).reinterpretAsDoubles();
+            s.mul(z).blend(DoubleVector.fromArray(SPECIES, scratch, FALLBACK_SLOT + index),
+                    s.compare(VectorOperators.EQ, 0.0)).intoArray(out, outOffset + index);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example;
+
+import java.io.StringReader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchTableModel and the BatchImport that fills it.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("BatchTableModel Tests")
+class BatchTableModelTest {
+
+    private static final int PAGE = BatchTableModel.PAGE_ROWS;
+
+    private static <T> T onEdt(Callable<T> task) throws Exception {
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                result[0] = task.call();
+            } catch (Exception ex) {
+                failure[0] = ex;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+
+    private static void awaitComputed(BatchTableModel model, int row) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!onEdt(() -> model.isComputed(row))) {
+            assertTrue(System.nanoTime() < deadline, "Row " + row + " is computed in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private static BatchTableModel modelWithPages(int pages, int lastPageRows) throws Exception {
+        BatchTableModel model = onEdt(BatchTableModel::new);
+        for (int p = 0; p < pages; p++) {
+            int count = (p == pages - 1) ? lastPageRows : PAGE;
+            double[] x = new double[count];
+            double[] y = new double[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = 1.0 + (p * PAGE + i) * 1e-3;
+                y[i] = (i % 2 == 0) ? 0.5 : -1.5;
+            }
+            x[0] = -2.0;
+            onEdt(() -> {
+                model.appendPage(x, y, count);
+                return null;
+            });
+        }
+        return model;
+    }
+
+    @Test
+    @DisplayName("Test results are computed lazily, page by page")
+    void testLazyComputation() throws Exception {
+        BatchTableModel model = modelWithPages(40, 100);
+        assertEquals(39 * PAGE + 100, (int) onEdt(model::getRowCount), "Row count");
+        int row = 20 * PAGE + 7;
+        assertEquals(model.baseAt(row), onEdt(() -> model.getValueAt(row, BatchTableModel.BASE_COLUMN)), "Base");
+        assertEquals(row + 1, onEdt(() -> model.getValueAt(row, BatchTableModel.ROW_COLUMN)), "One-based row number");
+        assertFalse(onEdt(() -> model.isComputed(row)), "Nothing is computed when rows are added");
+
+        assertNull(onEdt(() -> model.getValueAt(row, BatchTableModel.RESULT_COLUMN)), "Pending result");
+        awaitComputed(model, row);
+        for (int r = 20 * PAGE; r < 21 * PAGE; r++) {
+            final int current = r;
+            double expected = PowerCalculatorEngine.compute(model.baseAt(r), model.exponentAt(r));
+            double actual = (Double) onEdt(() -> model.getValueAt(current, BatchTableModel.RESULT_COLUMN));
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual), "Result of row " + r);
+        }
+        assertEquals(ResultCategory.COMPLEX_NUMBER.title(),
+                onEdt(() -> model.getValueAt(20 * PAGE, BatchTableModel.STATUS_COLUMN)), "Error status");
+        assertEquals("", onEdt(() -> model.getValueAt(row, BatchTableModel.STATUS_COLUMN)), "Finite result");
+        assertFalse(onEdt(() -> model.isComputed(30 * PAGE)), "Pages out of view stay uncomputed");
+
+        onEdt(() -> {
+            model.prefetch(39 * PAGE, 39 * PAGE + 99);
+            return null;
+        });
+        awaitComputed(model, 39 * PAGE + 99);
+        awaitComputed(model, 38 * PAGE);
+        assertEquals(PowerCalculatorEngine.compute(model.baseAt(39 * PAGE + 99), model.exponentAt(39 * PAGE + 99)),
+                (Double) onEdt(() -> model.getValueAt(39 * PAGE + 99, BatchTableModel.RESULT_COLUMN)), 0.0,
+                "Partial last page");
+        assertFalse(onEdt(() -> model.isComputed(10 * PAGE)), "Only visible and neighbouring pages");
+
+        onEdt(() -> {
+            model.clear();
+            return null;
+        });
+        assertEquals(0, (int) onEdt(model::getRowCount), "Cleared");
+    }
+
+    @Test
+    @DisplayName("Test appending after a partial page is rejected")
+    void testPartialPage() throws Exception {
+        BatchTableModel model = modelWithPages(1, 10);
+        assertThrows(IllegalStateException.class,
+                () -> onEdt(() -> {
+                    model.appendPage(new double[1], new double[1], 1);
+                    return null;
+                }), "Only the last page may be partial");
+    }
+
+    @Test
+    @DisplayName("Test CSV import streams pages and reports skipped lines")
+    void testImport() throws Exception {
+        StringBuilder csv = new StringBuilder("# x,y\n\n");
+        int rows = 2 * PAGE + 5;
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(',').append(0.5).append('\n');
+            if (i == 10) {
+                csv.append("abc,2\n");
+            }
+        }
+        csv.append("7\n");
+        BatchTableModel model = onEdt(BatchTableModel::new);
+        BatchImport batchImport = onEdt(() -> new BatchImport(model, new StringReader(csv.toString()), csv.length()));
+        batchImport.execute();
+        batchImport.get(5, TimeUnit.SECONDS);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(rows, (int) onEdt(model::getRowCount), "Every valid pair is a row");
+        assertEquals(rows, batchImport.rows(), "Rows read");
+        assertEquals(2, batchImport.skippedLines(), "Invalid and incomplete lines");
+        assertEquals(14, batchImport.firstSkippedLine(), "First skipped line number");
+        assertEquals(2 * PAGE + 4.0, model.baseAt(rows - 1), 0.0, "Last base");
+        assertEquals(0.5, model.exponentAt(rows - 1), 0.0, "Last exponent");
+    }
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BigDecimalPowerEngine.
+ *
+ * Constants are checked against their published digits, and general results against identities
+ * that BigDecimal evaluates independently: square roots, exact integer powers and the same
+ * power at a higher precision.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("BigDecimalPowerEngine Tests")
+class BigDecimalPowerEngineTest {
+
+    private static final MathContext MC = new MathContext(100);
+
+    private static final String LN2 = "0.69314718055994530941723212145817656807550013436025"
+            + "52541206800094933936219696947156058633269964186875";
+    private static final String LN10 = "2.30258509299404568401799145468436420760110148862877"
+            + "2976033327900967572609677352480235997205089598298";
+    private static final String E = "2.71828182845904523536028747135266249775724709369995"
+            + "9574966967627724076630353547594571382178525166427";
+
+    private static BigDecimal pow(String x, String y, MathContext mc) {
+        return BigDecimalPowerEngine.compute(new BigDecimal(x), new BigDecimal(y), mc);
+    }
+
+    @Test
+    @DisplayName("Test ln 2, ln 10 and e to 100 digits")
+    void testConstants() {
+        assertEquals(new BigDecimal(LN2), BigDecimalPowerEngine.ln(BigDecimal.valueOf(2), MC), "ln 2");
+        assertEquals(new BigDecimal(LN10), BigDecimalPowerEngine.ln(BigDecimal.TEN, MC), "ln 10");
+        assertEquals(new BigDecimal(E), BigDecimalPowerEngine.exp(BigDecimal.ONE, MC), "e");
+        assertEquals(new BigDecimal(LN2).round(new MathContext(20)),
+                BigDecimalPowerEngine.ln(BigDecimal.valueOf(2), new MathContext(20)), "Cached ln 2, lower precision");
+        assertEquals(new BigDecimal("9.999999999999999999999999999999500000000E-32"),
+                BigDecimalPowerEngine.ln(new BigDecimal("1.0000000000000000000000000000001"), new MathContext(40)),
+                "ln(1 + 10^-31) keeps its relative precision");
+        assertEquals(new BigDecimal(E).round(new MathContext(25)),
+                pow("1.00000000000000000000000000000001", "1e32", new MathContext(25)), "(1 + 10^-32)^(10^32)");
+    }
+
+    @Test
+    @DisplayName("Test integer exponents are exact")
+    void testIntegerExponents() {
+        BigDecimal base = new BigDecimal("1.5");
+        assertEquals(base.pow(40), BigDecimalPowerEngine.compute(base, 40, MathContext.UNLIMITED), "Exact 1.5^40");
+        assertEquals(base.pow(40), pow("1.5", "40.000", MC), "Exponent with trailing zeros");
+        assertEquals(new BigDecimal("0.0009765625"), pow("2", "-10", MathContext.UNLIMITED), "Terminating 2^-10");
+        assertEquals(new BigDecimal("-243"), pow("-3", "5", MC), "Odd power of a negative base");
+        assertEquals(new BigDecimal("1e-1000000"), pow("10", "-1000000", MC).stripTrailingZeros(), "10^-1000000");
+        assertEquals(BigDecimal.ONE.divide(new BigDecimal("3").pow(7), MC), pow("3", "-7", MC), "3^-7 rounds once");
+        assertEquals(new BigDecimal("123456789").pow(25).round(MC),
+                BigDecimalPowerEngine.compute(new BigDecimal("123456789"), 25, MC), "Rounded large power");
+        assertEquals(new BigDecimal("-1"), pow("-1", "1000000000000000000000000000001", MC), "Parity beyond long");
+        assertEquals(BigDecimal.ONE, pow("0", "0", MC), "0^0");
+        assertEquals(BigDecimal.ZERO, pow("0", "2.5", MC), "0^2.5");
+    }
+
+    @Test
+    @DisplayName("Test real exponents against square roots and a higher precision")
+    void testRealExponents() {
+        Random random = new Random(41);
+        MathContext higher = new MathContext(130);
+        for (int i = 0; i < 200; i++) {
+            BigDecimal x = new BigDecimal(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            BigDecimal y = new BigDecimal(random.nextGaussian() * 50.0).round(new MathContext(20));
+            assertEquals(BigDecimalPowerEngine.compute(x, y, higher).round(MC), BigDecimalPowerEngine.compute(x, y, MC),
+                    x + "^" + y + " at 100 and 130 digits");
+            BigDecimal root = BigDecimalPowerEngine.compute(x, new BigDecimal("1.5"), MC);
+            BigDecimal expected = x.sqrt(higher).pow(3, higher).round(MC);
+            assertTrue(root.subtract(expected).abs().compareTo(root.ulp()) <= 0,
+                    x + "^1.5 = " + root + ", not " + expected);
+
+            double xd = random.nextDouble() * 100.0;
+            double yd = random.nextGaussian() * 10.0;
+            double actual = BigDecimalPowerEngine.compute(new BigDecimal(xd), new BigDecimal(yd), MC).doubleValue();
+            assertEquals(PowerCalculatorEngine.compute(xd, yd), actual, Math.ulp(actual), xd + "^" + yd);
+        }
+        assertEquals(new BigDecimal("3.16227766016837933199889354443271853371955513932521"
+                + "6826857504852792594438639238221344248108379300295E-1000001"),
+                pow("10", "-1000000.5", MC), "Result far below the double range");
+        assertEquals(new BigDecimal("7.01741272571165869004793842910E+104332"),
+                pow("7", "123456.5", new MathContext(30)), "Result far above the double range");
+        assertEquals(new BigDecimal("1.41421356"), pow("2", "0.5", new MathContext(9, RoundingMode.DOWN)),
+                "Rounding mode");
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testErrors() {
+        assertThrows(ArithmeticException.class, () -> pow("-2", "0.5", MC), "Negative base");
+        assertThrows(ArithmeticException.class, () -> pow("0", "-1", MC), "Zero to a negative power");
+        assertThrows(ArithmeticException.class, () -> pow("2", "0.5", MathContext.UNLIMITED), "Unlimited precision");
+        assertThrows(ArithmeticException.class, () -> pow("3", "-1", MathContext.UNLIMITED), "Non-terminating");
+        assertThrows(ArithmeticException.class, () -> pow("10", "1e12", MC), "Exponent out of range");
+        assertThrows(ArithmeticException.class, () -> BigDecimalPowerEngine.ln(BigDecimal.ZERO, MC), "ln 0");
+        assertThrows(ArithmeticException.class, () -> BigDecimalPowerEngine.exp(new BigDecimal("1e10"), MC),
+                "e^(10^10)");
+        assertThrows(NullPointerException.class, () -> pow("2", "2", null), "A context is required");
+    }
+}
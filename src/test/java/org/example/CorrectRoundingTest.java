@@ -0,0 +1,99 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the correctly rounded mode of PowerCalculatorEngine.
+ *
+ * Results are compared bit for bit with the 50-digit BigDecimal reference of PrecisionModeTest
+ * rounded to the nearest double. Exact midpoints are constructed from odd integers whose powers
+ * need 54 significant bits.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("CorrectRounding Tests")
+class CorrectRoundingTest {
+
+    // 262143^3 = 2^54 - 3 * 2^36 + 3 * 2^18 - 1 is odd with 54 bits: a midpoint between two doubles
+    private static final double CUBE_BASE = 262143.0;
+    private static final double CUBE = new BigDecimal(262143).pow(3).doubleValue();
+
+    private static double correctlyRounded(double x, double y) {
+        return PowerCalculatorEngine.compute(x, y, PrecisionMode.CORRECTLY_ROUNDED);
+    }
+
+    @Test
+    @DisplayName("Test results match the reference bit for bit")
+    void testAgainstReference() {
+        double[][] pairs = PrecisionModeTest.samples(23);
+        for (double[] pair : pairs) {
+            double expected = PrecisionModeTest.reference(pair[0], pair[1]).doubleValue();
+            double actual = correctlyRounded(pair[0], pair[1]);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(Math.abs(actual)),
+                    pair[0] + "^" + pair[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test exact midpoints are rounded to even")
+    void testMidpoints() {
+        long midpoints = CorrectRounding.midpointCount();
+        assertEquals(CUBE, correctlyRounded(CUBE_BASE, 3.0), "262143^3 ties to even");
+        assertEquals(-CUBE, correctlyRounded(-CUBE_BASE, 3.0), "Odd exponent keeps the sign");
+        assertEquals(CUBE, correctlyRounded(CUBE_BASE * CUBE_BASE, 1.5), "(262143^2)^1.5 ties to even");
+        assertEquals(0.0, correctlyRounded(0.5, 1075.0), 0.0, "2^-1075 ties to zero");
+        assertEquals(0.0, correctlyRounded(0.25, 537.5), 0.0, "4^-537.5 ties to zero");
+        assertEquals(-0.0, correctlyRounded(-0.5, 1075.0), 0.0, "Negative tie keeps the sign");
+        assertEquals(Double.MIN_VALUE, correctlyRounded(0.5, 1074.0), "2^-1074 is exact");
+        assertTrue(CorrectRounding.midpointCount() - midpoints >= 6, "Midpoints are counted");
+
+        assertTrue(CorrectRounding.isExactPower(CUBE_BASE, 3.0, 262143L * 262143L * 262143L, 0), "262143^3");
+        assertTrue(CorrectRounding.isExactPower(0.25, -0.5, 1, 1), "0.25^-0.5 = 2");
+        assertFalse(CorrectRounding.isExactPower(0.25, -0.5, 1, 0), "0.25^-0.5 != 1");
+        assertFalse(CorrectRounding.isExactPower(3.0, 0.3, 3, 0), "Exponent is not dyadic");
+        assertFalse(CorrectRounding.isExactPower(3.0, -2.0, 9, 0), "Negative exponent of an odd base");
+    }
+
+    @Test
+    @DisplayName("Test the slow path decides the side of a midpoint in BigDecimal arithmetic")
+    void testSlowPath() {
+        Random random = new Random(31);
+        for (int i = 0; i < 50; i++) {
+            double x = 0.5 + random.nextDouble() * 100.0;
+            double y = random.nextGaussian() * 20.0;
+            double expected = correctlyRounded(x, y);
+            int n = Math.getExponent(expected);
+            // Ask for the side of both midpoints next to the result: each must pick the result
+            assertEquals(expected, CorrectRounding.slowPath(x, y, n, expected, Math.nextUp(expected)),
+                    "Midpoint above " + x + "^" + y);
+            assertEquals(expected, CorrectRounding.slowPath(x, y, n, Math.nextDown(expected), expected),
+                    "Midpoint below " + x + "^" + y);
+        }
+    }
+
+    @Test
+    @DisplayName("Test the fast and slow path counters")
+    void testCounters() {
+        CorrectRounding.resetCounts();
+        assertEquals(0, CorrectRounding.fastPathCount(), "Reset fast path count");
+        assertEquals(0, CorrectRounding.slowPathCount(), "Reset slow path count");
+        assertEquals(0, CorrectRounding.midpointCount(), "Reset midpoint count");
+        Random random = new Random(37);
+        for (int i = 0; i < 10000; i++) {
+            correctlyRounded(random.nextDouble() * 10.0, random.nextGaussian() * 10.0);
+        }
+        correctlyRounded(2.0, 0.3);
+        correctlyRounded(CUBE_BASE, 3.0);
+        correctlyRounded(Double.NaN, 0.3);
+        assertEquals(10002, CorrectRounding.fastPathCount() + CorrectRounding.slowPathCount(),
+                "Every call past the special cases is counted once");
+        assertEquals(1, CorrectRounding.midpointCount(), "One midpoint");
+        assertTrue(CorrectRounding.slowPathCount() >= 1, "The midpoint took the slow path");
+    }
+}
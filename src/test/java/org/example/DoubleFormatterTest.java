@@ -0,0 +1,132 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DoubleFormatter.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("DoubleFormatter Tests")
+class DoubleFormatterTest {
+
+    private static String shortest(double v) {
+        return DoubleFormatter.appendShortest(v, new StringBuilder()).toString();
+    }
+
+    private static String result(double v) {
+        return DoubleFormatter.appendResult(v, new StringBuilder()).toString();
+    }
+
+    private static String guiFormat(double v) {
+        if ((Math.abs(v) < 1e-8 && v != 0) || Math.abs(v) > 1e8) {
+            return String.format(Locale.ROOT, "%.8e", v);
+        }
+        return String.format(Locale.ROOT, "%.8f", v);
+    }
+
+    @Test
+    @DisplayName("Test shortest form of common values")
+    void testShortestExamples() {
+        assertEquals("1024.0", shortest(1024), "Integer");
+        assertEquals("0.064", shortest(0.064), "Fraction");
+        assertEquals("-0.001", shortest(-0.001), "Smallest plain value");
+        assertEquals("9.999999E-4", shortest(9.999999E-4), "Largest scientific value below 1");
+        assertEquals("1234567.0", shortest(1234567), "Largest plain magnitude");
+        assertEquals("1.0E7", shortest(1e7), "Smallest scientific value above 1");
+        assertEquals("1.0E23", shortest(1e23), "Shorter than the JDK 17 digits");
+        assertEquals("192.59", shortest(192.59), "Many trailing zeros in the significand");
+        assertEquals("1.7976931348623157E308", shortest(Double.MAX_VALUE), "Largest double");
+        assertEquals("4.9E-324", shortest(Double.MIN_VALUE), "Smallest subnormal");
+        assertEquals("2.2250738585072014E-308", shortest(Double.MIN_NORMAL), "Smallest normal");
+        assertEquals("-0.0", shortest(-0.0), "Negative zero");
+        assertEquals("NaN", shortest(Double.NaN), "NaN");
+        assertEquals("-Infinity", shortest(Double.NEGATIVE_INFINITY), "Negative infinity");
+    }
+
+    @Test
+    @DisplayName("Test shortest form round-trips and is never longer than Double.toString")
+    void testShortestRoundTrip() {
+        Random random = new Random(12);
+        byte[] buffer = new byte[DoubleFormatter.MAX_SHORTEST_LENGTH];
+        for (int i = 0; i < 200_000; i++) {
+            double v = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(v)) {
+                continue;
+            }
+            int length = DoubleFormatter.appendShortest(v, buffer, 0);
+            String text = new String(buffer, 0, length, StandardCharsets.US_ASCII);
+            assertEquals(Double.doubleToRawLongBits(v), Double.doubleToRawLongBits(Double.parseDouble(text)), text);
+            assertTrue(length <= Double.toString(v).length(), text + " vs " + Double.toString(v));
+        }
+    }
+
+    @Test
+    @DisplayName("Test result form matches String.format")
+    void testResultMatchesFormat() {
+        for (double v : new double[] {0, -0.0, 1, 0.1, 2.5, 1e8, 1.0000001e8, 1e-8, 9.99e-9, -123.456789015,
+            Math.PI, 1e300, Double.MIN_VALUE, Double.MAX_VALUE}) {
+            assertEquals(guiFormat(v), result(v), "Result of " + v);
+        }
+        assertEquals("NaN", result(Double.NaN), "NaN");
+        assertEquals("Infinity", result(Double.POSITIVE_INFINITY), "Infinity");
+
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; i++) {
+            double v = random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20);
+            assertEquals(guiFormat(v), result(v), "Result of " + v);
+        }
+    }
+
+    @Test
+    @DisplayName("Test fixed and scientific forms at every precision")
+    void testPrecisions() {
+        Random random = new Random(14);
+        for (int i = 0; i < 20_000; i++) {
+            double v = random.nextGaussian() * Math.pow(10, random.nextInt(24) - 12);
+            int precision = random.nextInt(12);
+            assertEquals(String.format(Locale.ROOT, "%." + precision + "e", v),
+                    DoubleFormatter.appendScientific(v, precision, new StringBuilder()).toString(),
+                    v + " e" + precision);
+            assertEquals(String.format(Locale.ROOT, "%." + precision + "f", v),
+                    DoubleFormatter.appendFixed(v, precision, new StringBuilder()).toString(), v + " f" + precision);
+        }
+        assertEquals("1.00e+00", DoubleFormatter.appendScientific(0.9999, 2, new StringBuilder()).toString(),
+                "Rounding carries into a new digit");
+        assertEquals("10.0", DoubleFormatter.appendFixed(9.96, 1, new StringBuilder()).toString(),
+                "Rounding carries into a new digit");
+        assertEquals("0.13", DoubleFormatter.appendFixed(0.125, 2, new StringBuilder()).toString(),
+                "Ties round half up");
+        assertThrows(IllegalArgumentException.class,
+                () -> DoubleFormatter.appendFixed(1, DoubleFormatter.MAX_PRECISION + 1, new StringBuilder()),
+                "Too many fraction digits");
+        assertThrows(IllegalArgumentException.class,
+                () -> DoubleFormatter.appendScientific(1, -1, new StringBuilder()), "Negative precision");
+    }
+
+    @Test
+    @DisplayName("Test byte buffer and array destinations")
+    void testDestinations() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        DoubleFormatter.appendShortest(0.25, buffer);
+        buffer.put((byte) ' ');
+        DoubleFormatter.appendResult(-2e9, buffer);
+        assertEquals("0.25 -2.00000000e+09",
+                new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII),
+                "Appended at the position");
+
+        byte[] bytes = new byte[DoubleFormatter.MAX_LENGTH + 1];
+        bytes[0] = '[';
+        int end = DoubleFormatter.appendFixed(-Double.MAX_VALUE, DoubleFormatter.MAX_PRECISION, bytes, 1);
+        assertEquals(DoubleFormatter.MAX_LENGTH + 1, end, "Longest text fits in MAX_LENGTH");
+        assertEquals('[', bytes[0], "Bytes before the position are kept");
+    }
+}
@@ -0,0 +1,92 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FastDoubleParser.
+ *
+ * Every accepted string must give exactly the value of Double.parseDouble, and every rejected
+ * string must be rejected by both.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("FastDoubleParser Tests")
+class FastDoubleParserTest {
+
+    private static void assertSameAsJdk(String text) {
+        double expected = Double.parseDouble(text);
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(FastDoubleParser.parse(text)),
+                text);
+        byte[] bytes = ("[" + text + "]").getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(FastDoubleParser.parse(bytes, 1, bytes.length - 1)), text + " as bytes");
+        assertEquals(Double.doubleToRawLongBits(expected),
+                Double.doubleToRawLongBits(FastDoubleParser.parse(ByteBuffer.wrap(bytes), 1, bytes.length - 1)),
+                text + " in a buffer");
+    }
+
+    @Test
+    @DisplayName("Test inputs accepted by the GUI")
+    void testGuiExamples() {
+        for (String text : new String[] {"2.5", "-3", "0.5", "1e6", "  42  ", "+7", "-0", "0.0", ".5", "5.", "1E-3",
+            "2.5d", "3f", "NaN", "-Infinity", "0x1.8p1", "00012.5000"}) {
+            assertSameAsJdk(text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test random values round-trip exactly")
+    void testRandomValues() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100000; i++) {
+            assertSameAsJdk(Double.toString(Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE)));
+            assertSameAsJdk(String.format("%.17e", random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20)));
+            StringBuilder digits = new StringBuilder();
+            int count = 1 + random.nextInt(25);
+            for (int k = 0; k < count; k++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            digits.insert(random.nextInt(count + 1), '.').append('e').append(random.nextInt(700) - 350);
+            assertSameAsJdk(digits.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Test hard rounding cases")
+    void testHardCases() {
+        for (String text : new String[] {
+            "9007199254740993", "9007199254740993.0000000000000001", "2.2250738585072011e-308",
+            "2.2250738585072012e-308", "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e23",
+            "8.98846567431158e307", "9999999999999999999", "18446744073709551615", "1e-400", "1e400",
+            "0.000000000000000000000000000000000000001", "123456789012345678901234567890"
+        }) {
+            assertSameAsJdk(text);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid inputs are rejected")
+    void testInvalidInputs() {
+        for (String text : new String[] {"", " ", "-", ".", "e5", "1e", "1e+", "1.2.3", "1,5", "abc", "2x", "1 2"}) {
+            assertThrows(NumberFormatException.class, () -> Double.parseDouble(text), "JDK rejects '" + text + "'");
+            assertThrows(NumberFormatException.class, () -> FastDoubleParser.parse(text), "Rejects '" + text + "'");
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> FastDoubleParser.parse("1.5", 2, 4), "Range past the end");
+    }
+
+    @Test
+    @DisplayName("Test blank detection matches trimming")
+    void testIsBlank() {
+        assertTrue(FastDoubleParser.isBlank(""), "Empty text");
+        assertTrue(FastDoubleParser.isBlank(" \t\n\u0001"), "Control characters are trimmed");
+        assertFalse(FastDoubleParser.isBlank(" 1 "), "Digits are not blank");
+    }
+}
@@ -0,0 +1,118 @@
+package org.example;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder events of the engines and the GUI calculation.
+ *
+ * Each test records the events of a few calls, dumps the recording and reads it back.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("Flight Recorder Event Tests")
+class FlightRecorderEventsTest {
+
+    private static List<RecordedEvent> record(String eventName, Runnable calls) throws Exception {
+        Path file = Files.createTempFile("power-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Test one batch event per call with its count and special values")
+    void testBatchEvents() throws Exception {
+        double[] x = {2.0, 0.0, -2.0, 10.0, 3.0, 1.5, 0.5, 7.0, 9.0, 2.5};
+        double[] y = {10.0, -1.0, 0.5, 400.5, 2.0, -3.0, 2000.0, 0.25, 0.5, 1.5};
+        double[] out = new double[x.length];
+        double[] big = new double[100000];
+        Random random = new Random(71);
+        for (int i = 0; i < big.length; i++) {
+            big[i] = random.nextDouble() * 10.0;
+        }
+        List<RecordedEvent> events = record("org.example.PowerBatch", () -> {
+            PowerCalculatorEngine.computeAll(x, y, out);
+            PowerCalculatorEngine.computeAll(x, y, out, PrecisionMode.STRICT);
+            VectorizedPowerEngine.computeAll(x, y, out);
+            ParallelPowerEngine.computeAll(big, 0.3, big, ForkJoinPool.commonPool(), 1000);
+        });
+
+        assertEquals(4, events.size(), "One event per batch, none for the parallel pieces");
+        String[] engines = {"scalar", "scalar", "vectorized", "parallel"};
+        String[] modes = {"DEFAULT", "STRICT", "DEFAULT", "DEFAULT"};
+        int[] counts = {10, 10, 10, 100000};
+        for (int i = 0; i < events.size(); i++) {
+            RecordedEvent event = events.get(i);
+            assertEquals(engines[i], event.getString("engine"), "Engine " + i);
+            assertEquals(modes[i], event.getString("mode"), "Mode " + i);
+            assertEquals(counts[i], event.getInt("count"), "Count " + i);
+            assertFalse(event.getDuration().isNegative(), "Duration " + i);
+        }
+        // 0^-1 = Infinity, (-2)^0.5 = NaN, 10^400.5 = Infinity, 0.5^2000 = 0
+        assertEquals(4, events.get(0).getInt("specialCount"), "Special values");
+        assertEquals(4, events.get(2).getInt("specialCount"), "Special values, vectorized");
+    }
+
+    @Test
+    @DisplayName("Test scalar calls are sampled")
+    void testSampledScalarEvents() throws Exception {
+        int calls = 200000;
+        List<RecordedEvent> events = record("org.example.PowerCompute", () -> {
+            for (int i = 0; i < calls; i++) {
+                PowerCalculatorEngine.compute(2.0, i * 1e-3, PrecisionMode.DEFAULT);
+            }
+        });
+        int expected = calls / PowerComputeEvent.SAMPLING_PERIOD;
+        assertTrue(events.size() > expected / 2 && events.size() < 2 * expected,
+                events.size() + " events for " + calls + " calls");
+        for (RecordedEvent event : events) {
+            assertEquals(PowerComputeEvent.SAMPLING_PERIOD, event.getInt("samplingPeriod"), "Sampling period");
+            assertEquals("DEFAULT", event.getString("mode"), "Mode");
+            assertEquals(PowerCalculatorEngine.compute(event.getDouble("base"), event.getDouble("exponent")),
+                    event.getDouble("result"), 0.0, "Recorded result");
+        }
+    }
+
+    @Test
+    @DisplayName("Test calculation events split parse, compute and format times")
+    void testCalculationEvents() throws Exception {
+        List<RecordedEvent> events = record("org.example.Calculation", () -> {
+            Calculation.evaluate("2", "10");
+            Calculation.evaluate("abc", "1");
+        });
+
+        assertEquals(2, events.size(), "One event per calculation");
+        RecordedEvent valid = events.get(0);
+        assertEquals(2.0, valid.getDouble("base"), 0.0, "Base");
+        assertEquals(10.0, valid.getDouble("exponent"), 0.0, "Exponent");
+        long phases = valid.getLong("parseTime") + valid.getLong("computeTime") + valid.getLong("formatTime");
+        assertTrue(valid.getLong("formatTime") > 0, "Format time");
+        assertTrue(phases <= valid.getDuration().toNanos(), "Phases fit in the event");
+
+        RecordedEvent invalid = events.get(1);
+        assertEquals("INVALID_INPUT", invalid.getString("category"), "Category");
+        assertEquals(0, invalid.getLong("computeTime"), "Nothing was computed");
+    }
+}
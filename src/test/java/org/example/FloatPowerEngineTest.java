@@ -0,0 +1,202 @@
+package org.example;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FloatPowerEngine.
+ *
+ * Results are compared with the double engine, whose error is far below one ulp of the narrower
+ * formats; special cases must match it exactly after rounding.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("FloatPowerEngine Tests")
+class FloatPowerEngineTest {
+
+    private static final double FLOAT_ULP_BOUND = 0.61;
+    private static final double HALF_ULP_BOUND = 0.52;
+
+    private static short half(float value) {
+        return FloatPowerEngine.floatToHalf(value);
+    }
+
+    private static float value(short half) {
+        return FloatPowerEngine.halfToFloat(half);
+    }
+
+    private static void assertFloatWithinBound(float x, float y) {
+        double expected = PowerCalculatorEngine.compute(x, y);
+        float actual = FloatPowerEngine.compute(x, y);
+        float rounded = (float) expected;
+        if (Float.isInfinite(rounded) || rounded == 0.0f) {
+            assertEquals(rounded, actual, 0.0f, x + "^" + y);
+            return;
+        }
+        double error = Math.abs(actual - expected) / Math.ulp(rounded);
+        assertTrue(error <= FLOAT_ULP_BOUND, x + "^" + y + " off by " + error + " ulp");
+    }
+
+    @Test
+    @DisplayName("Test half-precision conversions round to nearest even")
+    void testConversions() {
+        assertEquals(0x3c00, half(1.0f), "One");
+        assertEquals((short) 0xc000, half(-2.0f), "Minus two");
+        assertEquals(0x7bff, half(65504.0f), "Largest half");
+        assertEquals(0x7bff, half(65519.99f), "Below the overflow midpoint");
+        assertEquals(0x7c00, half(65520.0f), "Overflow midpoint rounds to infinity");
+        assertEquals((short) 0xfc00, half(Float.NEGATIVE_INFINITY), "Negative infinity");
+        assertEquals(0x0400, half(0x1.0p-14f), "Smallest normal");
+        assertEquals(0x0001, half(0x1.0p-24f), "Smallest subnormal");
+        assertEquals(0x0000, half(0x1.0p-25f), "Half the smallest subnormal ties to zero");
+        assertEquals((short) 0x8000, half(-0.0f), "Negative zero");
+        assertTrue(Float.isNaN(value(half(Float.NaN))), "NaN stays NaN");
+
+        for (int bits = 0; bits < 0x10000; bits++) {
+            short h = (short) bits;
+            float f = value(h);
+            if (Float.isNaN(f)) {
+                assertEquals(0x7c00, half(f) & 0x7c00, "NaN exponent");
+                assertTrue((half(f) & 0x03ff) != 0, "NaN stays NaN");
+                continue;
+            }
+            assertEquals(h, half(f), "Round trip of " + Integer.toHexString(bits));
+            if ((bits & 0x7fff) < 0x7bff) {
+                // The midpoint to the next half is exact in float and ties to the even neighbour
+                short next = (short) (bits + 1);
+                float midpoint = (f + value(next)) / 2;
+                short even = ((bits & 1) == 0) ? h : next;
+                assertEquals(even, half(midpoint), "Tie above " + Integer.toHexString(bits));
+                assertEquals(h, half(Math.nextAfter(midpoint, 0.0)), "Below the midpoint");
+                assertEquals(next, half(Math.nextAfter(midpoint, 2.0 * midpoint)), "Above the midpoint");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test single-precision results are within the error bound")
+    void testFloatAccuracy() {
+        Random random = new Random(5);
+        for (int i = 0; i < 50000; i++) {
+            float x = (float) Math.exp(random.nextDouble() * 170.0 - 85.0);
+            assertFloatWithinBound(x, (float) ((random.nextDouble() * 190.0 - 103.0) / Math.log(x)));
+            assertFloatWithinBound(random.nextFloat() * 100.0f, (float) (random.nextGaussian() * 10.0));
+            assertFloatWithinBound((float) (1.0 + random.nextGaussian() * 1e-3), (float) (random.nextGaussian() * 1e4));
+            assertFloatWithinBound(-1.0f - random.nextFloat() * 10.0f, random.nextInt(61) - 30);
+            assertFloatWithinBound(Float.MIN_VALUE * (1 + random.nextInt(1 << 22)), random.nextFloat() - 0.5f);
+            assertFloatWithinBound(0.5f, 126.0f + random.nextFloat() * 24.0f);
+        }
+    }
+
+    @Test
+    @DisplayName("Test half-precision results are within the error bound for every base")
+    void testHalfAccuracy() {
+        float[] exponents = {-7.5f, -2.25f, -1.5f, -0.3f, 0.1f, 0.75f, 1.5f, 3.0f, 4.6f, 11.0f, 24.5f};
+        for (float y : exponents) {
+            short hy = half(y);
+            for (int bits = 0x0001; bits < 0x7c00; bits++) {
+                for (int sign = 0; sign <= 0x8000; sign += 0x8000) {
+                    short hx = (short) (bits | sign);
+                    double expected = PowerCalculatorEngine.compute(value(hx), value(hy));
+                    short actual = FloatPowerEngine.computeHalf(hx, hy);
+                    short rounded = half((float) expected);
+                    float magnitude = Math.abs(value(rounded));
+                    if (Float.isNaN(magnitude) || Float.isInfinite(magnitude) || magnitude == 0.0f) {
+                        assertEquals(rounded, actual, value(hx) + "^" + y);
+                        continue;
+                    }
+                    float ulp = ((rounded & 0x7fff) == 0x7bff) ? 32.0f
+                            : value((short) ((rounded & 0x7fff) + 1)) - magnitude;
+                    double error = Math.abs(value(actual) - expected) / ulp;
+                    assertTrue(error <= HALF_ULP_BOUND, value(hx) + "^" + y + " off by " + error + " ulp");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test special cases, exact powers and range boundaries")
+    void testSpecialCases() {
+        float[] values = {
+            0.0f, -0.0f, 1.0f, -1.0f, 2.0f, -2.0f, 0.5f, -0.5f, 3.0f, 1e-40f, 0x1.0p70f, 1e20f,
+            Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NaN
+        };
+        for (float x : values) {
+            for (float y : values) {
+                float expected = (float) PowerCalculatorEngine.compute(x, y);
+                float actual = FloatPowerEngine.compute(x, y);
+                if (Float.isNaN(expected)) {
+                    assertTrue(Float.isNaN(actual), x + "^" + y + " should be NaN");
+                } else {
+                    assertEquals(expected, actual, Math.ulp(expected), x + "^" + y);
+                }
+                short hx = half(x);
+                short hy = half(y);
+                assertEquals(half((float) PowerCalculatorEngine.compute(value(hx), value(hy))),
+                        FloatPowerEngine.computeHalf(hx, hy), value(hx) + "^" + value(hy) + " in half precision");
+            }
+        }
+        assertTrue(Float.isNaN(FloatPowerEngine.compute(-2.0f, 0.3f)), "Negative base with fractional exponent");
+        for (int base = 2; base <= 30; base++) {
+            for (int exponent = 3; Math.pow(base, exponent) < 0x1.0p24; exponent++) {
+                assertEquals((float) Math.pow(base, exponent), FloatPowerEngine.compute(base, exponent),
+                        base + "^" + exponent + " should be exact");
+            }
+        }
+        assertEquals(-243.0f, FloatPowerEngine.compute(-3.0f, 5.0f), "Odd exponent keeps the sign");
+        assertEquals(0x1.0p127f, FloatPowerEngine.compute(2.0f, 127.0f), "2^127 is representable");
+        assertEquals(Float.POSITIVE_INFINITY, FloatPowerEngine.compute(2.0f, 128.0f), "2^128 overflows");
+        assertEquals(Float.NEGATIVE_INFINITY, FloatPowerEngine.compute(-2.0f, 129.0f), "Negative overflow");
+        assertEquals(Float.MIN_VALUE, FloatPowerEngine.compute(2.0f, -149.0f), "2^-149 is the smallest subnormal");
+        assertEquals(-0.0f, FloatPowerEngine.compute(-2.0f, -151.0f), 0.0f, "Underflow keeps the sign");
+        assertEquals(0x7800, FloatPowerEngine.computeHalf(half(2.0f), half(15.0f)), "2^15 in half precision");
+        assertEquals(0x7c00, FloatPowerEngine.computeHalf(half(2.0f), half(16.0f)), "2^16 overflows a half");
+        assertEquals(0x0001, FloatPowerEngine.computeHalf(half(2.0f), half(-24.0f)), "Smallest half subnormal");
+        assertEquals(0x4800, FloatPowerEngine.computeHalf(half(4.0f), half(1.5f)), "4^1.5 = 8");
+    }
+
+    @Test
+    @DisplayName("Test bulk variants match the scalar kernels")
+    void testBulk() {
+        Random random = new Random(9);
+        int n = 1000;
+        float[] x = new float[n + 3];
+        float[] y = new float[n + 3];
+        short[] hx = new short[n + 3];
+        short[] hy = new short[n + 3];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (random.nextFloat() - 0.2f) * 50.0f;
+            y[i] = (float) (random.nextGaussian() * 5.0);
+            hx[i] = half(x[i]);
+            hy[i] = half(y[i]);
+        }
+        float[] out = new float[n];
+        FloatPowerEngine.computeAll(x, 3, y, 3, out, 0, n);
+        for (int i = 0; i < n; i++) {
+            float expected = FloatPowerEngine.compute(x[i + 3], y[i + 3]);
+            assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(out[i]), "Pair " + i);
+        }
+        FloatPowerEngine.computeAll(x, 3, 1.7f, out, 0, n);
+        for (int i = 0; i < n; i++) {
+            float expected = FloatPowerEngine.compute(x[i + 3], 1.7f);
+            assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(out[i]), "Fixed exponent " + i);
+        }
+        short[] halves = new short[n + 3];
+        FloatPowerEngine.computeAllHalf(hx, hy, halves);
+        for (int i = 0; i < halves.length; i++) {
+            assertEquals(FloatPowerEngine.computeHalf(hx[i], hy[i]), halves[i], "Half pair " + i);
+        }
+        FloatPowerEngine.computeAllHalf(hx, 0.5f, halves);
+        for (int i = 0; i < halves.length; i++) {
+            assertEquals(half((float) PowerCalculatorEngine.compute(value(hx[i]), 0.5)), halves[i], "Half sqrt " + i);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> FloatPowerEngine.computeAll(x, new float[1], x), "Length mismatch");
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> FloatPowerEngine.computeAllHalf(hx, 0, hy, 0, new short[1], 0, 2), "Output too short");
+    }
+}
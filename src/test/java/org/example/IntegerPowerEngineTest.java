@@ -0,0 +1,154 @@
+package org.example;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntegerPowerEngine.
+ *
+ * Every result is compared with BigInteger.pow or BigInteger.modPow, including the boundaries of
+ * the long range, odd moduli near 2^63 and even moduli with and without an odd part.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("IntegerPowerEngine Tests")
+class IntegerPowerEngineTest {
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private static long referenceModPow(long base, long exponent, long modulus) {
+        return BigInteger.valueOf(base).modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus)).longValue();
+    }
+
+    @Test
+    @DisplayName("Test powExact is exact and detects overflow")
+    void testPowExact() {
+        assertEquals(4052555153018976267L, IntegerPowerEngine.powExact(3, 39), "3^39 fits");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.powExact(3, 40), "3^40 overflows");
+        assertEquals(Long.MIN_VALUE, IntegerPowerEngine.powExact(-2, 63), "(-2)^63 is Long.MIN_VALUE");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.powExact(2, 63), "2^63 overflows");
+        assertEquals(1L << 62, IntegerPowerEngine.powExact(2, 62), "2^62 does not square past the last bit");
+        assertEquals(-1, IntegerPowerEngine.powExact(-1, Integer.MAX_VALUE), "(-1)^MAX");
+        assertEquals(0, IntegerPowerEngine.powExact(0, 5), "0^5");
+        assertEquals(1, IntegerPowerEngine.powExact(0, 0), "0^0");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.powExact(2, -1), "Negative exponent");
+
+        Random random = new Random(43);
+        for (int i = 0; i < 20000; i++) {
+            long base = random.nextLong() >> random.nextInt(64);
+            int exponent = random.nextInt(70);
+            BigInteger expected = BigInteger.valueOf(base).pow(exponent);
+            if (expected.compareTo(LONG_MIN) >= 0 && expected.compareTo(LONG_MAX) <= 0) {
+                assertEquals(expected.longValue(), IntegerPowerEngine.powExact(base, exponent), base + "^" + exponent);
+            } else {
+                assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.powExact(base, exponent),
+                        base + "^" + exponent + " overflows");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test sliding-window BigInteger powers")
+    void testBigIntegerPow() {
+        Random random = new Random(47);
+        for (int i = 0; i < 500; i++) {
+            BigInteger base = new BigInteger(1 + random.nextInt(300), random);
+            if (random.nextBoolean()) {
+                base = base.negate();
+            }
+            int exponent = random.nextInt(1 << random.nextInt(11));
+            assertEquals(base.pow(exponent), IntegerPowerEngine.pow(base, exponent), base + "^" + exponent);
+        }
+        assertEquals(BigInteger.valueOf(3).pow(40), IntegerPowerEngine.pow(3, 40), "3^40");
+        assertEquals(BigInteger.valueOf(12).pow(100003), IntegerPowerEngine.pow(12, 100003),
+                "Even base, long exponent");
+        assertEquals(BigInteger.ONE, IntegerPowerEngine.pow(0, 0), "0^0");
+        assertEquals(BigInteger.ZERO, IntegerPowerEngine.pow(0, 7), "0^7");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.pow(5, -1), "Negative exponent");
+    }
+
+    @Test
+    @DisplayName("Test modPow against BigInteger.modPow")
+    void testModPow() {
+        Random random = new Random(53);
+        for (int i = 0; i < 20000; i++) {
+            long modulus = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            if (modulus == 0) {
+                continue;
+            }
+            if (i % 3 == 0) {
+                modulus <<= Math.min(Long.numberOfLeadingZeros(modulus) - 1, random.nextInt(20));
+            }
+            long base = random.nextLong();
+            long exponent = random.nextLong() >>> (1 + random.nextInt(63));
+            assertEquals(referenceModPow(base, exponent, modulus), IntegerPowerEngine.modPow(base, exponent, modulus),
+                    base + "^" + exponent + " mod " + modulus);
+        }
+        assertEquals(referenceModPow(3, Long.MAX_VALUE, Long.MAX_VALUE),
+                IntegerPowerEngine.modPow(3, Long.MAX_VALUE, Long.MAX_VALUE), "Largest odd modulus");
+        assertEquals(referenceModPow(Long.MIN_VALUE, 12345, 1L << 62),
+                IntegerPowerEngine.modPow(Long.MIN_VALUE, 12345, 1L << 62), "Power of two modulus");
+        assertEquals(0, IntegerPowerEngine.modPow(7, 0, 1), "Everything is 0 modulo 1");
+        assertEquals(1, IntegerPowerEngine.modPow(0, 0, 10), "0^0");
+    }
+
+    @Test
+    @DisplayName("Test negative exponents and invalid moduli")
+    void testModPowErrors() {
+        Random random = new Random(59);
+        for (int i = 0; i < 2000; i++) {
+            long modulus = 2 + (random.nextLong() >>> 2);
+            long base = random.nextLong();
+            long exponent = -1 - (random.nextLong() >>> (1 + random.nextInt(63)));
+            if (BigInteger.valueOf(base).gcd(BigInteger.valueOf(modulus)).equals(BigInteger.ONE)) {
+                assertEquals(referenceModPow(base, exponent, modulus),
+                        IntegerPowerEngine.modPow(base, exponent, modulus), base + "^" + exponent + " mod " + modulus);
+            } else {
+                assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.modPow(base, exponent, modulus),
+                        base + " is not invertible modulo " + modulus);
+            }
+        }
+        assertEquals(referenceModPow(3, Long.MIN_VALUE, 1000003),
+                IntegerPowerEngine.modPow(3, Long.MIN_VALUE, 1000003), "Exponent Long.MIN_VALUE");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.modPow(2, 3, 0), "Zero modulus");
+        assertThrows(ArithmeticException.class, () -> IntegerPowerEngine.modPow(2, 3, -7), "Negative modulus");
+    }
+
+    @Test
+    @DisplayName("Test batch variants match the scalar methods")
+    void testBatch() {
+        Random random = new Random(61);
+        long[] bases = random.longs(1000).toArray();
+        long[] out = new long[1002];
+        for (long modulus : new long[] {Long.MAX_VALUE, 998244353L, 3L << 40, 1L << 33}) {
+            long[] exponents = random.longs(1000, 0, Long.MAX_VALUE).toArray();
+            long[] powers = exponents.clone();
+            IntegerPowerEngine.modPowAll(bases, 65537, modulus, out);
+            IntegerPowerEngine.modPowAll(bases, powers, modulus, powers);
+            for (int i = 0; i < bases.length; i++) {
+                assertEquals(IntegerPowerEngine.modPow(bases[i], 65537, modulus), out[i], "Fixed exponent " + i);
+                assertEquals(IntegerPowerEngine.modPow(bases[i], exponents[i], modulus), powers[i],
+                        "Exponent array, in place " + i);
+            }
+        }
+        IntegerPowerEngine.modPowAll(bases, 10, 3, 7, out, 2, 5);
+        assertEquals(IntegerPowerEngine.modPow(bases[10], 3, 7), out[2], "Offsets");
+        assertEquals(IntegerPowerEngine.modPow(bases[14], 3, 7), out[6], "Offsets");
+
+        long[] small = {-3, 7, 2, 0};
+        IntegerPowerEngine.powExactAll(small, 5, small);
+        assertArrayEquals(new long[] {-243, 16807, 32, 0}, small, "In place");
+        assertThrows(IllegalArgumentException.class,
+                () -> IntegerPowerEngine.powExactAll(bases, 2, new long[3]), "Output too short");
+        assertThrows(IllegalArgumentException.class,
+                () -> IntegerPowerEngine.modPowAll(bases, new long[3], 5, out), "Exponents too short");
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> IntegerPowerEngine.modPowAll(bases, 999, 3, 7, out, 0, 2), "Range outside the input");
+    }
+}
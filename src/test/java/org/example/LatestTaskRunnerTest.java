@@ -0,0 +1,176 @@
+package org.example;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatestTaskRunner and the background Calculation it runs in the GUI.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("LatestTaskRunner Tests")
+class LatestTaskRunnerTest {
+
+    @Test
+    @DisplayName("Test only the latest result is delivered, on the event dispatch thread")
+    void testLatestResultOnly() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        LatestTaskRunner<String> runner = new LatestTaskRunner<>(failures::add);
+
+        SwingUtilities.invokeAndWait(() -> runner.submit(() -> {
+            slowStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                slowInterrupted.countDown();
+            }
+            return "slow";
+        }, delivered::add));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS), "The first task starts");
+        SwingUtilities.invokeAndWait(() -> runner.submit(() -> "fast", result -> {
+            assertTrue(SwingUtilities.isEventDispatchThread(), "Results arrive on the EDT");
+            delivered.add(result);
+            done.countDown();
+        }));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The latest task completes");
+        assertTrue(slowInterrupted.await(5, TimeUnit.SECONDS), "The superseded task is interrupted");
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(List.of("fast"), delivered, "Only the latest result is delivered");
+        assertTrue(failures.isEmpty(), "No failures");
+    }
+
+    @Test
+    @DisplayName("Test cancelled results are dropped and failures are reported")
+    void testCancelAndFailure() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        LatestTaskRunner<String> runner = new LatestTaskRunner<>(ex -> {
+            failures.add(ex);
+            failed.countDown();
+        });
+
+        SwingUtilities.invokeAndWait(() -> {
+            runner.submit(() -> {
+                release.await();
+                return "cancelled";
+            }, delivered::add);
+            runner.cancel();
+        });
+        release.countDown();
+        SwingUtilities.invokeAndWait(() -> runner.submit(() -> {
+            throw new IllegalStateException("boom");
+        }, delivered::add));
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS), "The failure is reported");
+        assertEquals("boom", failures.get(0).getMessage(), "The cause is passed on");
+        assertTrue(delivered.isEmpty(), "Cancelled and failed tasks deliver nothing");
+    }
+
+    @Test
+    @DisplayName("Test tasks run one at a time and superseded tasks never start")
+    void testOneWorker() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        List<String> started = new CopyOnWriteArrayList<>();
+        CountDownLatch busyStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        LatestTaskRunner<String> runner = new LatestTaskRunner<>(ex -> { });
+
+        SwingUtilities.invokeAndWait(() -> runner.submit(() -> {
+            started.add("busy");
+            busyStarted.countDown();
+            // Ignores interrupts, like a task that never checks for them
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return "busy";
+        }, delivered::add));
+        assertTrue(busyStarted.await(5, TimeUnit.SECONDS), "The first task starts");
+        SwingUtilities.invokeAndWait(() -> {
+            runner.submit(() -> {
+                started.add("superseded");
+                return "superseded";
+            }, delivered::add);
+            runner.submit(() -> {
+                started.add("latest");
+                return "latest";
+            }, result -> {
+                delivered.add(result);
+                done.countDown();
+            });
+        });
+        assertEquals(List.of("busy"), started, "The worker is still busy");
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The latest task completes");
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(List.of("busy", "latest"), started, "The superseded task never starts");
+        assertEquals(List.of("latest"), delivered, "Only the latest result is delivered");
+    }
+
+    @Test
+    @DisplayName("Test a busy runner does not delay the tasks of another runner")
+    void testIndependentRunners() throws Exception {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch blockedStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        LatestTaskRunner<String> plots = new LatestTaskRunner<>(ex -> { });
+        LatestTaskRunner<String> calculations = new LatestTaskRunner<>(ex -> { });
+
+        SwingUtilities.invokeAndWait(() -> plots.submit(() -> {
+            blockedStarted.countDown();
+            // Ignores interrupts, like a task that never checks for them
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return "blocked";
+        }, delivered::add));
+        assertTrue(blockedStarted.await(5, TimeUnit.SECONDS), "The blocking task starts");
+        try {
+            SwingUtilities.invokeAndWait(() -> calculations.submit(() -> "calculation", result -> {
+                delivered.add(result);
+                done.countDown();
+            }));
+            assertTrue(done.await(5, TimeUnit.SECONDS), "The other runner completes while the first is blocked");
+            assertEquals(List.of("calculation"), delivered, "Only the other runner has delivered");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test calculations parse, classify and format off the EDT")
+    void testCalculation() {
+        Calculation success = Calculation.evaluate(" 2 ", "10");
+        assertEquals(1024.0, success.result(), "Result");
+        assertEquals(ResultCategory.SUCCESS, success.category(), "Category");
+        assertEquals("Result: 1024.00000000", success.resultText(), "Formatted like the GUI");
+
+        Calculation complex = Calculation.evaluate("-8", "0.5");
+        assertEquals(ResultCategory.COMPLEX_NUMBER, complex.category(), "NaN result");
+        assertFalse(complex.isInputError(), "Not an input error");
+        assertNull(complex.resultText(), "No result text for errors");
+        assertEquals(ResultCategory.COMPLEX_NUMBER.message(-8, 0.5), complex.message(), "Message");
+
+        assertEquals(ResultCategory.MISSING_INPUT, Calculation.evaluate("", "2").category(), "Blank base");
+        assertEquals(ResultCategory.INVALID_INPUT, Calculation.evaluate("1e", "2").category(), "Partial input");
+        assertTrue(Calculation.evaluate("-", "2").isInputError(), "Partial input is an input error");
+    }
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedBatchProcessor.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("MappedBatchProcessor Tests")
+class MappedBatchProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private static Path writePairs(Path file, double[] x, double[] y) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(x.length * MappedBatchProcessor.PAIR_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < x.length; i++) {
+            buffer.putDouble(x[i]).putDouble(y[i]);
+        }
+        return Files.write(file, buffer.array());
+    }
+
+    private static double[] readResults(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        double[] results = new double[buffer.remaining() / MappedBatchProcessor.RESULT_BYTES];
+        buffer.asDoubleBuffer().get(results);
+        return results;
+    }
+
+    @Test
+    @DisplayName("Test results match compute across several windows")
+    void testResultsMatchCompute() throws IOException {
+        Random random = new Random(9);
+        double[] x = new double[10_001];
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 5);
+            y[i] = random.nextInt(4) == 0 ? random.nextInt(21) - 10 : random.nextGaussian() * 10;
+        }
+        Path input = writePairs(directory.resolve("in.bin"), x, y);
+        Path output = directory.resolve("out.bin");
+        Files.write(output, new byte[1 << 20]);
+
+        MappedBatchProcessor.Report report = MappedBatchProcessor.process(input, output, 5000);
+        assertEquals(x.length, report.elements(), "Every pair is computed");
+        assertEquals(x.length * 24L, report.bytes(), "16 bytes read and 8 written per pair");
+        assertTrue(report.elementsPerSecond() > 0, "Throughput is reported");
+
+        double[] results = readResults(output);
+        assertEquals(x.length, results.length, "An existing output file is truncated to the results");
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(Double.doubleToLongBits(PowerCalculatorEngine.compute(x[i], y[i])),
+                    Double.doubleToLongBits(results[i]), x[i] + "^" + y[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty and malformed inputs")
+    void testEmptyAndMalformedInputs() throws IOException {
+        Path empty = Files.write(directory.resolve("empty.bin"), new byte[0]);
+        Path output = directory.resolve("out.bin");
+        assertEquals(0, MappedBatchProcessor.process(empty, output).elements(), "Empty input");
+        assertEquals(0, Files.size(output), "Empty output");
+
+        Path malformed = Files.write(directory.resolve("bad.bin"), new byte[20]);
+        assertThrows(IOException.class, () -> MappedBatchProcessor.process(malformed, output),
+                "A partial pair should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> MappedBatchProcessor.process(empty, output, 0),
+                "An empty window should be rejected");
+    }
+
+    @Test
+    @DisplayName("Test the --map entry point prints the report")
+    void testRun() throws IOException {
+        Path input = writePairs(directory.resolve("in.bin"), new double[] {2, 10}, new double[] {10, -1});
+        Path output = directory.resolve("out.bin");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int status = MappedBatchProcessor.run(new String[] {input.toString(), output.toString(), "--window", "1"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+        assertEquals(0, status, "Success");
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("2 elements, 48 bytes in "), "Report");
+        assertArrayEquals(new double[] {1024, 0.1}, readResults(output), "Results");
+
+        assertEquals(2, MappedBatchProcessor.run(new String[] {input.toString()}, System.out,
+                new PrintStream(err, true, StandardCharsets.UTF_8)), "Missing output file");
+        assertEquals(2, MappedBatchProcessor.run(new String[] {input.toString(), output.toString(), "--window", "0"},
+                System.out, new PrintStream(err, true, StandardCharsets.UTF_8)), "Empty window");
+        assertEquals(1, MappedBatchProcessor.run(new String[] {directory.resolve("none.bin").toString(),
+                output.toString()}, System.out, new PrintStream(err, true, StandardCharsets.UTF_8)), "Missing input");
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Window must hold [1, 2^26] pairs: 0"),
+                "The window is checked by process");
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage: --map"), "Usage");
+    }
+}
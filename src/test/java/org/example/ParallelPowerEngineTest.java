@@ -0,0 +1,91 @@
+package org.example;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.example.PowerAssertions.assertSameBits;
+
+/**
+ * Unit tests for ParallelPowerEngine.
+ *
+ * Every parallel result must be bit-for-bit identical to PowerCalculatorEngine.compute, whatever
+ * the pool and threshold.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("ParallelPowerEngine Tests")
+class ParallelPowerEngineTest {
+
+    private static double[][] randomInputs(int size) {
+        Random random = new Random(8);
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 20);
+            y[i] = random.nextInt(4) == 0 ? random.nextInt(41) - 20 : random.nextGaussian() * 30;
+        }
+        return new double[][] {x, y};
+    }
+
+    @Test
+    @DisplayName("Test results match compute in the common pool")
+    void testCommonPool() {
+        double[][] inputs = randomInputs(100_003);
+        double[] out = new double[inputs[0].length];
+        ParallelPowerEngine.computeAll(inputs[0], inputs[1], out);
+        for (int i = 0; i < out.length; i++) {
+            assertSameBits(inputs[0][i], inputs[1][i], out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test results do not depend on pool or threshold")
+    void testCustomPoolAndThresholds() {
+        double[][] inputs = randomInputs(10_007);
+        double[] expected = new double[inputs[0].length];
+        PowerCalculatorEngine.computeAll(inputs[0], inputs[1], expected);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int threshold : new int[] {1, 7, 100, 1 << 20}) {
+                double[] out = new double[expected.length];
+                ParallelPowerEngine.computeAll(inputs[0], inputs[1], out, pool, threshold);
+                assertArrayEquals(expected, out, "Threshold " + threshold);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test broadcast base and exponent")
+    void testBroadcast() {
+        double[][] inputs = randomInputs(50_000);
+        double[] out = new double[inputs[0].length];
+        ParallelPowerEngine.computeAll(1.05, inputs[1], out);
+        for (int i = 0; i < out.length; i++) {
+            assertSameBits(1.05, inputs[1][i], out[i]);
+        }
+        ParallelPowerEngine.computeAll(inputs[0], 2.5, out, ForkJoinPool.commonPool(), 1000);
+        for (int i = 0; i < out.length; i++) {
+            assertSameBits(inputs[0][i], 2.5, out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelPowerEngine.computeAll(new double[3], new double[2], new double[3]),
+                "Mismatched base and exponent lengths should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelPowerEngine.computeAll(2.0, new double[3], new double[2]),
+                "A short output array should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelPowerEngine.computeAll(new double[3], 2.0, new double[3], ForkJoinPool.commonPool(), 0),
+                "A zero threshold should be rejected");
+    }
+}
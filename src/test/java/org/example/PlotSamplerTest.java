@@ -0,0 +1,136 @@
+package org.example;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PlotSampler and PlotRenderer.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PlotSampler Tests")
+class PlotSamplerTest {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 400;
+
+    @Test
+    @DisplayName("Test samples are ordered and match the scalar engine")
+    void testSamplesMatchEngine() {
+        PlotSampler.Curve curve = PlotSampler.sample(true, 2.0, -10, 10, false, false, WIDTH, HEIGHT);
+        assertTrue(curve.count() > WIDTH / PlotSampler.INITIAL_STEP_PIXELS, "At least the initial samples");
+        assertTrue(curve.count() <= WIDTH * PlotSampler.MAX_SAMPLES_PER_PIXEL, "Capped");
+        assertEquals(-10, curve.param(0), 0.0, "Range start");
+        assertEquals(10, curve.param(curve.count() - 1), 0.0, "Range end");
+        for (int i = 0; i < curve.count(); i++) {
+            if (i > 0) {
+                assertTrue(curve.param(i) > curve.param(i - 1), "Increasing at " + i);
+            }
+            assertEquals(Double.doubleToLongBits(PowerCalculatorEngine.compute(2.0, curve.param(i))),
+                    Double.doubleToLongBits(curve.value(i)), "Sample " + i);
+        }
+        assertTrue(curve.upper() >= 1024 && curve.lower() <= 2.0 / 1024, "Vertical range covers the curve");
+
+        PlotSampler.Curve bases = PlotSampler.sample(false, 0.5, 1e-6, 1e6, true, true, WIDTH, HEIGHT);
+        for (int i = 0; i < bases.count(); i++) {
+            assertEquals(Double.doubleToLongBits(PowerCalculatorEngine.compute(bases.param(i), 0.5)),
+                    Double.doubleToLongBits(bases.value(i)), "Base sample " + i);
+        }
+        assertEquals(-3, bases.plotValue(0), 1e-12, "log10 of sqrt(1e-6)");
+    }
+
+    @Test
+    @DisplayName("Test overflow and underflow boundaries are located to a quarter pixel")
+    void testBoundaries() {
+        PlotSampler.Curve curve = PlotSampler.sample(true, 10.0, -400, 400, false, true, WIDTH, HEIGHT);
+        double finest = 800.0 / WIDTH * PlotSampler.MIN_STEP_PIXELS;
+        boolean overflow = false;
+        boolean underflow = false;
+        for (int i = 1; i < curve.count(); i++) {
+            double gap = curve.param(i) - curve.param(i - 1);
+            if (curve.value(i) == Double.POSITIVE_INFINITY && Double.isFinite(curve.value(i - 1))) {
+                overflow = true;
+                assertTrue(gap <= finest, "Overflow boundary gap " + gap);
+            }
+            if (curve.value(i) > 0 && curve.value(i - 1) == 0) {
+                underflow = true;
+                assertTrue(gap <= finest, "Underflow boundary gap " + gap);
+            }
+        }
+        assertTrue(overflow && underflow, "Both boundaries are in range");
+    }
+
+    @Test
+    @DisplayName("Test samples are denser where the curve bends")
+    void testAdaptiveDensity() {
+        PlotSampler.Curve curve = PlotSampler.sample(false, -1.0, 0.01, 10, false, false, WIDTH, HEIGHT);
+        int bend = 0;
+        int flat = 0;
+        for (int i = 0; i < curve.count(); i++) {
+            if (curve.param(i) < 0.5) {
+                bend++;
+            } else if (curve.param(i) > 9.5) {
+                flat++;
+            }
+        }
+        assertTrue(bend > 4 * flat, "Near the pole " + bend + " samples, flat part " + flat);
+
+        PlotSampler.Curve negative = PlotSampler.sample(true, -2.0, -5, 5, false, false, WIDTH, HEIGHT);
+        int integers = 0;
+        for (int i = 0; i < negative.count(); i++) {
+            if (!Double.isNaN(negative.value(i))) {
+                assertEquals(Math.rint(negative.param(i)), negative.param(i), 0.0, "Only integers are real");
+                integers++;
+            }
+        }
+        assertEquals(11, integers, "Every integer exponent of a negative base is sampled");
+    }
+
+    @Test
+    @DisplayName("Test rendering, ticks and invalid ranges")
+    void testRendering() {
+        PlotSampler.Curve curve = PlotSampler.sample(true, 2.0, -10, 10, false, false,
+                PlotRenderer.plotWidth(400), PlotRenderer.plotHeight(300));
+        BufferedImage image = PlotRenderer.render(curve, 400, 300);
+        assertEquals(400, image.getWidth(), "Image width");
+        int curvePixels = 0;
+        for (int y = 0; y < 300; y++) {
+            for (int x = 0; x < 400; x++) {
+                int rgb = image.getRGB(x, y);
+                if ((rgb & 0xff) > 150 && ((rgb >> 16) & 0xff) < 120) {
+                    curvePixels++;
+                }
+            }
+        }
+        assertTrue(curvePixels > 100, "The curve is drawn");
+
+        assertEquals(2.0, PlotRenderer.tickStep(10, 400), 0.0, "Five ticks");
+        assertEquals("0.3", PlotRenderer.tickLabel(0.1 * 3, 0.1, false), "Rounded to the step");
+        assertEquals("0.0", PlotRenderer.tickLabel(-1e-17, 0.1, false), "Rounding noise is zero, without a sign");
+        assertEquals("1e3", PlotRenderer.tickLabel(3, 1, true), "Decade");
+        assertEquals("1", PlotRenderer.tickLabel(0, 1, true), "Unit decade");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PlotSampler.sample(true, 2.0, 1, 1, false, false, WIDTH, HEIGHT), "Empty range");
+        assertThrows(IllegalArgumentException.class,
+                () -> PlotSampler.sample(false, 2.0, -1, 1, true, false, WIDTH, HEIGHT), "Log axis through zero");
+    }
+
+    @Test
+    @DisplayName("Test an interrupted plot stops and clears the interrupt")
+    void testInterrupted() {
+        PlotSampler.Curve curve = PlotSampler.sample(true, 2.0, -10, 10, false, false, WIDTH, HEIGHT);
+        Thread.currentThread().interrupt();
+        assertThrows(CancellationException.class,
+                () -> PlotSampler.sample(true, 2.0, -10, 10, false, false, WIDTH, HEIGHT), "Sampling stops");
+        assertFalse(Thread.currentThread().isInterrupted(), "The interrupt is consumed");
+        Thread.currentThread().interrupt();
+        assertThrows(CancellationException.class, () -> PlotRenderer.render(curve, 400, 300), "Rendering stops");
+        assertFalse(Thread.interrupted(), "The interrupt is consumed");
+    }
+}
@@ -0,0 +1,31 @@
+package org.example;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Assertions shared by the tests of the batch, vector, parallel, fixed-base and cached engines,
+ * whose results must be bit-for-bit identical to PowerCalculatorEngine.compute.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+final class PowerAssertions {
+
+    private PowerAssertions() {
+        // Utility class
+    }
+
+    /**
+     * Asserts that two doubles have the same bits, with every NaN equal.
+     */
+    static void assertSameBits(double expected, double actual, String message) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual), message);
+    }
+
+    /**
+     * Asserts that a result has the bits of PowerCalculatorEngine.compute(x, y).
+     */
+    static void assertSameBits(double x, double y, double actual) {
+        assertSameBits(PowerCalculatorEngine.compute(x, y), actual, x + "^" + y);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.example.PowerBranchCounters.Branch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PowerBranchCounters.
+ *
+ * The Gradle test task enables counting; without {@value PowerBranchCounters#ENABLED_PROPERTY}
+ * the tests check that nothing is counted instead.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerBranchCounters Tests")
+class PowerBranchCountersTest {
+
+    // One input per path, with the branches it counts
+    private static final Object[][] CASES = {
+        {2.0, 0.0, new Branch[] {Branch.Y_ZERO}},
+        {Double.NaN, 0.0, new Branch[] {Branch.Y_ZERO}},
+        {Double.NaN, 3.0, new Branch[] {Branch.NAN}},
+        {-3.0, 2.0, new Branch[] {Branch.Y_TWO}},
+        {2.0, 0.5, new Branch[] {Branch.Y_HALF}},
+        {4.0, -1.0, new Branch[] {Branch.Y_ONE}},
+        {0.5, Double.NEGATIVE_INFINITY, new Branch[] {Branch.Y_INFINITE}},
+        {0.0, -3.0, new Branch[] {Branch.X_SPECIAL}},
+        {-2.0, 0.3, new Branch[] {Branch.NEGATIVE_NON_INTEGER}},
+        {3.0, 7.0, new Branch[] {Branch.INTEGER_EXPONENT}},
+        {1e300, 5.0, new Branch[] {Branch.INTEGER_EXPONENT, Branch.OVERFLOW}},
+        {1e-300, 5.0, new Branch[] {Branch.INTEGER_EXPONENT, Branch.UNDERFLOW}},
+        {1.0000000001, 1e10, new Branch[] {Branch.HUGE_Y}},
+        {2.0, 1e10, new Branch[] {Branch.HUGE_Y, Branch.OVERFLOW}},
+        {2.0, -1e10, new Branch[] {Branch.HUGE_Y, Branch.UNDERFLOW}},
+        {2.0, 0.3, new Branch[] {Branch.GENERAL}},
+        {Double.MIN_VALUE, 0.3, new Branch[] {Branch.GENERAL, Branch.SUBNORMAL_X}},
+        {10.0, 400.5, new Branch[] {Branch.GENERAL, Branch.OVERFLOW}},
+        {10.0, -400.5, new Branch[] {Branch.GENERAL, Branch.UNDERFLOW}},
+    };
+
+    @Test
+    @DisplayName("Test every path counts its branches")
+    void testBranches() {
+        for (Object[] c : CASES) {
+            PowerBranchCounters.resetCounts();
+            PowerCalculatorEngine.compute((Double) c[0], (Double) c[1]);
+            Map<Branch, Long> counts = PowerBranchCounters.snapshot();
+            Branch[] expected = PowerBranchCounters.isEnabled() ? (Branch[]) c[2] : new Branch[0];
+            for (Branch branch : Branch.values()) {
+                long count = Arrays.asList(expected).contains(branch) ? 1 : 0;
+                assertEquals(count, counts.get(branch).longValue(), c[0] + "^" + c[1] + ": " + branch);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test the exit branches add up to the number of calls")
+    void testCallCount() {
+        PowerBranchCounters.resetCounts();
+        Random random = new Random(67);
+        for (int i = 0; i < 10000; i++) {
+            double x = (random.nextDouble() - 0.25) * Math.pow(10, random.nextInt(40) - 20);
+            double y = (i % 3 == 0) ? random.nextInt(20) - 10 : random.nextGaussian() * 30.0;
+            PowerCalculatorEngine.compute(x, y);
+        }
+        PowerCalculatorEngine.compute(2.0, 0.3, PrecisionMode.FAST);
+        long expected = PowerBranchCounters.isEnabled() ? 10000 : 0;
+        assertEquals(expected, PowerBranchCounters.callCount(), "One exit per call");
+        assertTrue(PowerBranchCounters.count(Branch.OVERFLOW) <= PowerBranchCounters.callCount(), "Overflows");
+    }
+
+    @Test
+    @DisplayName("Test the counters are published over JMX")
+    void testMXBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        PowerBranchCounters.register(server);
+        PowerBranchCounters.register(server);
+        ObjectName name = new ObjectName(PowerBranchCounters.OBJECT_NAME);
+
+        PowerBranchCounters.resetCounts();
+        PowerCalculatorEngine.compute(2.0, 0.3);
+        PowerCalculatorEngine.compute(3.0, 2.0);
+        assertEquals(PowerBranchCounters.isEnabled(), server.getAttribute(name, "Enabled"), "Enabled");
+        assertEquals(PowerBranchCounters.callCount(), server.getAttribute(name, "CallCount"), "CallCount");
+        TabularData counts = (TabularData) server.getAttribute(name, "Counts");
+        assertEquals(Branch.values().length, counts.size(), "One row per branch");
+        assertEquals(PowerBranchCounters.count(Branch.GENERAL),
+                counts.get(new Object[] {"GENERAL"}).get("value"), "GENERAL row");
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "CallCount"), "Reset over JMX");
+    }
+}
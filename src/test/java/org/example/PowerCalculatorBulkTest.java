@@ -0,0 +1,92 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.example.PowerAssertions.assertSameBits;
+
+/**
+ * Unit tests for the bulk array API of PowerCalculatorEngine.
+ *
+ * Every bulk result must be bit-for-bit identical to the scalar compute method.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorEngine Bulk Tests")
+class PowerCalculatorBulkTest {
+
+    private static final double[] BASES = {
+        2.0, -2.0, 0.5, 0.0, -0.0, 1.0, -1.0, 10.0, 1e-300, Double.MIN_VALUE,
+        Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, 3.7
+    };
+
+    private static final double[] EXPONENTS = {
+        3.0, 0.5, -1.0, 0.0, 2.0, 1.0 / 3.0, -2.5, 1000.0, 1e10, -0.0,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, 7.0, -4.0
+    };
+
+    @Test
+    @DisplayName("Test pairwise bulk matches scalar compute")
+    void testPairwiseMatchesScalar() {
+        double[] out = new double[BASES.length];
+        PowerCalculatorEngine.computeAll(BASES, EXPONENTS, out);
+        for (int i = 0; i < BASES.length; i++) {
+            assertSameBits(PowerCalculatorEngine.compute(BASES[i], EXPONENTS[i]), out[i],
+                    BASES[i] + "^" + EXPONENTS[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test broadcast variants match scalar compute")
+    void testBroadcastMatchesScalar() {
+        double[] out = new double[EXPONENTS.length];
+        for (double x : BASES) {
+            PowerCalculatorEngine.computeAll(x, EXPONENTS, out);
+            for (int i = 0; i < EXPONENTS.length; i++) {
+                assertSameBits(PowerCalculatorEngine.compute(x, EXPONENTS[i]), out[i], x + "^" + EXPONENTS[i]);
+            }
+        }
+        for (double y : EXPONENTS) {
+            PowerCalculatorEngine.computeAll(BASES, y, out);
+            for (int i = 0; i < BASES.length; i++) {
+                assertSameBits(PowerCalculatorEngine.compute(BASES[i], y), out[i], BASES[i] + "^" + y);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test offset variant touches only the requested range")
+    void testOffsetRange() {
+        double[] out = {-7.0, -7.0, -7.0, -7.0, -7.0};
+        PowerCalculatorEngine.computeAll(BASES, 1, EXPONENTS, 2, out, 1, 3);
+        assertEquals(-7.0, out[0], "Element before the range should be untouched");
+        for (int i = 0; i < 3; i++) {
+            assertSameBits(PowerCalculatorEngine.compute(BASES[1 + i], EXPONENTS[2 + i]), out[1 + i],
+                    "Element " + i + " of the range");
+        }
+        assertEquals(-7.0, out[4], "Element after the range should be untouched");
+    }
+
+    @Test
+    @DisplayName("Test in-place computation")
+    void testInPlace() {
+        double[] data = {2.0, 3.0, 4.0};
+        PowerCalculatorEngine.computeAll(data, 2.0, data);
+        assertArrayEquals(new double[] {4.0, 9.0, 16.0}, data, "Squares should overwrite the bases");
+    }
+
+    @Test
+    @DisplayName("Test invalid lengths and ranges")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PowerCalculatorEngine.computeAll(new double[3], new double[2], new double[3]),
+                "Mismatched base and exponent lengths should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> PowerCalculatorEngine.computeAll(new double[3], 2.0, new double[2]),
+                "A short output array should be rejected");
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> PowerCalculatorEngine.computeAll(2.0, new double[3], 2, new double[3], 0, 2),
+                "A range past the end of the input should be rejected");
+    }
+}
@@ -0,0 +1,80 @@
+package org.example;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PowerCalculatorCli.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorCli Tests")
+class PowerCalculatorCliTest {
+
+    private static String run(String input, String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = PowerCalculatorCli.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                out, new PrintStream(err, true, StandardCharsets.UTF_8));
+        assertEquals(0, status, "Exit status, stderr: " + err.toString(StandardCharsets.UTF_8));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Test whitespace and CSV lines")
+    void testLineFormats() {
+        assertEquals("1024.0\n0.064\n0.25\n", run("2 10\n2.5,-3\n  # comment\n\n\t16 , -0.5\r\n"),
+                "One output line per input line, comments and blank lines skipped");
+    }
+
+    @Test
+    @DisplayName("Test errors use the result categories")
+    void testErrorCategories() {
+        String output = run("-8 0.5\n0 -1\n10 400\n-10 401\nabc 2\n5\n1 2 3\n");
+        String[] lines = output.split("\n");
+        assertEquals(7, lines.length, "Every line produces a result");
+        assertEquals("NaN\t" + ResultCategory.COMPLEX_NUMBER.title(), lines[0], "Negative base, fractional exponent");
+        assertEquals("Infinity\t" + ResultCategory.INFINITE_RESULT.title(), lines[1], "Zero to a negative power");
+        assertEquals("Infinity\t" + ResultCategory.POSITIVE_OVERFLOW.title(), lines[2], "Positive overflow");
+        assertEquals("-Infinity\t" + ResultCategory.NEGATIVE_OVERFLOW.title(), lines[3], "Negative overflow");
+        assertEquals("NaN\t" + ResultCategory.INVALID_INPUT.title(), lines[4], "Unparsable base");
+        assertEquals("NaN\t" + ResultCategory.MISSING_INPUT.title(), lines[5], "Missing exponent");
+        assertEquals("NaN\t" + ResultCategory.INVALID_INPUT.title(), lines[6], "Extra field");
+    }
+
+    @Test
+    @DisplayName("Test multi-threaded output keeps input order")
+    void testThreadsKeepOrder() {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5 * PowerCalculatorCli.BATCH_LINES + 17; i++) {
+            double x = 1.0 + (i % 1000) * 0.001;
+            double y = (i % 37) - 18.5;
+            input.append(x).append(' ').append(y).append('\n');
+            DoubleFormatter.appendShortest(PowerCalculatorEngine.compute(x, y), expected).append('\n');
+        }
+        assertEquals(expected.toString(), run(input.toString(), "--threads", "4"), "Ordered parallel output");
+        assertEquals(expected.toString(), run(input.toString()), "Sequential output");
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalidArguments() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+        assertEquals(2, PowerCalculatorCli.run(new String[] {"--threads", "0"}, System.in,
+                new ByteArrayOutputStream(), errStream), "Zero threads");
+        assertEquals(2, PowerCalculatorCli.run(new String[] {"--bogus"}, System.in,
+                new ByteArrayOutputStream(), errStream), "Unknown option");
+        assertEquals(1, PowerCalculatorCli.run(new String[] {"/nonexistent/input.txt"}, System.in,
+                new ByteArrayOutputStream(), errStream), "Missing file");
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage"), "Usage is printed");
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.example.PowerAssertions.assertSameBits;
+
+/**
+ * Unit tests for PowerCalculatorEngine.forBase.
+ *
+ * Every result of a fixed-base function must be bit-for-bit identical to PowerCalculatorEngine.compute.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorEngine Fixed Base Tests")
+class PowerCalculatorFixedBaseTest {
+
+    private static final double[] SPECIAL_VALUES = {
+        0.0, -0.0, 1.0, -1.0, 2.0, -2.0, 0.5, -0.5, 3.0, -3.0, 63.0, 64.0, -65.0, 1.0 / 3.0, 1e-300,
+        Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Double.MAX_VALUE, 1023.5, -1074.5,
+        0x1.0p31, -0x1.0p31, 0x1.0p53 + 2.0, 0x1.0p64, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.NaN
+    };
+
+    @Test
+    @DisplayName("Test random exponents match compute")
+    void testRandomExponentsMatchCompute() {
+        Random random = new Random(6);
+        for (int i = 0; i < 200; i++) {
+            double x = (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 20);
+            PowerCalculatorEngine.FixedBase power = PowerCalculatorEngine.forBase(x);
+            assertEquals(x, power.base(), "Base should be kept");
+            for (int j = 0; j < 200; j++) {
+                double y = random.nextInt(4) == 0 ? random.nextInt(201) - 100 : random.nextGaussian() * 30;
+                assertSameBits(x, y, power.apply(y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test special bases and exponents match compute")
+    void testSpecialValuesMatchCompute() {
+        for (double x : SPECIAL_VALUES) {
+            PowerCalculatorEngine.FixedBase power = PowerCalculatorEngine.forBase(x);
+            for (double y : SPECIAL_VALUES) {
+                assertSameBits(x, y, power.apply(y));
+                assertSameBits(x, -y, power.applyAsDouble(-y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test discount factors")
+    void testDiscountFactors() {
+        PowerCalculatorEngine.FixedBase discount = PowerCalculatorEngine.forBase(1.05);
+        double[] t = new double[360];
+        for (int i = 0; i < t.length; i++) {
+            t[i] = -(i + 1) / 12.0;
+        }
+        double[] out = new double[t.length];
+        discount.applyAll(t, out);
+        for (int i = 0; i < t.length; i++) {
+            assertSameBits(1.05, t[i], out[i]);
+        }
+        assertEquals(1.0 / 1.05, out[11], 1e-15, "One year of discounting");
+    }
+
+    @Test
+    @DisplayName("Test array variants with offsets")
+    void testArrayVariants() {
+        PowerCalculatorEngine.FixedBase power = PowerCalculatorEngine.forBase(-2.5);
+        double[] y = new double[50];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = i * 0.5 - 10.0;
+        }
+        double[] out = new double[y.length];
+        out[0] = -7.0;
+        out[out.length - 1] = -7.0;
+        power.applyAll(y, 2, out, 1, 47);
+        assertEquals(-7.0, out[0], "Element before the range should be untouched");
+        for (int i = 0; i < 47; i++) {
+            assertSameBits(-2.5, y[2 + i], out[1 + i]);
+        }
+        assertEquals(-7.0, out[out.length - 1], "Element after the range should be untouched");
+
+        double[] data = y.clone();
+        power.applyAll(data, data);
+        for (int i = 0; i < y.length; i++) {
+            assertSameBits(-2.5, y[i], data[i]);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> power.applyAll(new double[3], new double[2]),
+                "A short output array should be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> power.applyAll(new double[3], 2, new double[3], 0, 2),
+                "A range past the end of the input should be rejected");
+    }
+}
@@ -0,0 +1,76 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the integer exponent path of PowerCalculatorEngine.
+ *
+ * Results are compared with the exact power computed in BigDecimal and rounded once to double.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorEngine Integer Exponent Tests")
+class PowerCalculatorIntegerExponentTest {
+
+    private static double exactPower(double x, int n) {
+        BigDecimal power = new BigDecimal(x).pow(Math.abs(n));
+        if (n < 0) {
+            power = BigDecimal.ONE.divide(power, new MathContext(60));
+        }
+        return power.doubleValue();
+    }
+
+    @Test
+    @DisplayName("Test results are correctly rounded")
+    void testCorrectlyRounded() {
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            double x = Math.exp(random.nextGaussian() * 3.0);
+            int n = random.nextInt(127) - 63;
+            if (n == 0) {
+                continue;
+            }
+            double expected = exactPower(x, n);
+            if (Double.isInfinite(expected) || Math.abs(expected) < Double.MIN_NORMAL) {
+                continue;
+            }
+            assertEquals(expected, PowerCalculatorEngine.compute(x, n), x + "^" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Test negative bases")
+    void testNegativeBases() {
+        assertEquals(-343.0, PowerCalculatorEngine.compute(-7.0, 3.0), "(-7)^3");
+        assertEquals(2401.0, PowerCalculatorEngine.compute(-7.0, 4.0), "(-7)^4");
+        assertEquals(-exactPower(1.1, -5), PowerCalculatorEngine.compute(-1.1, -5.0), "(-1.1)^-5");
+        assertEquals(exactPower(1.1, -2), PowerCalculatorEngine.compute(-1.1, -2.0), "(-1.1)^-2");
+    }
+
+    @Test
+    @DisplayName("Test early overflow and underflow")
+    void testOverflowAndUnderflow() {
+        assertEquals(Double.POSITIVE_INFINITY, PowerCalculatorEngine.compute(1e300, 3.0), "1e300^3 overflows");
+        assertEquals(Double.NEGATIVE_INFINITY, PowerCalculatorEngine.compute(-1e300, 3.0), "(-1e300)^3 overflows");
+        assertEquals(0.0, PowerCalculatorEngine.compute(1e-300, 5.0), "1e-300^5 underflows");
+        assertEquals(-0.0, PowerCalculatorEngine.compute(-1e-300, 5.0), "Underflow keeps the sign");
+        assertEquals(Double.POSITIVE_INFINITY, PowerCalculatorEngine.compute(1e-300, -4.0), "1e-300^-4 overflows");
+        assertEquals(0.0, PowerCalculatorEngine.compute(1e300, -4.0), "1e300^-4 underflows");
+    }
+
+    @Test
+    @DisplayName("Test results near the limits of the range")
+    void testNearLimits() {
+        assertEquals(exactPower(1e102, 3), PowerCalculatorEngine.compute(1e102, 3.0), 0.0, "1e102^3");
+        assertEquals(0x1.0p-1074, PowerCalculatorEngine.compute(0x1.0p-358, 3.0), "Exact subnormal result");
+        assertEquals(0x1.0p1020, PowerCalculatorEngine.compute(0x1.0p-340, -3.0), "Exact large reciprocal");
+        assertEquals(exactPower(3.0, 40), PowerCalculatorEngine.compute(3.0, 40.0), "3^40 is rounded once");
+    }
+}
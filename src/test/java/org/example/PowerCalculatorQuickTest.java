@@ -0,0 +1,40 @@
+package org.example;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PowerCalculatorQuick.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorQuick Tests")
+class PowerCalculatorQuickTest {
+
+    private static String run(String... args) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        try {
+            PowerCalculatorQuick.main(args);
+        } finally {
+            System.setOut(original);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Test a pair of arguments prints one command-line output line")
+    void testPairOfArguments() {
+        assertEquals("1024.0\n", run("2", "10"), "Finite result");
+        assertEquals("0.064\n", run("2.5", "-3"), "Negative exponent");
+        assertEquals("NaN\t" + ResultCategory.COMPLEX_NUMBER.title() + "\n", run("-8", "0.5"), "Error category");
+        assertEquals("NaN\t" + ResultCategory.INVALID_INPUT.title() + "\n", run("abc", "2"), "Invalid input");
+    }
+}
@@ -0,0 +1,144 @@
+package org.example;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PowerCalculatorServer.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerCalculatorServer Tests")
+class PowerCalculatorServerTest {
+
+    private PowerCalculatorServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = PowerCalculatorServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                1 << 20, 2);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.port() + path);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<byte[]> post(String type, byte[] body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/batch")).header("Content-Type", type)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Test
+    @DisplayName("Test single calculations and their errors")
+    void testSingle() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/pow?x=2&y=10");
+        assertEquals(200, response.statusCode(), "Status");
+        assertEquals("{\"result\":1024.0}", response.body(), "Result");
+        assertEquals("{\"result\":0.064}", get("/pow?y=-3&x=2.5").body(), "Parameters in any order");
+        assertEquals("{\"result\":\"NaN\",\"error\":\"" + ResultCategory.COMPLEX_NUMBER.title() + "\"}",
+                get("/pow?x=-8&y=0.5").body(), "Complex result");
+        assertEquals("{\"result\":\"Infinity\",\"error\":\"" + ResultCategory.POSITIVE_OVERFLOW.title() + "\"}",
+                get("/pow?x=10&y=400").body(), "Overflow");
+        assertEquals("{\"result\":1.0E-6}", get("/pow?x=1e%2B3&y=-2").body(), "Encoded parameter");
+        assertEquals(400, get("/pow?x=2").statusCode(), "Missing exponent");
+        assertEquals(400, get("/pow?x=abc&y=2").statusCode(), "Invalid base");
+        HttpResponse<byte[]> post = client.send(HttpRequest.newBuilder(uri("/pow"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(405, post.statusCode(), "Only GET is allowed");
+    }
+
+    @Test
+    @DisplayName("Test binary batches stream results across chunks")
+    void testBinaryBatch() throws IOException, InterruptedException {
+        Random random = new Random(15);
+        int count = 3 * PowerCalculatorServer.CHUNK_PAIRS + 5;
+        ByteBuffer body = ByteBuffer.allocate(count * MappedBatchProcessor.PAIR_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        double[] expected = new double[count];
+        for (int i = 0; i < count; i++) {
+            double x = Math.exp(random.nextGaussian() * 3);
+            double y = random.nextGaussian() * 10;
+            body.putDouble(x).putDouble(y);
+            expected[i] = PowerCalculatorEngine.compute(x, y);
+        }
+        HttpResponse<byte[]> response = post("application/octet-stream", body.array());
+        assertEquals(200, response.statusCode(), "Status");
+        ByteBuffer results = ByteBuffer.wrap(response.body()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(count * MappedBatchProcessor.RESULT_BYTES, results.remaining(), "One result per pair");
+        for (int i = 0; i < count; i++) {
+            assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(results.getDouble()),
+                    "Result " + i);
+        }
+
+        assertEquals(400, post("application/octet-stream", new byte[20]).statusCode(), "Partial pair");
+        assertEquals(0, post("application/octet-stream", new byte[0]).body().length, "Empty batch");
+    }
+
+    @Test
+    @DisplayName("Test JSON batches")
+    void testJsonBatch() throws IOException, InterruptedException {
+        String body = " [ [2, 10], [2.5,-3] ,[\"-8\",0.5],[10,\"Infinity\"], [1e2, -0.5] ]\n";
+        HttpResponse<byte[]> response = post("application/json; charset=utf-8", body.getBytes(StandardCharsets.UTF_8));
+        assertEquals(200, response.statusCode(), "Status");
+        assertEquals("[1024.0,0.064,\"NaN\",\"Infinity\",0.1]", new String(response.body(), StandardCharsets.UTF_8),
+                "Results");
+        assertEquals("[]", new String(post("application/json", "[]".getBytes(StandardCharsets.UTF_8)).body(),
+                StandardCharsets.UTF_8), "Empty batch");
+
+        StringBuilder large = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 2 * PowerCalculatorServer.CHUNK_PAIRS + 1; i++) {
+            large.append(i == 0 ? "" : ",").append('[').append(1 + i * 1e-4).append(',').append(i % 7).append(']');
+            DoubleFormatter.appendShortest(PowerCalculatorEngine.compute(1 + i * 1e-4, i % 7),
+                    expected.append(i == 0 ? "" : ","));
+        }
+        response = post("application/json", large.append(']').toString().getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected.append(']').toString(), new String(response.body(), StandardCharsets.UTF_8),
+                "Results across chunks");
+
+        for (String bad : new String[] {"", "[[1,2]", "[[1,2,3]]", "[[1,x]]", "{}", "[[1,2]] x"}) {
+            assertEquals(400, post("application/json", bad.getBytes(StandardCharsets.UTF_8)).statusCode(), bad);
+        }
+    }
+
+    @Test
+    @DisplayName("Test request limits")
+    void testLimits() throws IOException, InterruptedException {
+        // A body small enough for the server to drain, so the client reads the response before a reset
+        server.stop(0);
+        server = PowerCalculatorServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024, 1);
+        assertEquals(413, post("application/octet-stream", new byte[1024 + 16]).statusCode(), "Body over the limit");
+        assertEquals(200, post("application/octet-stream", new byte[1024]).statusCode(), "Body at the limit");
+        assertEquals(415, post("text/plain", new byte[16]).statusCode(), "Unsupported content type");
+        HttpResponse<String> get = get("/batch");
+        assertEquals(405, get.statusCode(), "Only POST is allowed");
+        assertEquals("POST", get.headers().firstValue("Allow").orElse(""), "Allowed method");
+    }
+}
@@ -0,0 +1,106 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.example.PowerAssertions.assertSameBits;
+
+/**
+ * Unit tests for PowerResultCache.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PowerResultCache Tests")
+class PowerResultCacheTest {
+
+    @Test
+    @DisplayName("Test hits and misses are counted")
+    void testHitsAndMisses() {
+        PowerResultCache cache = new PowerResultCache(64);
+        assertEquals(1024.0, cache.compute(2.0, 10.0), "First lookup computes");
+        assertEquals(1024.0, cache.compute(2.0, 10.0), "Second lookup hits");
+        assertEquals(1, cache.missCount(), "One miss");
+        assertEquals(1, cache.hitCount(), "One hit");
+        assertEquals(0, cache.evictionCount(), "No evictions");
+    }
+
+    @Test
+    @DisplayName("Test keys are compared bit for bit")
+    void testKeysAreRawBits() {
+        PowerResultCache cache = new PowerResultCache(64);
+        assertEquals(Double.POSITIVE_INFINITY, cache.compute(0.0, -1.0), "1/0.0");
+        assertEquals(Double.NEGATIVE_INFINITY, cache.compute(-0.0, -1.0), "1/-0.0 is a separate key");
+        assertTrue(Double.isNaN(cache.compute(Double.NaN, 2.0)), "NaN base");
+        assertTrue(Double.isNaN(cache.compute(Double.NaN, 2.0)), "Cached NaN base");
+        assertEquals(1.0, cache.compute(0.0, 0.0), "0^0 is cached as 1");
+        assertEquals(1.0, cache.compute(0.0, 0.0), "Cached 0^0");
+        assertEquals(2, cache.hitCount(), "Two hits");
+    }
+
+    @Test
+    @DisplayName("Test capacity is bounded and eviction is counted")
+    void testEviction() {
+        PowerResultCache cache = new PowerResultCache(100);
+        assertEquals(128, cache.capacity(), "Capacity is rounded up to a power of two");
+        for (int i = 0; i < 10000; i++) {
+            assertSameBits(1.5, i * 0.25, cache.compute(1.5, i * 0.25));
+        }
+        assertEquals(10000, cache.missCount(), "Every distinct pair misses once");
+        assertTrue(cache.evictionCount() >= 10000 - 128, "Entries beyond the capacity are evicted");
+
+        cache.clear();
+        cache.compute(1.5, 0.25);
+        assertEquals(10001, cache.missCount(), "Cleared entries miss again");
+        assertThrows(IllegalArgumentException.class, () -> new PowerResultCache(0), "Zero capacity");
+    }
+
+    @Test
+    @DisplayName("Test hot entries survive a scan")
+    void testReferencedEntriesSurvive() {
+        PowerResultCache cache = new PowerResultCache(PowerResultCache.WAYS);
+        cache.compute(1.05, 10.0);
+        for (int i = 0; i < 100; i++) {
+            cache.compute(1.05, 10.0);
+            cache.compute(3.0, i + 0.5);
+        }
+        long misses = cache.missCount();
+        cache.compute(1.05, 10.0);
+        assertEquals(misses, cache.missCount(), "An entry hit before every eviction should stay cached");
+    }
+
+    @Test
+    @DisplayName("Test concurrent access returns correct results")
+    void testConcurrentAccess() throws Exception {
+        PowerResultCache cache = new PowerResultCache(256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50000; i++) {
+                        double x = 1.0 + random.nextInt(40) * 0.125;
+                        double y = random.nextInt(20) - 9.5;
+                        assertSameBits(x, y, cache.compute(x, y));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(400000, cache.hitCount() + cache.missCount(), "Every lookup is counted");
+        assertTrue(cache.hitCount() > 0, "Repeated pairs should hit");
+    }
+}
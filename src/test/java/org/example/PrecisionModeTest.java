@@ -0,0 +1,224 @@
+package org.example;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the precision modes of PowerCalculatorEngine.
+ *
+ * Errors are measured against x^y evaluated with 50 significant digits in BigDecimal
+ * arithmetic, which is exact far beyond the bound of every mode.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("PrecisionMode Tests")
+class PrecisionModeTest {
+
+    private static final MathContext MC = new MathContext(50);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+    private static final BigDecimal EPSILON = new BigDecimal("1e-60");
+    private static final BigDecimal LN2 = twiceAtanh(BigDecimal.ONE.divide(BigDecimal.valueOf(3), MC));
+
+    private static final int SAMPLES = 400;
+
+    /**
+     * Computes 2 atanh(z) = ln((1 + z) / (1 - z)) by its Taylor series.
+     */
+    private static BigDecimal twiceAtanh(BigDecimal z) {
+        BigDecimal z2 = z.multiply(z, MC);
+        BigDecimal power = z;
+        BigDecimal sum = z;
+        for (int k = 3;; k += 2) {
+            power = power.multiply(z2, MC);
+            BigDecimal term = power.divide(BigDecimal.valueOf(k), MC);
+            if (term.abs().compareTo(EPSILON) < 0) {
+                return sum.add(sum);
+            }
+            sum = sum.add(term, MC);
+        }
+    }
+
+    private static BigDecimal powerOfTwo(int n) {
+        return (n >= 0) ? TWO.pow(n) : BigDecimal.ONE.divide(TWO.pow(-n), MC);
+    }
+
+    /**
+     * Computes |x|^y for a finite non-zero x and a finite y.
+     */
+    static BigDecimal reference(double x, double y) {
+        double a = Math.abs(x);
+        int e = (Math.getExponent(a) < Double.MIN_EXPONENT)
+                ? Math.getExponent(a * 0x1.0p54) - 54 : Math.getExponent(a);
+        BigDecimal m = new BigDecimal(a).multiply(powerOfTwo(-e), MC);
+        BigDecimal logM = twiceAtanh(m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), MC));
+        BigDecimal w = new BigDecimal(y).multiply(LN2.multiply(BigDecimal.valueOf(e)).add(logM, MC), MC);
+        BigDecimal n = w.divide(LN2, MC).setScale(0, RoundingMode.HALF_EVEN);
+        BigDecimal r = w.subtract(n.multiply(LN2), MC);
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int k = 1; term.abs().compareTo(EPSILON) >= 0; k++) {
+            term = term.multiply(r, MC).divide(BigDecimal.valueOf(k), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum.multiply(powerOfTwo(n.intValueExact()), MC);
+    }
+
+    /**
+     * Returns the error of |actual| in units in the last place of the exact value.
+     */
+    private static double ulpError(double actual, BigDecimal exact) {
+        double ulp = Math.ulp(exact.doubleValue());
+        return new BigDecimal(Math.abs(actual)).subtract(exact).abs().divide(new BigDecimal(ulp), MC).doubleValue();
+    }
+
+    /**
+     * Draws bases and exponents from several input classes, with results across the whole
+     * double range including subnormals.
+     */
+    static double[][] samples(long seed) {
+        Random random = new Random(seed);
+        double[][] pairs = new double[6 * SAMPLES][];
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = Math.exp(random.nextDouble() * 1400.0 - 700.0);
+            pairs[6 * i] = new double[] {x, (random.nextDouble() * 1450.0 - 744.0) / Math.log(x)};
+            pairs[6 * i + 1] = new double[] {random.nextDouble() * 100.0, random.nextGaussian() * 10.0};
+            pairs[6 * i + 2] = new double[] {1.0 + random.nextGaussian() * 1e-6, random.nextGaussian() * 1e7};
+            pairs[6 * i + 3] = new double[] {-0.1 - random.nextDouble() * 10.0, random.nextInt(601) - 300};
+            pairs[6 * i + 4] = new double[] {0.5 + random.nextDouble(), 3 + random.nextInt(61)};
+            pairs[6 * i + 5] = (i % 2 == 0)
+                    ? new double[] {0.5, 1022.0 + random.nextDouble() * 52.0}
+                    : new double[] {Double.MIN_VALUE * (1 + random.nextInt(1 << 30)), random.nextDouble() - 0.5};
+        }
+        return pairs;
+    }
+
+    /**
+     * Whether compute handles x^y by a special case, or the result overflows or underflows for
+     * every base that is not special.
+     */
+    private static boolean isSpecial(double x, double y) {
+        double xAbs = Math.abs(x);
+        double yAbs = Math.abs(y);
+        return xAbs == 0.0 || xAbs == 1.0 || !(xAbs < Double.POSITIVE_INFINITY)
+                || y == 0.0 || y == 2.0 || y == 0.5 || yAbs == 1.0 || !(yAbs < 1e20);
+    }
+
+    @Test
+    @DisplayName("Test special values are identical in every mode")
+    void testSpecialValues() {
+        double[] values = {
+            0.0, -0.0, 1.0, -1.0, 2.0, -2.0, 0.5, -0.5, 3.0, -3.0, 1e-310, 0x1.0p70, 1e20, -1e20,
+            Double.MAX_VALUE, Double.MIN_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+        };
+        for (PrecisionMode mode : PrecisionMode.values()) {
+            for (double x : values) {
+                for (double y : values) {
+                    if (!isSpecial(x, y)) {
+                        continue;
+                    }
+                    double expected = PowerCalculatorEngine.compute(x, y);
+                    double actual = PowerCalculatorEngine.compute(x, y, mode);
+                    assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                            mode + ": " + x + "^" + y);
+                }
+            }
+            assertTrue(Double.isNaN(PowerCalculatorEngine.compute(-2.0, 0.3, mode)), mode + ": complex result");
+            assertEquals(Double.POSITIVE_INFINITY, PowerCalculatorEngine.compute(1.0 + 0x1.0p-52, 1e300, mode),
+                    mode + ": huge exponent overflows");
+            assertEquals(-0.0, PowerCalculatorEngine.compute(-2.0, -1081.0, mode), 0.0,
+                    mode + ": odd exponent keeps the sign of an underflow");
+            assertEquals(Double.MIN_VALUE, PowerCalculatorEngine.compute(2.0, -1074.0, mode), mode + ": 2^-1074");
+            assertEquals(Double.NEGATIVE_INFINITY, PowerCalculatorEngine.compute(-2.0, 1025.0, mode),
+                    mode + ": negative overflow");
+            assertEquals(1e15, PowerCalculatorEngine.compute(10.0, 15.0, mode), mode + ": exact integer power");
+        }
+    }
+
+    @Test
+    @DisplayName("Test DEFAULT mode and the bulk variants match the scalar engine")
+    void testDefaultAndBulk() {
+        double[][] pairs = samples(3);
+        double[] x = new double[pairs.length];
+        double[] y = new double[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            x[i] = pairs[i][0];
+            y[i] = pairs[i][1];
+            assertEquals(Double.doubleToLongBits(PowerCalculatorEngine.compute(x[i], y[i])),
+                    Double.doubleToLongBits(PowerCalculatorEngine.compute(x[i], y[i], PrecisionMode.DEFAULT)),
+                    "DEFAULT is compute for " + x[i] + "^" + y[i]);
+        }
+        for (PrecisionMode mode : PrecisionMode.values()) {
+            double[] out = new double[pairs.length];
+            PowerCalculatorEngine.computeAll(x, y, out, mode);
+            for (int i = 0; i < pairs.length; i++) {
+                assertEquals(Double.doubleToLongBits(PowerCalculatorEngine.compute(x[i], y[i], mode)),
+                        Double.doubleToLongBits(out[i]), mode + " bulk result " + i);
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> PowerCalculatorEngine.computeAll(x, new double[1], x, PrecisionMode.FAST), "Length mismatch");
+        assertThrows(NullPointerException.class,
+                () -> PowerCalculatorEngine.compute(2.0, 0.3, null), "A mode is required");
+    }
+
+    @Test
+    @DisplayName("Test huge exponents of bases near one stay within the error bounds")
+    void testHugeExponentsNearOne() {
+        // |y| > 2^31 takes a short logarithm series, where x - 1 carries up to 33 bits
+        Random random = new Random(29);
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = 1.0 + random.nextGaussian() * Math.scalb(1.0, -21 - random.nextInt(12));
+            double y = (random.nextDouble() * 1400.0 - 700.0) / Math.log(x);
+            if (!(Math.abs(y) > 0x1.0p32)) {
+                continue;
+            }
+            BigDecimal exact = reference(x, y);
+            for (PrecisionMode mode : PrecisionMode.values()) {
+                double error = ulpError(PowerCalculatorEngine.compute(x, y, mode), exact);
+                assertTrue(error <= mode.ulpBound(), mode + ": " + x + "^" + y + " off by " + error + " ulp");
+            }
+        }
+        double expected = 1.3626448028108576E-297;
+        assertEquals(expected, PowerCalculatorEngine.compute(0.9999999119151936, 7.760229516897313E9),
+                Math.ulp(expected), "Worst input found by the accuracy sweep");
+    }
+
+    @Test
+    @DisplayName("Test every mode stays within its documented error bound")
+    void testErrorBounds() {
+        double[][] pairs = samples(17);
+        double[] maxError = new double[PrecisionMode.values().length];
+        double maxRelative = 0;
+        for (double[] pair : pairs) {
+            BigDecimal exact = reference(pair[0], pair[1]);
+            double rounded = exact.doubleValue();
+            if (rounded == 0.0 || Double.isInfinite(rounded)) {
+                continue;
+            }
+            for (PrecisionMode mode : PrecisionMode.values()) {
+                double actual = PowerCalculatorEngine.compute(pair[0], pair[1], mode);
+                double error = ulpError(actual, exact);
+                maxError[mode.ordinal()] = Math.max(maxError[mode.ordinal()], error);
+                assertTrue(error <= mode.ulpBound(), mode + ": " + pair[0] + "^" + pair[1] + " off by " + error + " ulp");
+                if (mode == PrecisionMode.STRICT) {
+                    assertEquals(rounded, Math.abs(actual), 0.0, "Correctly rounded " + pair[0] + "^" + pair[1]);
+                }
+                if (mode == PrecisionMode.FAST && Math.abs(rounded) >= Double.MIN_NORMAL) {
+                    maxRelative = Math.max(maxRelative, new BigDecimal(Math.abs(actual)).subtract(exact).abs()
+                            .divide(exact, MC).doubleValue());
+                }
+            }
+        }
+        assertTrue(maxRelative < 0x1.0p-32, "FAST relative error " + maxRelative);
+        assertTrue(maxError[PrecisionMode.DEFAULT.ordinal()] > maxError[PrecisionMode.STRICT.ordinal()],
+                "STRICT is tighter than DEFAULT");
+        assertTrue(maxError[PrecisionMode.STRICT.ordinal()] <= 0.5 + 0x1.0p-30, "STRICT rounds once");
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TablePowerEngine.
+ *
+ * Results are compared with StrictMath.pow: both are accurate to well below one ulp, so they
+ * may differ by at most one ulp. Special cases must match PowerCalculatorEngine exactly.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("TablePowerEngine Tests")
+class TablePowerEngineTest {
+
+    private static void assertWithinOneUlp(double x, double y) {
+        double expected = StrictMath.pow(x, y);
+        double actual = TablePowerEngine.compute(x, y);
+        assertEquals(expected, actual, Math.ulp(expected), x + "^" + y);
+    }
+
+    @Test
+    @DisplayName("Test integer powers are exact")
+    void testIntegerPowersAreExact() {
+        assertEquals(1024.0, TablePowerEngine.compute(2.0, 10.0), "2^10 should be exact");
+        assertEquals(-27.0, TablePowerEngine.compute(-3.0, 3.0), "(-3)^3 should be exact and negative");
+        assertEquals(81.0, TablePowerEngine.compute(-3.0, 4.0), "(-3)^4 should be exact and positive");
+        assertEquals(0.001, TablePowerEngine.compute(10.0, -3.0), 1e-18, "10^-3");
+        for (int base = 2; base <= 30; base++) {
+            for (int exponent = 3; Math.pow(base, exponent) < 0x1.0p53; exponent++) {
+                assertEquals(Math.pow(base, exponent), TablePowerEngine.compute(base, exponent),
+                        base + "^" + exponent + " should be exact");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test random inputs are within one ulp")
+    void testRandomInputs() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            assertWithinOneUlp(random.nextDouble() * 100.0, random.nextGaussian() * 10.0);
+            assertWithinOneUlp(1.0 + random.nextGaussian() * 1e-3, random.nextGaussian() * 1e5);
+            assertWithinOneUlp(Math.exp(random.nextDouble() * 1400.0 - 700.0), random.nextGaussian() * 2.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test subnormal bases and results")
+    void testSubnormals() {
+        Random random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            assertWithinOneUlp(Double.MIN_VALUE * (1 + random.nextInt(1 << 30)), random.nextDouble() - 0.5);
+            assertWithinOneUlp(0.5, 1022.0 + random.nextDouble() * 52.0);
+        }
+        assertEquals(Double.MIN_VALUE, TablePowerEngine.compute(2.0, -1074.0), "2^-1074 is the smallest subnormal");
+        assertEquals(0.0, TablePowerEngine.compute(2.0, -1080.0), "Underflow should give zero");
+        assertEquals(-0.0, TablePowerEngine.compute(-2.0, -1081.0), "Odd exponent keeps the sign of an underflow");
+    }
+
+    @Test
+    @DisplayName("Test overflow boundary")
+    void testOverflow() {
+        assertEquals(0x1.0p1023, TablePowerEngine.compute(2.0, 1023.0), "2^1023 is representable");
+        assertEquals(Double.POSITIVE_INFINITY, TablePowerEngine.compute(2.0, 1024.0), "2^1024 should overflow");
+        assertEquals(Double.NEGATIVE_INFINITY, TablePowerEngine.compute(-2.0, 1025.0),
+                "Negative base with odd exponent should overflow to negative infinity");
+        assertWithinOneUlp(10.0, 308.25);
+        assertWithinOneUlp(Math.E, 709.78);
+    }
+
+    @Test
+    @DisplayName("Test special cases match the scalar engine")
+    void testSpecialCasesMatchScalar() {
+        double[] values = {
+            0.0, -0.0, 1.0, -1.0, 2.0, -2.0, 0.5, -0.5, 1e-20, 0x1.0p70, Double.MAX_VALUE,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+        };
+        for (double x : values) {
+            for (double y : values) {
+                double expected = PowerCalculatorEngine.compute(x, y);
+                double actual = TablePowerEngine.compute(x, y);
+                if (Double.isNaN(expected)) {
+                    assertTrue(Double.isNaN(actual), x + "^" + y + " should be NaN");
+                } else {
+                    assertEquals(expected, actual, Math.ulp(expected), x + "^" + y);
+                }
+            }
+        }
+        assertTrue(Double.isNaN(TablePowerEngine.compute(-2.0, 0.3)), "Negative base with fractional exponent");
+    }
+}
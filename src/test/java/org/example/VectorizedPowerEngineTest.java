@@ -0,0 +1,123 @@
+package org.example;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.example.PowerAssertions.assertSameBits;
+
+/**
+ * Unit tests for VectorizedPowerEngine.
+ *
+ * Every vector result must be bit-for-bit identical to PowerCalculatorEngine.compute, including
+ * the lanes that are routed to the scalar engine.
+ *
+ * @author Kapil Soni
+ * @version 1.0.0
+ */
+@DisplayName("VectorizedPowerEngine Tests")
+class VectorizedPowerEngineTest {
+
+    private static final double[] SPECIAL_VALUES = {
+        0.0, -0.0, 1.0, -1.0, 2.0, -2.0, 0.5, -0.5, 3.0, -3.0, 1.0 / 3.0, 1e-300, -1e-300,
+        Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Double.MAX_VALUE, 1023.5, -1074.5,
+        0x1.0p31, 0x1.0p64, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN
+    };
+
+    @Test
+    @DisplayName("Test random inputs match scalar compute")
+    void testRandomInputsMatchScalar() {
+        Random random = new Random(42);
+        int size = 4096 + 3;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 20);
+            y[i] = random.nextInt(4) == 0 ? random.nextInt(41) - 20 : random.nextGaussian() * 30;
+        }
+        double[] out = new double[size];
+        VectorizedPowerEngine.computeAll(x, y, out);
+        for (int i = 0; i < size; i++) {
+            assertSameBits(x[i], y[i], out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test special values match scalar compute")
+    void testSpecialValuesMatchScalar() {
+        int count = SPECIAL_VALUES.length;
+        double[] x = new double[count * count];
+        double[] y = new double[count * count];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < count; j++) {
+                x[i * count + j] = SPECIAL_VALUES[i];
+                y[i * count + j] = SPECIAL_VALUES[j];
+            }
+        }
+        double[] out = new double[x.length];
+        VectorizedPowerEngine.computeAll(x, y, out);
+        for (int i = 0; i < x.length; i++) {
+            assertSameBits(x[i], y[i], out[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test results near overflow and underflow match scalar compute")
+    void testRangeLimitsMatchScalar() {
+        double[] y = new double[2200];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = -1100.0 + i + (i % 3 - 1) * 0x1.0p-40;
+        }
+        double[] out = new double[y.length];
+        for (double x : new double[] {2.0, 0.5, -2.0, Math.E}) {
+            VectorizedPowerEngine.computeAll(x, y, 0, out, 0, y.length);
+            for (int i = 0; i < y.length; i++) {
+                assertSameBits(x, y[i], out[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test broadcast exponent and offsets")
+    void testBroadcastExponentWithOffsets() {
+        double[] x = new double[100];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i * 0.37 - 10.0;
+        }
+        double[] out = new double[x.length];
+        out[0] = -7.0;
+        out[out.length - 1] = -7.0;
+        VectorizedPowerEngine.computeAll(x, 3, 2.5, out, 1, 95);
+        assertEquals(-7.0, out[0], "Element before the range should be untouched");
+        for (int i = 0; i < 95; i++) {
+            assertSameBits(x[3 + i], 2.5, out[1 + i]);
+        }
+        assertEquals(-7.0, out[out.length - 1], "Element after the range should be untouched");
+    }
+
+    @Test
+    @DisplayName("Test in-place computation")
+    void testInPlace() {
+        double[] data = new double[37];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i + 1.5;
+        }
+        double[] expected = data.clone();
+        VectorizedPowerEngine.computeAll(data, 0, 1.7, data, 0, data.length);
+        for (int i = 0; i < data.length; i++) {
+            assertSameBits(expected[i], 1.7, data[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid lengths and ranges")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> VectorizedPowerEngine.computeAll(new double[3], new double[2], new double[3]),
+                "Mismatched base and exponent lengths should be rejected");
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> VectorizedPowerEngine.computeAll(2.0, new double[3], 2, new double[3], 0, 2),
+                "A range past the end of the input should be rejected");
+    }
+}